@@ -0,0 +1,26 @@
+package com.behl.cerberus.reactive.configuration;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.data.redis.RedisReactiveAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import com.behl.cerberus.reactive.service.ReactiveTokenRevocationService;
+import com.behl.cerberus.reactive.utility.ReactiveApiEndpointSecurityInspector;
+import com.behl.cerberus.reactive.utility.ReactiveCacheManager;
+
+/**
+ * Auto-configuration registering the reactive edition's components with
+ * reactive web applications, typically an API gateway, that declare the module
+ * as a dependency.
+ */
+@AutoConfiguration(after = { RedisReactiveAutoConfiguration.class, JacksonAutoConfiguration.class })
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@Import({ ReactiveRedisConfiguration.class, ReactiveSecurityConfiguration.class, ReactiveAuthenticationEntryPoint.class,
+		ReactiveCacheManager.class, ReactiveTokenRevocationService.class,
+		ReactiveApiEndpointSecurityInspector.class })
+public class CerberusReactiveAutoConfiguration {
+
+}
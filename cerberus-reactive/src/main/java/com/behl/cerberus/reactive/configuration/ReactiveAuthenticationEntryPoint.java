@@ -0,0 +1,49 @@
+package com.behl.cerberus.reactive.configuration;
+
+import java.util.LinkedHashMap;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the servlet edition's
+ * <code>CustomAuthenticationEntryPoint</code>. Any authentication failure is
+ * assumed to be due to token verification failure, and the error response
+ * returned mirrors the one returned by the servlet edition.
+ *
+ * @see com.behl.cerberus.reactive.configuration.ReactiveSecurityConfiguration
+ * @see com.behl.cerberus.reactive.filter.ReactiveJwtAuthenticationFilter
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveAuthenticationEntryPoint implements ServerAuthenticationEntryPoint {
+
+	private static final String DEFAULT_MESSAGE = "Authentication failure: Token missing, invalid, revoked or expired";
+
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException authException) {
+		return Mono.fromCallable(() -> {
+			final var exceptionResponse = new LinkedHashMap<String, String>();
+			exceptionResponse.put("Status", HttpStatus.UNAUTHORIZED.toString());
+			exceptionResponse.put("Description", DEFAULT_MESSAGE);
+			return objectMapper.writeValueAsBytes(exceptionResponse);
+		}).flatMap(body -> {
+			final var response = exchange.getResponse();
+			response.setStatusCode(HttpStatus.UNAUTHORIZED);
+			response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+			return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+		});
+	}
+
+}
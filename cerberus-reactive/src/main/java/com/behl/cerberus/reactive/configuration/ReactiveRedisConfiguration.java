@@ -0,0 +1,26 @@
+package com.behl.cerberus.reactive.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+/**
+ * Configuration class responsible for defining beans to interact with the
+ * provisioned redis cache without blocking. Keys and values are serialized
+ * identically to the servlet edition, so that entries written by one are
+ * readable by the other.
+ */
+@Configuration
+public class ReactiveRedisConfiguration {
+
+    @Bean
+    public ReactiveRedisTemplate<String, Object> reactiveRedisTemplate(final ReactiveRedisConnectionFactory reactiveRedisConnectionFactory) {
+        final var serializer = new Jackson2JsonRedisSerializer<>(Object.class);
+        final var serializationContext = RedisSerializationContext.<String, Object>newSerializationContext(serializer).build();
+        return new ReactiveRedisTemplate<>(reactiveRedisConnectionFactory, serializationContext);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.behl.cerberus.reactive.configuration;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+import com.behl.cerberus.reactive.filter.ReactiveJwtAuthenticationFilter;
+import com.behl.cerberus.reactive.service.ReactiveTokenRevocationService;
+import com.behl.cerberus.reactive.utility.ReactiveApiEndpointSecurityInspector;
+import com.behl.cerberus.token.AccessTokenCodec;
+import com.behl.cerberus.token.RsaKeyParser;
+
+/**
+ * Configuration class responsible for defining and configuring the security
+ * settings for the reactive edition. It mirrors the servlet edition's
+ * <code>SecurityConfiguration</code>:
+ * <ul>
+ *   <li>Configuration of non-secured public API endpoints.</li>
+ *   <li>Configuration of authentication entry point to handle authentication
+ *       failures during the request evaluation through the filter chain.</li>
+ *   <li>Integration of the reactive JWT filter into the security filter chain to
+ *       ensure that all requests to private endpoints pass through the filter for
+ *       authentication verification.</li>
+ * </ul>
+ * 
+ * The reactive edition only verifies access tokens, hence the configured
+ * {@link AccessTokenCodec} is not supplied a private key.
+ *
+ * @see com.behl.cerberus.reactive.filter.ReactiveJwtAuthenticationFilter
+ * @see com.behl.cerberus.reactive.configuration.ReactiveAuthenticationEntryPoint
+ * @see com.behl.cerberus.reactive.utility.ReactiveApiEndpointSecurityInspector
+ */
+@Configuration
+@EnableWebFluxSecurity
+@EnableConfigurationProperties(ReactiveSecurityConfigurationProperties.class)
+public class ReactiveSecurityConfiguration {
+
+	@Bean
+	public AccessTokenCodec accessTokenCodec(final ReactiveSecurityConfigurationProperties reactiveSecurityConfigurationProperties) {
+		final var publicKey = RsaKeyParser.parsePublicKey(reactiveSecurityConfigurationProperties.getPublicKey());
+		return new AccessTokenCodec(reactiveSecurityConfigurationProperties.getIssuer(), () -> null, () -> publicKey);
+	}
+
+	@Bean
+	public SecurityWebFilterChain configure(final ServerHttpSecurity http,
+			final AccessTokenCodec accessTokenCodec,
+			final ReactiveTokenRevocationService reactiveTokenRevocationService,
+			final ReactiveAuthenticationEntryPoint reactiveAuthenticationEntryPoint,
+			final ReactiveApiEndpointSecurityInspector reactiveApiEndpointSecurityInspector) {
+		final var reactiveJwtAuthenticationFilter = new ReactiveJwtAuthenticationFilter(accessTokenCodec,
+				reactiveTokenRevocationService, reactiveApiEndpointSecurityInspector, reactiveAuthenticationEntryPoint);
+		return http
+			.csrf(csrfConfigurer -> csrfConfigurer.disable())
+			.httpBasic(httpBasicConfigurer -> httpBasicConfigurer.disable())
+			.formLogin(formLoginConfigurer -> formLoginConfigurer.disable())
+			.securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+			.exceptionHandling(exceptionConfigurer -> exceptionConfigurer.authenticationEntryPoint(reactiveAuthenticationEntryPoint))
+			.authorizeExchange(authManager -> {
+					authManager
+						.matchers(reactiveApiEndpointSecurityInspector.unsecuredRequestMatcher()).permitAll()
+					.anyExchange().authenticated();
+				})
+			.addFilterAt(reactiveJwtAuthenticationFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+			.build();
+	}
+
+}
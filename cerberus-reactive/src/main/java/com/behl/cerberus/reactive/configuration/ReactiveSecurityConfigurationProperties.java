@@ -0,0 +1,50 @@
+package com.behl.cerberus.reactive.configuration;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties controlling access token verification within the
+ * reactive edition. The configured issuer and public key must match the ones
+ * the servlet edition signs access tokens with.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "com.behl.cerberus.reactive")
+public class ReactiveSecurityConfigurationProperties {
+
+	/**
+	 * The issuer access tokens are required to hold, configured as
+	 * <code>spring.application.name</code> in the servlet edition.
+	 */
+	@NotBlank
+	private String issuer;
+
+	/**
+	 * The RSA public key to be used for verifying the signature of access tokens.
+	 * 
+	 * @see com.behl.cerberus.token.RsaKeyParser
+	 */
+	@NotBlank
+	private String publicKey;
+
+	/**
+	 * API paths accessible without an access token, keyed by HTTP method name.
+	 * Paths follow the syntax of {@link org.springframework.web.util.pattern.PathPattern}.
+	 * 
+	 * @see com.behl.cerberus.reactive.utility.ReactiveApiEndpointSecurityInspector
+	 */
+	@NotNull
+	private Map<String, List<String>> publicEndpoints = new HashMap<>();
+
+}
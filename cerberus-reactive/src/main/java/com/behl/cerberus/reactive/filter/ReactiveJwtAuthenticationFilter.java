@@ -0,0 +1,98 @@
+package com.behl.cerberus.reactive.filter;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.behl.cerberus.reactive.configuration.ReactiveAuthenticationEntryPoint;
+import com.behl.cerberus.reactive.service.ReactiveTokenRevocationService;
+import com.behl.cerberus.reactive.utility.ReactiveApiEndpointSecurityInspector;
+import com.behl.cerberus.token.AccessTokenClaims;
+import com.behl.cerberus.token.AccessTokenCodec;
+
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link WebFilter} equivalent of the servlet edition's
+ * <code>JwtAuthenticationFilter</code>, registered with the reactive security
+ * filter chain as defined in
+ * {@link com.behl.cerberus.reactive.configuration.ReactiveSecurityConfiguration}.
+ * 
+ * It verifies the signature and expiration of the JWT token in the request
+ * header, evaluates it's presence in the token revocation list, and populates
+ * the reactive security context with the user's unique identifier and the
+ * permissions associated with the authenticated user. The token is decoded
+ * once per request, and the revocation check is performed without blocking,
+ * allowing a few event loop threads to serve a high number of concurrent
+ * requests.
+ * 
+ * Requests carrying an invalid or revoked token are rejected through the
+ * {@link ReactiveAuthenticationEntryPoint}. Requests without a token are passed
+ * along the chain unauthenticated, and are rejected by the chain if destined to
+ * a secured API endpoint.
+ * 
+ * The filter is intentionally not declared as a bean, since WebFlux registers
+ * every {@link WebFilter} bean with the main filter chain, which would result
+ * in the filter being invoked twice per request.
+ *
+ * @see com.behl.cerberus.reactive.utility.ReactiveApiEndpointSecurityInspector
+ * @see com.behl.cerberus.reactive.service.ReactiveTokenRevocationService
+ * @see com.behl.cerberus.token.AccessTokenCodec
+ */
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+	private final AccessTokenCodec accessTokenCodec;
+	private final ReactiveTokenRevocationService reactiveTokenRevocationService;
+	private final ReactiveApiEndpointSecurityInspector reactiveApiEndpointSecurityInspector;
+	private final ReactiveAuthenticationEntryPoint reactiveAuthenticationEntryPoint;
+
+	private static final String BEARER_PREFIX = "Bearer ";
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		final var request = exchange.getRequest();
+		if (reactiveApiEndpointSecurityInspector.isUnsecureRequest(request)) {
+			return chain.filter(exchange);
+		}
+
+		final var authorizationHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		if (StringUtils.isEmpty(authorizationHeader) || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+			return chain.filter(exchange);
+		}
+
+		final AccessTokenClaims claims;
+		try {
+			claims = accessTokenCodec.decode(authorizationHeader);
+		} catch (final JwtException | IllegalArgumentException exception) {
+			return reject(exchange);
+		}
+
+		return reactiveTokenRevocationService.isRevoked(claims).flatMap(isTokenRevoked -> {
+			if (Boolean.TRUE.equals(isTokenRevoked)) {
+				return reject(exchange);
+			}
+			final var authentication = authenticate(claims);
+			return chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+		});
+	}
+
+	private UsernamePasswordAuthenticationToken authenticate(final AccessTokenClaims claims) {
+		final var userId = claims.userId();
+		final var authorities = claims.scopes().stream().map(SimpleGrantedAuthority::new).toList();
+		return new UsernamePasswordAuthenticationToken(userId, null, authorities);
+	}
+
+	private Mono<Void> reject(final ServerWebExchange exchange) {
+		return reactiveAuthenticationEntryPoint.commence(exchange, new BadCredentialsException("Invalid access token"));
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.behl.cerberus.reactive.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.stereotype.Service;
+
+import com.behl.cerberus.reactive.utility.ReactiveCacheManager;
+import com.behl.cerberus.token.AccessTokenClaims;
+import com.behl.cerberus.token.AccessTokenCodec;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the servlet edition's
+ * <code>TokenRevocationService</code>. Revoked access tokens are tracked by
+ * storing their JTI (JWT Token Identifier) as a key in the provisioned cache,
+ * shared with the servlet edition, so that a token revoked by either is
+ * rejected by both.
+ * 
+ * @see com.behl.cerberus.reactive.filter.ReactiveJwtAuthenticationFilter
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveTokenRevocationService {
+
+	private final AccessTokenCodec accessTokenCodec;
+	private final ReactiveCacheManager reactiveCacheManager;
+
+	/**
+	 * Revokes the provided Access Token by storing its JTI in provisioned cache
+	 * with a TTL equal to the time remaining until the token's expiration.
+	 * 
+	 * @param accessToken The access token to revoke, with or without the bearer prefix.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 * @return Mono signalling completion once the token is revoked, or
+	 *         {@link io.jsonwebtoken.JwtException} if the token fails verification.
+	 */
+	public Mono<Void> revoke(@NonNull final String accessToken) {
+		return Mono.fromCallable(() -> accessTokenCodec.decode(accessToken))
+				.flatMap(claims -> {
+					final var ttl = Duration.between(Instant.now(), claims.expiration());
+					return reactiveCacheManager.save(claims.jti(), ttl);
+				});
+	}
+
+	/**
+	 * Checks if the access token holding the provided verified claims has been
+	 * revoked, by evaluating the presence of its JTI in the cache.
+	 * 
+	 * @param claims The verified claims of the access token.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 * @return Mono emitting {@code true} if the token is revoked; {@code false} if not
+	 */
+	public Mono<Boolean> isRevoked(@NonNull final AccessTokenClaims claims) {
+		return reactiveCacheManager.isPresent(claims.jti());
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.behl.cerberus.reactive.utility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher.MatchResult;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.behl.cerberus.reactive.configuration.ReactiveSecurityConfigurationProperties;
+
+import jakarta.annotation.PostConstruct;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Non-blocking counterpart of the servlet edition's
+ * <code>ApiEndpointSecurityInspector</code>. As the reactive edition fronts
+ * services it does not own, public endpoints are read from configuration
+ * instead of controller mappings, along with the exposed actuator endpoints.
+ * 
+ * Configured paths are parsed into {@link PathPattern} once on startup, so that
+ * evaluation on the event loop involves no parsing or allocation of matchers.
+ * 
+ * @see com.behl.cerberus.reactive.configuration.ReactiveSecurityConfigurationProperties
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties({ ReactiveSecurityConfigurationProperties.class, WebEndpointProperties.class })
+public class ReactiveApiEndpointSecurityInspector {
+
+	private final WebEndpointProperties webEndpointProperties;
+	private final ReactiveSecurityConfigurationProperties reactiveSecurityConfigurationProperties;
+
+	private final Map<HttpMethod, List<PathPattern>> publicEndpoints = new HashMap<>();
+
+	/**
+	 * Parses the configured public endpoints against their HTTP methods, and
+	 * considers the exposed actuator endpoints as public for GET requests.
+	 */
+	@PostConstruct
+	public void init() {
+		final var pathPatternParser = PathPatternParser.defaultInstance;
+		reactiveSecurityConfigurationProperties.getPublicEndpoints().forEach((httpMethod, apiPaths) -> {
+			final var pathPatterns = publicEndpoints.computeIfAbsent(HttpMethod.valueOf(httpMethod.toUpperCase()), method -> new ArrayList<>());
+			apiPaths.stream().map(pathPatternParser::parse).forEach(pathPatterns::add);
+		});
+
+		final var publicGetEndpoints = publicEndpoints.computeIfAbsent(HttpMethod.GET, method -> new ArrayList<>());
+		getActuatorEndpoints().stream().map(pathPatternParser::parse).forEach(publicGetEndpoints::add);
+	}
+
+	/**
+	 * Checks if the provided HTTP request is directed towards an unsecured API endpoint.
+	 *
+	 * @param request The HTTP request to inspect.
+	 * @return {@code true} if the request is to an unsecured API endpoint, {@code false} otherwise.
+	 */
+	public boolean isUnsecureRequest(@NonNull final ServerHttpRequest request) {
+		final var unsecuredApiPaths = publicEndpoints.getOrDefault(request.getMethod(), Collections.emptyList());
+		final var requestPath = request.getPath().pathWithinApplication();
+		return unsecuredApiPaths.stream().anyMatch(apiPath -> apiPath.matches(requestPath));
+	}
+
+	/**
+	 * @return Matcher for requests directed towards unsecured API endpoints, to be
+	 *         permitted by the security filter chain.
+	 */
+	public ServerWebExchangeMatcher unsecuredRequestMatcher() {
+		return exchange -> isUnsecureRequest(exchange.getRequest()) ? MatchResult.match() : MatchResult.notMatch();
+	}
+
+	private List<String> getActuatorEndpoints() {
+		final var basePath = webEndpointProperties.getBasePath();
+		final var includedEndpoints = webEndpointProperties.getExposure().getInclude();
+		final var excludedEndpoints = webEndpointProperties.getExposure().getExclude();
+
+		return includedEndpoints.stream()
+				.filter(Predicate.not(excludedEndpoints::contains))
+				.flatMap(endpoint -> Stream.of(
+						String.format("%s/%s", basePath, endpoint),
+						String.format("%s/%s/*", basePath, endpoint)))
+				.toList();
+	}
+
+}
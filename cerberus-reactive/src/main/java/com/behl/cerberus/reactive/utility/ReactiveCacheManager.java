@@ -0,0 +1,59 @@
+package com.behl.cerberus.reactive.utility;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the servlet edition's <code>CacheManager</code>.
+ * It interacts with the provisioned redis cache on the event loop and
+ * facilitates data save and retrieval operations.
+ * 
+ * @see com.behl.cerberus.reactive.configuration.ReactiveRedisConfiguration
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveCacheManager {
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public Mono<Void> save(@NonNull final String key, @NonNull final Object value, @NonNull final Duration timeToLive) {
+        return reactiveRedisTemplate.opsForValue().set(key, value, timeToLive)
+                .doOnSuccess(saved -> log.info("Cached value with key '{}' for {} seconds", key, timeToLive.toSeconds()))
+                .then();
+    }
+
+    public Mono<Void> save(@NonNull final String key, @NonNull final Duration timeToLive) {
+        return reactiveRedisTemplate.opsForValue().set(key, StringUtils.EMPTY, timeToLive)
+                .doOnSuccess(saved -> log.info("Cached non value key '{}' for {} seconds", key, timeToLive.toSeconds()))
+                .then();
+    }
+
+    public Mono<Boolean> isPresent(@NonNull final String key) {
+        return reactiveRedisTemplate.hasKey(key);
+    }
+
+    public <T> Mono<T> fetch(@NonNull final String key, @NonNull final Class<T> targetClass) {
+        return reactiveRedisTemplate.opsForValue().get(key)
+                .map(value -> objectMapper.convertValue(value, targetClass))
+                .doOnSuccess(result -> {
+                    if (result == null) {
+                        log.info("No cached value found for key '{}'", key);
+                    } else {
+                        log.info("Fetched cached value with key '{}'", key);
+                    }
+                });
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.behl.cerberus.reactive.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.WebFilterChain;
+
+import com.behl.cerberus.reactive.configuration.ReactiveAuthenticationEntryPoint;
+import com.behl.cerberus.reactive.service.ReactiveTokenRevocationService;
+import com.behl.cerberus.reactive.utility.ReactiveApiEndpointSecurityInspector;
+import com.behl.cerberus.token.AccessTokenClaims;
+import com.behl.cerberus.token.AccessTokenCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Jwts;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ReactiveJwtAuthenticationFilterTest {
+
+	private final KeyPair keyPair = Jwts.SIG.RS512.keyPair().build();
+	private final AccessTokenCodec accessTokenCodec = new AccessTokenCodec("unit-test-issuer", keyPair::getPrivate, keyPair::getPublic);
+	private final ReactiveTokenRevocationService reactiveTokenRevocationService = mock(ReactiveTokenRevocationService.class);
+	private final ReactiveApiEndpointSecurityInspector reactiveApiEndpointSecurityInspector = mock(ReactiveApiEndpointSecurityInspector.class);
+	private final ReactiveAuthenticationEntryPoint reactiveAuthenticationEntryPoint = new ReactiveAuthenticationEntryPoint(new ObjectMapper());
+	private final ReactiveJwtAuthenticationFilter reactiveJwtAuthenticationFilter = new ReactiveJwtAuthenticationFilter(accessTokenCodec,
+			reactiveTokenRevocationService, reactiveApiEndpointSecurityInspector, reactiveAuthenticationEntryPoint);
+
+	@Test
+	void shouldPopulateSecurityContextForValidAccessToken() {
+		// Prepare request with valid access token to secured endpoint
+		final var userId = UUID.randomUUID();
+		final var accessToken = accessTokenCodec.encode(userId, List.of("userprofile.read"), Duration.ofMinutes(1));
+		final var exchange = exchangeWithAccessToken(accessToken);
+		when(reactiveApiEndpointSecurityInspector.isUnsecureRequest(any())).thenReturn(Boolean.FALSE);
+		when(reactiveTokenRevocationService.isRevoked(any(AccessTokenClaims.class))).thenReturn(Mono.just(Boolean.FALSE));
+
+		// Invoke filter with chain capturing the authentication in context
+		final var authentication = new AtomicReference<Authentication>();
+		final WebFilterChain chain = filteredExchange -> ReactiveSecurityContextHolder.getContext()
+				.map(SecurityContext::getAuthentication)
+				.doOnNext(authentication::set)
+				.then();
+		StepVerifier.create(reactiveJwtAuthenticationFilter.filter(exchange, chain)).verifyComplete();
+
+		// Assert authentication holds user id and scopes of access token
+		assertThat(authentication.get()).isNotNull();
+		assertThat(authentication.get().getPrincipal()).isEqualTo(userId);
+		assertThat(authentication.get().getAuthorities()).extracting(Object::toString).containsExactly("userprofile.read");
+	}
+
+	@Test
+	void shouldRejectRevokedAccessToken() {
+		// Prepare request with revoked access token to secured endpoint
+		final var accessToken = accessTokenCodec.encode(UUID.randomUUID(), List.of("fullaccess"), Duration.ofMinutes(1));
+		final var exchange = exchangeWithAccessToken(accessToken);
+		final var chain = mock(WebFilterChain.class);
+		when(reactiveApiEndpointSecurityInspector.isUnsecureRequest(any())).thenReturn(Boolean.FALSE);
+		when(reactiveTokenRevocationService.isRevoked(any(AccessTokenClaims.class))).thenReturn(Mono.just(Boolean.TRUE));
+
+		// Invoke filter
+		StepVerifier.create(reactiveJwtAuthenticationFilter.filter(exchange, chain)).verifyComplete();
+
+		// Assert request is rejected without invoking the chain
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+		verify(chain, never()).filter(any());
+	}
+
+	@Test
+	void shouldRejectTamperedAccessTokenWithoutRevocationCheck() {
+		// Prepare request with access token signed by a different key pair
+		final var foreignKeyPair = Jwts.SIG.RS512.keyPair().build();
+		final var foreignCodec = new AccessTokenCodec("unit-test-issuer", foreignKeyPair::getPrivate, foreignKeyPair::getPublic);
+		final var accessToken = foreignCodec.encode(UUID.randomUUID(), List.of("fullaccess"), Duration.ofMinutes(1));
+		final var exchange = exchangeWithAccessToken(accessToken);
+		final var chain = mock(WebFilterChain.class);
+		when(reactiveApiEndpointSecurityInspector.isUnsecureRequest(any())).thenReturn(Boolean.FALSE);
+
+		// Invoke filter
+		StepVerifier.create(reactiveJwtAuthenticationFilter.filter(exchange, chain)).verifyComplete();
+
+		// Assert request is rejected without consulting the revocation list
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+		verify(reactiveTokenRevocationService, never()).isRevoked(any(AccessTokenClaims.class));
+		verify(chain, never()).filter(any());
+	}
+
+	@Test
+	void shouldSkipVerificationForUnsecuredEndpoint() {
+		// Prepare request without access token to public endpoint
+		final var exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/auth/login"));
+		final var chain = mock(WebFilterChain.class);
+		when(chain.filter(exchange)).thenReturn(Mono.empty());
+		when(reactiveApiEndpointSecurityInspector.isUnsecureRequest(any())).thenReturn(Boolean.TRUE);
+
+		// Invoke filter
+		StepVerifier.create(reactiveJwtAuthenticationFilter.filter(exchange, chain)).verifyComplete();
+
+		// Assert chain is invoked without verification
+		verify(chain).filter(exchange);
+		verify(reactiveTokenRevocationService, never()).isRevoked(any(AccessTokenClaims.class));
+	}
+
+	private MockServerWebExchange exchangeWithAccessToken(final String accessToken) {
+		final var request = MockServerHttpRequest.get("/users").header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+		return MockServerWebExchange.from(request);
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.behl.cerberus.reactive.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import com.behl.cerberus.reactive.configuration.ReactiveSecurityConfigurationProperties;
+
+class ReactiveApiEndpointSecurityInspectorTest {
+
+	private final WebEndpointProperties webEndpointProperties = new WebEndpointProperties();
+	private final ReactiveSecurityConfigurationProperties reactiveSecurityConfigurationProperties = new ReactiveSecurityConfigurationProperties();
+	private final ReactiveApiEndpointSecurityInspector reactiveApiEndpointSecurityInspector = new ReactiveApiEndpointSecurityInspector(webEndpointProperties, reactiveSecurityConfigurationProperties);
+
+	@BeforeEach
+	void setUp() {
+		// Configure public endpoints and exposed actuator endpoints
+		reactiveSecurityConfigurationProperties.setPublicEndpoints(Map.of(
+				"post", List.of("/auth/login", "/users"),
+				"PUT", List.of("/auth/refresh")));
+		webEndpointProperties.getExposure().setInclude(Set.of("health"));
+		reactiveApiEndpointSecurityInspector.init();
+	}
+
+	@Test
+	void shouldEvaluateConfiguredEndpointsAgainstHttpMethod() {
+		assertThat(reactiveApiEndpointSecurityInspector.isUnsecureRequest(MockServerHttpRequest.post("/auth/login").build())).isTrue();
+		assertThat(reactiveApiEndpointSecurityInspector.isUnsecureRequest(MockServerHttpRequest.put("/auth/refresh").build())).isTrue();
+		assertThat(reactiveApiEndpointSecurityInspector.isUnsecureRequest(MockServerHttpRequest.get("/users").build())).isFalse();
+		assertThat(reactiveApiEndpointSecurityInspector.isUnsecureRequest(MockServerHttpRequest.delete("/auth/login").build())).isFalse();
+	}
+
+	@Test
+	void shouldConsiderExposedActuatorEndpointsAsPublic() {
+		assertThat(reactiveApiEndpointSecurityInspector.isUnsecureRequest(MockServerHttpRequest.get("/actuator/health").build())).isTrue();
+		assertThat(reactiveApiEndpointSecurityInspector.isUnsecureRequest(MockServerHttpRequest.get("/actuator/health/liveness").build())).isTrue();
+		assertThat(reactiveApiEndpointSecurityInspector.isUnsecureRequest(MockServerHttpRequest.get("/actuator/env").build())).isFalse();
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.behl.cerberus.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties controlling the per-stage latency instrumentation
+ * of the authentication filter.
+ * 
+ * @see com.behl.cerberus.utility.AuthenticationStageTimer
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "com.behl.cerberus.authentication-timing")
+public class AuthenticationTimingConfigurationProperties {
+
+	/**
+	 * Whether the duration of each stage of request authentication is recorded
+	 * into histograms. When disabled, no clock is read.
+	 */
+	private boolean enabled;
+
+	/**
+	 * Whether the recorded stage durations are returned to the client in the
+	 * <code>Server-Timing</code> response header. Takes effect only when
+	 * recording is enabled.
+	 */
+	private boolean serverTimingHeader;
+
+}
@@ -0,0 +1,55 @@
+package com.behl.cerberus.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties controlling the background job writing periodic
+ * balance checkpoints of deposit accounts, from which historical balances are
+ * derived.
+ * 
+ * @see com.behl.cerberus.utility.BalanceCheckpointWriter
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "com.behl.cerberus.balance-checkpoint")
+public class BalanceCheckpointConfigurationProperties {
+
+	/**
+	 * Whether checkpoints are written by this instance. Historical balances
+	 * remain correct when disabled, computed from the latest existing checkpoint.
+	 */
+	private boolean enabled;
+
+	/**
+	 * The delay between consecutive runs of the job. Also bounds how long the
+	 * job remains locked by an instance terminated mid-run.
+	 */
+	@NotNull
+	private Duration runInterval;
+
+	/**
+	 * The number of transactions between consecutive checkpoints of an account,
+	 * bounding the number of transactions summed to derive a historical balance.
+	 */
+	@NotNull
+	@Positive
+	private Integer transactionsPerCheckpoint;
+
+	/**
+	 * The minimum age of a transaction before it is included in a checkpoint,
+	 * exceeding the duration of any transaction inserting ledger entries, so that
+	 * no transaction can commit behind a written checkpoint.
+	 */
+	@NotNull
+	private Duration settleDelay;
+
+}
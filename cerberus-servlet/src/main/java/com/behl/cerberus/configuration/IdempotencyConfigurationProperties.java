@@ -0,0 +1,40 @@
+package com.behl.cerberus.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties controlling how long outcomes of requests carrying
+ * an <code>Idempotency-Key</code> header are retained, and how long duplicate
+ * requests wait for an in-flight request to complete.
+ * 
+ * @see com.behl.cerberus.utility.IdempotentRequestExecutor
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "com.behl.cerberus.idempotency")
+public class IdempotencyConfigurationProperties {
+
+	/**
+	 * The duration for which the outcome of a request is retained and replayed to
+	 * retries carrying the same idempotency key.
+	 */
+	@NotNull
+	private Duration timeToLive;
+
+	/**
+	 * The maximum duration a duplicate request waits for the in-flight request to
+	 * complete, before being rejected. Also bounds how long an idempotency key
+	 * remains claimed by a request whose instance terminated before completing it.
+	 */
+	@NotNull
+	private Duration inFlightTimeout;
+
+}
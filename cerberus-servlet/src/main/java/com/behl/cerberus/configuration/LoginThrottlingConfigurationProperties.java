@@ -0,0 +1,73 @@
+package com.behl.cerberus.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties controlling admission and throttling of login
+ * attempts, evaluated before any password hashing is performed.
+ * 
+ * @see com.behl.cerberus.utility.LoginThrottler
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "com.behl.cerberus.login-throttling")
+public class LoginThrottlingConfigurationProperties {
+
+	/**
+	 * The sliding window over which login attempts are counted.
+	 */
+	@NotNull
+	private Duration window;
+
+	/**
+	 * The maximum number of login attempts a single client IP address can make
+	 * within the window. Attempts beyond this limit are rejected with
+	 * <code>429 Too Many Requests</code>.
+	 */
+	@NotNull
+	@Positive
+	private Integer maxAttemptsPerClient;
+
+	/**
+	 * The number of failed login attempts against an email-id within the window,
+	 * after which every failure defers the next attempt from the failing client
+	 * by a progressively growing delay. Attempts made before the delay elapses
+	 * are rejected with <code>429 Too Many Requests</code>, while attempts after
+	 * it, and attempts from other clients, are admitted, to prevent attackers
+	 * from locking out the legitimate user of the email-id.
+	 */
+	@NotNull
+	@PositiveOrZero
+	private Integer freeAttemptsPerEmail;
+
+	/**
+	 * The delay imposed after the first failed attempt exceeding the free
+	 * attempts, doubled for every subsequent failed attempt.
+	 */
+	@NotNull
+	private Duration baseDelay;
+
+	/**
+	 * The upper bound of the delay imposed after a single failed attempt.
+	 */
+	@NotNull
+	private Duration maxDelay;
+
+	/**
+	 * Whether the attempt counters are additionally synced to redis, enforcing
+	 * the limits across all application nodes. In case redis is unreachable, the
+	 * in-memory counters of the node continue to be enforced.
+	 */
+	private boolean distributed;
+
+}
@@ -0,0 +1,93 @@
+package com.behl.cerberus.configuration;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.behl.cerberus.configuration.PasswordConfigurationProperties.Hashing.Algorithm;
+import com.behl.cerberus.utility.BCryptStrengthCalibrator;
+import com.behl.cerberus.utility.BoundedPasswordEncoder;
+import com.behl.cerberus.utility.CachingHibpPasswordChecker;
+import com.behl.cerberus.utility.OfflineCompromisedPasswordChecker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuration class responsible for defining beans involved in hashing,
+ * verifying and evaluating user passwords.
+ * 
+ * @see com.behl.cerberus.configuration.PasswordConfigurationProperties
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PasswordConfigurationProperties.class)
+public class PasswordConfiguration {
+
+	private final BCryptStrengthCalibrator bCryptStrengthCalibrator;
+	private final PasswordConfigurationProperties passwordConfigurationProperties;
+
+	/**
+	 * Configures a delegating password encoder hashing passwords with the
+	 * configured algorithm, and capable of verifying hashes created by any of the
+	 * supported algorithms. Hashes stored prior to the introduction of algorithm
+	 * prefixes are verified using BCrypt.
+	 * 
+	 * The encoder reports hashes created with an outdated algorithm or BCrypt
+	 * strength as requiring an upgrade, which is performed on successful login.
+	 * 
+	 * @see com.behl.cerberus.service.PasswordUpgradeService
+	 */
+	@Bean
+	public BoundedPasswordEncoder passwordEncoder(final MeterRegistry meterRegistry) {
+		final var hashingConfiguration = passwordConfigurationProperties.getHashing();
+		final var strength = bCryptStrengthCalibrator.calibrate(Duration.ofMillis(hashingConfiguration.getTargetLatency()));
+		final var bCryptPasswordEncoder = new BCryptPasswordEncoder(strength);
+		final Map<String, PasswordEncoder> passwordEncoders = Map.of(
+				Algorithm.BCRYPT.getId(), bCryptPasswordEncoder,
+				Algorithm.ARGON2.getId(), Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+		final var delegatingPasswordEncoder = new DelegatingPasswordEncoder(hashingConfiguration.getAlgorithm().getId(), passwordEncoders);
+		delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+
+		final var threads = Optional.ofNullable(hashingConfiguration.getThreads()).orElseGet(Runtime.getRuntime()::availableProcessors);
+		final var retryAfter = Duration.ofSeconds(hashingConfiguration.getRetryAfter());
+		return new BoundedPasswordEncoder(delegatingPasswordEncoder, threads, hashingConfiguration.getQueueCapacity(), retryAfter, meterRegistry);
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "com.behl.cerberus.password.compromised-check", name = "mode", havingValue = "remote", matchIfMissing = true)
+	public CompromisedPasswordChecker compromisedPasswordChecker(final MeterRegistry meterRegistry) {
+		final var compromisedCheckConfiguration = passwordConfigurationProperties.getCompromisedCheck();
+		final var requestTimeout = compromisedCheckConfiguration.getRequestTimeout();
+		final var httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_2)
+				.connectTimeout(requestTimeout)
+				.build();
+		return new CachingHibpPasswordChecker(httpClient, compromisedCheckConfiguration.getApiUrl(), requestTimeout,
+				compromisedCheckConfiguration.getCacheSize(), compromisedCheckConfiguration.getCacheTtl(), meterRegistry);
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "com.behl.cerberus.password.compromised-check", name = "mode", havingValue = "offline")
+	public OfflineCompromisedPasswordChecker offlineCompromisedPasswordChecker() {
+		final var datasetPath = passwordConfigurationProperties.getCompromisedCheck().getDatasetPath();
+		if (StringUtils.isBlank(datasetPath)) {
+			throw new IllegalStateException("Dataset path must be configured for offline compromised password check");
+		}
+		return new OfflineCompromisedPasswordChecker(Path.of(datasetPath));
+	}
+
+}
@@ -0,0 +1,202 @@
+package com.behl.cerberus.configuration;
+
+import java.net.URI;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties controlling how user passwords are hashed and
+ * verified within the application.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "com.behl.cerberus.password")
+public class PasswordConfigurationProperties {
+
+	@Valid
+	private Hashing hashing = new Hashing();
+
+	@Valid
+	private CompromisedCheck compromisedCheck = new CompromisedCheck();
+
+	/**
+	 * The maximum duration allowed for concurrently looking up the user, verifying
+	 * the password and checking it for compromise during login and user creation,
+	 * post which the request is failed and outstanding work is cancelled.
+	 * 
+	 * @see com.behl.cerberus.utility.FailFastTaskScope
+	 */
+	@NotNull
+	private Duration deadline;
+
+	@Getter
+	@Setter
+	public class Hashing {
+
+		/**
+		 * The algorithm used to hash new and upgraded passwords. Stored hashes are
+		 * prefixed with the identifier of the algorithm used, allowing passwords
+		 * hashed with any supported algorithm to be verified.
+		 * 
+		 * @see com.behl.cerberus.configuration.PasswordConfiguration
+		 */
+		@NotNull
+		private Algorithm algorithm;
+
+		/**
+		 * The target duration (in milliseconds) to compute a single BCrypt hash. The
+		 * BCrypt strength is calibrated against this value on application startup.
+		 * 
+		 * @see com.behl.cerberus.utility.BCryptStrengthCalibrator
+		 */
+		@NotNull
+		@Positive
+		private Integer targetLatency;
+
+		/**
+		 * The number of dedicated threads performing password hashing and
+		 * verification. Since hashing is CPU bound, defaults to the number of
+		 * processors available to the JVM when not configured.
+		 * 
+		 * @see com.behl.cerberus.utility.BoundedPasswordEncoder
+		 */
+		@Positive
+		private Integer threads;
+
+		/**
+		 * The maximum number of hashing operations allowed to wait for a free thread.
+		 * Operations submitted beyond this limit are rejected immediately, and the
+		 * client is asked to retry later.
+		 * 
+		 * @see com.behl.cerberus.utility.BoundedPasswordEncoder
+		 */
+		@NotNull
+		@Positive
+		private Integer queueCapacity;
+
+		/**
+		 * The duration (in seconds) returned to clients in the <code>Retry-After</code>
+		 * header when a hashing operation is rejected due to a full queue.
+		 * 
+		 * @see com.behl.cerberus.exception.PasswordHashingUnavailableException
+		 */
+		@NotNull
+		@Positive
+		private Integer retryAfter;
+
+		public enum Algorithm {
+
+			BCRYPT, ARGON2;
+
+			public String getId() {
+				return name().toLowerCase();
+			}
+
+		}
+
+	}
+
+	@Getter
+	@Setter
+	public class CompromisedCheck {
+
+		/**
+		 * Determines how passwords are checked for being compromised. Can either be
+		 * <code>remote</code> to call the Have I Been Pwned API, or <code>offline</code>
+		 * to look up a local copy of the dataset.
+		 * 
+		 * @see com.behl.cerberus.configuration.PasswordConfiguration
+		 */
+		@NotNull
+		private Mode mode;
+
+		/**
+		 * Determines when the compromised password check is performed during login.
+		 * In <code>synchronous</code> mode, tokens are issued only after the check
+		 * passes. In <code>asynchronous</code> mode, tokens are issued immediately
+		 * and the check is performed in the background, revoking the issued tokens
+		 * and requiring a password reset if the password is found to be compromised.
+		 * User creation and password reset are always checked synchronously.
+		 * 
+		 * @see com.behl.cerberus.service.CompromisedPasswordEnforcementService
+		 */
+		@NotNull
+		private LoginMode loginMode;
+
+		/**
+		 * Path of the compromised password dataset built using
+		 * {@link com.behl.cerberus.utility.HibpDatasetBuilder}. Required when mode is
+		 * <code>offline</code>.
+		 * 
+		 * @see com.behl.cerberus.utility.OfflineCompromisedPasswordChecker
+		 */
+		private String datasetPath;
+
+		/**
+		 * The interval at which the dataset file is checked for modification and
+		 * reloaded, when mode is <code>offline</code>.
+		 * 
+		 * @see com.behl.cerberus.utility.OfflineCompromisedPasswordChecker
+		 */
+		private Duration reloadInterval = Duration.ofMinutes(1);
+
+		/**
+		 * The base URL of the Have I Been Pwned range API, ending with a slash. Used
+		 * when mode is <code>remote</code>.
+		 * 
+		 * @see com.behl.cerberus.utility.CachingHibpPasswordChecker
+		 */
+		@NotNull
+		private URI apiUrl;
+
+		/**
+		 * The maximum duration to wait for a response from the range API, post which
+		 * the password is treated as not compromised.
+		 * 
+		 * @see com.behl.cerberus.utility.CachingHibpPasswordChecker
+		 */
+		@NotNull
+		private Duration requestTimeout;
+
+		/**
+		 * The maximum number of range API responses (one per 5 character SHA-1
+		 * prefix) held in memory. Each cached range takes roughly 20KB.
+		 * 
+		 * @see com.behl.cerberus.utility.CachingHibpPasswordChecker
+		 */
+		@NotNull
+		@Positive
+		private Integer cacheSize;
+
+		/**
+		 * The duration for which a range API response is cached.
+		 * 
+		 * @see com.behl.cerberus.utility.CachingHibpPasswordChecker
+		 */
+		@NotNull
+		private Duration cacheTtl;
+
+		public enum Mode {
+
+			REMOTE, OFFLINE;
+
+		}
+
+		public enum LoginMode {
+
+			SYNCHRONOUS, ASYNCHRONOUS;
+
+		}
+
+	}
+
+}
\ No newline at end of file
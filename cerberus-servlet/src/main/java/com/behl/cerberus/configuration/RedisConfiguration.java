@@ -0,0 +1,57 @@
+package com.behl.cerberus.configuration;
+
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+/**
+ * Configuration class responsible for defining beans to interact with the
+ * provisioned redis cache. A single Lettuce connection is shared and multiplexed
+ * across all threads, hence the number of concurrent (virtual) threads does not
+ * translate into additional connections. Commands are bound by the configured
+ * <code>spring.data.redis.timeout</code>, so that threads do not pile up
+ * waiting on an unresponsive redis server.
+ */
+@Configuration
+public class RedisConfiguration {
+
+    @Bean
+    public RedisConnectionFactory redisConnectionFactory(final RedisProperties redisProperties) {
+        final var standaloneConfiguration = new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        standaloneConfiguration.setPassword(redisProperties.getPassword());
+        final var clientConfiguration = LettuceClientConfiguration.builder();
+        Optional.ofNullable(redisProperties.getTimeout()).ifPresent(clientConfiguration::commandTimeout);
+        return new LettuceConnectionFactory(standaloneConfiguration, clientConfiguration.build());    
+    }
+
+    @Bean
+    public RedisTemplate<String, Object> redisTemplate(final RedisConnectionFactory redisConnectionFactory) {
+        final var redisTemplate = new RedisTemplate<String, Object>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setDefaultSerializer(new Jackson2JsonRedisSerializer<>(Object.class));
+        return redisTemplate;
+    }
+
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(final RedisConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(final RedisConnectionFactory redisConnectionFactory) {
+        final var redisMessageListenerContainer = new RedisMessageListenerContainer();
+        redisMessageListenerContainer.setConnectionFactory(redisConnectionFactory);
+        return redisMessageListenerContainer;
+    }
+    
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.behl.cerberus.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties controlling the Bloom filter of registered
+ * email-ids, used to skip datasource lookups for email-ids which are certainly
+ * not registered.
+ * 
+ * @see com.behl.cerberus.utility.RegisteredEmailFilter
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "com.behl.cerberus.registered-email-filter")
+public class RegisteredEmailFilterConfigurationProperties {
+
+	/**
+	 * Whether lookups of email-ids absent from the filter skip the datasource.
+	 * When disabled, every lookup is performed against the datasource.
+	 */
+	private boolean enabled;
+
+	/**
+	 * The minimum number of email-ids the filter is initially sized for. The
+	 * filter is sized for twice the number of registered users if greater, and
+	 * grows as further users register.
+	 */
+	@NotNull
+	@Positive
+	private Long minimumCapacity;
+
+	/**
+	 * The probability of an unregistered email-id being reported as possibly
+	 * registered, in which case the datasource is queried.
+	 */
+	@NotNull
+	@DecimalMin(value = "0.0", inclusive = false)
+	@DecimalMax(value = "1.0", inclusive = false)
+	private Double falsePositiveProbability;
+
+	/**
+	 * The interval at which the filter is rebuilt from the datasource, recovering
+	 * registrations made on other nodes whose notification was missed.
+	 */
+	@NotNull
+	private Duration rebuildInterval;
+
+}
@@ -0,0 +1,31 @@
+package com.behl.cerberus.configuration;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to restrict access to secured API endpoints to access tokens
+ * holding at least one of the declared scopes, equivalent to
+ * <code>@PreAuthorize("hasAnyAuthority(...)")</code> without the evaluation
+ * of a SpEL expression on each invocation.
+ * 
+ * When applied to a controller class, the restriction applies to all of it's
+ * methods not annotated themselves. Declared scopes must be ones granted by a
+ * {@link com.behl.cerberus.entity.UserStatus}, and are compiled once per method
+ * into a bitmask by {@link com.behl.cerberus.utility.ScopeAuthorizationManager}.
+ * 
+ * @see com.behl.cerberus.configuration.SecurityConfiguration
+ * @see com.behl.cerberus.utility.ScopeBitmask
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresScopes {
+
+	/**
+	 * @return Scopes, any of which grants access to the annotated endpoint(s).
+	 */
+	String[] value();
+
+}
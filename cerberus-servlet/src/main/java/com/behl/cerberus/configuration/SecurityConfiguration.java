@@ -2,25 +2,30 @@ package com.behl.cerberus.configuration;
 
 import java.util.List;
 
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.Pointcuts;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.http.HttpMethod;
-import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.security.web.authentication.password.HaveIBeenPwnedRestApiPasswordChecker;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.behl.cerberus.filter.JwtAuthenticationFilter;
 import com.behl.cerberus.utility.ApiEndpointSecurityInspector;
+import com.behl.cerberus.utility.ScopeAuthorizationManager;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 
@@ -35,6 +40,9 @@ import lombok.SneakyThrows;
  *   <li>Integration of a custom JWT filter into the security filter chain to ensure
  *       that all requests to private endpoints pass through the filter for
  *       authentication verification.</li>
+ *   <li>Enforcement of {@link RequiresScopes} declared on controllers, evaluated
+ *       by {@link ScopeAuthorizationManager} at the same precedence as
+ *       <code>@PreAuthorize</code>.</li>
  * </ul>
  *
  * @see com.behl.cerberus.filter.JwtAuthenticationFilter
@@ -60,6 +68,7 @@ public class SecurityConfiguration {
 			.sessionManagement(sessionConfigurer -> sessionConfigurer.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 			.authorizeHttpRequests(authManager -> {
 					authManager
+						.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 						.requestMatchers(HttpMethod.GET, apiEndpointSecurityInspector.getPublicGetEndpoints().toArray(String[]::new)).permitAll()
 						.requestMatchers(HttpMethod.POST, apiEndpointSecurityInspector.getPublicPostEndpoints().toArray(String[]::new)).permitAll()
 						.requestMatchers(HttpMethod.PUT, apiEndpointSecurityInspector.getPublicPutEndpoints().toArray(String[]::new)).permitAll()
@@ -71,13 +80,14 @@ public class SecurityConfiguration {
 	}
 	
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
-	}
-	
-	@Bean
-	public CompromisedPasswordChecker compromisedPasswordChecker() {
-		return new HaveIBeenPwnedRestApiPasswordChecker();
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	public static Advisor requiresScopesAuthorizationAdvisor() {
+		final var pointcut = Pointcuts.union(
+				new AnnotationMatchingPointcut(null, RequiresScopes.class, true),
+				new AnnotationMatchingPointcut(RequiresScopes.class, true));
+		final var interceptor = new AuthorizationManagerBeforeMethodInterceptor(pointcut, new ScopeAuthorizationManager());
+		interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+		return interceptor;
 	}
 	
 	private CorsConfigurationSource corsConfigurationSource() {
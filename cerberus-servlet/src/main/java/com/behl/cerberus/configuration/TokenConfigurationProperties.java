@@ -7,6 +7,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -77,6 +78,29 @@ public class TokenConfigurationProperties {
 		@Positive
 		private Integer validity;
 		
+		/**
+		 * The maximum number of concurrent sessions (refresh tokens) a user can hold.
+		 * When a new session is registered beyond this limit, the oldest session(s)
+		 * are evicted along with their refresh tokens.
+		 * 
+		 * @see com.behl.cerberus.utility.SessionRegistry
+		 */
+		@NotNull
+		@Positive
+		private Integer maxActiveSessions;
+		
+		/**
+		 * The duration (in seconds) for which an access token minted against a
+		 * refresh token is reused for duplicate refresh requests made with the same
+		 * refresh token. Protects against signing a new token on each retry made by
+		 * clients after network failures. A value of <code>0</code> disables reuse.
+		 * 
+		 * @see com.behl.cerberus.service.AuthenticationService
+		 */
+		@NotNull
+		@PositiveOrZero
+		private Integer reuseWindow;
+		
 	}
 
 }
\ No newline at end of file
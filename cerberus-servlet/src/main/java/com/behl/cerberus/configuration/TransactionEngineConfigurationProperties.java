@@ -0,0 +1,58 @@
+package com.behl.cerberus.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties controlling the partitioned single-writer engine
+ * through which deposit account transactions are applied, intended for
+ * deployments serving accounts receiving heavy concurrent traffic.
+ * 
+ * @see com.behl.cerberus.utility.PartitionedTransactionEngine
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "com.behl.cerberus.transaction-engine")
+public class TransactionEngineConfigurationProperties {
+
+	/**
+	 * Whether transactions are routed through the engine. When disabled, every
+	 * transaction is applied by the requesting thread through a conditional
+	 * update of the deposit account.
+	 */
+	private boolean enabled;
+
+	/**
+	 * The number of partitions, each drained by a single worker thread, across
+	 * which deposit accounts are distributed.
+	 */
+	@NotNull
+	@Positive
+	private Integer partitions;
+
+	/**
+	 * The maximum number of queued transactions a worker applies within a single
+	 * datasource transaction.
+	 */
+	@NotNull
+	@Positive
+	private Integer maxBatchSize;
+
+	/**
+	 * The maximum duration a transaction waits to be claimed by a worker.
+	 * Transactions still queued once it elapses are discarded without being
+	 * applied, while callers of transactions already claimed wait for their
+	 * batch to commit.
+	 */
+	@NotNull
+	private Duration resultTimeout;
+
+}
@@ -0,0 +1,42 @@
+package com.behl.cerberus.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties bounding the number of transaction exports streamed
+ * concurrently by an instance, as each holds a datasource connection for its
+ * entire duration.
+ * 
+ * @see com.behl.cerberus.utility.TransactionExporter
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "com.behl.cerberus.transaction-export")
+public class TransactionExportConfigurationProperties {
+
+	/**
+	 * The maximum number of exports streamed concurrently. Further exports are
+	 * rejected with <code>429 Too Many Requests</code>. Should be well below the
+	 * size of the datasource connection pool.
+	 */
+	@NotNull
+	@Positive
+	private Integer maxConcurrentExports;
+
+	/**
+	 * The duration clients are advised to wait before retrying a rejected export,
+	 * sent in the <code>Retry-After</code> header.
+	 */
+	@NotNull
+	private Duration retryAfter;
+
+}
@@ -0,0 +1,39 @@
+package com.behl.cerberus.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties controlling the rebuild of daily transaction
+ * rollups from the ledger, from which account statements are served.
+ * 
+ * @see com.behl.cerberus.utility.TransactionRollupRebuilder
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "com.behl.cerberus.transaction-rollup")
+public class TransactionRollupConfigurationProperties {
+
+	/**
+	 * Whether the rollups of every deposit account are regenerated on startup,
+	 * before the instance reports itself ready to accept traffic. Intended to
+	 * be enabled for a single deployment, populating rollups of transactions
+	 * recorded before rollups were introduced, or repairing them.
+	 */
+	private boolean rebuildOnStartup;
+
+	/**
+	 * The number of chunks of deposit accounts rebuilt concurrently, each
+	 * holding a datasource connection while running.
+	 */
+	@NotNull
+	@Positive
+	private Integer rebuildParallelism;
+
+}
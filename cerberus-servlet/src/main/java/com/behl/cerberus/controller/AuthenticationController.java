@@ -1,7 +1,12 @@
 package com.behl.cerberus.controller;
 
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -10,10 +15,12 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.behl.cerberus.configuration.PublicEndpoint;
 import com.behl.cerberus.dto.ExceptionResponseDto;
+import com.behl.cerberus.dto.SessionDetailDto;
 import com.behl.cerberus.dto.TokenSuccessResponseDto;
 import com.behl.cerberus.dto.UserLoginRequestDto;
 import com.behl.cerberus.exception.TokenVerificationException;
 import com.behl.cerberus.service.AuthenticationService;
+import com.behl.cerberus.utility.AuthenticatedUserIdProvider;
 import com.behl.cerberus.utility.RefreshTokenHeaderProvider;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,6 +40,7 @@ public class AuthenticationController {
 
 	private final AuthenticationService authenticationService;
 	private final RefreshTokenHeaderProvider refreshTokenHeaderProvider;
+	private final AuthenticatedUserIdProvider authenticatedUserIdProvider;
 
 	@PublicEndpoint
 	@PostMapping(value = "/login", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -42,6 +50,8 @@ public class AuthenticationController {
 			@ApiResponse(responseCode = "401", description = "Bad credentials provided. Failed to authenticate user",
 					content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))),
 			@ApiResponse(responseCode = "422", description = "Password has been compromised",
+					content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))),
+			@ApiResponse(responseCode = "429", description = "Too many login attempts made by client",
 					content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))) })
 	public ResponseEntity<TokenSuccessResponseDto> login(@Valid @RequestBody final UserLoginRequestDto userLoginRequest) {
 		final var tokenResponse = authenticationService.login(userLoginRequest);
@@ -61,4 +71,23 @@ public class AuthenticationController {
 		return ResponseEntity.ok(tokenResponse);
 	}
 	
+	@GetMapping(value = "/sessions", produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "Lists active sessions of logged-in user", description = "Retrieves device details of every session holding a non expired refresh-token issued to the logged-in user")
+	@ApiResponse(responseCode = "200", description = "Active sessions retrieved successfully")
+	public ResponseEntity<List<SessionDetailDto>> getActiveSessions() {
+		final var userId = authenticatedUserIdProvider.getUserId();
+		final var sessions = authenticationService.getActiveSessions(userId);
+		return ResponseEntity.ok(sessions);
+	}
+	
+	@DeleteMapping(value = "/sessions")
+	@Operation(summary = "Logs out user from every device", description = "Invalidates all refresh-tokens issued to the logged-in user and revokes the current access-token")
+	@ApiResponse(responseCode = "204", description = "User logged out from every device successfully",
+			content = @Content(schema = @Schema(implementation = Void.class)))
+	public ResponseEntity<HttpStatus> logoutEverywhere() {
+		final var userId = authenticatedUserIdProvider.getUserId();
+		authenticationService.logoutEverywhere(userId);
+		return ResponseEntity.noContent().build();
+	}
+	
 }
\ No newline at end of file
@@ -0,0 +1,254 @@
+package com.behl.cerberus.controller;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.behl.cerberus.configuration.RequiresScopes;
+import com.behl.cerberus.dto.BalanceAsOfDto;
+import com.behl.cerberus.dto.DepositAccountDetailDto;
+import com.behl.cerberus.dto.ExceptionResponseDto;
+import com.behl.cerberus.dto.StatementDto;
+import com.behl.cerberus.dto.StatementRequestDto;
+import com.behl.cerberus.dto.TransactionBatchResultDto;
+import com.behl.cerberus.dto.TransactionHistoryDto;
+import com.behl.cerberus.dto.TransactionHistoryRequestDto;
+import com.behl.cerberus.dto.TransactionRequestDto;
+import com.behl.cerberus.exception.BatchSizeExceededException;
+import com.behl.cerberus.service.DepositAccountService;
+import com.behl.cerberus.utility.AuthenticatedUserIdProvider;
+import com.behl.cerberus.utility.IdempotentRequestExecutor;
+import com.behl.cerberus.utility.TransactionExporter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/deposit-accounts")
+@RequiresScopes("fullaccess")
+@Tag(name = "Deposit Accounts", description = "Endpoints for managing deposit accounts")
+public class DepositAccountController {
+
+    private final DepositAccountService depositAccountService;
+    private final AuthenticatedUserIdProvider authenticatedUserIdProvider;
+    private final IdempotentRequestExecutor idempotentRequestExecutor;
+    private final TransactionExporter transactionExporter;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping
+    @Operation(summary = "Creates a Deposit Account", description = "Creates a new deposit account corresponding to the logged-in user")
+    @ApiResponses(value = { 
+            @ApiResponse(responseCode = "201", description = "Deposit Account created successfully",
+            		content = @Content(schema = @Schema(implementation = Void.class))),
+            @ApiResponse(responseCode = "409", description = "Deposit Account already exists corresponding to the logged-in user",
+            		content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))) })
+    public ResponseEntity<HttpStatus> createDepositAccount() {
+        final var userId = authenticatedUserIdProvider.getUserId();
+        depositAccountService.create(userId);
+        return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+    
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get Deposit Account Details", description = "Retrieves details of the authenticated user's deposit account")
+    @ApiResponse(responseCode = "200", description = "Deposit Account details retrieved successfully")
+    public ResponseEntity<DepositAccountDetailDto> getDepositAccountDetails() {
+        final var userId = authenticatedUserIdProvider.getUserId();
+        final var accountDetails = depositAccountService.getByUserId(userId);
+        return ResponseEntity.ok(accountDetails);
+    }
+
+    @GetMapping(value = "/balance", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get Historical Balance", description = "Retrieves the balance of the authenticated user's deposit account as of the given time")
+    @ApiResponses(value = { 
+            @ApiResponse(responseCode = "200", description = "Balance retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "No deposit account exists corresponding to the logged-in user",
+            		content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))) })
+    public ResponseEntity<BalanceAsOfDto> getBalanceAsOf(
+            @Parameter(description = "UTC date-time to retrieve the balance as of", example = "2024-03-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime asOf) {
+        final var userId = authenticatedUserIdProvider.getUserId();
+        final var balance = depositAccountService.getBalanceAsOf(userId, asOf);
+        return ResponseEntity.ok(balance);
+    }
+
+    @GetMapping(value = "/statement", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get Account Statement", description = "Retrieves totals deposited and withdrawn against the authenticated user's deposit account per day or month")
+    @ApiResponses(value = { 
+            @ApiResponse(responseCode = "200", description = "Statement retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid statement range provided",
+            		content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))),
+            @ApiResponse(responseCode = "404", description = "No deposit account exists corresponding to the logged-in user",
+            		content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))) })
+    public ResponseEntity<StatementDto> getStatement(@Valid @ParameterObject final StatementRequestDto statementRequest) {
+        final var userId = authenticatedUserIdProvider.getUserId();
+        final var statement = depositAccountService.getStatement(userId, statementRequest);
+        return ResponseEntity.ok(statement);
+    }
+
+    @PostMapping(value = "/transactions", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Process a transaction", description = "Processes transaction against users deposit account")
+    @ApiResponses(value = { 
+            @ApiResponse(responseCode = "200", description = "Transaction processed successfully",
+            		content = @Content(schema = @Schema(implementation = Void.class))),
+            @ApiResponse(responseCode = "404", description = "Users deposit account must be created prior to processing transaction(s)",
+            		content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))),
+            @ApiResponse(responseCode = "409", description = "Request with the same Idempotency-Key is still being processed",
+            		content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key has already been used for a different request",
+            		content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))) })
+    public ResponseEntity<HttpStatus> processTransaction(@Valid @RequestBody final TransactionRequestDto transactionRequest,
+            @Parameter(description = "Client generated key, allowing the request to be retried without being processed more than once")
+            @RequestHeader(name = IdempotentRequestExecutor.IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey) {
+        final var userId = authenticatedUserIdProvider.getUserId();
+        if (idempotencyKey == null) {
+            depositAccountService.processTransaction(userId, transactionRequest);
+        } else {
+            final var fingerprint = String.join(":", transactionRequest.getType().name(), transactionRequest.getCurrency().name(),
+                    transactionRequest.getAmount().stripTrailingZeros().toPlainString());
+            idempotentRequestExecutor.execute(userId.toString(), idempotencyKey, fingerprint,
+                    () -> depositAccountService.processTransaction(userId, transactionRequest));
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping(value = "/transactions/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Process a batch of transactions", description = "Processes an array of transactions against users deposit account, in the order submitted")
+    @ApiResponses(value = { 
+            @ApiResponse(responseCode = "200", description = "Batch processed, with the result of each transaction"),
+            @ApiResponse(responseCode = "404", description = "Users deposit account must be created prior to processing transaction(s)",
+            		content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))),
+            @ApiResponse(responseCode = "413", description = "Batch contains more transactions than permitted",
+            		content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))) })
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = TransactionRequestDto.class))))
+    public ResponseEntity<List<TransactionBatchResultDto>> processTransactions(final HttpServletRequest request) throws IOException {
+        final var userId = authenticatedUserIdProvider.getUserId();
+        final var transactionRequests = readTransactionArray(new ServletServerHttpRequest(request));
+        final var results = depositAccountService.processTransactions(userId, transactionRequests);
+        return ResponseEntity.ok(results);
+    }
+
+    @PostMapping(value = "/transactions/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Process a stream of transactions", description = "Processes newline delimited transactions against users deposit account, in the order submitted")
+    @ApiResponses(value = { 
+            @ApiResponse(responseCode = "200", description = "Batch processed, with the result of each transaction"),
+            @ApiResponse(responseCode = "404", description = "Users deposit account must be created prior to processing transaction(s)",
+            		content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))),
+            @ApiResponse(responseCode = "413", description = "Stream contains more transactions than permitted",
+            		content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))) })
+    public ResponseEntity<List<TransactionBatchResultDto>> processTransactionStream(final HttpServletRequest request) throws IOException {
+        final var userId = authenticatedUserIdProvider.getUserId();
+        final var transactionRequests = readTransactionStream(new ServletServerHttpRequest(request));
+        final var results = depositAccountService.processTransactions(userId, transactionRequests);
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping(value = "/transactions", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Fetches transactions", description = "Retrieves a page of transactions corresponding to user's deposit account, ordered from the most recent")
+    @ApiResponses(value = { 
+            @ApiResponse(responseCode = "200", description = "Transactions retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or filter provided",
+            		content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))) })
+    public ResponseEntity<TransactionHistoryDto> getTransactions(@Valid @ParameterObject final TransactionHistoryRequestDto transactionHistoryRequest) {
+        final var userId = authenticatedUserIdProvider.getUserId();
+        final var transactions = depositAccountService.getTransactions(userId, transactionHistoryRequest);
+        return ResponseEntity.ok(transactions);
+    }
+
+    @GetMapping(value = "/transactions/export", produces = { MediaType.APPLICATION_NDJSON_VALUE, "text/csv" })
+    @Operation(summary = "Exports transactions", description = "Streams every transaction corresponding to user's deposit account, ordered from the most recent, as newline delimited JSON or CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Transactions streamed successfully"),
+            @ApiResponse(responseCode = "429", description = "Too many exports in progress, to be retried after the duration in Retry-After header",
+            		content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))) })
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @Parameter(description = "Format to export transactions in")
+            @RequestParam(defaultValue = "NDJSON") final TransactionExporter.Format format) {
+        final var userId = authenticatedUserIdProvider.getUserId();
+        final var responseBody = transactionExporter.export(userId, format);
+        final var contentDisposition = ContentDisposition.attachment().filename("transactions." + format.getFileExtension()).build();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(responseBody);
+    }
+
+    /**
+     * Reads a JSON array of transactions element by element, aborting once more
+     * than the permitted number of transactions are encountered instead of
+     * parsing the entire array into memory.
+     */
+    private List<TransactionRequestDto> readTransactionArray(final HttpInputMessage inputMessage) throws IOException {
+        final var transactionReader = objectMapper.readerFor(TransactionRequestDto.class);
+        final var transactionRequests = new ArrayList<TransactionRequestDto>();
+        try (final var parser = objectMapper.createParser(inputMessage.getBody())) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new HttpMessageNotReadableException("Request body must be an array of transactions", inputMessage);
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                append(transactionRequests, transactionReader.readValue(parser));
+            }
+        } catch (final JsonProcessingException exception) {
+            throw new HttpMessageNotReadableException(exception.getOriginalMessage(), exception, inputMessage);
+        }
+        return transactionRequests;
+    }
+
+    /**
+     * Reads newline delimited transactions, aborting once more than the permitted
+     * number of transactions are encountered instead of buffering the entire stream.
+     */
+    private List<TransactionRequestDto> readTransactionStream(final HttpInputMessage inputMessage) throws IOException {
+        final var transactionRequests = new ArrayList<TransactionRequestDto>();
+        try (final MappingIterator<TransactionRequestDto> iterator = objectMapper.readerFor(TransactionRequestDto.class).readValues(inputMessage.getBody())) {
+            while (iterator.hasNextValue()) {
+                append(transactionRequests, iterator.nextValue());
+            }
+        } catch (final JsonProcessingException exception) {
+            throw new HttpMessageNotReadableException(exception.getOriginalMessage(), exception, inputMessage);
+        }
+        return transactionRequests;
+    }
+
+    private void append(final List<TransactionRequestDto> transactionRequests, final TransactionRequestDto transactionRequest) {
+        if (transactionRequests.size() == DepositAccountService.MAXIMUM_BATCH_SIZE) {
+            throw new BatchSizeExceededException(DepositAccountService.MAXIMUM_BATCH_SIZE);
+        }
+        transactionRequests.add(transactionRequest);
+    }
+
+}
\ No newline at end of file
@@ -3,12 +3,12 @@ package com.behl.cerberus.controller;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.behl.cerberus.configuration.RequiresScopes;
 import com.behl.cerberus.dto.IdentityVerificationRequestDto;
 import com.behl.cerberus.service.IdentityVerificationService;
 import com.behl.cerberus.utility.AuthenticatedUserIdProvider;
@@ -34,7 +34,7 @@ public class IdentityVerificationController {
 	@Operation(summary = "Verify user identity", description = "Performs identity verification check on logged-in user")
 	@ApiResponse(responseCode = "200", description = "User identity verification check successfully passed", 
 			content = @Content(schema = @Schema(implementation = Void.class)))
-	@PreAuthorize("hasAuthority('useridentity.verify')")
+	@RequiresScopes("useridentity.verify")
 	public ResponseEntity<HttpStatus> verifyUserIdentity(@Valid @RequestBody final IdentityVerificationRequestDto identityVerificationRequest) {
 		final var userId = authenticatedUserIdProvider.getUserId();
 		identityVerificationService.verifyUserIdentity(userId, identityVerificationRequest);
@@ -3,7 +3,6 @@ package com.behl.cerberus.controller;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -13,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.behl.cerberus.configuration.PublicEndpoint;
+import com.behl.cerberus.configuration.RequiresScopes;
 import com.behl.cerberus.dto.ExceptionResponseDto;
 import com.behl.cerberus.dto.ResetPasswordRequestDto;
 import com.behl.cerberus.dto.UserCreationRequestDto;
@@ -58,7 +58,7 @@ public class UserController {
 	@Operation(summary = "Updates user profile details", description = "Updates profile details corresponding to logged-in user")
 	@ApiResponse(responseCode = "200", description = "User account details updated successfully",
 			content = @Content(schema = @Schema(implementation = Void.class)))
-	@PreAuthorize("hasAnyAuthority('userprofile.update', 'fullaccess')")
+	@RequiresScopes({ "userprofile.update", "fullaccess" })
 	public ResponseEntity<HttpStatus> updateUser(@Valid @RequestBody final UserUpdationRequestDto userUpdationRequest) {
 		final var userId = authenticatedUserIdProvider.getUserId();
 		userService.update(userId, userUpdationRequest);
@@ -68,7 +68,7 @@ public class UserController {
 	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
 	@Operation(summary = "Retrieves current logged-in user's account details", description = "Private endpoint which retreives user account details against the Access-token JWT provided in headers")
 	@ApiResponse(responseCode = "200", description = "User account details retrieved successfully")
-	@PreAuthorize("hasAnyAuthority('userprofile.read', 'fullaccess')")
+	@RequiresScopes({ "userprofile.read", "fullaccess" })
 	public ResponseEntity<UserDetailDto> retrieveUser() {
 		final var userId = authenticatedUserIdProvider.getUserId();
 		final var userDetail = userService.getById(userId);
@@ -94,7 +94,7 @@ public class UserController {
 	@Operation(summary = "Deactivates current logged-in user's profile", description = "Deactivates user's profile: can only be undone by praying to a higher power or contacting our vanished customer support.")
 	@ApiResponse(responseCode = "204", description = "User profile successfully deactivated", 
 			content = @Content(schema = @Schema(implementation = Void.class)))
-	@PreAuthorize("hasAnyAuthority('userprofile.update', 'fullaccess')")
+	@RequiresScopes({ "userprofile.update", "fullaccess" })
 	public ResponseEntity<HttpStatus> deactivateUser(){
 		final var userId = authenticatedUserIdProvider.getUserId();
 		userService.deactivate(userId);
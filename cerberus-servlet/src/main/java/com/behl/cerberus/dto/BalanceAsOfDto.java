@@ -0,0 +1,26 @@
+package com.behl.cerberus.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+@JsonNaming(value = PropertyNamingStrategies.UpperCamelCaseStrategy.class)
+@Schema(title = "BalanceAsOf", accessMode = Schema.AccessMode.READ_ONLY)
+public class BalanceAsOfDto {
+
+	@Schema(description = "Balance after applying every transaction recorded up to and including the requested time")
+	private BigDecimal balance;
+
+	private LocalDateTime asOf;
+
+}
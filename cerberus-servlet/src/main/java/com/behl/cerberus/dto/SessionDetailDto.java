@@ -0,0 +1,27 @@
+package com.behl.cerberus.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(value = PropertyNamingStrategies.UpperCamelCaseStrategy.class)
+@Schema(title = "SessionDetail", accessMode = Schema.AccessMode.READ_ONLY)
+public class SessionDetailDto {
+
+	private String device;
+	private String ipAddress;
+	private LocalDateTime issuedAt;
+	private LocalDateTime expiresAt;
+
+}
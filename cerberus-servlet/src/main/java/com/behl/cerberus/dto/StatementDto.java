@@ -0,0 +1,28 @@
+package com.behl.cerberus.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+@JsonNaming(value = PropertyNamingStrategies.UpperCamelCaseStrategy.class)
+@Schema(title = "Statement", accessMode = Schema.AccessMode.READ_ONLY)
+public class StatementDto {
+
+	private StatementRequestDto.Period period;
+	private LocalDate from;
+	private LocalDate to;
+
+	@Schema(description = "Totals per day or month holding transactions, ordered chronologically")
+	private List<StatementEntryDto> entries;
+
+}
@@ -0,0 +1,31 @@
+package com.behl.cerberus.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.behl.cerberus.entity.Currency;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+@JsonNaming(value = PropertyNamingStrategies.UpperCamelCaseStrategy.class)
+@Schema(title = "StatementEntry", accessMode = Schema.AccessMode.READ_ONLY)
+public class StatementEntryDto {
+
+	@Schema(description = "First day of the day or month the entry covers")
+	private LocalDate periodStart;
+
+	private Currency currency;
+	private BigDecimal totalDeposited;
+	private BigDecimal totalWithdrawn;
+	private Long depositCount;
+	private Long withdrawalCount;
+
+}
@@ -0,0 +1,36 @@
+package com.behl.cerberus.dto;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class StatementRequestDto {
+
+	public static final int MAXIMUM_DAILY_RANGE = 366;
+
+	@NotNull(message = "Period must not be empty")
+	@Schema(description = "Granularity of the statement entries", example = "MONTHLY")
+	private Period period = Period.MONTHLY;
+
+	@NotNull(message = "From must not be empty")
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	@Schema(description = "Inclusive first day of the statement, in UTC", example = "2024-01-01")
+	private LocalDate from;
+
+	@NotNull(message = "To must not be empty")
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	@Schema(description = "Exclusive last day of the statement, in UTC", example = "2024-04-01")
+	private LocalDate to;
+
+	public enum Period {
+		DAILY, MONTHLY
+	}
+
+}
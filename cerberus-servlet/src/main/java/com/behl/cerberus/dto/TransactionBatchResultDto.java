@@ -0,0 +1,29 @@
+package com.behl.cerberus.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(value = PropertyNamingStrategies.UpperCamelCaseStrategy.class)
+@Schema(title = "TransactionBatchResult", accessMode = Schema.AccessMode.READ_ONLY)
+public class TransactionBatchResultDto {
+
+	@Schema(description = "Position of the transaction within the submitted batch", example = "0")
+	private int index;
+
+	@Schema(example = "200 OK")
+	private String status;
+
+	@Schema(description = "Reason the transaction was rejected, absent if processed successfully")
+	private String description;
+
+}
@@ -0,0 +1,26 @@
+package com.behl.cerberus.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+@JsonNaming(value = PropertyNamingStrategies.UpperCamelCaseStrategy.class)
+@Schema(title = "TransactionHistory", accessMode = Schema.AccessMode.READ_ONLY)
+public class TransactionHistoryDto {
+
+	@Schema(description = "Transactions ordered from the most recent")
+	private List<TransactionDetailDto> transactions;
+
+	@Schema(description = "Cursor to retrieve the next page with, absent on the last page")
+	private String nextCursor;
+
+}
@@ -0,0 +1,41 @@
+package com.behl.cerberus.dto;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.behl.cerberus.entity.TransactionType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TransactionHistoryRequestDto {
+
+	public static final int DEFAULT_PAGE_SIZE = 50;
+	public static final int MAXIMUM_PAGE_SIZE = 200;
+
+	@Schema(description = "Cursor returned by the previous page, absent for the first page")
+	private String cursor;
+
+	@Min(value = 1, message = "Limit must be greater than or equal to 1")
+	@Max(value = MAXIMUM_PAGE_SIZE, message = "Limit must be less than or equal to " + MAXIMUM_PAGE_SIZE)
+	@Schema(description = "Maximum number of transactions to return", example = "50")
+	private int limit = DEFAULT_PAGE_SIZE;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	@Schema(description = "Inclusive lower bound of the transaction timestamp, in UTC", example = "2024-01-01T00:00:00")
+	private LocalDateTime from;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	@Schema(description = "Exclusive upper bound of the transaction timestamp, in UTC", example = "2024-02-01T00:00:00")
+	private LocalDateTime to;
+
+	@Schema(description = "Type of transactions to return, all types if absent")
+	private TransactionType type;
+
+}
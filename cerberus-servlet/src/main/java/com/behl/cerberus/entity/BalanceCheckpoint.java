@@ -0,0 +1,51 @@
+package com.behl.cerberus.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.behl.cerberus.utility.UuidV7Generator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Balance of a deposit account after applying every transaction positioned at
+ * or before the transaction identified by {@link #transactionId}, in
+ * <code>(timestamp, id)</code> order.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "balance_checkpoints")
+public class BalanceCheckpoint {
+
+	@Id
+	@Setter(AccessLevel.NONE)
+	@Column(name = "id", nullable = false, unique = true)
+	private UUID id;
+
+	@Column(name = "deposit_account_id", nullable = false)
+	private UUID accountId;
+
+	@Column(name = "timestamp", nullable = false)
+	private LocalDateTime timestamp;
+
+	@Column(name = "transaction_id", nullable = false)
+	private UUID transactionId;
+
+	@Column(name = "balance", nullable = false)
+	private BigDecimal balance;
+
+	@PrePersist
+	void onCreate() {
+		this.id = UuidV7Generator.generate();
+	}
+
+}
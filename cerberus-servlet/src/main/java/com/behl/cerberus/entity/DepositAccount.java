@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.UUID;
 
+import com.behl.cerberus.utility.UuidV7Generator;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -35,7 +37,7 @@ public class DepositAccount {
 	private UUID userId;
 
 	@Setter(AccessLevel.NONE)
-	@OneToOne(fetch = FetchType.EAGER, optional = false)
+	@OneToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "user_id", nullable = false, insertable = false, updatable = false)
 	private User user;
 
@@ -45,7 +47,7 @@ public class DepositAccount {
 
 	@PrePersist
 	void onCreate() {
-		this.id = UUID.randomUUID();
+		this.id = UuidV7Generator.generate();
 		this.balance = BigDecimal.ZERO;
 		this.createdAt = LocalDateTime.now(ZoneOffset.UTC);
 	}
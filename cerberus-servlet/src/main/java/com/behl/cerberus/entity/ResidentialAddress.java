@@ -2,6 +2,8 @@ package com.behl.cerberus.entity;
 
 import java.util.UUID;
 
+import com.behl.cerberus.utility.UuidV7Generator;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -29,7 +31,7 @@ public class ResidentialAddress {
 	private UUID userId;
 
 	@Setter(AccessLevel.NONE)
-	@OneToOne(fetch = FetchType.EAGER, optional = false)
+	@OneToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "user_id", nullable = false, insertable = false, updatable = false)
 	private User user;
 
@@ -47,7 +49,7 @@ public class ResidentialAddress {
     
 	@PrePersist
 	void onCreate() {
-		this.id = UUID.randomUUID();
+		this.id = UuidV7Generator.generate();
 	}
 
 }
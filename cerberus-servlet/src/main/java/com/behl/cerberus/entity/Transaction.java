@@ -3,8 +3,11 @@ package com.behl.cerberus.entity;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
+import com.behl.cerberus.utility.UuidV7Generator;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -12,7 +15,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -45,7 +48,7 @@ public class Transaction {
 	private UUID accountId;
 
 	@Setter(AccessLevel.NONE)
-	@OneToOne(fetch = FetchType.EAGER, optional = false)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "deposit_account_id", nullable = false, insertable = false, updatable = false)
 	private DepositAccount depositAccount;
 
@@ -55,8 +58,18 @@ public class Transaction {
 
 	@PrePersist
 	void onCreate() {
-		this.id = UUID.randomUUID();
-		this.timestamp = LocalDateTime.now(ZoneOffset.UTC);
+		this.id = UuidV7Generator.generate();
+		this.timestamp = currentTimestamp();
+	}
+
+	/**
+	 * Returns the current UTC time truncated to the whole second precision of the
+	 * <code>timestamp</code> column. MySQL rounds fractional seconds rather than
+	 * truncating them, which would otherwise store a transaction recorded at
+	 * 23:59:59.6 on the following day, apart from its daily rollup.
+	 */
+	public static LocalDateTime currentTimestamp() {
+		return LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
 	}
 
 }
\ No newline at end of file
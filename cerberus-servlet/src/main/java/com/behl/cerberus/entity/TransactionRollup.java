@@ -0,0 +1,53 @@
+package com.behl.cerberus.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+/**
+ * Totals deposited and withdrawn against a deposit account on a single UTC day
+ * in a single currency. Rows are only written through the upserts and rebuild
+ * of {@link com.behl.cerberus.repository.TransactionRollupRepository}, hence
+ * exposed as read-only.
+ */
+@Getter
+@Entity
+@IdClass(TransactionRollupId.class)
+@Table(name = "transaction_rollups")
+public class TransactionRollup {
+
+	@Id
+	@Column(name = "deposit_account_id", nullable = false)
+	private UUID accountId;
+
+	@Id
+	@Column(name = "rollup_date", nullable = false)
+	private LocalDate rollupDate;
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(name = "currency", nullable = false)
+	private Currency currency;
+
+	@Column(name = "total_deposited", nullable = false)
+	private BigDecimal totalDeposited;
+
+	@Column(name = "total_withdrawn", nullable = false)
+	private BigDecimal totalWithdrawn;
+
+	@Column(name = "deposit_count", nullable = false)
+	private Long depositCount;
+
+	@Column(name = "withdrawal_count", nullable = false)
+	private Long withdrawalCount;
+
+}
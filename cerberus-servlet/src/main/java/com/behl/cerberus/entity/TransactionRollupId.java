@@ -0,0 +1,27 @@
+package com.behl.cerberus.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Composite primary key of {@link TransactionRollup}.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TransactionRollupId implements Serializable {
+
+	private static final long serialVersionUID = 4372915083021547193L;
+
+	private UUID accountId;
+	private LocalDate rollupDate;
+	private Currency currency;
+
+}
@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.UUID;
 
+import com.behl.cerberus.utility.UuidV7Generator;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -46,13 +48,16 @@ public class User {
 	@Column(name = "status", nullable = false)
 	private UserStatus userStatus;
 
+	@Column(name = "password_reset_required", nullable = false)
+	private boolean passwordResetRequired;
+
 	@Setter(AccessLevel.NONE)
 	@Column(name = "created_at", nullable = false)
 	private LocalDateTime createdAt;
 
 	@PrePersist
 	void onCreate() {
-		this.id = UUID.randomUUID();
+		this.id = UuidV7Generator.generate();
 		this.userStatus = UserStatus.PENDING_APPROVAL;
 		this.createdAt = LocalDateTime.now(ZoneOffset.UTC);
 	}
@@ -0,0 +1,15 @@
+package com.behl.cerberus.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class BatchSizeExceededException extends ResponseStatusException {
+
+	private static final long serialVersionUID = -2817153346209472815L;
+	private static final String DEFAULT_MESSAGE = "A batch must not contain more than %d transactions";
+
+	public BatchSizeExceededException(final int maximumBatchSize) {
+		super(HttpStatus.PAYLOAD_TOO_LARGE, String.format(DEFAULT_MESSAGE, maximumBatchSize));
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.behl.cerberus.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class DeadlineExceededException extends ResponseStatusException {
+
+	private static final long serialVersionUID = 3308412957746102291L;
+	private static final String DEFAULT_MESSAGE = "Request could not be completed in time. Please retry later.";
+
+	public DeadlineExceededException() {
+		super(HttpStatus.SERVICE_UNAVAILABLE, DEFAULT_MESSAGE);
+	}
+
+}
@@ -40,7 +40,7 @@ public class ExceptionResponseHandler extends ResponseEntityExceptionHandler {
 		final var exceptionResponse = new ExceptionResponseDto<String>();
 		exceptionResponse.setStatus(exception.getStatusCode().toString());
 		exceptionResponse.setDescription(exception.getReason());
-		return ResponseEntity.status(exception.getStatusCode()).body(exceptionResponse);
+		return ResponseEntity.status(exception.getStatusCode()).headers(exception.getHeaders()).body(exceptionResponse);
 	}
 	
 	@ExceptionHandler(CompromisedPasswordException.class)
@@ -0,0 +1,15 @@
+package com.behl.cerberus.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class IdempotencyKeyReusedException extends ResponseStatusException {
+
+	private static final long serialVersionUID = 3920465821934487156L;
+	private static final String DEFAULT_MESSAGE = "Idempotency-Key has already been used for a different request";
+
+	public IdempotencyKeyReusedException() {
+		super(HttpStatus.UNPROCESSABLE_ENTITY, DEFAULT_MESSAGE);
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.behl.cerberus.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class IdempotentRequestInProgressException extends ResponseStatusException {
+
+	private static final long serialVersionUID = -6407818219643958275L;
+	private static final String DEFAULT_MESSAGE = "A request with the same Idempotency-Key is still being processed";
+
+	public IdempotentRequestInProgressException() {
+		super(HttpStatus.CONFLICT, DEFAULT_MESSAGE);
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.behl.cerberus.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidCursorException extends ResponseStatusException {
+
+	private static final long serialVersionUID = 1637282049735510913L;
+	private static final String DEFAULT_MESSAGE = "Invalid cursor provided. Use the cursor returned by the previous page.";
+
+	public InvalidCursorException() {
+		super(HttpStatus.BAD_REQUEST, DEFAULT_MESSAGE);
+	}
+
+}
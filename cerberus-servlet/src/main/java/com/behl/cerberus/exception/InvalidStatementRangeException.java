@@ -0,0 +1,14 @@
+package com.behl.cerberus.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidStatementRangeException extends ResponseStatusException {
+
+	private static final long serialVersionUID = -6042871953304518627L;
+
+	public InvalidStatementRangeException(final String reason) {
+		super(HttpStatus.BAD_REQUEST, reason);
+	}
+
+}
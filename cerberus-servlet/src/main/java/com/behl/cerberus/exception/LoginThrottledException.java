@@ -0,0 +1,30 @@
+package com.behl.cerberus.exception;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import lombok.NonNull;
+
+public class LoginThrottledException extends ResponseStatusException {
+
+	private static final long serialVersionUID = 6120938475123098431L;
+	private static final String DEFAULT_MESSAGE = "Too many login attempts. Please retry later.";
+
+	private final Duration retryAfter;
+
+	public LoginThrottledException(@NonNull final Duration retryAfter) {
+		super(HttpStatus.TOO_MANY_REQUESTS, DEFAULT_MESSAGE);
+		this.retryAfter = retryAfter;
+	}
+
+	@Override
+	public HttpHeaders getHeaders() {
+		final var headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, String.valueOf((long) Math.ceil(retryAfter.toMillis() / 1000d)));
+		return headers;
+	}
+
+}
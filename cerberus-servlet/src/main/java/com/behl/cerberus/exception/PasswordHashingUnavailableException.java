@@ -0,0 +1,30 @@
+package com.behl.cerberus.exception;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import lombok.NonNull;
+
+public class PasswordHashingUnavailableException extends ResponseStatusException {
+
+	private static final long serialVersionUID = -2871390548234816472L;
+	private static final String DEFAULT_MESSAGE = "Service is experiencing high load. Please retry later.";
+
+	private final Duration retryAfter;
+
+	public PasswordHashingUnavailableException(@NonNull final Duration retryAfter) {
+		super(HttpStatus.SERVICE_UNAVAILABLE, DEFAULT_MESSAGE);
+		this.retryAfter = retryAfter;
+	}
+
+	@Override
+	public HttpHeaders getHeaders() {
+		final var headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter.toSeconds()));
+		return headers;
+	}
+
+}
@@ -0,0 +1,133 @@
+package com.behl.cerberus.filter;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.behl.cerberus.token.AccessTokenClaims;
+import com.behl.cerberus.utility.ScopeBitmask;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Authentication populated in the security context by
+ * {@link JwtAuthenticationFilter} for requests carrying a verified access token.
+ * The authenticated user's unique identifier is exposed as the principal.
+ * 
+ * Unlike <code>UsernamePasswordAuthenticationToken</code>, no objects are
+ * allocated per request beyond the instance itself:
+ * <ul>
+ *   <li>Authorities are held in an immutable list, along with the bitmask of
+ *       granted scopes, built once per distinct scope set. Scope sets are
+ *       derived from {@link com.behl.cerberus.entity.UserStatus} and are hence
+ *       few.</li>
+ *   <li>Details of the request are built only when first asked for, as the
+ *       remote address and session id are of no use to a stateless API. Both
+ *       are captured by the filter beforehand, so that the request is not
+ *       retained and details can be asked for once it has been recycled, as in
+ *       asynchronous processing.</li>
+ * </ul>
+ *
+ * @see com.behl.cerberus.utility.AuthenticatedUserIdProvider
+ */
+public class JwtAuthentication implements Authentication {
+
+	private static final long serialVersionUID = -2466353427407851741L;
+
+	private static final Map<List<String>, GrantedScopes> GRANTED_SCOPES = new ConcurrentHashMap<>();
+
+	@Getter
+	private final AccessTokenClaims claims;
+	private final GrantedScopes grantedScopes;
+	private transient Supplier<?> detailsSupplier;
+	private Object details;
+	private boolean authenticated = true;
+
+	/**
+	 * @param claims          The verified claims of the access token.
+	 * @param detailsSupplier Supplier of request details, invoked at most once.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public JwtAuthentication(@NonNull final AccessTokenClaims claims, @NonNull final Supplier<?> detailsSupplier) {
+		this.claims = claims;
+		this.grantedScopes = GRANTED_SCOPES.computeIfAbsent(claims.scopes(), GrantedScopes::of);
+		this.detailsSupplier = detailsSupplier;
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return grantedScopes.authorities();
+	}
+
+	/**
+	 * @return The bitmask of granted scopes, as computed by {@link ScopeBitmask}.
+	 */
+	public long getScopeBitmask() {
+		return grantedScopes.bitmask();
+	}
+
+	@Override
+	public Object getCredentials() {
+		return null;
+	}
+
+	@Override
+	public synchronized Object getDetails() {
+		if (detailsSupplier != null) {
+			details = detailsSupplier.get();
+			detailsSupplier = null;
+		}
+		return details;
+	}
+
+	@Override
+	public UUID getPrincipal() {
+		return claims.userId();
+	}
+
+	@Override
+	public String getName() {
+		return String.valueOf(claims.userId());
+	}
+
+	@Override
+	public boolean isAuthenticated() {
+		return authenticated;
+	}
+
+	/**
+	 * Allows the authentication to be marked untrusted, as permitted by the
+	 * {@link Authentication} contract. Once untrusted, it can not be marked
+	 * trusted again.
+	 *
+	 * @throws IllegalArgumentException if <code>isAuthenticated</code> is
+	 *                                  <code>true</code>, as trust is only
+	 *                                  established by verifying the access token.
+	 */
+	@Override
+	public void setAuthenticated(final boolean isAuthenticated) {
+		if (isAuthenticated) {
+			throw new IllegalArgumentException("Authentication backed by a verified access token can not be marked trusted");
+		}
+		this.authenticated = false;
+	}
+
+	private record GrantedScopes(List<GrantedAuthority> authorities, long bitmask) implements Serializable {
+
+		private static GrantedScopes of(final List<String> scopes) {
+			final var authorities = scopes.stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList();
+			return new GrantedScopes(authorities, ScopeBitmask.ofGranted(scopes));
+		}
+
+	}
+
+}
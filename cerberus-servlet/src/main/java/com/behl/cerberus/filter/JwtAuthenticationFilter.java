@@ -1,15 +1,17 @@
 package com.behl.cerberus.filter;
 
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.behl.cerberus.exception.TokenVerificationException;
 import com.behl.cerberus.service.TokenRevocationService;
 import com.behl.cerberus.utility.ApiEndpointSecurityInspector;
+import com.behl.cerberus.utility.AuthenticationStageTimer;
+import com.behl.cerberus.utility.AuthenticationStageTimer.Recording;
+import com.behl.cerberus.utility.AuthenticationStageTimer.Stage;
 import com.behl.cerberus.utility.JwtUtility;
 
 import jakarta.servlet.FilterChain;
@@ -27,16 +29,21 @@ import lombok.SneakyThrows;
  * secured API endpoints by examining JWT token in the request header, verifying 
  * it's signature, expiration and evaluating it's presence in the token revocation list.
  * If authentication is successful, the filter populates the security context with
- * the user's unique identifier and the permissions associated with the
- * authenticated user which can be referenced by the application later.
+ * a {@link JwtAuthentication} holding the user's unique identifier and the
+ * permissions associated with the authenticated user which can be referenced by
+ * the application later. The token is verified once per request.
  * 
  * This filter is only executed for secure endpoints, and is skipped if the incoming
  * request is destined to a non-secured public API endpoint.
+ * 
+ * The duration of each stage is recorded by {@link AuthenticationStageTimer}
+ * when enabled.
  *
  * @see com.behl.cerberus.configuration.SecurityConfiguration
  * @see com.behl.cerberus.utility.ApiEndpointSecurityInspector
  * @see com.behl.cerberus.service.TokenRevocationService
  * @see com.behl.cerberus.utility.JwtUtility
+ * @see com.behl.cerberus.utility.AuthenticationStageTimer
  */
 @Component
 @RequiredArgsConstructor
@@ -45,6 +52,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private final JwtUtility jwtUtils;
 	private final TokenRevocationService tokenRevocationService; 
 	private final ApiEndpointSecurityInspector apiEndpointSecurityInspector;
+	private final AuthenticationStageTimer authenticationStageTimer;
 	
 	private static final String AUTHORIZATION_HEADER = "Authorization";
 	private static final String BEARER_PREFIX = "Bearer ";
@@ -52,7 +60,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	@Override
 	@SneakyThrows
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) {
+		final var recording = authenticationStageTimer.begin();
+		try {
+			authenticate(request, recording);
+		} finally {
+			recording.finish(response);
+		}
+		filterChain.doFilter(request, response);
+	}
+
+	private void authenticate(final HttpServletRequest request, final Recording recording) {
 		final var unsecuredApiBeingInvoked = apiEndpointSecurityInspector.isUnsecureRequest(request);
+		recording.mark(Stage.MATCHING);
 		
 		if (Boolean.FALSE.equals(unsecuredApiBeingInvoked)) {
 			final var authorizationHeader = request.getHeader(AUTHORIZATION_HEADER);
@@ -60,20 +79,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			if (StringUtils.isNotEmpty(authorizationHeader)) {
 				if (authorizationHeader.startsWith(BEARER_PREFIX)) {
 					final var token = authorizationHeader.replace(BEARER_PREFIX, StringUtils.EMPTY);
-					final var isTokenRevoked = tokenRevocationService.isRevoked(token);
+					final var claims = jwtUtils.decode(token);
+					recording.mark(Stage.VERIFICATION);
+
+					final var isTokenRevoked = tokenRevocationService.isRevoked(claims);
+					recording.mark(Stage.REVOCATION);
 					if (Boolean.TRUE.equals(isTokenRevoked)) {
 						throw new TokenVerificationException();
 					}
 					
-					final var userId = jwtUtils.extractUserId(token);
-					final var authorities = jwtUtils.getAuthority(token);
-					final var authentication = new UsernamePasswordAuthenticationToken(userId, null, authorities);
-					authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+					final var remoteAddress = request.getRemoteAddr();
+					final var session = request.getSession(false);
+					final var sessionId = session != null ? session.getId() : null;
+					final var authentication = new JwtAuthentication(claims, () -> new WebAuthenticationDetails(remoteAddress, sessionId));
 					SecurityContextHolder.getContext().setAuthentication(authentication);
+					recording.mark(Stage.CONTEXT);
 				}
 			}
 		}
-		filterChain.doFilter(request, response);
 	}
 
 }
\ No newline at end of file
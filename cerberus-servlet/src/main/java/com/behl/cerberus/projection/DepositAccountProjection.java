@@ -0,0 +1,12 @@
+package com.behl.cerberus.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Columns of a deposit account exposed through its detail endpoint, selected
+ * through a JPQL constructor expression without loading the owning user.
+ */
+public record DepositAccountProjection(BigDecimal balance, LocalDateTime createdAt) {
+
+}
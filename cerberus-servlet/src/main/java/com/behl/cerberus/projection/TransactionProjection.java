@@ -0,0 +1,19 @@
+package com.behl.cerberus.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.behl.cerberus.entity.Currency;
+import com.behl.cerberus.entity.TransactionType;
+
+/**
+ * Columns of a transaction read by the transaction history and export
+ * endpoints, selected through a JPQL constructor expression. Unlike
+ * {@link com.behl.cerberus.entity.Transaction} entities, projections are
+ * neither tracked by the persistence context nor resolve the deposit account
+ * the transaction belongs to.
+ */
+public record TransactionProjection(UUID id, TransactionType type, Currency currency, BigDecimal amount, LocalDateTime timestamp) {
+
+}
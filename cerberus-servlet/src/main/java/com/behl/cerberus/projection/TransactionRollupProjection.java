@@ -0,0 +1,25 @@
+package com.behl.cerberus.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.behl.cerberus.entity.Currency;
+
+/**
+ * Totals of transactions in a single currency over a statement period starting
+ * at {@link #periodStart}, selected from transaction rollups through a JPQL
+ * constructor expression, either per day or summed per month.
+ */
+public record TransactionRollupProjection(LocalDate periodStart, Currency currency, BigDecimal totalDeposited, BigDecimal totalWithdrawn,
+		Long depositCount, Long withdrawalCount) {
+
+	/**
+	 * Constructs a monthly projection from the year and month daily rollups are
+	 * grouped by.
+	 */
+	public TransactionRollupProjection(final Integer year, final Integer month, final Currency currency, final BigDecimal totalDeposited,
+			final BigDecimal totalWithdrawn, final Long depositCount, final Long withdrawalCount) {
+		this(LocalDate.of(year, month, 1), currency, totalDeposited, totalWithdrawn, depositCount, withdrawalCount);
+	}
+
+}
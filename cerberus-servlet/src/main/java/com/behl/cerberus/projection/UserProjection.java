@@ -0,0 +1,16 @@
+package com.behl.cerberus.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.behl.cerberus.entity.UserStatus;
+
+/**
+ * Columns of a user exposed through the user detail endpoint, selected through
+ * a JPQL constructor expression. Excludes the password hash, which has no
+ * business being read to render a profile.
+ */
+public record UserProjection(String firstName, String lastName, String emailId, UserStatus userStatus, LocalDate dateOfBirth,
+		LocalDateTime createdAt) {
+
+}
@@ -0,0 +1,20 @@
+package com.behl.cerberus.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.behl.cerberus.entity.BalanceCheckpoint;
+
+@Repository
+public interface BalanceCheckpointRepository extends JpaRepository<BalanceCheckpoint, UUID> {
+
+	Optional<BalanceCheckpoint> findFirstByAccountIdOrderByTimestampDescTransactionIdDesc(final UUID accountId);
+
+	Optional<BalanceCheckpoint> findFirstByAccountIdAndTimestampLessThanEqualOrderByTimestampDescTransactionIdDesc(final UUID accountId,
+			final LocalDateTime timestamp);
+
+}
@@ -0,0 +1,86 @@
+package com.behl.cerberus.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.behl.cerberus.entity.DepositAccount;
+import com.behl.cerberus.projection.DepositAccountProjection;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface DepositAccountRepository extends JpaRepository<DepositAccount, UUID> {
+	
+	boolean existsByUserId(final UUID userId);
+
+	Optional<DepositAccount> findByUserId(final UUID userId);
+
+	@Query("SELECT a.id FROM DepositAccount a WHERE a.userId = :userId")
+	Optional<UUID> findIdByUserId(@Param("userId") final UUID userId);
+
+	/**
+	 * Retrieves ids of deposit accounts ordered after the given id, allowing all
+	 * accounts to be iterated in pages without holding a result set open.
+	 *
+	 * @param afterId id to start after, from the first account if <code>null</code>.
+	 */
+	@Query("SELECT a.id FROM DepositAccount a WHERE :afterId IS NULL OR a.id > :afterId ORDER BY a.id")
+	List<UUID> findIdsAfter(@Param("afterId") final UUID afterId, final Limit limit);
+
+	@Query("SELECT new com.behl.cerberus.projection.DepositAccountProjection(a.balance, a.createdAt) FROM DepositAccount a WHERE a.userId = :userId")
+	Optional<DepositAccountProjection> findProjectionByUserId(@Param("userId") final UUID userId);
+
+	/**
+	 * Retrieves the deposit account of the user, holding a write lock on it until
+	 * the enclosing transaction completes. Must be invoked within a transaction.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT a FROM DepositAccount a WHERE a.userId = :userId")
+	Optional<DepositAccount> findForUpdateByUserId(@Param("userId") final UUID userId);
+
+	/**
+	 * Retrieves the deposit account with the given id, holding a write lock on it
+	 * until the enclosing transaction completes. Must be invoked within a
+	 * transaction.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT a FROM DepositAccount a WHERE a.id = :id")
+	Optional<DepositAccount> findForUpdateById(@Param("id") final UUID id);
+
+	/**
+	 * Credits the given amount to the deposit account of the user, as a single
+	 * statement evaluated against the current balance held by the database.
+	 *
+	 * @return number of updated records, <code>0</code> if no deposit account exists for the user.
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE DepositAccount a SET a.balance = a.balance + :amount WHERE a.userId = :userId")
+	int credit(@Param("userId") final UUID userId, @Param("amount") final BigDecimal amount);
+
+	/**
+	 * Debits the given amount from the deposit account of the user, only if the
+	 * current balance held by the database covers it. The row lock taken by the
+	 * update serializes concurrent debits, so the balance can never be overdrawn
+	 * and no concurrent update is lost.
+	 *
+	 * @return number of updated records, <code>0</code> if no deposit account exists
+	 *         for the user or its balance is insufficient.
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE DepositAccount a SET a.balance = a.balance - :amount WHERE a.userId = :userId AND a.balance >= :amount")
+	int debit(@Param("userId") final UUID userId, @Param("amount") final BigDecimal amount);
+
+}
\ No newline at end of file
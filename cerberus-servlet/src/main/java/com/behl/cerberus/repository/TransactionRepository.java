@@ -0,0 +1,147 @@
+package com.behl.cerberus.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.behl.cerberus.entity.Transaction;
+import com.behl.cerberus.entity.TransactionType;
+import com.behl.cerberus.projection.TransactionProjection;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
+
+	List<Transaction> findByDepositAccountUserId(final UUID userId);
+
+	/**
+	 * Retrieves a page of transactions against the deposit account of the given
+	 * user, ordered from the most recent, starting after the provided keyset
+	 * position. Served as a range scan of the composite index on
+	 * <code>(deposit_account_id, timestamp, id)</code>, hence the cost of a page
+	 * does not grow with the size of the account's history. Transactions are
+	 * selected as projections, as rendering a page requires neither their
+	 * deposit account nor tracking by the persistence context.
+	 *
+	 * @param type            type of transactions to retrieve, all types if <code>null</code>.
+	 * @param from            inclusive lower bound of the timestamp, unbounded if <code>null</code>.
+	 * @param to              exclusive upper bound of the timestamp, unbounded if <code>null</code>.
+	 * @param cursorTimestamp timestamp of the last transaction of the previous page, <code>null</code> for the first page.
+	 * @param cursorId        id of the last transaction of the previous page, <code>null</code> for the first page.
+	 */
+	@Query("""
+			SELECT new com.behl.cerberus.projection.TransactionProjection(t.id, t.type, t.currency, t.amount, t.timestamp) FROM Transaction t
+			WHERE t.accountId = (SELECT a.id FROM DepositAccount a WHERE a.userId = :userId)
+			AND (:type IS NULL OR t.type = :type)
+			AND (:from IS NULL OR t.timestamp >= :from)
+			AND (:to IS NULL OR t.timestamp < :to)
+			AND (:cursorTimestamp IS NULL OR t.timestamp < :cursorTimestamp OR (t.timestamp = :cursorTimestamp AND t.id < :cursorId))
+			ORDER BY t.timestamp DESC, t.id DESC""")
+	List<TransactionProjection> findPageByDepositAccountUserId(@Param("userId") final UUID userId, @Param("type") final TransactionType type,
+			@Param("from") final LocalDateTime from, @Param("to") final LocalDateTime to,
+			@Param("cursorTimestamp") final LocalDateTime cursorTimestamp, @Param("cursorId") final UUID cursorId, final Limit limit);
+
+	/**
+	 * Retrieves transactions against the given deposit account positioned after
+	 * the provided keyset position, in <code>(timestamp, id)</code> order,
+	 * excluding transactions recorded at or after the given timestamp.
+	 *
+	 * @param before         exclusive upper bound of the timestamp.
+	 * @param afterTimestamp timestamp of the position to start after, from the first transaction if <code>null</code>.
+	 * @param afterId        id of the position to start after, from the first transaction if <code>null</code>.
+	 */
+	@Query("""
+			SELECT new com.behl.cerberus.projection.TransactionProjection(t.id, t.type, t.currency, t.amount, t.timestamp) FROM Transaction t
+			WHERE t.accountId = :depositAccountId
+			AND t.timestamp < :before
+			AND (:afterTimestamp IS NULL OR t.timestamp > :afterTimestamp OR (t.timestamp = :afterTimestamp AND t.id > :afterId))
+			ORDER BY t.timestamp ASC, t.id ASC""")
+	List<TransactionProjection> findByDepositAccountIdPositionedAfter(@Param("depositAccountId") final UUID depositAccountId,
+			@Param("before") final LocalDateTime before, @Param("afterTimestamp") final LocalDateTime afterTimestamp,
+			@Param("afterId") final UUID afterId, final Limit limit);
+
+	/**
+	 * Retrieves ids of deposit accounts against which transactions were recorded
+	 * within the given range, ordered after the given id, allowing them to be
+	 * iterated in pages without holding a result set open.
+	 *
+	 * @param from    inclusive lower bound of the timestamp.
+	 * @param before  exclusive upper bound of the timestamp.
+	 * @param afterId id to start after, from the first account if <code>null</code>.
+	 */
+	@Query("""
+			SELECT DISTINCT t.accountId FROM Transaction t
+			WHERE t.timestamp >= :from
+			AND t.timestamp < :before
+			AND (:afterId IS NULL OR t.accountId > :afterId)
+			ORDER BY t.accountId""")
+	List<UUID> findDepositAccountIdsRecordedBetween(@Param("from") final LocalDateTime from, @Param("before") final LocalDateTime before,
+			@Param("afterId") final UUID afterId, final Limit limit);
+
+	/**
+	 * Sums the change in balance of the given deposit account caused by
+	 * transactions positioned after the provided keyset position, recorded no
+	 * later than the given timestamp. Deposits are added and withdrawals
+	 * subtracted.
+	 *
+	 * @param until          inclusive upper bound of the timestamp.
+	 * @param afterTimestamp timestamp of the position to start after, from the first transaction if <code>null</code>.
+	 * @param afterId        id of the position to start after, from the first transaction if <code>null</code>.
+	 * @param deposit        {@link TransactionType#DEPOSIT}, bound as a parameter rather than an enum literal.
+	 * @return change in balance, <code>null</code> if no such transaction exists.
+	 */
+	@Query("""
+			SELECT SUM(CASE WHEN t.type = :deposit THEN t.amount ELSE -t.amount END) FROM Transaction t
+			WHERE t.accountId = :depositAccountId
+			AND t.timestamp <= :until
+			AND (:afterTimestamp IS NULL OR t.timestamp > :afterTimestamp OR (t.timestamp = :afterTimestamp AND t.id > :afterId))""")
+	BigDecimal sumBalanceChangeByDepositAccountIdPositionedAfter(@Param("depositAccountId") final UUID depositAccountId,
+			@Param("until") final LocalDateTime until, @Param("afterTimestamp") final LocalDateTime afterTimestamp,
+			@Param("afterId") final UUID afterId, @Param("deposit") final TransactionType deposit);
+
+	/**
+	 * Streams every transaction against the deposit account of the given user,
+	 * ordered from the most recent, to be consumed within an active transaction.
+	 * A fetch size of {@link Integer#MIN_VALUE} instructs the MySQL driver to
+	 * stream the result set row by row instead of buffering it entirely, and rows
+	 * are selected as unmanaged projections, hence memory usage does not grow
+	 * with the number of transactions consumed.
+	 */
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	@Query("""
+			SELECT new com.behl.cerberus.projection.TransactionProjection(t.id, t.type, t.currency, t.amount, t.timestamp) FROM Transaction t
+			WHERE t.accountId = (SELECT a.id FROM DepositAccount a WHERE a.userId = :userId)
+			ORDER BY t.timestamp DESC, t.id DESC""")
+	Stream<TransactionProjection> streamByDepositAccountUserId(@Param("userId") final UUID userId);
+
+	/**
+	 * Records a ledger entry against the deposit account of the given user,
+	 * resolving the deposit account id within the same insert statement instead
+	 * of loading the account beforehand.
+	 *
+	 * @return number of inserted records, <code>0</code> if no deposit account exists for the user.
+	 */
+	@Modifying
+	@Transactional
+	@Query(nativeQuery = true, value = """
+			INSERT INTO transactions (id, type, currency, amount, deposit_account_id, timestamp)
+			SELECT :id, :type, :currency, :amount, a.id, :timestamp FROM deposit_accounts a WHERE a.user_id = :userId""")
+	int record(@Param("id") final UUID id, @Param("userId") final UUID userId, @Param("type") final String type,
+			@Param("currency") final String currency, @Param("amount") final BigDecimal amount,
+			@Param("timestamp") final LocalDateTime timestamp);
+
+}
\ No newline at end of file
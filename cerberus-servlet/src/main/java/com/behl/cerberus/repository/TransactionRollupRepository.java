@@ -0,0 +1,161 @@
+package com.behl.cerberus.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.behl.cerberus.entity.Transaction;
+import com.behl.cerberus.entity.TransactionRollup;
+import com.behl.cerberus.entity.TransactionRollupId;
+import com.behl.cerberus.entity.TransactionType;
+import com.behl.cerberus.projection.TransactionRollupProjection;
+
+/**
+ * Maintains daily transaction rollups incrementally, within the same
+ * datasource transaction recording the ledger entries they cover. Rollup rows
+ * of an account are only written while its deposit account row is locked by
+ * the enclosing transaction, hence upserts against the same rollup are already
+ * serialized and introduce no additional contention.
+ */
+@Repository
+public interface TransactionRollupRepository extends JpaRepository<TransactionRollup, TransactionRollupId> {
+
+	/**
+	 * Adds the provided totals to the rollup of the deposit account of the given
+	 * user for the given day and currency, creating it if absent. The deposit
+	 * account id is resolved within the same statement, as in
+	 * {@link TransactionRepository#record}.
+	 *
+	 * @return number of affected records, <code>0</code> if no deposit account exists for the user.
+	 */
+	@Modifying
+	@Transactional
+	@Query(nativeQuery = true, value = """
+			INSERT INTO transaction_rollups (deposit_account_id, rollup_date, currency, total_deposited, total_withdrawn, deposit_count, withdrawal_count)
+			SELECT a.id, :rollupDate, :currency, :deposited, :withdrawn, :depositCount, :withdrawalCount FROM deposit_accounts a WHERE a.user_id = :userId
+			ON DUPLICATE KEY UPDATE
+			    total_deposited = transaction_rollups.total_deposited + :deposited,
+			    total_withdrawn = transaction_rollups.total_withdrawn + :withdrawn,
+			    deposit_count = transaction_rollups.deposit_count + :depositCount,
+			    withdrawal_count = transaction_rollups.withdrawal_count + :withdrawalCount""")
+	int accumulateByUserId(@Param("userId") final UUID userId, @Param("rollupDate") final LocalDate rollupDate,
+			@Param("currency") final String currency, @Param("deposited") final BigDecimal deposited, @Param("withdrawn") final BigDecimal withdrawn,
+			@Param("depositCount") final long depositCount, @Param("withdrawalCount") final long withdrawalCount);
+
+	/**
+	 * Adds the provided totals to the rollup of the given deposit account for the
+	 * given day and currency, creating it if absent.
+	 */
+	@Modifying
+	@Transactional
+	@Query(nativeQuery = true, value = """
+			INSERT INTO transaction_rollups (deposit_account_id, rollup_date, currency, total_deposited, total_withdrawn, deposit_count, withdrawal_count)
+			VALUES (:accountId, :rollupDate, :currency, :deposited, :withdrawn, :depositCount, :withdrawalCount)
+			ON DUPLICATE KEY UPDATE
+			    total_deposited = total_deposited + :deposited,
+			    total_withdrawn = total_withdrawn + :withdrawn,
+			    deposit_count = deposit_count + :depositCount,
+			    withdrawal_count = withdrawal_count + :withdrawalCount""")
+	int accumulate(@Param("accountId") final UUID accountId, @Param("rollupDate") final LocalDate rollupDate,
+			@Param("currency") final String currency, @Param("deposited") final BigDecimal deposited, @Param("withdrawn") final BigDecimal withdrawn,
+			@Param("depositCount") final long depositCount, @Param("withdrawalCount") final long withdrawalCount);
+
+	/**
+	 * Adds the provided persisted ledger entries to their rollups, issuing a
+	 * single upsert per deposit account, day and currency regardless of the
+	 * number of entries sharing it. Entries are grouped by the day of their
+	 * timestamp as stored, being already truncated to whole seconds on persist.
+	 *
+	 * @see Transaction#currentTimestamp()
+	 */
+	default void accumulateAll(final Collection<Transaction> transactions) {
+		final var transactionsByRollup = transactions.stream()
+				.collect(Collectors.groupingBy(transaction -> new TransactionRollupId(transaction.getAccountId(),
+						transaction.getTimestamp().toLocalDate(), transaction.getCurrency())));
+
+		transactionsByRollup.forEach((rollupId, rollupTransactions) -> {
+			var deposited = BigDecimal.ZERO;
+			var withdrawn = BigDecimal.ZERO;
+			var depositCount = 0L;
+			var withdrawalCount = 0L;
+			for (final var transaction : rollupTransactions) {
+				if (TransactionType.DEPOSIT.equals(transaction.getType())) {
+					deposited = deposited.add(transaction.getAmount());
+					depositCount++;
+				} else {
+					withdrawn = withdrawn.add(transaction.getAmount());
+					withdrawalCount++;
+				}
+			}
+			accumulate(rollupId.getAccountId(), rollupId.getRollupDate(), rollupId.getCurrency().name(), deposited, withdrawn,
+					depositCount, withdrawalCount);
+		});
+	}
+
+	/**
+	 * Retrieves the daily rollups of the given deposit account, ordered by day,
+	 * served as a range scan of the primary key.
+	 *
+	 * @param from inclusive lower bound of the day.
+	 * @param to   exclusive upper bound of the day.
+	 */
+	@Query("""
+			SELECT new com.behl.cerberus.projection.TransactionRollupProjection(r.rollupDate, r.currency, r.totalDeposited, r.totalWithdrawn,
+			    r.depositCount, r.withdrawalCount) FROM TransactionRollup r
+			WHERE r.accountId = :accountId AND r.rollupDate >= :from AND r.rollupDate < :to
+			ORDER BY r.rollupDate ASC, r.currency ASC""")
+	List<TransactionRollupProjection> findDailyByAccountId(@Param("accountId") final UUID accountId, @Param("from") final LocalDate from,
+			@Param("to") final LocalDate to);
+
+	/**
+	 * Retrieves the daily rollups of the given deposit account summed per
+	 * calendar month, ordered by month. Months partially covered by the range
+	 * only include the days within it.
+	 *
+	 * @param from inclusive lower bound of the day.
+	 * @param to   exclusive upper bound of the day.
+	 */
+	@Query("""
+			SELECT new com.behl.cerberus.projection.TransactionRollupProjection(YEAR(r.rollupDate), MONTH(r.rollupDate), r.currency,
+			    SUM(r.totalDeposited), SUM(r.totalWithdrawn), SUM(r.depositCount), SUM(r.withdrawalCount)) FROM TransactionRollup r
+			WHERE r.accountId = :accountId AND r.rollupDate >= :from AND r.rollupDate < :to
+			GROUP BY YEAR(r.rollupDate), MONTH(r.rollupDate), r.currency
+			ORDER BY YEAR(r.rollupDate) ASC, MONTH(r.rollupDate) ASC, r.currency ASC""")
+	List<TransactionRollupProjection> findMonthlyByAccountId(@Param("accountId") final UUID accountId, @Param("from") final LocalDate from,
+			@Param("to") final LocalDate to);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM TransactionRollup r WHERE r.accountId = :accountId")
+	int deleteByAccountId(@Param("accountId") final UUID accountId);
+
+	/**
+	 * Regenerates the rollups of the given deposit account from its ledger
+	 * entries. Existing rollups of the account must be deleted beforehand.
+	 *
+	 * @return number of rollups inserted.
+	 */
+	@Modifying
+	@Transactional
+	@Query(nativeQuery = true, value = """
+			INSERT INTO transaction_rollups (deposit_account_id, rollup_date, currency, total_deposited, total_withdrawn, deposit_count, withdrawal_count)
+			SELECT t.deposit_account_id, DATE(t.timestamp), t.currency,
+			    SUM(CASE WHEN t.type = 'DEPOSIT' THEN t.amount ELSE 0 END),
+			    SUM(CASE WHEN t.type = 'WITHDRAW' THEN t.amount ELSE 0 END),
+			    SUM(CASE WHEN t.type = 'DEPOSIT' THEN 1 ELSE 0 END),
+			    SUM(CASE WHEN t.type = 'WITHDRAW' THEN 1 ELSE 0 END)
+			FROM transactions t WHERE t.deposit_account_id = :accountId
+			GROUP BY t.deposit_account_id, DATE(t.timestamp), t.currency""")
+	int rebuild(@Param("accountId") final UUID accountId);
+
+}
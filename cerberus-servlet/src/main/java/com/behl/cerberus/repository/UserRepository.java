@@ -0,0 +1,61 @@
+package com.behl.cerberus.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.behl.cerberus.entity.User;
+import com.behl.cerberus.projection.UserProjection;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface UserRepository extends JpaRepository<User, UUID> {
+
+	boolean existsByEmailId(final String emailId);
+
+	Optional<User> findByEmailId(String emailId);
+
+	@Query("""
+			SELECT new com.behl.cerberus.projection.UserProjection(u.firstName, u.lastName, u.emailId, u.userStatus, u.dateOfBirth, u.createdAt)
+			FROM User u WHERE u.id = :userId""")
+	Optional<UserProjection> findProjectionById(@Param("userId") final UUID userId);
+
+	/**
+	 * Streams email-ids of all registered users, without loading user entities
+	 * into the persistence context. The fetch size hint has the MySQL driver
+	 * stream rows instead of buffering the complete result set in memory. Must be
+	 * consumed within a transaction and closed after use.
+	 */
+	@Query("SELECT u.emailId FROM User u")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+	Stream<String> streamAllEmailIds();
+
+	/**
+	 * Replaces the stored password hash of the given user, only if it has not been
+	 * modified since it was read. Guards against overwriting a password that was
+	 * concurrently reset with an upgraded hash of the previous password.
+	 *
+	 * @return number of updated records, <code>0</code> if the stored hash was modified.
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE User u SET u.password = :updatedPassword WHERE u.id = :userId AND u.password = :currentPassword")
+	int updatePassword(@Param("userId") final UUID userId, @Param("currentPassword") final String currentPassword,
+			@Param("updatedPassword") final String updatedPassword);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE User u SET u.passwordResetRequired = true WHERE u.id = :userId")
+	int requirePasswordReset(@Param("userId") final UUID userId);
+
+}
\ No newline at end of file
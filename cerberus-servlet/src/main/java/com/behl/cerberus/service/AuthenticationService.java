@@ -0,0 +1,262 @@
+package com.behl.cerberus.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+import org.springframework.security.authentication.password.CompromisedPasswordException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.behl.cerberus.configuration.PasswordConfigurationProperties;
+import com.behl.cerberus.configuration.PasswordConfigurationProperties.CompromisedCheck.LoginMode;
+import com.behl.cerberus.configuration.TokenConfigurationProperties;
+import com.behl.cerberus.dto.SessionDetailDto;
+import com.behl.cerberus.dto.TokenSuccessResponseDto;
+import com.behl.cerberus.dto.UserLoginRequestDto;
+import com.behl.cerberus.entity.User;
+import com.behl.cerberus.exception.DeadlineExceededException;
+import com.behl.cerberus.exception.InvalidCredentialsException;
+import com.behl.cerberus.exception.TokenVerificationException;
+import com.behl.cerberus.repository.UserRepository;
+import com.behl.cerberus.utility.CacheManager;
+import com.behl.cerberus.utility.DummyPasswordVerifier;
+import com.behl.cerberus.utility.JwtUtility;
+import com.behl.cerberus.utility.LoginThrottler;
+import com.behl.cerberus.utility.RefreshTokenGenerator;
+import com.behl.cerberus.utility.RegisteredEmailFilter;
+import com.behl.cerberus.utility.RequestCoalescer;
+import com.behl.cerberus.utility.SessionRegistry;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties({ TokenConfigurationProperties.class, PasswordConfigurationProperties.class })
+public class AuthenticationService {
+
+	private final JwtUtility jwtUtility;
+	private final CacheManager cacheManager;
+	private final UserRepository userRepository;
+	private final LoginThrottler loginThrottler;
+	private final RegisteredEmailFilter registeredEmailFilter;
+	private final DummyPasswordVerifier dummyPasswordVerifier;
+	private final SessionRegistry sessionRegistry;
+	private final PasswordEncoder passwordEncoder;
+	private final PasswordUpgradeService passwordUpgradeService;
+	private final RefreshTokenGenerator refreshTokenGenerator;
+	private final TokenRevocationService tokenRevocationService;
+	private final CompromisedPasswordChecker compromisedPasswordChecker;
+	private final CompromisedPasswordEnforcementService compromisedPasswordEnforcementService;
+	private final TokenConfigurationProperties tokenConfigurationProperties;
+	private final PasswordConfigurationProperties passwordConfigurationProperties;
+	private final RequestCoalescer<String, TokenSuccessResponseDto> refreshRequestCoalescer = new RequestCoalescer<>();
+
+	private static final String REFRESHED_ACCESS_TOKEN_KEY_PREFIX = "refreshed_access_token:";
+	private static final String COMPROMISED_PASSWORD_ERROR_MESSAGE = "Password has been compromised. Password reset required.";
+
+	/**
+	 * Authenticates the user against the provided credentials and issues tokens.
+	 * In synchronous compromised password check mode, the password is checked for
+	 * compromise only once verified against the user, so that failed attempts
+	 * never reach the external check, with the whole flow bound by the configured
+	 * deadline. Invalid credentials hence take precedence over a compromised
+	 * password.
+	 * 
+	 * The attempt is subject to admission control by {@link LoginThrottler}
+	 * before any password hashing is performed.
+	 */
+	public TokenSuccessResponseDto login(@NonNull final UserLoginRequestDto userLoginRequestDto) {
+		final var emailId = userLoginRequestDto.getEmailId();
+		loginThrottler.admit(emailId);
+
+		final var plainTextPassword = userLoginRequestDto.getPassword();
+		final var loginMode = passwordConfigurationProperties.getCompromisedCheck().getLoginMode();
+		final User user;
+		try {
+			user = LoginMode.SYNCHRONOUS.equals(loginMode)
+					? authenticateAndCheckCompromise(userLoginRequestDto)
+					: authenticate(userLoginRequestDto);
+		} catch (final InvalidCredentialsException exception) {
+			loginThrottler.recordFailure(emailId);
+			throw exception;
+		}
+		loginThrottler.recordSuccess(emailId);
+
+		final var encodedPassword = user.getPassword();
+		if (passwordEncoder.upgradeEncoding(encodedPassword)) {
+			passwordUpgradeService.upgrade(user.getId(), plainTextPassword, encodedPassword);
+		}
+
+		final var accessToken = jwtUtility.generateAccessToken(user);		
+		final var refreshToken = refreshTokenGenerator.generate(user.getId());
+		sessionRegistry.register(user.getId(), refreshToken);
+		
+		if (LoginMode.ASYNCHRONOUS.equals(loginMode)) {
+			compromisedPasswordEnforcementService.enforce(user.getId(), plainTextPassword, accessToken);
+		}
+
+		return TokenSuccessResponseDto.builder()
+				.accessToken(accessToken)
+				.refreshToken(refreshToken)
+				.build();
+	}
+
+	private User authenticateAndCheckCompromise(final UserLoginRequestDto userLoginRequestDto) {
+		final var deadline = Instant.now().plus(passwordConfigurationProperties.getDeadline());
+		final var authenticatedUser = authenticate(userLoginRequestDto);
+		final var isPasswordCompromised = checkForCompromise(userLoginRequestDto.getPassword(), deadline).isCompromised();
+		if (Boolean.TRUE.equals(isPasswordCompromised)) {
+			throw new CompromisedPasswordException(COMPROMISED_PASSWORD_ERROR_MESSAGE);
+		}
+		return authenticatedUser;
+	}
+
+	/**
+	 * Checks the password for compromise on a virtual thread, interrupting the
+	 * check once the deadline elapses. As the check only follows a successful
+	 * password verification, no other subtask is left to run alongside it, hence
+	 * a plain bounded call is used rather than a {@link com.behl.cerberus.utility.FailFastTaskScope}.
+	 */
+	private CompromisedPasswordDecision checkForCompromise(final String password, final Instant deadline) {
+		final var compromisedPasswordCheck = new FutureTask<>(() -> compromisedPasswordChecker.check(password));
+		Thread.ofVirtual().start(compromisedPasswordCheck);
+		try {
+			return compromisedPasswordCheck.get(Math.max(Duration.between(Instant.now(), deadline).toNanos(), 0), TimeUnit.NANOSECONDS);
+		} catch (final TimeoutException exception) {
+			compromisedPasswordCheck.cancel(true);
+			throw new DeadlineExceededException();
+		} catch (final ExecutionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(exception.getCause());
+		} catch (final InterruptedException exception) {
+			compromisedPasswordCheck.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	/**
+	 * Email-ids certainly not registered skip the datasource lookup. For every
+	 * unregistered email-id, a dummy password verification is performed to keep
+	 * the response time indistinguishable from that of an incorrect password.
+	 */
+	private User authenticate(final UserLoginRequestDto userLoginRequestDto) {
+		final var emailId = userLoginRequestDto.getEmailId();
+		final var registeredUser = registeredEmailFilter.mightContain(emailId) ? userRepository.findByEmailId(emailId) : Optional.<User>empty();
+		final var user = registeredUser.orElseThrow(() -> {
+			dummyPasswordVerifier.verify(userLoginRequestDto.getPassword());
+			return new InvalidCredentialsException("Invalid login credentials provided.");
+		});
+
+		final var isCorrectPassword = passwordEncoder.matches(userLoginRequestDto.getPassword(), user.getPassword());
+		if (Boolean.FALSE.equals(isCorrectPassword)) {
+			throw new InvalidCredentialsException("Invalid login credentials provided.");
+		}
+
+		if (user.isPasswordResetRequired()) {
+			throw new CompromisedPasswordException(COMPROMISED_PASSWORD_ERROR_MESSAGE);
+		}
+		return user;
+	}
+
+	/**
+	 * Generates a new access token against the provided refresh token. Duplicate
+	 * refresh requests are deduplicated, concurrent requests on the node share a
+	 * single in-flight computation and the minted access token is cached for the
+	 * configured reuse window, to be returned to retries across nodes instead of
+	 * signing a new token. Of concurrent requests across nodes, only the token
+	 * cached first is returned.
+	 * 
+	 * @see #evictRefreshedAccessTokens(UUID)
+	 */
+	public TokenSuccessResponseDto refreshToken(@NonNull final String refreshToken) {
+		return refreshRequestCoalescer.execute(refreshToken, () -> {
+			final var userId = sessionRegistry.getUserId(refreshToken).orElseThrow(TokenVerificationException::new);
+			final var accessToken = getOrGenerateAccessToken(userId, refreshToken);
+
+			return TokenSuccessResponseDto.builder()
+					.accessToken(accessToken)
+					.build();
+		});
+	}
+
+	private String getOrGenerateAccessToken(final UUID userId, final String refreshToken) {
+		final var reuseWindow = Duration.ofSeconds(tokenConfigurationProperties.getRefreshToken().getReuseWindow());
+		if (reuseWindow.isZero()) {
+			return jwtUtility.generateAccessToken(userRepository.getReferenceById(userId));
+		}
+
+		final var cacheKey = getRefreshedAccessTokenKey(refreshToken);
+		final var cachedAccessToken = cacheManager.fetch(cacheKey, String.class);
+		if (cachedAccessToken.isPresent()) {
+			return cachedAccessToken.get();
+		}
+
+		final var accessToken = jwtUtility.generateAccessToken(userRepository.getReferenceById(userId));
+		if (cacheManager.saveIfAbsent(cacheKey, accessToken, reuseWindow)) {
+			return accessToken;
+		}
+		return cacheManager.fetch(cacheKey, String.class).orElse(accessToken);
+	}
+
+	/**
+	 * Evicts access tokens cached against the refresh tokens of the given user,
+	 * to be invoked once the status of the user has changed, so that subsequent
+	 * refresh requests mint access tokens carrying the scopes of the new status.
+	 * Invalidated sessions need no eviction, as their refresh tokens are rejected
+	 * before the cache is consulted.
+	 * 
+	 * @param userId The unique identifier of the user.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	public void evictRefreshedAccessTokens(@NonNull final UUID userId) {
+		sessionRegistry.getRefreshTokens(userId).forEach(refreshToken -> cacheManager.delete(getRefreshedAccessTokenKey(refreshToken)));
+	}
+
+	private String getRefreshedAccessTokenKey(final String refreshToken) {
+		return REFRESHED_ACCESS_TOKEN_KEY_PREFIX + hash(refreshToken);
+	}
+
+	/**
+	 * Refresh tokens are hashed before being used in cache keys, to prevent them
+	 * from being exposed in logs.
+	 */
+	@SneakyThrows
+	private String hash(final String refreshToken) {
+		final var messageDigest = MessageDigest.getInstance("SHA-256");
+		final var digest = messageDigest.digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+		return HexFormat.of().formatHex(digest);
+	}
+
+	public List<SessionDetailDto> getActiveSessions(@NonNull final UUID userId) {
+		return sessionRegistry.getActiveSessions(userId);
+	}
+
+	/**
+	 * Logs the user out of every device by invalidating all refresh tokens issued
+	 * to the user and revoking the access token of the current HTTP request.
+	 * Access tokens held by other devices remain usable until they expire.
+	 */
+	public void logoutEverywhere(@NonNull final UUID userId) {
+		sessionRegistry.invalidateAll(userId);
+		tokenRevocationService.revoke();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.behl.cerberus.service;
+
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.stereotype.Service;
+
+import com.behl.cerberus.repository.UserRepository;
+import com.behl.cerberus.utility.SessionRegistry;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service responsible for checking the password used to login for compromise
+ * after tokens have been issued, keeping the check off the login critical path.
+ * When the password is found to be compromised, the user is required to reset
+ * their password and the tokens issued during login are revoked.
+ * 
+ * @see com.behl.cerberus.configuration.PasswordConfigurationProperties
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompromisedPasswordEnforcementService {
+
+	private final UserRepository userRepository;
+	private final SessionRegistry sessionRegistry;
+	private final TokenRevocationService tokenRevocationService;
+	private final CompromisedPasswordChecker compromisedPasswordChecker;
+
+	/**
+	 * Checks the password used to login for compromise. If compromised, the user is
+	 * flagged to reset their password before logging in again, every session of
+	 * the user is invalidated, and the access token issued during login is revoked.
+	 *
+	 * @param userId            The unique identifier of the logged in user.
+	 * @param plainTextPassword The password used to login.
+	 * @param accessToken       The access token issued during login.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	@Async
+	public void enforce(@NonNull final UUID userId, @NonNull final String plainTextPassword, @NonNull final String accessToken) {
+		final var isPasswordCompromised = compromisedPasswordChecker.check(plainTextPassword).isCompromised();
+		if (Boolean.FALSE.equals(isPasswordCompromised)) {
+			return;
+		}
+
+		log.warn("Compromised password used to login by user '{}', revoking issued tokens", userId);
+		userRepository.requirePasswordReset(userId);
+		sessionRegistry.invalidateAll(userId);
+		tokenRevocationService.revoke(accessToken);
+	}
+
+}
@@ -0,0 +1,375 @@
+package com.behl.cerberus.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.behl.cerberus.dto.BalanceAsOfDto;
+import com.behl.cerberus.dto.DepositAccountDetailDto;
+import com.behl.cerberus.dto.StatementDto;
+import com.behl.cerberus.dto.StatementEntryDto;
+import com.behl.cerberus.dto.StatementRequestDto;
+import com.behl.cerberus.dto.TransactionBatchResultDto;
+import com.behl.cerberus.dto.TransactionDetailDto;
+import com.behl.cerberus.dto.TransactionHistoryDto;
+import com.behl.cerberus.dto.TransactionHistoryRequestDto;
+import com.behl.cerberus.dto.TransactionRequestDto;
+import com.behl.cerberus.entity.BalanceCheckpoint;
+import com.behl.cerberus.entity.DepositAccount;
+import com.behl.cerberus.entity.Transaction;
+import com.behl.cerberus.entity.TransactionType;
+import com.behl.cerberus.exception.AccountAlreadyExistsException;
+import com.behl.cerberus.exception.BatchSizeExceededException;
+import com.behl.cerberus.exception.DeadlineExceededException;
+import com.behl.cerberus.exception.InsufficientBalanceException;
+import com.behl.cerberus.exception.InvalidCursorException;
+import com.behl.cerberus.exception.InvalidStatementRangeException;
+import com.behl.cerberus.exception.DepositAccountNotFoundException;
+import com.behl.cerberus.repository.BalanceCheckpointRepository;
+import com.behl.cerberus.repository.DepositAccountRepository;
+import com.behl.cerberus.repository.TransactionRepository;
+import com.behl.cerberus.repository.TransactionRollupRepository;
+import com.behl.cerberus.utility.PartitionedTransactionEngine;
+import com.behl.cerberus.utility.TransactionCursor;
+import com.behl.cerberus.utility.UuidV7Generator;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class DepositAccountService {
+
+	public static final int MAXIMUM_BATCH_SIZE = 1000;
+
+	private final TransactionRepository transactionRepository;
+	private final DepositAccountRepository depositAccountRepository;
+	private final BalanceCheckpointRepository balanceCheckpointRepository;
+	private final TransactionRollupRepository transactionRollupRepository;
+	private final PartitionedTransactionEngine transactionEngine;
+	private final TransactionTemplate transactionTemplate;
+	private final Validator validator;
+
+	public DepositAccountService(@NonNull final TransactionRepository transactionRepository,
+			@NonNull final DepositAccountRepository depositAccountRepository, @NonNull final BalanceCheckpointRepository balanceCheckpointRepository,
+			@NonNull final TransactionRollupRepository transactionRollupRepository, @NonNull final PartitionedTransactionEngine transactionEngine,
+			@NonNull final PlatformTransactionManager transactionManager, @NonNull final Validator validator) {
+		this.transactionRepository = transactionRepository;
+		this.depositAccountRepository = depositAccountRepository;
+		this.balanceCheckpointRepository = balanceCheckpointRepository;
+		this.transactionRollupRepository = transactionRollupRepository;
+		this.transactionEngine = transactionEngine;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.validator = validator;
+	}
+
+	public void create(@NonNull final UUID userId) {
+		final var accountExists = depositAccountRepository.existsByUserId(userId);
+		if (Boolean.TRUE.equals(accountExists)) {
+			throw new AccountAlreadyExistsException("Deposit Account already exists.");
+		}
+
+		final var depositAccount = new DepositAccount();
+		depositAccount.setUserId(userId);
+		depositAccountRepository.save(depositAccount);
+	}
+
+	/**
+	 * Applies the requested transaction to the deposit account of the user. The
+	 * balance is adjusted through a single conditional update evaluated by the
+	 * database, and the corresponding ledger entry is inserted and its daily
+	 * rollup updated within the same short transaction, so concurrent requests
+	 * against the same account can neither lose updates nor overdraw it. When the transaction engine is
+	 * enabled, the transaction is instead queued to the worker owning the
+	 * account, and the calling thread waits for its batch to commit, up to the
+	 * configured result timeout.
+	 *
+	 * @throws DepositAccountNotFoundException if no deposit account exists for the user
+	 * @throws InsufficientBalanceException if the balance does not cover the withdrawal amount
+	 * @throws DeadlineExceededException if the engine did not apply the transaction in time
+	 * @see PartitionedTransactionEngine
+	 */
+	public void processTransaction(@NotNull final UUID userId, @NonNull final TransactionRequestDto transactionRequest) {
+		if (transactionEngine.isEnabled()) {
+			await(transactionEngine.submit(userId, transactionRequest));
+			return;
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			final var transactionType = transactionRequest.getType();
+			final var transactionAmount = transactionRequest.getAmount();
+
+			final var isWithdrawal = TransactionType.WITHDRAW.equals(transactionType);
+			final var updatedAccounts = isWithdrawal
+					? depositAccountRepository.debit(userId, transactionAmount)
+					: depositAccountRepository.credit(userId, transactionAmount);
+
+			if (updatedAccounts == 0) {
+				final var accountExists = depositAccountRepository.existsByUserId(userId);
+				if (isWithdrawal && accountExists) {
+					throw new InsufficientBalanceException();
+				}
+				throw new DepositAccountNotFoundException();
+			}
+
+			final var timestamp = Transaction.currentTimestamp();
+			transactionRepository.record(UuidV7Generator.generate(), userId, transactionType.name(),
+					transactionRequest.getCurrency().name(), transactionAmount, timestamp);
+			transactionRollupRepository.accumulateByUserId(userId, timestamp.toLocalDate(), transactionRequest.getCurrency().name(),
+					isWithdrawal ? BigDecimal.ZERO : transactionAmount, isWithdrawal ? transactionAmount : BigDecimal.ZERO,
+					isWithdrawal ? 0 : 1, isWithdrawal ? 1 : 0);
+		});
+	}
+
+	/**
+	 * Applies the provided batch of transactions to the deposit account of the
+	 * user, in the order submitted. Each transaction is validated individually,
+	 * and invalid or uncovered transactions are rejected without affecting the
+	 * remainder of the batch.
+	 * 
+	 * The deposit account is locked once for the batch, its balance written once,
+	 * and the ledger entries of all accepted transactions inserted through JDBC
+	 * batching, all within a single transaction. When the transaction engine is
+	 * enabled, the transactions are instead queued to the worker owning the
+	 * account, and may be applied across several of its batches. Hence a failure
+	 * to apply one, or to apply it in time, is reported against that transaction
+	 * alone, as others may already be committed.
+	 *
+	 * @return Result of each transaction, in the order submitted.
+	 * @throws BatchSizeExceededException if the batch contains more than {@value #MAXIMUM_BATCH_SIZE} transactions
+	 * @throws DepositAccountNotFoundException if no deposit account exists for the user
+	 */
+	public List<TransactionBatchResultDto> processTransactions(@NonNull final UUID userId, @NonNull final List<TransactionRequestDto> transactionRequests) {
+		if (transactionRequests.size() > MAXIMUM_BATCH_SIZE) {
+			throw new BatchSizeExceededException(MAXIMUM_BATCH_SIZE);
+		}
+
+		final var rejections = new ResponseStatusException[transactionRequests.size()];
+		final var acceptedIndices = new ArrayList<Integer>(transactionRequests.size());
+		for (int index = 0; index < transactionRequests.size(); index++) {
+			final var transactionRequest = transactionRequests.get(index);
+			if (transactionRequest == null) {
+				rejections[index] = new ResponseStatusException(HttpStatus.BAD_REQUEST, "Transaction must not be empty");
+				continue;
+			}
+			final var violations = validator.validate(transactionRequest);
+			if (violations.isEmpty()) {
+				acceptedIndices.add(index);
+			} else {
+				final var description = violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(", "));
+				rejections[index] = new ResponseStatusException(HttpStatus.BAD_REQUEST, description);
+			}
+		}
+
+		if (transactionEngine.isEnabled()) {
+			final var results = acceptedIndices.stream()
+					.map(index -> transactionEngine.submit(userId, transactionRequests.get(index)))
+					.toList();
+			for (int position = 0; position < results.size(); position++) {
+				try {
+					await(results.get(position));
+				} catch (final DepositAccountNotFoundException exception) {
+					throw exception;
+				} catch (final ResponseStatusException exception) {
+					rejections[acceptedIndices.get(position)] = exception;
+				} catch (final RuntimeException exception) {
+					log.error("Failed to apply transaction at index {} of batch", acceptedIndices.get(position), exception);
+					rejections[acceptedIndices.get(position)] = new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Transaction could not be applied");
+				}
+			}
+		} else {
+			transactionTemplate.executeWithoutResult(status -> {
+				final var depositAccount = depositAccountRepository.findForUpdateByUserId(userId)
+						.orElseThrow(() -> new DepositAccountNotFoundException());
+
+				var balance = depositAccount.getBalance();
+				final var ledgerEntries = new ArrayList<Transaction>(acceptedIndices.size());
+				for (final var index : acceptedIndices) {
+					final var transactionRequest = transactionRequests.get(index);
+					final var transactionAmount = transactionRequest.getAmount();
+					if (TransactionType.WITHDRAW.equals(transactionRequest.getType())) {
+						if (balance.compareTo(transactionAmount) < 0) {
+							rejections[index] = new InsufficientBalanceException();
+							continue;
+						}
+						balance = balance.subtract(transactionAmount);
+					} else {
+						balance = balance.add(transactionAmount);
+					}
+
+					final var transaction = new Transaction();
+					transaction.setAccountId(depositAccount.getId());
+					transaction.setAmount(transactionAmount);
+					transaction.setType(transactionRequest.getType());
+					transaction.setCurrency(transactionRequest.getCurrency());
+					ledgerEntries.add(transaction);
+				}
+
+				depositAccount.setBalance(balance);
+				transactionRepository.saveAll(ledgerEntries);
+				transactionRollupRepository.accumulateAll(ledgerEntries);
+			});
+		}
+
+		return IntStream.range(0, transactionRequests.size())
+				.mapToObj(index -> TransactionBatchResultDto.builder()
+						.index(index)
+						.status(rejections[index] == null ? HttpStatus.OK.toString() : rejections[index].getStatusCode().toString())
+						.description(rejections[index] == null ? null : rejections[index].getReason())
+						.build())
+				.toList();
+	}
+
+	/**
+	 * Retrieves a page of transactions against the deposit account of the user,
+	 * ordered from the most recent. Pages are addressed through a keyset cursor
+	 * rather than an offset, hence retrieving any page costs the same regardless
+	 * of its depth.
+	 *
+	 * @throws InvalidCursorException if the provided cursor is malformed
+	 */
+	public TransactionHistoryDto getTransactions(@NonNull final UUID userId, @NonNull final TransactionHistoryRequestDto transactionHistoryRequest) {
+		final var cursor = Optional.ofNullable(transactionHistoryRequest.getCursor()).map(TransactionCursor::decode);
+		final var limit = transactionHistoryRequest.getLimit();
+
+		final var transactions = transactionRepository.findPageByDepositAccountUserId(userId, transactionHistoryRequest.getType(),
+				transactionHistoryRequest.getFrom(), transactionHistoryRequest.getTo(), cursor.map(TransactionCursor::timestamp).orElse(null),
+				cursor.map(TransactionCursor::id).orElse(null), Limit.of(limit + 1));
+
+		final var hasNextPage = transactions.size() > limit;
+		final var page = hasNextPage ? transactions.subList(0, limit) : transactions;
+		return TransactionHistoryDto.builder()
+				.transactions(page.stream()
+						.map(transaction -> TransactionDetailDto.builder()
+								.amount(transaction.amount())
+								.currency(transaction.currency())
+								.type(transaction.type())
+								.timestamp(transaction.timestamp())
+								.build())
+						.toList())
+				.nextCursor(hasNextPage ? TransactionCursor.of(page.get(limit - 1)).encode() : null)
+				.build();
+	}
+
+	/**
+	 * Derives the balance of the user's deposit account as of the given time,
+	 * from the latest balance checkpoint written no later than it and the
+	 * transactions recorded between the two, rather than every transaction of
+	 * the account.
+	 *
+	 * @throws DepositAccountNotFoundException if no deposit account exists for the user
+	 * @see com.behl.cerberus.utility.BalanceCheckpointWriter
+	 */
+	public BalanceAsOfDto getBalanceAsOf(@NonNull final UUID userId, @NonNull final LocalDateTime asOf) {
+		final var accountId = depositAccountRepository.findIdByUserId(userId)
+				.orElseThrow(() -> new DepositAccountNotFoundException());
+
+		final var checkpoint = balanceCheckpointRepository.findFirstByAccountIdAndTimestampLessThanEqualOrderByTimestampDescTransactionIdDesc(accountId, asOf);
+		final var checkpointBalance = checkpoint.map(BalanceCheckpoint::getBalance).orElse(BigDecimal.ZERO);
+		final var balanceChange = transactionRepository.sumBalanceChangeByDepositAccountIdPositionedAfter(accountId, asOf,
+				checkpoint.map(BalanceCheckpoint::getTimestamp).orElse(null), checkpoint.map(BalanceCheckpoint::getTransactionId).orElse(null),
+				TransactionType.DEPOSIT);
+
+		return BalanceAsOfDto.builder()
+				.balance(balanceChange == null ? checkpointBalance : checkpointBalance.add(balanceChange))
+				.asOf(asOf)
+				.build();
+	}
+
+	/**
+	 * Retrieves the totals deposited and withdrawn against the user's deposit
+	 * account per day or month over the requested range, read exclusively from
+	 * daily transaction rollups. The cost of a statement hence grows with the
+	 * number of days covered rather than the number of transactions recorded.
+	 *
+	 * @throws DepositAccountNotFoundException if no deposit account exists for the user
+	 * @throws InvalidStatementRangeException if the range is empty, or spans more than
+	 *         {@value StatementRequestDto#MAXIMUM_DAILY_RANGE} days for a daily statement
+	 */
+	public StatementDto getStatement(@NonNull final UUID userId, @NonNull final StatementRequestDto statementRequest) {
+		final var from = statementRequest.getFrom();
+		final var to = statementRequest.getTo();
+		final var period = statementRequest.getPeriod();
+		if (!from.isBefore(to)) {
+			throw new InvalidStatementRangeException("From must precede To");
+		}
+		if (StatementRequestDto.Period.DAILY.equals(period) && ChronoUnit.DAYS.between(from, to) > StatementRequestDto.MAXIMUM_DAILY_RANGE) {
+			throw new InvalidStatementRangeException("A daily statement must not span more than " + StatementRequestDto.MAXIMUM_DAILY_RANGE + " days");
+		}
+
+		final var accountId = depositAccountRepository.findIdByUserId(userId)
+				.orElseThrow(() -> new DepositAccountNotFoundException());
+		final var rollups = StatementRequestDto.Period.DAILY.equals(period)
+				? transactionRollupRepository.findDailyByAccountId(accountId, from, to)
+				: transactionRollupRepository.findMonthlyByAccountId(accountId, from, to);
+
+		return StatementDto.builder()
+				.period(period)
+				.from(from)
+				.to(to)
+				.entries(rollups.stream()
+						.map(rollup -> StatementEntryDto.builder()
+								.periodStart(rollup.periodStart())
+								.currency(rollup.currency())
+								.totalDeposited(rollup.totalDeposited())
+								.totalWithdrawn(rollup.totalWithdrawn())
+								.depositCount(rollup.depositCount())
+								.withdrawalCount(rollup.withdrawalCount())
+								.build())
+						.toList())
+				.build();
+	}
+
+	public DepositAccountDetailDto getByUserId(@NonNull final UUID userId) {
+		final var account = depositAccountRepository.findProjectionByUserId(userId)
+				.orElseThrow(() -> new DepositAccountNotFoundException());
+
+		return DepositAccountDetailDto.builder()
+				.balance(account.balance())
+				.createdAt(account.createdAt())
+				.build();
+	}
+
+	/**
+	 * Waits for the transaction submitted to the engine, which bounds the wait
+	 * through the configured result timeout. The engine only times out
+	 * transactions never claimed by a worker, hence a client retrying after a
+	 * {@link DeadlineExceededException} cannot have its transaction applied
+	 * twice.
+	 *
+	 * @throws DeadlineExceededException if the transaction was not applied in time
+	 */
+	private void await(final CompletableFuture<Void> transactionResult) {
+		try {
+			transactionResult.join();
+		} catch (final CompletionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (exception.getCause() instanceof TimeoutException) {
+				throw new DeadlineExceededException();
+			}
+			throw exception;
+		}
+	}
+
+}
\ No newline at end of file
@@ -19,6 +19,7 @@ public class IdentityVerificationService {
 	
 	private final UserRepository userRepository;
 	private final ResidentialAddressRepository residentialAddressRepository;
+	private final AuthenticationService authenticationService;
 	
 	/**
 	 * Verifies the identity of the user. In the context of this proof-of-concept,
@@ -39,6 +40,7 @@ public class IdentityVerificationService {
 		
 		residentialAddressRepository.save(residentialAddress);
 		userRepository.save(user);
+		authenticationService.evictRefreshedAccessTokens(userId);
 	}
 
 }
@@ -0,0 +1,54 @@
+package com.behl.cerberus.service;
+
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.behl.cerberus.exception.PasswordHashingUnavailableException;
+import com.behl.cerberus.repository.UserRepository;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service responsible for re-encoding stored password hashes created with an
+ * outdated algorithm or work factor. Upgrades are performed asynchronously,
+ * after the user's plain text password has been verified during login, to
+ * keep the additional hashing cost out of the login response time.
+ * 
+ * @see com.behl.cerberus.configuration.PasswordConfiguration
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordUpgradeService {
+
+	private final UserRepository userRepository;
+	private final PasswordEncoder passwordEncoder;
+
+	/**
+	 * Re-encodes the provided verified password of the user with the current
+	 * password encoding configuration, and replaces the stored hash unless it has
+	 * been concurrently modified. Failure to upgrade is logged and otherwise
+	 * ignored, since the upgrade is re-attempted on the next login.
+	 *
+	 * @param userId                 The unique identifier of the user.
+	 * @param plainTextPassword      The password of the user, verified against the stored hash.
+	 * @param currentEncodedPassword The stored hash requiring an upgrade.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	@Async
+	public void upgrade(@NonNull final UUID userId, @NonNull final String plainTextPassword, @NonNull final String currentEncodedPassword) {
+		try {
+			final var upgradedEncodedPassword = passwordEncoder.encode(plainTextPassword);
+			final var updatedRecords = userRepository.updatePassword(userId, currentEncodedPassword, upgradedEncodedPassword);
+			log.info("Password hash upgrade for user '{}' {}", userId, updatedRecords > 0 ? "completed" : "skipped due to concurrent modification");
+		} catch (final PasswordHashingUnavailableException exception) {
+			log.warn("Password hash upgrade for user '{}' deferred due to high load", userId);
+		}
+	}
+
+}
@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 
+import com.behl.cerberus.token.AccessTokenClaims;
 import com.behl.cerberus.utility.CacheManager;
 import com.behl.cerberus.utility.JwtUtility;
 
@@ -40,8 +41,19 @@ public class TokenRevocationService {
 	 */
 	public void revoke() {
 		final var authHeader = Optional.ofNullable(httpServletRequest.getHeader("Authorization")).orElseThrow(IllegalStateException::new);
-		final var jti = jwtUtility.getJti(authHeader);
-		final var ttl = jwtUtility.getTimeUntilExpiration(authHeader);
+		revoke(authHeader);
+	}
+
+	/**
+	 * Revokes the provided Access Token, for use outside the scope of an HTTP
+	 * request made with the token.
+	 * 
+	 * @param accessToken The access token to revoke, with or without the bearer prefix.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	public void revoke(@NonNull final String accessToken) {
+		final var jti = jwtUtility.getJti(accessToken);
+		final var ttl = jwtUtility.getTimeUntilExpiration(accessToken);
 		cacheManager.save(jti, ttl);
 	}
 
@@ -57,4 +69,16 @@ public class TokenRevocationService {
 		return cacheManager.isPresent(jti);
 	}
 
+	/**
+	 * Checks if the access token holding the provided verified claims has been
+	 * revoked, without verifying the token again.
+	 * 
+	 * @param claims The verified claims of the access token.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 * @return {@code true} if the token is revoked; {@code false} if not
+	 */
+	public boolean isRevoked(@NonNull final AccessTokenClaims claims) {
+		return cacheManager.isPresent(claims.jti());
+	}
+
 }
@@ -1,12 +1,18 @@
 package com.behl.cerberus.service;
 
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.password.CompromisedPasswordChecker;
 import org.springframework.security.authentication.password.CompromisedPasswordException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.behl.cerberus.configuration.PasswordConfigurationProperties;
 import com.behl.cerberus.dto.ResetPasswordRequestDto;
 import com.behl.cerberus.dto.UserCreationRequestDto;
 import com.behl.cerberus.dto.UserDetailDto;
@@ -14,42 +20,74 @@ import com.behl.cerberus.dto.UserUpdationRequestDto;
 import com.behl.cerberus.entity.User;
 import com.behl.cerberus.entity.UserStatus;
 import com.behl.cerberus.exception.AccountAlreadyExistsException;
+import com.behl.cerberus.exception.DeadlineExceededException;
 import com.behl.cerberus.exception.InvalidCredentialsException;
 import com.behl.cerberus.repository.UserRepository;
+import com.behl.cerberus.utility.DummyPasswordVerifier;
+import com.behl.cerberus.utility.FailFastTaskScope;
+import com.behl.cerberus.utility.RegisteredEmailFilter;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
+@EnableConfigurationProperties(PasswordConfigurationProperties.class)
 public class UserService {
 
 	private final UserRepository userRepository;
+	private final RegisteredEmailFilter registeredEmailFilter;
+	private final DummyPasswordVerifier dummyPasswordVerifier;
 	private final PasswordEncoder passwordEncoder;
 	private final TokenRevocationService tokenRevocationService;
+	private final AuthenticationService authenticationService;
 	private final CompromisedPasswordChecker compromisedPasswordChecker;
-
+	private final PasswordConfigurationProperties passwordConfigurationProperties;
+
+	/**
+	 * Creates a new user account. The check for an existing account and the
+	 * compromised password check run concurrently, bound by the configured
+	 * deadline, with an existing account taking precedence. The datasource is
+	 * always queried for an existing account, as the registered email-id filter
+	 * may lag behind registrations made on other nodes, and a registration
+	 * racing past the check is rejected by the unique constraint on email-id.
+	 */
 	public void create(@NonNull final UserCreationRequestDto userCreationRequest) {
 		final var emailId = userCreationRequest.getEmailId();
-		final var userAccountExistsWithEmailId = userRepository.existsByEmailId(emailId);
-		if (Boolean.TRUE.equals(userAccountExistsWithEmailId)) {
-			throw new AccountAlreadyExistsException("Account with provided email-id already exists");
-		}
-
 		final var plainTextPassword = userCreationRequest.getPassword();
-		final var isPasswordCompromised = compromisedPasswordChecker.check(plainTextPassword).isCompromised();
-		if (Boolean.TRUE.equals(isPasswordCompromised)) {
-			throw new CompromisedPasswordException("The provided password is compromised and cannot be used for account creation.");
+		final var deadline = Instant.now().plus(passwordConfigurationProperties.getDeadline());
+		try (final var scope = new FailFastTaskScope()) {
+			final var userAccountExistsWithEmailId = scope.fork(() -> userRepository.existsByEmailId(emailId));
+			final var compromisedPasswordDecision = scope.fork(() -> compromisedPasswordChecker.check(plainTextPassword));
+			scope.join(deadline);
+
+			if (Boolean.TRUE.equals(userAccountExistsWithEmailId.get())) {
+				throw new AccountAlreadyExistsException("Account with provided email-id already exists");
+			}
+			final var isPasswordCompromised = compromisedPasswordDecision.get().isCompromised();
+			if (Boolean.TRUE.equals(isPasswordCompromised)) {
+				throw new CompromisedPasswordException("The provided password is compromised and cannot be used for account creation.");
+			}
+		} catch (final TimeoutException exception) {
+			throw new DeadlineExceededException();
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(exception);
 		}
 		
 		final var user = new User();
 		final var encodedPassword = passwordEncoder.encode(plainTextPassword);
 		user.setFirstName(userCreationRequest.getFirstName());
 		user.setLastName(userCreationRequest.getLastName());
-		user.setEmailId(userCreationRequest.getEmailId());
+		user.setEmailId(emailId);
 		user.setPassword(encodedPassword);
 
-		userRepository.save(user);
+		try {
+			userRepository.saveAndFlush(user);
+		} catch (final DataIntegrityViolationException exception) {
+			throw new AccountAlreadyExistsException("Account with provided email-id already exists");
+		}
+		registeredEmailFilter.add(emailId);
 	}
 
 	public void update(@NonNull final UUID userId, @NonNull UserUpdationRequestDto userUpdationRequestDto) {
@@ -60,8 +98,12 @@ public class UserService {
 	}
 	
 	public void resetPassword(@NonNull final ResetPasswordRequestDto resetPasswordRequest) {
-		final var user = userRepository.findByEmailId(resetPasswordRequest.getEmailId())
-				.orElseThrow(() -> new InvalidCredentialsException("No user exists with given email/current-password combination."));
+		final var emailId = resetPasswordRequest.getEmailId();
+		final var registeredUser = registeredEmailFilter.mightContain(emailId) ? userRepository.findByEmailId(emailId) : Optional.<User>empty();
+		final var user = registeredUser.orElseThrow(() -> {
+			dummyPasswordVerifier.verify(resetPasswordRequest.getCurrentPassword());
+			return new InvalidCredentialsException("No user exists with given email/current-password combination.");
+		});
 
 		final var existingEncodedPassword = user.getPassword();
 		final var plainTextCurrentPassword = resetPasswordRequest.getCurrentPassword();
@@ -78,18 +120,19 @@ public class UserService {
 
 		final var encodedNewPassword = passwordEncoder.encode(newPassword);
 		user.setPassword(encodedNewPassword);
+		user.setPasswordResetRequired(false);
 		userRepository.save(user);
 	}
 
 	public UserDetailDto getById(@NonNull final UUID userId) {
-		final var user = getUserById(userId);
+		final var user = userRepository.findProjectionById(userId).orElseThrow(IllegalStateException::new);
 		return UserDetailDto.builder()
-				.firstName(user.getFirstName())
-				.lastName(user.getLastName())
-				.emailId(user.getEmailId())
-				.status(user.getUserStatus().getValue())
-				.dateOfBirth(user.getDateOfBirth())
-				.createdAt(user.getCreatedAt())
+				.firstName(user.firstName())
+				.lastName(user.lastName())
+				.emailId(user.emailId())
+				.status(user.userStatus().getValue())
+				.dateOfBirth(user.dateOfBirth())
+				.createdAt(user.createdAt())
 				.build();
 	}
 	
@@ -99,6 +142,7 @@ public class UserService {
 		userRepository.save(user);
 		
 		tokenRevocationService.revoke();
+		authenticationService.evictRefreshedAccessTokens(userId);
 	}
 
 	private User getUserById(@NonNull final UUID userId) {
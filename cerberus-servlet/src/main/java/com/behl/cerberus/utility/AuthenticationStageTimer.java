@@ -0,0 +1,156 @@
+package com.behl.cerberus.utility;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.behl.cerberus.configuration.AuthenticationTimingConfigurationProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records the duration of each stage of request authentication performed by
+ * {@link com.behl.cerberus.filter.JwtAuthenticationFilter} into the
+ * <code>authentication.filter.stage</code> histogram, tagged by stage, to
+ * identify the stage responsible when the latency of secured endpoints rises.
+ * 
+ * Each stage boundary reads the monotonic clock once and records into a
+ * pre-registered timer, keeping the overhead per request within a few hundred
+ * nanoseconds. When disabled, a shared no-op recording is returned and no clock
+ * is read. Optionally, the durations recorded for a request are returned in the
+ * <code>Server-Timing</code> response header.
+ * 
+ * @see com.behl.cerberus.configuration.AuthenticationTimingConfigurationProperties
+ */
+@Component
+@EnableConfigurationProperties(AuthenticationTimingConfigurationProperties.class)
+public class AuthenticationStageTimer {
+
+	private static final String SERVER_TIMING_HEADER = "Server-Timing";
+	private static final Recording NO_OP_RECORDING = new Recording(null, false) {
+
+		@Override
+		public void mark(final Stage stage) {
+		}
+
+		@Override
+		public void finish(final HttpServletResponse response) {
+		}
+
+	};
+
+	private final boolean enabled;
+	private final boolean serverTimingHeader;
+	private final Map<Stage, Timer> timers = new EnumMap<>(Stage.class);
+
+	public AuthenticationStageTimer(@NonNull final MeterRegistry meterRegistry,
+			@NonNull final AuthenticationTimingConfigurationProperties authenticationTimingConfigurationProperties) {
+		this.enabled = authenticationTimingConfigurationProperties.isEnabled();
+		this.serverTimingHeader = authenticationTimingConfigurationProperties.isServerTimingHeader();
+		for (final var stage : Stage.values()) {
+			timers.put(stage, Timer.builder("authentication.filter.stage")
+					.description("Duration of each stage of request authentication")
+					.tag("stage", stage.getName())
+					.publishPercentileHistogram()
+					.register(meterRegistry));
+		}
+	}
+
+	/**
+	 * Begins recording the stages of authenticating the current request. Stages
+	 * are measured from the previous mark, or from this invocation for the first.
+	 * 
+	 * @return Recording to mark completed stages against.
+	 */
+	public Recording begin() {
+		return enabled ? new Recording(this, serverTimingHeader) : NO_OP_RECORDING;
+	}
+
+	/**
+	 * Stages of request authentication, in order of execution.
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	public enum Stage {
+
+		MATCHING("match", "Public endpoint matching"),
+		VERIFICATION("verify", "Token parsing and signature verification"),
+		REVOCATION("revocation", "Token revocation lookup"),
+		CONTEXT("context", "Security context setup");
+
+		private final String name;
+		private final String description;
+
+	}
+
+	/**
+	 * Durations recorded while authenticating a single request. Instances are
+	 * confined to the thread processing the request.
+	 */
+	public static class Recording {
+
+		private final AuthenticationStageTimer stageTimer;
+		private final long[] durations;
+		private long lastMark;
+
+		private Recording(final AuthenticationStageTimer stageTimer, final boolean serverTimingHeader) {
+			this.stageTimer = stageTimer;
+			this.durations = serverTimingHeader ? new long[Stage.values().length] : null;
+			this.lastMark = stageTimer != null ? System.nanoTime() : 0L;
+		}
+
+		/**
+		 * Records the duration of the provided stage, elapsed since the previous
+		 * mark.
+		 * 
+		 * @param stage The stage that has completed.
+		 */
+		public void mark(final Stage stage) {
+			final var now = System.nanoTime();
+			final var duration = now - lastMark;
+			lastMark = now;
+			stageTimer.timers.get(stage).record(duration, TimeUnit.NANOSECONDS);
+			if (durations != null) {
+				durations[stage.ordinal()] = duration;
+			}
+		}
+
+		/**
+		 * Adds the <code>Server-Timing</code> header holding the durations of the
+		 * marked stages in milliseconds, if enabled.
+		 * 
+		 * @param response The response to the request being authenticated.
+		 */
+		public void finish(final HttpServletResponse response) {
+			if (durations == null || response.isCommitted()) {
+				return;
+			}
+			final var header = new StringBuilder(128);
+			for (final var stage : Stage.values()) {
+				final var duration = durations[stage.ordinal()];
+				if (duration == 0L) {
+					continue;
+				}
+				if (!header.isEmpty()) {
+					header.append(", ");
+				}
+				header.append("auth-").append(stage.getName())
+					.append(";desc=\"").append(stage.getDescription()).append('"')
+					.append(";dur=").append(duration / 1_000L / 1000.0);
+			}
+			if (!header.isEmpty()) {
+				response.addHeader(SERVER_TIMING_HEADER, header.toString());
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.behl.cerberus.utility;
+
+import java.time.Duration;
+import java.util.function.IntFunction;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Utility class responsible for determining the BCrypt strength (log rounds)
+ * to be used on the current hardware. Each increment in strength doubles the
+ * time taken to compute a hash, the calibration therefore measures hashing
+ * time starting from the minimum strength and selects the highest strength
+ * whose hashing time does not exceed the configured target latency.
+ * 
+ * This keeps the cost of a login predictable across environments, allowing
+ * password hashing capacity to be planned in terms of hashes per core per
+ * second.
+ * 
+ * @see com.behl.cerberus.configuration.PasswordConfiguration
+ */
+@Slf4j
+@Component
+public class BCryptStrengthCalibrator {
+
+	static final int MINIMUM_STRENGTH = 10;
+	static final int MAXIMUM_STRENGTH = 20;
+	private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+	/**
+	 * Determines the highest BCrypt strength whose hashing time on the current
+	 * hardware does not exceed the provided target latency. The returned strength
+	 * is never lower than {@value #MINIMUM_STRENGTH}, regardless of the target.
+	 *
+	 * @param targetLatency The maximum acceptable duration to compute a single hash.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 * @return The calibrated BCrypt strength.
+	 */
+	public int calibrate(@NonNull final Duration targetLatency) {
+		measure(MINIMUM_STRENGTH); // warm up before measuring
+		return calibrate(targetLatency, this::measure);
+	}
+
+	int calibrate(final Duration targetLatency, final IntFunction<Duration> hashingTimeProvider) {
+		var strength = MINIMUM_STRENGTH;
+		var hashingTime = hashingTimeProvider.apply(strength);
+		while (strength < MAXIMUM_STRENGTH) {
+			final var projectedHashingTime = hashingTime.multipliedBy(2);
+			if (projectedHashingTime.compareTo(targetLatency) > 0) {
+				break;
+			}
+			hashingTime = hashingTimeProvider.apply(strength + 1);
+			if (hashingTime.compareTo(targetLatency) > 0) {
+				break;
+			}
+			strength++;
+		}
+		log.info("Calibrated BCrypt strength to {} against target latency of {} ms", strength, targetLatency.toMillis());
+		return strength;
+	}
+
+	private Duration measure(final int strength) {
+		final var passwordEncoder = new BCryptPasswordEncoder(strength);
+		final var startTime = System.nanoTime();
+		passwordEncoder.encode(CALIBRATION_PASSWORD);
+		return Duration.ofNanos(System.nanoTime() - startTime);
+	}
+
+}
@@ -0,0 +1,233 @@
+package com.behl.cerberus.utility;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.behl.cerberus.configuration.BalanceCheckpointConfigurationProperties;
+import com.behl.cerberus.entity.BalanceCheckpoint;
+import com.behl.cerberus.entity.TransactionType;
+import com.behl.cerberus.projection.TransactionProjection;
+import com.behl.cerberus.repository.BalanceCheckpointRepository;
+import com.behl.cerberus.repository.DepositAccountRepository;
+import com.behl.cerberus.repository.TransactionRepository;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background job incrementally writing balance checkpoints of deposit
+ * accounts, so that the balance of an account at any point in time is derived
+ * from its latest preceding checkpoint and a bounded range of transactions,
+ * rather than the account's entire history.
+ *
+ * Each run resumes an account from its latest checkpoint, reading its
+ * subsequent transactions in <code>(timestamp, id)</code> order in pages of
+ * <code>transactions-per-checkpoint</code>, and writes a checkpoint after each
+ * full page. Transactions younger than <code>settle-delay</code> are excluded,
+ * as one recorded earlier could still be uncommitted, and a checkpoint written
+ * past it would never account for it.
+ *
+ * Only accounts transacted against since the watermark, the point up to which
+ * the previous run covered every account, are visited. The watermark is held
+ * in the provisioned redis cache and advanced once a run completes without
+ * failures. Without a watermark, as on the first run, every account is
+ * visited.
+ *
+ * Runs are coordinated across instances through a lock held in the provisioned
+ * redis cache, sparing the datasource duplicate work. The lock expires after
+ * <code>run-interval</code>, is renewed by its owner while the run progresses,
+ * and is only renewed or released by its owner. Correctness does not rely on
+ * the lock, as a checkpoint written concurrently for the same position is
+ * rejected by the unique key on <code>(deposit_account_id, timestamp, transaction_id)</code>.
+ *
+ * @see com.behl.cerberus.configuration.BalanceCheckpointConfigurationProperties
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(BalanceCheckpointConfigurationProperties.class)
+public class BalanceCheckpointWriter {
+
+	private static final String LOCK_KEY = "balance_checkpoint_writer:lock";
+	private static final String WATERMARK_KEY = "balance_checkpoint_writer:watermark";
+	private static final int ACCOUNT_PAGE_SIZE = 500;
+	private static final RedisScript<Long> RENEW_LOCK_SCRIPT = RedisScript.of(new ClassPathResource("redis/renew-lock.lua"), Long.class);
+	private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of(new ClassPathResource("redis/release-lock.lua"), Long.class);
+
+	private final DepositAccountRepository depositAccountRepository;
+	private final TransactionRepository transactionRepository;
+	private final BalanceCheckpointRepository balanceCheckpointRepository;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final BalanceCheckpointConfigurationProperties balanceCheckpointConfigurationProperties;
+	private final String lockOwner = UUID.randomUUID().toString();
+	private Instant lockRenewedAt;
+
+	@Scheduled(fixedDelayString = "${com.behl.cerberus.balance-checkpoint.run-interval:PT5M}")
+	public void run() {
+		if (!balanceCheckpointConfigurationProperties.isEnabled()) {
+			return;
+		}
+		try {
+			if (!acquireLock()) {
+				log.info("Skipping balance checkpoint run, held by another instance");
+				return;
+			}
+		} catch (final DataAccessException exception) {
+			log.error("Unable to acquire balance checkpoint lock, skipping run", exception);
+			return;
+		}
+
+		try {
+			final var settledBefore = LocalDateTime.now(ZoneOffset.UTC).minus(balanceCheckpointConfigurationProperties.getSettleDelay());
+			final var watermark = stringRedisTemplate.opsForValue().get(WATERMARK_KEY);
+			final var checkpointRun = watermark == null
+					? checkpointAll(settledBefore)
+					: checkpointRecordedSince(LocalDateTime.parse(watermark), settledBefore);
+			log.info("Wrote {} balance checkpoint(s)", checkpointRun.checkpointCount());
+
+			if (checkpointRun.complete() && renewLock()) {
+				stringRedisTemplate.opsForValue().set(WATERMARK_KEY, settledBefore.toString());
+			}
+		} catch (final DataAccessException exception) {
+			log.error("Balance checkpoint run failed, resuming from previous watermark on next run", exception);
+		} finally {
+			releaseLock();
+		}
+	}
+
+	/**
+	 * Writes checkpoints for every deposit account, covering transactions
+	 * recorded before the given timestamp.
+	 */
+	CheckpointRun checkpointAll(@NonNull final LocalDateTime settledBefore) {
+		return checkpoint(lastAccountId -> depositAccountRepository.findIdsAfter(lastAccountId, Limit.of(ACCOUNT_PAGE_SIZE)), settledBefore);
+	}
+
+	/**
+	 * Writes checkpoints for deposit accounts transacted against since the given
+	 * watermark, covering transactions recorded before the given timestamp.
+	 * Accounts not transacted against since have nothing left to checkpoint, as
+	 * the run which set the watermark covered them.
+	 */
+	CheckpointRun checkpointRecordedSince(@NonNull final LocalDateTime watermark, @NonNull final LocalDateTime settledBefore) {
+		return checkpoint(lastAccountId -> transactionRepository.findDepositAccountIdsRecordedBetween(watermark, settledBefore, lastAccountId,
+				Limit.of(ACCOUNT_PAGE_SIZE)), settledBefore);
+	}
+
+	/**
+	 * Checkpoints every deposit account retrieved through the provided page
+	 * function. The run is cut short, and reported incomplete, if the lock is
+	 * lost to another instance.
+	 */
+	private CheckpointRun checkpoint(final Function<UUID, List<UUID>> accountIdPages, final LocalDateTime settledBefore) {
+		var checkpointCount = 0;
+		var complete = true;
+		UUID lastAccountId = null;
+		while (true) {
+			final var accountIds = accountIdPages.apply(lastAccountId);
+			for (final var accountId : accountIds) {
+				try {
+					checkpointCount += checkpoint(accountId, settledBefore);
+				} catch (final DataAccessException exception) {
+					log.error("Unable to checkpoint balance of deposit account '{}'", accountId, exception);
+					complete = false;
+				}
+			}
+			if (accountIds.size() < ACCOUNT_PAGE_SIZE) {
+				return new CheckpointRun(checkpointCount, complete);
+			}
+			if (!renewLockIfDue()) {
+				log.warn("Lost balance checkpoint lock, ending run");
+				return new CheckpointRun(checkpointCount, false);
+			}
+			lastAccountId = accountIds.getLast();
+		}
+	}
+
+	private int checkpoint(final UUID accountId, final LocalDateTime settledBefore) {
+		final var transactionsPerCheckpoint = balanceCheckpointConfigurationProperties.getTransactionsPerCheckpoint();
+		final var latestCheckpoint = balanceCheckpointRepository.findFirstByAccountIdOrderByTimestampDescTransactionIdDesc(accountId);
+		var balance = latestCheckpoint.map(BalanceCheckpoint::getBalance).orElse(BigDecimal.ZERO);
+		var afterTimestamp = latestCheckpoint.map(BalanceCheckpoint::getTimestamp).orElse(null);
+		var afterId = latestCheckpoint.map(BalanceCheckpoint::getTransactionId).orElse(null);
+
+		var checkpointCount = 0;
+		while (true) {
+			final var transactions = transactionRepository.findByDepositAccountIdPositionedAfter(accountId, settledBefore, afterTimestamp, afterId,
+					Limit.of(transactionsPerCheckpoint));
+			if (transactions.size() < transactionsPerCheckpoint) {
+				return checkpointCount;
+			}
+
+			for (final var transaction : transactions) {
+				balance = apply(balance, transaction);
+			}
+			final var lastTransaction = transactions.getLast();
+			final var checkpoint = new BalanceCheckpoint();
+			checkpoint.setAccountId(accountId);
+			checkpoint.setTimestamp(lastTransaction.timestamp());
+			checkpoint.setTransactionId(lastTransaction.id());
+			checkpoint.setBalance(balance);
+			balanceCheckpointRepository.save(checkpoint);
+
+			afterTimestamp = lastTransaction.timestamp();
+			afterId = lastTransaction.id();
+			checkpointCount++;
+		}
+	}
+
+	private BigDecimal apply(final BigDecimal balance, final TransactionProjection transaction) {
+		return TransactionType.DEPOSIT.equals(transaction.type()) ? balance.add(transaction.amount()) : balance.subtract(transaction.amount());
+	}
+
+	private boolean acquireLock() {
+		final var acquired = Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockOwner,
+				balanceCheckpointConfigurationProperties.getRunInterval()));
+		lockRenewedAt = Instant.now();
+		return acquired;
+	}
+
+	/**
+	 * Renews the lock once half of its time to live has elapsed since it was last
+	 * renewed.
+	 */
+	private boolean renewLockIfDue() {
+		final var renewalInterval = balanceCheckpointConfigurationProperties.getRunInterval().dividedBy(2);
+		return lockRenewedAt.plus(renewalInterval).isAfter(Instant.now()) || renewLock();
+	}
+
+	private boolean renewLock() {
+		final var lockTimeToLive = balanceCheckpointConfigurationProperties.getRunInterval();
+		final var renewed = Long.valueOf(1).equals(stringRedisTemplate.execute(RENEW_LOCK_SCRIPT, List.of(LOCK_KEY), lockOwner,
+				String.valueOf(lockTimeToLive.toMillis())));
+		lockRenewedAt = Instant.now();
+		return renewed;
+	}
+
+	private void releaseLock() {
+		try {
+			stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), lockOwner);
+		} catch (final DataAccessException exception) {
+			log.warn("Unable to release balance checkpoint lock, expires after {}", balanceCheckpointConfigurationProperties.getRunInterval(), exception);
+		}
+	}
+
+	record CheckpointRun(int checkpointCount, boolean complete) {
+	}
+
+}
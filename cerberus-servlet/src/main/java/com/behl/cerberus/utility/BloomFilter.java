@@ -0,0 +1,155 @@
+package com.behl.cerberus.utility;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import lombok.NonNull;
+
+/**
+ * Scalable, thread-safe Bloom filter of strings, answering whether a value is
+ * definitely absent or might be present. The filter consists of slices, each
+ * sized for a number of insertions at a target false positive probability.
+ * Once the insertions into the latest slice exceed its capacity, a new slice
+ * with double the capacity and half the false positive probability is added,
+ * keeping the compound false positive probability bound regardless of the
+ * number of insertions.
+ *
+ * Lookups and insertions are lock-free, bits being set through atomic updates
+ * of the underlying words. Only the rare addition of a slice synchronizes.
+ * Values can not be removed.
+ */
+public class BloomFilter {
+
+	private static final double LN_2 = Math.log(2);
+
+	private final CopyOnWriteArrayList<Slice> slices = new CopyOnWriteArrayList<>();
+
+	/**
+	 * @param expectedInsertions        The number of insertions the first slice is sized for.
+	 * @param falsePositiveProbability  The target false positive probability of the first slice.
+	 * @throws IllegalArgumentException if the expected insertions are not positive,
+	 *                                  or the probability is not between 0 and 1.
+	 */
+	public BloomFilter(final long expectedInsertions, final double falsePositiveProbability) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException("Expected insertions must be positive");
+		}
+		if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+			throw new IllegalArgumentException("False positive probability must be between 0 and 1");
+		}
+		slices.add(new Slice(expectedInsertions, falsePositiveProbability / 2));
+	}
+
+	/**
+	 * Inserts the provided value into the filter.
+	 */
+	public void add(@NonNull final String value) {
+		final var hash = hash(value);
+		var slice = slices.get(slices.size() - 1);
+		if (slice.insertions.incrementAndGet() > slice.capacity) {
+			slice = grow(slice);
+		}
+		slice.add(hash);
+	}
+
+	/**
+	 * @return <code>false</code> if the provided value has definitely not been
+	 *         inserted, <code>true</code> if it might have been.
+	 */
+	public boolean mightContain(@NonNull final String value) {
+		final var hash = hash(value);
+		for (final var slice : slices) {
+			if (slice.mightContain(hash)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return The approximate number of values inserted.
+	 */
+	public long size() {
+		return slices.stream().mapToLong(slice -> Math.min(slice.insertions.get(), slice.capacity)).sum();
+	}
+
+	private synchronized Slice grow(final Slice exhaustedSlice) {
+		final var latestSlice = slices.get(slices.size() - 1);
+		if (latestSlice != exhaustedSlice) {
+			latestSlice.insertions.incrementAndGet();
+			return latestSlice;
+		}
+		final var slice = new Slice(exhaustedSlice.capacity * 2, exhaustedSlice.falsePositiveProbability / 2);
+		slice.insertions.incrementAndGet();
+		slices.add(slice);
+		return slice;
+	}
+
+	/**
+	 * Computes two independent 64-bit hashes of the value, from which the bit
+	 * positions are derived through double hashing.
+	 */
+	private long[] hash(final String value) {
+		var hash = 0xcbf29ce484222325L;
+		for (final var octet : value.getBytes(StandardCharsets.UTF_8)) {
+			hash = (hash ^ (octet & 0xff)) * 0x100000001b3L;
+		}
+		final var firstHash = mix(hash);
+		final var secondHash = mix(firstHash ^ 0x9e3779b97f4a7c15L) | 1;
+		return new long[] { firstHash, secondHash };
+	}
+
+	private static long mix(long value) {
+		value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+		value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+		return value ^ (value >>> 31);
+	}
+
+	private static class Slice {
+
+		private final long capacity;
+		private final double falsePositiveProbability;
+		private final long bitCount;
+		private final int hashFunctions;
+		private final AtomicLongArray words;
+		private final AtomicLong insertions = new AtomicLong();
+
+		Slice(final long capacity, final double falsePositiveProbability) {
+			this.capacity = capacity;
+			this.falsePositiveProbability = falsePositiveProbability;
+			final var optimalBitCount = (long) Math.ceil(-capacity * Math.log(falsePositiveProbability) / (LN_2 * LN_2));
+			this.words = new AtomicLongArray(Math.toIntExact(Math.max(1, (optimalBitCount + 63) / 64)));
+			this.bitCount = (long) words.length() * 64;
+			this.hashFunctions = (int) Math.max(1, Math.round((double) bitCount / capacity * LN_2));
+		}
+
+		void add(final long[] hash) {
+			for (int function = 0; function < hashFunctions; function++) {
+				final var bit = position(hash, function);
+				final var mask = 1L << bit;
+				final var index = (int) (bit >>> 6);
+				if ((words.get(index) & mask) == 0) {
+					words.accumulateAndGet(index, mask, (word, bitMask) -> word | bitMask);
+				}
+			}
+		}
+
+		boolean mightContain(final long[] hash) {
+			for (int function = 0; function < hashFunctions; function++) {
+				final var bit = position(hash, function);
+				if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private long position(final long[] hash, final int function) {
+			return Math.floorMod(hash[0] + function * hash[1], bitCount);
+		}
+
+	}
+
+}
@@ -0,0 +1,126 @@
+package com.behl.cerberus.utility;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.behl.cerberus.exception.PasswordHashingUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link PasswordEncoder} decorator executing the CPU intensive hashing and
+ * verification of the delegate on a dedicated, fixed size thread pool backed by
+ * a bounded queue. This caps the CPU consumed by password hashing regardless of
+ * the number of concurrent requests, leaving headroom for cheaper API calls.
+ *
+ * When the queue is full, the operation is rejected immediately with
+ * {@link PasswordHashingUnavailableException} instead of waiting, allowing the
+ * client to be served a fast <code>503</code> with a <code>Retry-After</code>
+ * header.
+ *
+ * The following metrics are exposed:
+ * <ul>
+ *   <li><code>password.hashing.queue.depth</code>: operations waiting for a free thread.</li>
+ *   <li><code>password.hashing</code>: execution time of operations, tagged by operation.</li>
+ *   <li><code>password.hashing.rejected</code>: operations rejected due to a full queue.</li>
+ * </ul>
+ *
+ * @see com.behl.cerberus.configuration.PasswordConfiguration
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final Duration retryAfter;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Counter rejectionCounter;
+
+	private static final String THREAD_NAME_PREFIX = "password-hashing-";
+
+	public BoundedPasswordEncoder(@NonNull final PasswordEncoder delegate, final int threads, final int queueCapacity,
+			@NonNull final Duration retryAfter, @NonNull final MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.retryAfter = retryAfter;
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+				new ThreadPoolExecutor.AbortPolicy());
+
+		Gauge.builder("password.hashing.queue.depth", executor, pool -> pool.getQueue().size())
+			.description("Password hashing operations waiting for a free thread")
+			.register(meterRegistry);
+		this.encodeTimer = Timer.builder("password.hashing")
+			.description("Execution time of password hashing operations")
+			.tag("operation", "encode")
+			.register(meterRegistry);
+		this.matchesTimer = Timer.builder("password.hashing")
+			.description("Execution time of password hashing operations")
+			.tag("operation", "matches")
+			.register(meterRegistry);
+		this.rejectionCounter = Counter.builder("password.hashing.rejected")
+			.description("Password hashing operations rejected due to a full queue")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public String encode(final CharSequence rawPassword) {
+		return execute(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+	}
+
+	@Override
+	public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+		return execute(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+	}
+
+	@Override
+	public boolean upgradeEncoding(final String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+	private <T> T execute(final Callable<T> operation) {
+		final var future = submit(operation);
+		try {
+			return future.get();
+		} catch (final InterruptedException exception) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for password hashing", exception);
+		} catch (final ExecutionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(exception.getCause());
+		}
+	}
+
+	private <T> Future<T> submit(final Callable<T> operation) {
+		try {
+			return executor.submit(operation);
+		} catch (final RejectedExecutionException exception) {
+			rejectionCounter.increment();
+			log.warn("Rejected password hashing operation, {} operation(s) queued", executor.getQueue().size());
+			throw new PasswordHashingUnavailableException(retryAfter);
+		}
+	}
+
+}
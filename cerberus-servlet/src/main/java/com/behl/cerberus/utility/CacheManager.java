@@ -36,6 +36,32 @@ public class CacheManager {
         log.info("Cached non value key '{}' for {} seconds", key, timeToLive.toSeconds());
     }
     
+    /**
+     * Atomically saves the provided value against the given key, only if the key
+     * is not already present.
+     *
+     * @return <code>true</code> if the value was saved, <code>false</code> if the key was already present.
+     */
+    public boolean saveIfAbsent(@NonNull final String key, @NonNull final Object value, @NonNull final Duration timeToLive) {
+        final var saved = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, timeToLive));
+        log.info("{} value with key '{}' for {} seconds", saved ? "Cached" : "Skipped caching already present", key, timeToLive.toSeconds());
+        return saved;
+    }
+    
+    /**
+     * Resets the time to live of the value saved against the given key.
+     *
+     * @return <code>true</code> if the key was present, <code>false</code> otherwise.
+     */
+    public boolean renew(@NonNull final String key, @NonNull final Duration timeToLive) {
+        return Boolean.TRUE.equals(redisTemplate.expire(key, timeToLive));
+    }
+    
+    public void delete(@NonNull final String key) {
+        redisTemplate.delete(key);
+        log.info("Deleted cached value with key '{}'", key);
+    }
+    
     public Boolean isPresent(@NonNull final String key) {
     	final var fetchedValue = redisTemplate.opsForValue().get(key);
     	return Optional.ofNullable(fetchedValue).isPresent();
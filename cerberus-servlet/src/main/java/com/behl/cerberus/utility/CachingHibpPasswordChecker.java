@@ -0,0 +1,181 @@
+package com.behl.cerberus.utility;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link CompromisedPasswordChecker} implementation using the k-anonymity
+ * range API of Have I Been Pwned, caching the response for each 5 character
+ * SHA-1 prefix. Responses are parsed into a compact array of sorted,
+ * fixed-width binary suffixes, which is binary-searched for subsequent checks
+ * of passwords sharing the prefix. Cached ranges expire after the configured
+ * time to live, and the least valuable ranges are evicted once the configured
+ * maximum is reached.
+ *
+ * Requests are sent asynchronously through a single shared HTTP/2 client,
+ * reusing connections across checks. Concurrent checks for an uncached prefix
+ * share a single in-flight request. Failed requests are not cached, and the
+ * password is treated as not compromised, consistent with
+ * {@link org.springframework.security.web.authentication.password.HaveIBeenPwnedRestApiPasswordChecker}.
+ *
+ * Cache statistics, including the <code>hibp.range.cache.hit.ratio</code>, are
+ * exposed as metrics.
+ *
+ * @see com.behl.cerberus.configuration.PasswordConfiguration
+ */
+@Slf4j
+public class CachingHibpPasswordChecker implements CompromisedPasswordChecker {
+
+	private static final int PREFIX_LENGTH = 5;
+	private static final int SUFFIX_SIZE = 18;
+	private static final String CACHE_NAME = "hibp.range";
+
+	private final URI apiUrl;
+	private final HttpClient httpClient;
+	private final Duration requestTimeout;
+	private final AsyncCache<String, byte[]> rangeCache;
+
+	/**
+	 * @param httpClient     The HTTP client shared across all range requests.
+	 * @param apiUrl         The base URL of the range API.
+	 * @param requestTimeout The maximum duration to wait for a range response.
+	 * @param cacheSize      The maximum number of ranges cached.
+	 * @param cacheTtl       The duration after which a cached range expires.
+	 * @param meterRegistry  The registry to expose cache statistics to.
+	 */
+	public CachingHibpPasswordChecker(@NonNull final HttpClient httpClient, @NonNull final URI apiUrl, @NonNull final Duration requestTimeout,
+			final long cacheSize, @NonNull final Duration cacheTtl, @NonNull final MeterRegistry meterRegistry) {
+		this.apiUrl = apiUrl;
+		this.httpClient = httpClient;
+		this.requestTimeout = requestTimeout;
+		this.rangeCache = Caffeine.newBuilder()
+				.maximumSize(cacheSize)
+				.expireAfterWrite(cacheTtl)
+				.recordStats()
+				.buildAsync();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, rangeCache, CACHE_NAME);
+		Gauge.builder(CACHE_NAME + ".cache.hit.ratio", rangeCache, cache -> cache.synchronous().stats().hitRate())
+			.description("Ratio of compromised password checks served from cached ranges")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public CompromisedPasswordDecision check(@NonNull final String password) {
+		final var hash = sha1Hex(password);
+		final var prefix = hash.substring(0, PREFIX_LENGTH);
+		final var suffix = toSuffix(hash.substring(PREFIX_LENGTH));
+
+		final var suffixes = rangeCache.get(prefix, (key, executor) -> fetchRange(key));
+		try {
+			return new CompromisedPasswordDecision(contains(suffixes.get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS), suffix));
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			log.error("Interrupted while checking password for compromise against range '{}'", prefix);
+		} catch (final ExecutionException exception) {
+			rangeCache.asMap().remove(prefix, suffixes);
+			log.error("Unable to check password for compromise against range '{}'", prefix, exception.getCause());
+		} catch (final TimeoutException exception) {
+			log.error("Timed out checking password for compromise against range '{}'", prefix);
+		}
+		return new CompromisedPasswordDecision(false);
+	}
+
+	/**
+	 * @return The ratio of checks served from cached ranges.
+	 */
+	public double getHitRatio() {
+		return rangeCache.synchronous().stats().hitRate();
+	}
+
+	private CompletableFuture<byte[]> fetchRange(final String prefix) {
+		final var request = HttpRequest.newBuilder(apiUrl.resolve("range/" + prefix))
+				.timeout(requestTimeout)
+				.GET()
+				.build();
+		return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.US_ASCII))
+				.thenApply(response -> {
+					if (response.statusCode() != 200) {
+						throw new IllegalStateException("Range API responded with status " + response.statusCode());
+					}
+					return parse(response.body());
+				});
+	}
+
+	/**
+	 * Parses a range response of <code>SUFFIX:COUNT</code> lines into sorted,
+	 * concatenated fixed-width suffixes, ignoring padding entries with a count of
+	 * zero.
+	 */
+	private byte[] parse(final String responseBody) {
+		final var suffixes = responseBody.lines()
+				.map(String::strip)
+				.filter(line -> !line.isEmpty() && !line.endsWith(":0"))
+				.map(line -> toSuffix(line.substring(0, line.indexOf(':'))))
+				.sorted(Arrays::compareUnsigned)
+				.toList();
+
+		final var packedSuffixes = new byte[suffixes.size() * SUFFIX_SIZE];
+		for (int position = 0; position < suffixes.size(); position++) {
+			System.arraycopy(suffixes.get(position), 0, packedSuffixes, position * SUFFIX_SIZE, SUFFIX_SIZE);
+		}
+		return packedSuffixes;
+	}
+
+	private boolean contains(final byte[] packedSuffixes, final byte[] suffix) {
+		var low = 0;
+		var high = packedSuffixes.length / SUFFIX_SIZE - 1;
+		while (low <= high) {
+			final var middle = (low + high) >>> 1;
+			final var offset = middle * SUFFIX_SIZE;
+			final var comparison = Arrays.compareUnsigned(packedSuffixes, offset, offset + SUFFIX_SIZE, suffix, 0, SUFFIX_SIZE);
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Converts the 35 character hexadecimal suffix into {@value #SUFFIX_SIZE}
+	 * bytes, left padded with a zero nibble.
+	 */
+	private byte[] toSuffix(final String hexSuffix) {
+		return HexFormat.of().parseHex("0" + hexSuffix);
+	}
+
+	@SneakyThrows
+	private String sha1Hex(final String password) {
+		final var digest = MessageDigest.getInstance("SHA-1").digest(password.getBytes(StandardCharsets.UTF_8));
+		return HexFormat.of().withUpperCase().formatHex(digest);
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.behl.cerberus.utility;
+
+import java.util.UUID;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import lombok.NonNull;
+
+/**
+ * Utility class performing a password verification against a dummy hash, for
+ * requests referencing an email-id which is not registered. This keeps the
+ * response time of such requests indistinguishable from those made with a
+ * registered email-id and an incorrect password, preventing registered
+ * email-ids from being enumerated through timing.
+ */
+@Component
+public class DummyPasswordVerifier {
+
+	private final PasswordEncoder passwordEncoder;
+	private final String dummyEncodedPassword;
+
+	public DummyPasswordVerifier(@NonNull final PasswordEncoder passwordEncoder) {
+		this.passwordEncoder = passwordEncoder;
+		this.dummyEncodedPassword = passwordEncoder.encode(UUID.randomUUID().toString());
+	}
+
+	/**
+	 * Verifies the provided password against the dummy hash, taking the same time
+	 * as verifying against a hash of a registered user. The outcome is discarded.
+	 */
+	public void verify(@NonNull final String plainTextPassword) {
+		passwordEncoder.matches(plainTextPassword, dummyEncodedPassword);
+	}
+
+}
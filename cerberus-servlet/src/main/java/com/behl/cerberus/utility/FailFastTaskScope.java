@@ -0,0 +1,113 @@
+package com.behl.cerberus.utility;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+
+/**
+ * Scope for running independent subtasks of a request concurrently, each on its
+ * own virtual thread, following the semantics of
+ * <code>StructuredTaskScope.ShutdownOnFailure</code> which remains a preview
+ * API in Java 21. Subtasks are forked within a try-with-resources block and
+ * joined against a deadline. The first subtask to fail, or the deadline
+ * elapsing, cancels all remaining subtasks. Closing the scope cancels and waits
+ * for any subtask still running, ensuring no subtask outlives the scope.
+ *
+ * <pre>
+ * try (final var scope = new FailFastTaskScope()) {
+ *     final var user = scope.fork(() -&gt; userRepository.findByEmailId(emailId));
+ *     final var decision = scope.fork(() -&gt; compromisedPasswordChecker.check(password));
+ *     scope.join(deadline);
+ *     // user.get() and decision.get() hold the results
+ * }
+ * </pre>
+ *
+ * Instances are intended to be used by a single owner thread and are not
+ * reusable.
+ */
+public class FailFastTaskScope implements AutoCloseable {
+
+	private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+	private final List<CompletableFuture<?>> subtasks = new ArrayList<>();
+	private final CompletableFuture<Void> failure = new CompletableFuture<>();
+
+	/**
+	 * Starts the provided task on a new virtual thread.
+	 *
+	 * @param task The subtask to execute.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 * @return Supplier of the result of the subtask, to be invoked after
+	 *         {@link #join(Instant)} returns successfully.
+	 */
+	public <T> Supplier<T> fork(@NonNull final Callable<T> task) {
+		final var subtask = new CompletableFuture<T>();
+		subtasks.add(subtask);
+		executorService.execute(() -> {
+			try {
+				subtask.complete(task.call());
+			} catch (final Throwable exception) {
+				subtask.completeExceptionally(exception);
+				failure.completeExceptionally(exception);
+			}
+		});
+		return () -> {
+			if (!subtask.isDone() || subtask.isCompletedExceptionally()) {
+				throw new IllegalStateException("Subtask has not completed successfully");
+			}
+			return subtask.join();
+		};
+	}
+
+	/**
+	 * Waits for all forked subtasks to complete, or for the first of them to fail,
+	 * whichever happens first. In case of failure or the deadline elapsing, all
+	 * subtasks still running are cancelled.
+	 *
+	 * @param deadline The instant by which all subtasks must complete.
+	 * @throws TimeoutException     if the deadline elapses before all subtasks complete.
+	 * @throws InterruptedException if the owner thread is interrupted while waiting.
+	 * @throws RuntimeException     the exception thrown by the first failed subtask,
+	 *                              wrapped in {@link IllegalStateException} if checked.
+	 */
+	public void join(@NonNull final Instant deadline) throws TimeoutException, InterruptedException {
+		final var completion = CompletableFuture.allOf(subtasks.toArray(CompletableFuture[]::new));
+		final var remaining = Duration.between(Instant.now(), deadline);
+		try {
+			CompletableFuture.anyOf(completion, failure).get(Math.max(remaining.toNanos(), 0), TimeUnit.NANOSECONDS);
+		} catch (final ExecutionException exception) {
+			executorService.shutdownNow();
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (exception.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(exception.getCause());
+		} catch (final TimeoutException | InterruptedException exception) {
+			executorService.shutdownNow();
+			throw exception;
+		}
+	}
+
+	/**
+	 * Cancels any subtask still running and waits for all subtask threads to
+	 * terminate.
+	 */
+	@Override
+	public void close() {
+		executorService.shutdownNow();
+		executorService.close();
+	}
+
+}
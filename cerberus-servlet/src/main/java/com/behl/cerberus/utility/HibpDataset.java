@@ -0,0 +1,165 @@
+package com.behl.cerberus.utility;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only, memory-mapped view of a compromised password dataset created by
+ * {@link HibpDatasetBuilder}. The dataset file has the below fixed-width binary
+ * layout, with all numbers in big-endian byte order:
+ * <ul>
+ *   <li><b>Header</b>: magic number (4 bytes), format version (4 bytes) and record count (8 bytes).</li>
+ *   <li><b>Index</b>: {@value #INDEX_ENTRIES} record positions (8 bytes each), where the entry at
+ *       position <code>p</code> is the position of the first record whose SHA-1 hash starts with the
+ *       2 byte prefix <code>p</code>, and the last entry equals the record count.</li>
+ *   <li><b>Records</b>: the remaining {@value #RECORD_SIZE} bytes (suffix) of each SHA-1 hash, sorted
+ *       in ascending unsigned order.</li>
+ * </ul>
+ *
+ * Membership of a hash is determined by a binary search over the records
+ * sharing its prefix, which spans a few thousand records in the complete HIBP
+ * dataset, resulting in a handful of page reads served from the OS page cache.
+ *
+ * @see com.behl.cerberus.utility.OfflineCompromisedPasswordChecker
+ */
+final class HibpDataset {
+
+	static final int MAGIC_NUMBER = 0x48494250;
+	static final int FORMAT_VERSION = 1;
+	static final int HASH_SIZE = 20;
+	static final int PREFIX_SIZE = 2;
+	static final int RECORD_SIZE = HASH_SIZE - PREFIX_SIZE;
+	static final int INDEX_ENTRIES = (1 << (PREFIX_SIZE * Byte.SIZE)) + 1;
+	static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
+	static final long RECORDS_OFFSET = HEADER_SIZE + (long) INDEX_ENTRIES * Long.BYTES;
+
+	private static final int RECORDS_PER_SEGMENT = Integer.MAX_VALUE / RECORD_SIZE;
+
+	private final long[] index;
+	private final long recordCount;
+	private final MappedByteBuffer[] segments;
+
+	private HibpDataset(final long[] index, final long recordCount, final MappedByteBuffer[] segments) {
+		this.index = index;
+		this.recordCount = recordCount;
+		this.segments = segments;
+	}
+
+	/**
+	 * Memory maps the dataset at the provided path. Since a single mapping is
+	 * limited to 2GB, the records are mapped in multiple segments each holding a
+	 * whole number of records. Mappings remain valid after the file is replaced
+	 * on disk, until the returned instance is garbage collected.
+	 *
+	 * @throws IOException if the file can not be read or is not a valid dataset.
+	 */
+	static HibpDataset load(final Path path) throws IOException {
+		try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			final var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, RECORDS_OFFSET);
+			if (header.getInt() != MAGIC_NUMBER || header.getInt() != FORMAT_VERSION) {
+				throw new IOException("Unrecognized compromised password dataset format: " + path);
+			}
+
+			final var recordCount = header.getLong();
+			final var index = new long[INDEX_ENTRIES];
+			header.asLongBuffer().get(index);
+			if (channel.size() != RECORDS_OFFSET + recordCount * RECORD_SIZE || index[INDEX_ENTRIES - 1] != recordCount) {
+				throw new IOException("Compromised password dataset is truncated or corrupt: " + path);
+			}
+
+			final var segmentCount = (int) ((recordCount + RECORDS_PER_SEGMENT - 1) / RECORDS_PER_SEGMENT);
+			final var segments = new MappedByteBuffer[segmentCount];
+			for (int segment = 0; segment < segmentCount; segment++) {
+				final var firstRecord = (long) segment * RECORDS_PER_SEGMENT;
+				final var records = Math.min(RECORDS_PER_SEGMENT, recordCount - firstRecord);
+				segments[segment] = channel.map(FileChannel.MapMode.READ_ONLY, RECORDS_OFFSET + firstRecord * RECORD_SIZE, records * RECORD_SIZE);
+			}
+			return new HibpDataset(index, recordCount, segments);
+		}
+	}
+
+	long size() {
+		return recordCount;
+	}
+
+	/**
+	 * @param hash SHA-1 hash of size {@value #HASH_SIZE} bytes to look up.
+	 * @return <code>true</code> if the hash is present in the dataset.
+	 */
+	boolean contains(final byte[] hash) {
+		final var prefix = prefixOf(hash);
+		final var suffix = Arrays.copyOfRange(hash, PREFIX_SIZE, HASH_SIZE);
+		final var record = new byte[RECORD_SIZE];
+
+		var low = index[prefix];
+		var high = index[prefix + 1] - 1;
+		while (low <= high) {
+			final var middle = (low + high) >>> 1;
+			read(middle, record);
+			final var comparison = Arrays.compareUnsigned(record, suffix);
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return iterator over the complete hashes held in the dataset, in ascending
+	 *         unsigned order.
+	 */
+	Iterator<byte[]> iterator() {
+		return new Iterator<>() {
+
+			private int prefix = 0;
+			private long position = 0;
+
+			@Override
+			public boolean hasNext() {
+				return position < recordCount;
+			}
+
+			@Override
+			public byte[] next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				while (index[prefix + 1] <= position) {
+					prefix++;
+				}
+				final var hash = new byte[HASH_SIZE];
+				hash[0] = (byte) (prefix >>> Byte.SIZE);
+				hash[1] = (byte) prefix;
+				read(position++, hash, PREFIX_SIZE);
+				return hash;
+			}
+
+		};
+	}
+
+	static int prefixOf(final byte[] hash) {
+		return ((hash[0] & 0xFF) << Byte.SIZE) | (hash[1] & 0xFF);
+	}
+
+	private void read(final long position, final byte[] destination) {
+		read(position, destination, 0);
+	}
+
+	private void read(final long position, final byte[] destination, final int offset) {
+		final ByteBuffer segment = segments[(int) (position / RECORDS_PER_SEGMENT)];
+		final var segmentOffset = (int) (position % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+		segment.get(segmentOffset, destination, offset, RECORD_SIZE);
+	}
+
+}
@@ -0,0 +1,196 @@
+package com.behl.cerberus.utility;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Command line tool converting the public Have I Been Pwned SHA-1 password
+ * dump into the binary dataset format read by {@link HibpDataset}. The source
+ * dump is expected to be the version ordered by hash, containing one
+ * <code>HASH:COUNT</code> entry per line.
+ *
+ * For incremental refresh, an existing dataset can be provided as base, in
+ * which case the hashes in the source are merged with the hashes in the base
+ * dataset. This allows a partial dump (e.g. recently refreshed hash ranges) to
+ * be applied without processing the complete dump again.
+ *
+ * The dataset is written to a temporary file and atomically moved to the target
+ * path, allowing a running application to pick up the refreshed dataset.
+ *
+ * <pre>
+ * java -cp cerberus.jar -Dloader.main=com.behl.cerberus.utility.HibpDatasetBuilder \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher \
+ *     pwned-passwords-sha1-ordered-by-hash.txt hibp-sha1.bin [existing-hibp-sha1.bin]
+ * </pre>
+ *
+ * @see com.behl.cerberus.utility.OfflineCompromisedPasswordChecker
+ */
+@Slf4j
+public final class HibpDatasetBuilder {
+
+	private static final int HASH_HEX_LENGTH = HibpDataset.HASH_SIZE * 2;
+	private static final int BUFFER_SIZE = 1 << 20;
+
+	private HibpDatasetBuilder() {
+	}
+
+	public static void main(final String[] args) throws IOException {
+		if (args.length < 2 || args.length > 3) {
+			System.err.println("Usage: HibpDatasetBuilder <source-dump> <target-dataset> [base-dataset]");
+			System.exit(1);
+		}
+		final var base = args.length == 3 ? Path.of(args[2]) : null;
+		build(Path.of(args[0]), Path.of(args[1]), base);
+	}
+
+	/**
+	 * Builds a dataset at the target path from the provided source dump, merged
+	 * with the hashes of the base dataset if provided.
+	 *
+	 * @param source Path of the source dump ordered by hash.
+	 * @param target Path to write the dataset to, replaced if already existing.
+	 * @param base   Path of an existing dataset to merge with, or <code>null</code>.
+	 * @throws IOException              if the files can not be read or written.
+	 * @throws IllegalArgumentException if the source dump is malformed or not ordered by hash.
+	 * @return The number of hashes in the built dataset.
+	 */
+	public static long build(@NonNull final Path source, @NonNull final Path target, final Path base) throws IOException {
+		final var directory = target.toAbsolutePath().getParent();
+		final var recordsFile = Files.createTempFile(directory, "hibp-records", ".tmp");
+		final var datasetFile = Files.createTempFile(directory, "hibp-dataset", ".tmp");
+		try (final var lines = Files.lines(source, StandardCharsets.US_ASCII)) {
+			final var baseHashes = base != null ? HibpDataset.load(base).iterator() : Collections.<byte[]>emptyIterator();
+			final var sourceHashes = new SortedHashIterator(lines.filter(line -> !line.isBlank()).iterator());
+
+			final var index = new long[HibpDataset.INDEX_ENTRIES];
+			final var recordCount = writeRecords(merge(sourceHashes, baseHashes), recordsFile, index);
+			writeDataset(recordsFile, datasetFile, index, recordCount);
+
+			Files.move(datasetFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			log.info("Built compromised password dataset '{}' with {} hashes", target, recordCount);
+			return recordCount;
+		} finally {
+			Files.deleteIfExists(recordsFile);
+			Files.deleteIfExists(datasetFile);
+		}
+	}
+
+	private static long writeRecords(final Iterator<byte[]> hashes, final Path recordsFile, final long[] index) throws IOException {
+		final var recordsPerPrefix = new long[HibpDataset.INDEX_ENTRIES - 1];
+		var recordCount = 0L;
+		try (final var outputStream = new BufferedOutputStream(Files.newOutputStream(recordsFile), BUFFER_SIZE)) {
+			while (hashes.hasNext()) {
+				final var hash = hashes.next();
+				outputStream.write(hash, HibpDataset.PREFIX_SIZE, HibpDataset.RECORD_SIZE);
+				recordsPerPrefix[HibpDataset.prefixOf(hash)]++;
+				recordCount++;
+			}
+		}
+
+		for (int prefix = 0; prefix < recordsPerPrefix.length; prefix++) {
+			index[prefix + 1] = index[prefix] + recordsPerPrefix[prefix];
+		}
+		return recordCount;
+	}
+
+	private static void writeDataset(final Path recordsFile, final Path datasetFile, final long[] index, final long recordCount) throws IOException {
+		try (final var outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(datasetFile), BUFFER_SIZE))) {
+			outputStream.writeInt(HibpDataset.MAGIC_NUMBER);
+			outputStream.writeInt(HibpDataset.FORMAT_VERSION);
+			outputStream.writeLong(recordCount);
+			for (final var position : index) {
+				outputStream.writeLong(position);
+			}
+			Files.copy(recordsFile, outputStream);
+		}
+	}
+
+	/**
+	 * Merges two iterators of hashes in ascending unsigned order into one,
+	 * omitting duplicates.
+	 */
+	private static Iterator<byte[]> merge(final Iterator<byte[]> first, final Iterator<byte[]> second) {
+		return new Iterator<>() {
+
+			private byte[] nextFirst = advance(first);
+			private byte[] nextSecond = advance(second);
+
+			@Override
+			public boolean hasNext() {
+				return nextFirst != null || nextSecond != null;
+			}
+
+			@Override
+			public byte[] next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				final var comparison = nextFirst == null ? 1 : nextSecond == null ? -1 : Arrays.compareUnsigned(nextFirst, nextSecond);
+				final var result = comparison <= 0 ? nextFirst : nextSecond;
+				if (comparison <= 0) {
+					nextFirst = advance(first);
+				}
+				if (comparison >= 0) {
+					nextSecond = advance(second);
+				}
+				return result;
+			}
+
+			private byte[] advance(final Iterator<byte[]> iterator) {
+				return iterator.hasNext() ? iterator.next() : null;
+			}
+
+		};
+	}
+
+	/**
+	 * Parses lines of the source dump into hashes, ensuring they are in strictly
+	 * ascending order.
+	 */
+	private static class SortedHashIterator implements Iterator<byte[]> {
+
+		private final Iterator<String> lines;
+		private byte[] previousHash;
+		private long entryNumber;
+
+		SortedHashIterator(final Iterator<String> lines) {
+			this.lines = lines;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return lines.hasNext();
+		}
+
+		@Override
+		public byte[] next() {
+			final var line = lines.next().strip();
+			entryNumber++;
+			if (line.length() < HASH_HEX_LENGTH) {
+				throw new IllegalArgumentException("Malformed entry " + entryNumber + " in source dump");
+			}
+
+			final var hash = HexFormat.of().parseHex(line, 0, HASH_HEX_LENGTH);
+			if (previousHash != null && Arrays.compareUnsigned(previousHash, hash) >= 0) {
+				throw new IllegalArgumentException("Source dump is not ordered by hash at entry " + entryNumber);
+			}
+			previousHash = hash;
+			return hash;
+		}
+
+	}
+
+}
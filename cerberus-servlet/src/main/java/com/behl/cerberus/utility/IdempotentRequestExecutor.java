@@ -0,0 +1,226 @@
+package com.behl.cerberus.utility;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.behl.cerberus.configuration.IdempotencyConfigurationProperties;
+import com.behl.cerberus.exception.IdempotencyKeyReusedException;
+import com.behl.cerberus.exception.IdempotentRequestInProgressException;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executes requests carrying an <code>Idempotency-Key</code> header at most
+ * once per key, allowing clients to safely retry requests whose outcome is
+ * unknown.
+ *
+ * The first request claims the key by atomically saving an in-flight record in
+ * the provisioned redis cache, and replaces it with its outcome once complete.
+ * The claim expires after <code>in-flight-timeout</code>, and is renewed at a
+ * third of that interval for as long as the request executes, so that a slow
+ * request is never executed again by a duplicate, while a claim held by a
+ * terminated instance is still released.
+ * Subsequent requests carrying the same key are answered with the recorded
+ * outcome, without executing again. Duplicate requests arriving while the
+ * first is in-flight wait for its outcome, sharing it directly if received by
+ * the same instance, or polling the cache otherwise.
+ *
+ * Successful outcomes and client errors are recorded and replayed, the latter
+ * through a {@link ResponseStatusException} of the recorded status and reason.
+ * Should the request fail otherwise, the key is released so that a retry
+ * executes afresh. A key reused with a request of different content is
+ * rejected. Failure to record the outcome is logged rather than surfaced, as
+ * the request has already been applied and reporting a failure would only
+ * prompt the client to retry it.
+ *
+ * @see com.behl.cerberus.configuration.IdempotencyConfigurationProperties
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(IdempotencyConfigurationProperties.class)
+public class IdempotentRequestExecutor implements DisposableBean {
+
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	private static final String IDEMPOTENCY_KEY_PREFIX = "idempotency_key:";
+	private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+	private final CacheManager cacheManager;
+	private final IdempotencyConfigurationProperties idempotencyConfigurationProperties;
+	private final RequestCoalescer<List<String>, IdempotencyRecord> requestCoalescer = new RequestCoalescer<>();
+	private final ScheduledExecutorService claimRenewalScheduler = Executors
+			.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("idempotency-claim-renewal").factory());
+
+	/**
+	 * Executes the provided request, unless a request carrying the same
+	 * idempotency key has already been executed in which case its outcome is
+	 * replayed instead.
+	 *
+	 * @param scope          Identifies the owner of the idempotency key, so that keys chosen by different clients do not collide.
+	 * @param idempotencyKey The idempotency key provided by the client.
+	 * @param fingerprint    Identifies the content of the request.
+	 * @param request        The request to execute.
+	 * @throws IllegalArgumentException             if any provided argument is <code>null</code>.
+	 * @throws IdempotencyKeyReusedException        if the key was used for a request with a different fingerprint.
+	 * @throws IdempotentRequestInProgressException if the request carrying the same key did not complete in time.
+	 * @throws ResponseStatusException              replaying the client error the request carrying the same key failed with.
+	 */
+	public void execute(@NonNull final String scope, @NonNull final String idempotencyKey, @NonNull final String fingerprint,
+			@NonNull final Runnable request) {
+		final var cacheKey = IDEMPOTENCY_KEY_PREFIX + scope + ":" + idempotencyKey;
+		final var outcome = requestCoalescer.execute(List.of(cacheKey, fingerprint), () -> resolve(cacheKey, fingerprint, request));
+
+		if (!outcome.fingerprint().equals(fingerprint)) {
+			throw new IdempotencyKeyReusedException();
+		}
+		if (outcome.status() != HttpStatus.OK.value()) {
+			throw new ResponseStatusException(HttpStatusCode.valueOf(outcome.status()), outcome.description());
+		}
+	}
+
+	private IdempotencyRecord resolve(final String cacheKey, final String fingerprint, final Runnable request) {
+		final var inFlightRecord = new IdempotencyRecord(fingerprint, null, null);
+		final var claimed = cacheManager.saveIfAbsent(cacheKey, inFlightRecord, idempotencyConfigurationProperties.getInFlightTimeout());
+		if (!claimed) {
+			return awaitOutcome(cacheKey, fingerprint, request);
+		}
+
+		try (final var claimRenewal = new ClaimRenewal(cacheKey)) {
+			request.run();
+		} catch (final ResponseStatusException exception) {
+			if (exception.getStatusCode().is4xxClientError()) {
+				record(cacheKey, new IdempotencyRecord(fingerprint, exception.getStatusCode().value(), exception.getReason()));
+			} else {
+				release(cacheKey);
+			}
+			throw exception;
+		} catch (final RuntimeException exception) {
+			release(cacheKey);
+			throw exception;
+		}
+
+		final var outcome = new IdempotencyRecord(fingerprint, HttpStatus.OK.value(), null);
+		record(cacheKey, outcome);
+		return outcome;
+	}
+
+	/**
+	 * Should the outcome not be recorded, the in-flight claim expires after
+	 * <code>in-flight-timeout</code>, until when duplicates are rejected as in
+	 * progress.
+	 */
+	private void record(final String cacheKey, final IdempotencyRecord outcome) {
+		try {
+			cacheManager.save(cacheKey, outcome, idempotencyConfigurationProperties.getTimeToLive());
+		} catch (final DataAccessException exception) {
+			log.error("Unable to record outcome against idempotency key '{}'", cacheKey, exception);
+		}
+	}
+
+	private void release(final String cacheKey) {
+		try {
+			cacheManager.delete(cacheKey);
+		} catch (final DataAccessException exception) {
+			log.error("Unable to release idempotency key '{}', released once its claim expires", cacheKey, exception);
+		}
+	}
+
+	private IdempotencyRecord awaitOutcome(final String cacheKey, final String fingerprint, final Runnable request) {
+		final var deadline = System.nanoTime() + idempotencyConfigurationProperties.getInFlightTimeout().toNanos();
+		while (true) {
+			final var existingRecord = cacheManager.fetch(cacheKey, IdempotencyRecord.class);
+			if (existingRecord.isEmpty()) {
+				log.info("Idempotency key '{}' released before completion, executing request afresh", cacheKey);
+				return resolve(cacheKey, fingerprint, request);
+			}
+
+			final var idempotencyRecord = existingRecord.get();
+			if (idempotencyRecord.isComplete() || !idempotencyRecord.fingerprint().equals(fingerprint)) {
+				return idempotencyRecord;
+			}
+			if (System.nanoTime() - deadline > 0) {
+				throw new IdempotentRequestInProgressException();
+			}
+			LockSupport.parkNanos(POLL_INTERVAL.toNanos());
+		}
+	}
+
+	@Override
+	public void destroy() {
+		claimRenewalScheduler.shutdownNow();
+	}
+
+	/**
+	 * Periodically renews the in-flight claim of an idempotency key until closed.
+	 * Closing waits for a renewal in progress, ensuring no renewal overwrites the
+	 * time to live of the outcome recorded afterwards.
+	 */
+	private final class ClaimRenewal implements Runnable, AutoCloseable {
+
+		private final String cacheKey;
+		private final ReentrantLock lock = new ReentrantLock();
+		private final ScheduledFuture<?> renewal;
+		private boolean closed;
+
+		private ClaimRenewal(final String cacheKey) {
+			this.cacheKey = cacheKey;
+			final var renewalInterval = idempotencyConfigurationProperties.getInFlightTimeout().dividedBy(3).toNanos();
+			this.renewal = claimRenewalScheduler.scheduleAtFixedRate(this, renewalInterval, renewalInterval, TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public void run() {
+			lock.lock();
+			try {
+				if (!closed && !cacheManager.renew(cacheKey, idempotencyConfigurationProperties.getInFlightTimeout())) {
+					log.warn("Claim of idempotency key '{}' expired before renewal", cacheKey);
+				}
+			} catch (final DataAccessException exception) {
+				log.error("Unable to renew claim of idempotency key '{}'", cacheKey, exception);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public void close() {
+			renewal.cancel(false);
+			lock.lock();
+			try {
+				closed = true;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+	}
+
+	/**
+	 * Record saved against a claimed idempotency key. Holds no status while the
+	 * request is in-flight.
+	 */
+	record IdempotencyRecord(String fingerprint, Integer status, String description) {
+
+		boolean isComplete() {
+			return status != null;
+		}
+
+	}
+
+}
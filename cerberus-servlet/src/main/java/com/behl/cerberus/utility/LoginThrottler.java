@@ -0,0 +1,266 @@
+package com.behl.cerberus.utility;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.behl.cerberus.configuration.LoginThrottlingConfigurationProperties;
+import com.behl.cerberus.exception.LoginThrottledException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Utility class responsible for admission control of login attempts, to be
+ * invoked before any password hashing is performed. Two independent limits are
+ * enforced over a sliding window:
+ * <ul>
+ *   <li>Admitted attempts per client IP address, rejected with
+ *       {@link LoginThrottledException} once exceeded. Rejected attempts are
+ *       not counted, hence a client is admitted again once its earlier
+ *       attempts leave the window.</li>
+ *   <li>Failed attempts per email-id, beyond which every failure defers the
+ *       next attempt against the email-id from the failing client by a delay
+ *       growing with the failed attempts of the email-id from all clients.
+ *       Attempts made before it elapses are rejected with
+ *       {@link LoginThrottledException} carrying the remaining delay, rather
+ *       than held on the request thread. A distributed attack against an
+ *       email-id hence slows down on every attacking client, while clients with
+ *       no failed attempts of their own, such as the legitimate user's, are
+ *       never deferred. A successful login clears the failed attempts of the
+ *       email-id.</li>
+ * </ul>
+ * 
+ * The client IP address is the remote address of the request, resolved from
+ * the <code>X-Forwarded-For</code> header when the request is forwarded by a
+ * trusted proxy, as configured through <code>server.forward-headers-strategy</code>
+ * and <code>server.tomcat.remoteip.internal-proxies</code>.
+ * 
+ * Counters are held in memory and, if configured, additionally synced to redis
+ * to enforce the limits across application nodes. Throttled attempts and
+ * imposed delays are exposed as metrics.
+ * 
+ * @see com.behl.cerberus.configuration.LoginThrottlingConfigurationProperties
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(LoginThrottlingConfigurationProperties.class)
+public class LoginThrottler {
+
+	private static final String CLIENT_KEY_PREFIX = "login_attempts:client:";
+	private static final String EMAIL_KEY_PREFIX = "login_attempts:email:";
+	private static final String RETRY_NOT_BEFORE_KEY_PREFIX = "login_attempts:email_client_retry_not_before:";
+
+	private final HttpServletRequest httpServletRequest;
+	private final StringRedisTemplate redisTemplate;
+	private final LoginThrottlingConfigurationProperties loginThrottlingConfigurationProperties;
+	private final SlidingWindowCounter clientAttempts;
+	private final SlidingWindowCounter failedEmailAttempts;
+	private final RedisSlidingWindowCounter distributedClientAttempts;
+	private final RedisSlidingWindowCounter distributedFailedEmailAttempts;
+	private final Map<String, Instant> retryNotBefore = new ConcurrentHashMap<>();
+	private final Counter rejectedAttemptsCounter;
+	private final Counter delayedAttemptsCounter;
+	private final Timer delayTimer;
+
+	public LoginThrottler(@NonNull final HttpServletRequest httpServletRequest, @NonNull final StringRedisTemplate redisTemplate,
+			@NonNull final MeterRegistry meterRegistry, @NonNull final LoginThrottlingConfigurationProperties loginThrottlingConfigurationProperties) {
+		final var window = loginThrottlingConfigurationProperties.getWindow();
+		this.httpServletRequest = httpServletRequest;
+		this.redisTemplate = redisTemplate;
+		this.loginThrottlingConfigurationProperties = loginThrottlingConfigurationProperties;
+		this.clientAttempts = new SlidingWindowCounter(window);
+		this.failedEmailAttempts = new SlidingWindowCounter(window);
+		this.distributedClientAttempts = loginThrottlingConfigurationProperties.isDistributed()
+				? new RedisSlidingWindowCounter(redisTemplate, CLIENT_KEY_PREFIX, window) : null;
+		this.distributedFailedEmailAttempts = loginThrottlingConfigurationProperties.isDistributed()
+				? new RedisSlidingWindowCounter(redisTemplate, EMAIL_KEY_PREFIX, window) : null;
+
+		this.rejectedAttemptsCounter = Counter.builder("login.throttled")
+				.description("Number of login attempts throttled")
+				.tag("limit", "client")
+				.register(meterRegistry);
+		this.delayedAttemptsCounter = Counter.builder("login.throttled")
+				.description("Number of login attempts throttled")
+				.tag("limit", "email")
+				.register(meterRegistry);
+		this.delayTimer = Timer.builder("login.throttling.delay")
+				.description("Delay imposed on login attempts against email-ids with recent failed attempts")
+				.register(meterRegistry);
+		Gauge.builder("login.throttling.tracked", clientAttempts, SlidingWindowCounter::size)
+				.description("Number of keys with login attempts tracked in memory")
+				.tag("limit", "client")
+				.register(meterRegistry);
+		Gauge.builder("login.throttling.tracked", failedEmailAttempts, SlidingWindowCounter::size)
+				.description("Number of keys with login attempts tracked in memory")
+				.tag("limit", "email")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Admits a login attempt against the provided email-id from the client of the
+	 * current HTTP request.
+	 *
+	 * @param emailId The email-id the login is attempted against.
+	 * @throws LoginThrottledException if the client has exceeded its attempts,
+	 *         or the delay imposed on the client's attempts against the email-id
+	 *         has not yet elapsed.
+	 */
+	public void admit(@NonNull final String emailId) {
+		final var clientAddress = httpServletRequest.getRemoteAddr();
+		if (estimate(clientAttempts, distributedClientAttempts, clientAddress) >= loginThrottlingConfigurationProperties.getMaxAttemptsPerClient()) {
+			rejectedAttemptsCounter.increment();
+			log.warn("Rejected login attempt from client '{}' exceeding allowed attempts", clientAddress);
+			throw new LoginThrottledException(loginThrottlingConfigurationProperties.getWindow());
+		}
+
+		final var remainingDelay = getRemainingDelay(getRetryKey(normalize(emailId), clientAddress));
+		if (remainingDelay.isPositive()) {
+			delayedAttemptsCounter.increment();
+			log.warn("Rejected login attempt from client '{}' against email-id with recent failed attempts, retry permitted after {}",
+					clientAddress, remainingDelay);
+			throw new LoginThrottledException(remainingDelay);
+		}
+		increment(clientAttempts, distributedClientAttempts, clientAddress);
+	}
+
+	/**
+	 * Records a failed login attempt against the provided email-id from the
+	 * client of the current HTTP request, deferring the client's next attempt
+	 * against it once the free failed attempts of the email-id are exceeded.
+	 */
+	public void recordFailure(@NonNull final String emailId) {
+		final var key = normalize(emailId);
+		final var failedAttempts = increment(failedEmailAttempts, distributedFailedEmailAttempts, key);
+		final var delay = getDelay(failedAttempts);
+		if (delay.isZero()) {
+			return;
+		}
+
+		delayTimer.record(delay);
+		final var retryKey = getRetryKey(key, httpServletRequest.getRemoteAddr());
+		final var notBefore = Instant.now().plus(delay);
+		retryNotBefore.merge(retryKey, notBefore, (current, updated) -> current.isAfter(updated) ? current : updated);
+		if (distributedFailedEmailAttempts != null) {
+			try {
+				redisTemplate.opsForValue().set(RETRY_NOT_BEFORE_KEY_PREFIX + retryKey, String.valueOf(notBefore.toEpochMilli()), delay);
+			} catch (final DataAccessException exception) {
+				log.warn("Unable to sync login attempt delay, enforcing in-memory delay", exception);
+			}
+		}
+	}
+
+	/**
+	 * Clears failed login attempts recorded against the provided email-id, along
+	 * with the delay imposed on the client of the current HTTP request.
+	 */
+	public void recordSuccess(@NonNull final String emailId) {
+		final var key = normalize(emailId);
+		final var retryKey = getRetryKey(key, httpServletRequest.getRemoteAddr());
+		failedEmailAttempts.reset(key);
+		retryNotBefore.remove(retryKey);
+		if (distributedFailedEmailAttempts != null) {
+			try {
+				distributedFailedEmailAttempts.reset(key);
+				redisTemplate.delete(RETRY_NOT_BEFORE_KEY_PREFIX + retryKey);
+			} catch (final DataAccessException exception) {
+				log.warn("Unable to clear distributed failed login attempts", exception);
+			}
+		}
+	}
+
+	/**
+	 * Discards in-memory counters of clients and email-ids with no attempts
+	 * within the window, along with elapsed delays.
+	 */
+	@Scheduled(fixedDelayString = "${com.behl.cerberus.login-throttling.window:PT1M}")
+	public void evictExpired() {
+		clientAttempts.evictExpired();
+		failedEmailAttempts.evictExpired();
+		final var now = Instant.now();
+		retryNotBefore.values().removeIf(notBefore -> !notBefore.isAfter(now));
+	}
+
+	/**
+	 * Computes the delay imposed after a failed attempt against an email-id,
+	 * doubling with every failed attempt beyond the free attempts and bound by
+	 * the configured maximum.
+	 */
+	Duration getDelay(final double failedAttempts) {
+		final var excessAttempts = (long) failedAttempts - loginThrottlingConfigurationProperties.getFreeAttemptsPerEmail();
+		if (excessAttempts < 0) {
+			return Duration.ZERO;
+		}
+		final var maxDelay = loginThrottlingConfigurationProperties.getMaxDelay();
+		final var delay = loginThrottlingConfigurationProperties.getBaseDelay().multipliedBy(1L << Math.min(excessAttempts, 30));
+		return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+	}
+
+	private double increment(final SlidingWindowCounter counter, final RedisSlidingWindowCounter distributedCounter, final String key) {
+		final var count = counter.increment(key);
+		if (distributedCounter == null) {
+			return count;
+		}
+		try {
+			return Math.max(count, distributedCounter.increment(key));
+		} catch (final DataAccessException exception) {
+			log.warn("Unable to sync login attempts, enforcing in-memory count", exception);
+			return count;
+		}
+	}
+
+	private double estimate(final SlidingWindowCounter counter, final RedisSlidingWindowCounter distributedCounter, final String key) {
+		final var count = counter.estimate(key);
+		if (distributedCounter == null) {
+			return count;
+		}
+		try {
+			return Math.max(count, distributedCounter.estimate(key));
+		} catch (final DataAccessException exception) {
+			log.warn("Unable to sync login attempts, enforcing in-memory count", exception);
+			return count;
+		}
+	}
+
+	/**
+	 * Returns the time remaining before an attempt from a client against an
+	 * email-id is permitted, the later of the in-memory and distributed delays.
+	 */
+	private Duration getRemainingDelay(final String key) {
+		var notBefore = retryNotBefore.get(key);
+		if (distributedFailedEmailAttempts != null) {
+			try {
+				final var distributedNotBefore = redisTemplate.opsForValue().get(RETRY_NOT_BEFORE_KEY_PREFIX + key);
+				if (distributedNotBefore != null) {
+					final var instant = Instant.ofEpochMilli(Long.parseLong(distributedNotBefore));
+					notBefore = notBefore == null || instant.isAfter(notBefore) ? instant : notBefore;
+				}
+			} catch (final DataAccessException exception) {
+				log.warn("Unable to sync login attempt delay, enforcing in-memory delay", exception);
+			}
+		}
+		return notBefore == null ? Duration.ZERO : Duration.between(Instant.now(), notBefore);
+	}
+
+	private String getRetryKey(final String normalizedEmailId, final String clientAddress) {
+		return normalizedEmailId + "|" + clientAddress;
+	}
+
+	private String normalize(final String emailId) {
+		return emailId.strip().toLowerCase(Locale.ROOT);
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.behl.cerberus.utility;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link CompromisedPasswordChecker} implementation evaluating passwords
+ * against a local copy of the Have I Been Pwned dataset, instead of calling the
+ * remote API on every check. The dataset, built using
+ * {@link HibpDatasetBuilder}, is memory-mapped and the SHA-1 hash of the
+ * password is looked up through a binary search, avoiding any network call.
+ *
+ * The dataset file is periodically checked for modification and reloaded, to
+ * pick up refreshed datasets without restarting the application. Loads are
+ * serialized through a {@link ReentrantLock} rather than a monitor, as file
+ * reads within a <code>synchronized</code> block pin virtual threads to their
+ * carrier.
+ *
+ * @see com.behl.cerberus.configuration.PasswordConfiguration
+ */
+@Slf4j
+public class OfflineCompromisedPasswordChecker implements CompromisedPasswordChecker {
+
+	private final Path datasetPath;
+	private final ReentrantLock loadLock = new ReentrantLock();
+	private volatile HibpDataset dataset;
+	private volatile FileTime loadedModificationTime;
+
+	/**
+	 * @param datasetPath Path of the dataset built using {@link HibpDatasetBuilder}.
+	 * @throws UncheckedIOException if the dataset can not be loaded.
+	 */
+	public OfflineCompromisedPasswordChecker(@NonNull final Path datasetPath) {
+		this.datasetPath = datasetPath;
+		try {
+			load();
+		} catch (final IOException exception) {
+			throw new UncheckedIOException("Unable to load compromised password dataset: " + datasetPath, exception);
+		}
+	}
+
+	@Override
+	public CompromisedPasswordDecision check(final String password) {
+		final var hash = sha1(password);
+		return new CompromisedPasswordDecision(dataset.contains(hash));
+	}
+
+	/**
+	 * Reloads the dataset if the file has been modified since it was last loaded.
+	 * In case of failure, the previously loaded dataset continues to be used.
+	 */
+	@Scheduled(fixedDelayString = "${com.behl.cerberus.password.compromised-check.reload-interval:PT1M}")
+	public void reloadIfModified() {
+		try {
+			if (!Files.getLastModifiedTime(datasetPath).equals(loadedModificationTime)) {
+				load();
+			}
+		} catch (final IOException exception) {
+			log.error("Unable to reload compromised password dataset '{}'", datasetPath, exception);
+		}
+	}
+
+	private void load() throws IOException {
+		loadLock.lock();
+		try {
+			final var modificationTime = Files.getLastModifiedTime(datasetPath);
+			dataset = HibpDataset.load(datasetPath);
+			loadedModificationTime = modificationTime;
+			log.info("Loaded compromised password dataset '{}' with {} hashes", datasetPath, dataset.size());
+		} finally {
+			loadLock.unlock();
+		}
+	}
+
+	@SneakyThrows
+	private byte[] sha1(final String password) {
+		final var messageDigest = MessageDigest.getInstance("SHA-1");
+		return messageDigest.digest(password.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,299 @@
+package com.behl.cerberus.utility;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.behl.cerberus.configuration.TransactionEngineConfigurationProperties;
+import com.behl.cerberus.dto.TransactionRequestDto;
+import com.behl.cerberus.entity.Currency;
+import com.behl.cerberus.entity.Transaction;
+import com.behl.cerberus.entity.TransactionType;
+import com.behl.cerberus.exception.DepositAccountNotFoundException;
+import com.behl.cerberus.exception.InsufficientBalanceException;
+import com.behl.cerberus.repository.DepositAccountRepository;
+import com.behl.cerberus.repository.TransactionRepository;
+import com.behl.cerberus.repository.TransactionRollupRepository;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Single-writer engine applying deposit account transactions, for accounts
+ * receiving enough concurrent traffic for row locks on the deposit account to
+ * serialize requests at the datasource.
+ *
+ * Deposit accounts are distributed across a fixed number of partitions by
+ * hashing the id of the owning user. Each partition holds a lock-free queue
+ * drained by a single worker thread, hence transactions against an account are
+ * applied in the order they were submitted. The worker drains up to
+ * <code>max-batch-size</code> queued transactions and applies them within a
+ * single datasource transaction, coalescing all balance changes to an account
+ * into a single update and inserting a ledger entry for each, along with a
+ * single upsert per affected daily rollup. The future
+ * returned to each caller is completed once the batch commits, or completed
+ * exceptionally with the reason its transaction was rejected.
+ *
+ * Workers claim each queued transaction through a compare-and-set before
+ * adding it to a batch. Transactions not claimed within
+ * <code>result-timeout</code> are abandoned, completing their future
+ * exceptionally with a {@link TimeoutException}, and are skipped by the worker
+ * rather than applied. A claimed transaction is never abandoned, and its caller
+ * waits for the outcome of the batch, hence a timeout always means the
+ * transaction was not applied and can safely be retried. Once the engine is shut
+ * down, every transaction not claimed is completed exceptionally.
+ *
+ * When disabled, no worker threads are started and transactions must be
+ * applied by the caller.
+ *
+ * @see com.behl.cerberus.configuration.TransactionEngineConfigurationProperties
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(TransactionEngineConfigurationProperties.class)
+public class PartitionedTransactionEngine implements DisposableBean {
+
+	private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+	private final DepositAccountRepository depositAccountRepository;
+	private final TransactionRepository transactionRepository;
+	private final TransactionRollupRepository transactionRollupRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int maxBatchSize;
+	private final Duration resultTimeout;
+	private final Partition[] partitions;
+
+	public PartitionedTransactionEngine(@NonNull final DepositAccountRepository depositAccountRepository,
+			@NonNull final TransactionRepository transactionRepository, @NonNull final TransactionRollupRepository transactionRollupRepository,
+			@NonNull final PlatformTransactionManager transactionManager,
+			@NonNull final TransactionEngineConfigurationProperties transactionEngineConfigurationProperties) {
+		this.depositAccountRepository = depositAccountRepository;
+		this.transactionRepository = transactionRepository;
+		this.transactionRollupRepository = transactionRollupRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.maxBatchSize = transactionEngineConfigurationProperties.getMaxBatchSize();
+		this.resultTimeout = transactionEngineConfigurationProperties.getResultTimeout();
+		this.partitions = transactionEngineConfigurationProperties.isEnabled()
+				? IntStream.range(0, transactionEngineConfigurationProperties.getPartitions()).mapToObj(Partition::new).toArray(Partition[]::new)
+				: new Partition[0];
+	}
+
+	public boolean isEnabled() {
+		return partitions.length > 0;
+	}
+
+	/**
+	 * Queues the provided transaction against the deposit account of the user.
+	 *
+	 * @param userId             The id of the user owning the deposit account.
+	 * @param transactionRequest The transaction to apply.
+	 * @return Future completed once the transaction is committed, or completed
+	 *         exceptionally with {@link DepositAccountNotFoundException} or
+	 *         {@link InsufficientBalanceException} if rejected, or with
+	 *         {@link TimeoutException} if not claimed by a worker within the
+	 *         configured result timeout, in which case it is never applied.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 * @throws IllegalStateException    if the engine is disabled.
+	 */
+	public CompletableFuture<Void> submit(@NonNull final UUID userId, @NonNull final TransactionRequestDto transactionRequest) {
+		if (!isEnabled()) {
+			throw new IllegalStateException("Transaction engine is disabled");
+		}
+
+		final var pendingTransaction = new PendingTransaction(userId, transactionRequest.getType(), transactionRequest.getCurrency(),
+				transactionRequest.getAmount(), new CompletableFuture<>(), new AtomicReference<>(State.QUEUED));
+		CompletableFuture.delayedExecutor(resultTimeout.toMillis(), TimeUnit.MILLISECONDS)
+			.execute(() -> pendingTransaction.abandon(new TimeoutException("Transaction was not applied within " + resultTimeout)));
+		partitions[Math.floorMod(userId.hashCode(), partitions.length)].enqueue(pendingTransaction);
+		return pendingTransaction.result();
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		for (final var partition : partitions) {
+			partition.stop();
+		}
+		for (final var partition : partitions) {
+			partition.awaitTermination();
+		}
+	}
+
+	private void apply(final List<PendingTransaction> batch) {
+		final var pendingTransactionsByUser = batch.stream()
+				.collect(Collectors.groupingBy(PendingTransaction::userId, LinkedHashMap::new, Collectors.toList()));
+
+		final Map<PendingTransaction, RuntimeException> rejections;
+		try {
+			rejections = transactionTemplate.execute(status -> {
+				final var rejectedTransactions = new IdentityHashMap<PendingTransaction, RuntimeException>();
+				final var ledgerEntries = new ArrayList<Transaction>(batch.size());
+				pendingTransactionsByUser.forEach((userId, pendingTransactions) -> {
+					final var depositAccount = depositAccountRepository.findForUpdateByUserId(userId).orElse(null);
+					if (depositAccount == null) {
+						pendingTransactions.forEach(pendingTransaction -> rejectedTransactions.put(pendingTransaction, new DepositAccountNotFoundException()));
+						return;
+					}
+
+					var balance = depositAccount.getBalance();
+					for (final var pendingTransaction : pendingTransactions) {
+						final var amount = pendingTransaction.amount();
+						if (TransactionType.WITHDRAW.equals(pendingTransaction.type())) {
+							if (balance.compareTo(amount) < 0) {
+								rejectedTransactions.put(pendingTransaction, new InsufficientBalanceException());
+								continue;
+							}
+							balance = balance.subtract(amount);
+						} else {
+							balance = balance.add(amount);
+						}
+						ledgerEntries.add(pendingTransaction.toLedgerEntry(depositAccount.getId()));
+					}
+					depositAccount.setBalance(balance);
+				});
+				transactionRepository.saveAll(ledgerEntries);
+				transactionRollupRepository.accumulateAll(ledgerEntries);
+				return rejectedTransactions;
+			});
+		} catch (final RuntimeException exception) {
+			log.error("Failed to apply batch of {} transaction(s)", batch.size(), exception);
+			batch.forEach(pendingTransaction -> pendingTransaction.result().completeExceptionally(exception));
+			return;
+		}
+
+		for (final var pendingTransaction : batch) {
+			final var rejection = rejections.get(pendingTransaction);
+			if (rejection != null) {
+				pendingTransaction.result().completeExceptionally(rejection);
+			} else {
+				pendingTransaction.result().complete(null);
+			}
+		}
+	}
+
+	private enum State {
+		QUEUED, APPLYING, ABANDONED
+	}
+
+	private record PendingTransaction(UUID userId, TransactionType type, Currency currency, BigDecimal amount, CompletableFuture<Void> result,
+			AtomicReference<State> state) {
+
+		/**
+		 * Claims the transaction for a batch, after which it can no longer be
+		 * abandoned.
+		 *
+		 * @return <code>true</code> if the transaction was still queued.
+		 */
+		boolean claim() {
+			return state.compareAndSet(State.QUEUED, State.APPLYING);
+		}
+
+		/**
+		 * Completes the future exceptionally with the provided reason, unless the
+		 * transaction has already been claimed by a worker.
+		 */
+		void abandon(final Exception reason) {
+			if (state.compareAndSet(State.QUEUED, State.ABANDONED)) {
+				result.completeExceptionally(reason);
+			}
+		}
+
+		Transaction toLedgerEntry(final UUID depositAccountId) {
+			final var transaction = new Transaction();
+			transaction.setAccountId(depositAccountId);
+			transaction.setType(type);
+			transaction.setCurrency(currency);
+			transaction.setAmount(amount);
+			return transaction;
+		}
+
+	}
+
+	/**
+	 * Queue of pending transactions drained by a dedicated worker thread, which
+	 * parks while the queue is empty and is unparked by every submission.
+	 * Transactions which can no longer be claimed, having been abandoned while
+	 * queued, are discarded as they are drained.
+	 */
+	private final class Partition implements Runnable {
+
+		private final Queue<PendingTransaction> queue = new ConcurrentLinkedQueue<>();
+		private final Thread worker;
+		private volatile boolean running = true;
+
+		private Partition(final int index) {
+			this.worker = Thread.ofPlatform().daemon().name("transaction-engine-" + index).start(this);
+		}
+
+		private void enqueue(final PendingTransaction pendingTransaction) {
+			if (!running) {
+				pendingTransaction.abandon(new IllegalStateException("Transaction engine is shutting down"));
+				return;
+			}
+			queue.offer(pendingTransaction);
+			LockSupport.unpark(worker);
+
+			// the engine may have been stopped, and its queue drained, between the check and the offer
+			if (!running && queue.remove(pendingTransaction)) {
+				pendingTransaction.abandon(new IllegalStateException("Transaction engine is shutting down"));
+			}
+		}
+
+		@Override
+		public void run() {
+			final var batch = new ArrayList<PendingTransaction>(maxBatchSize);
+			while (running || !queue.isEmpty()) {
+				PendingTransaction pendingTransaction;
+				while (batch.size() < maxBatchSize && (pendingTransaction = queue.poll()) != null) {
+					if (pendingTransaction.claim()) {
+						batch.add(pendingTransaction);
+					}
+				}
+
+				if (batch.isEmpty()) {
+					LockSupport.park(this);
+					continue;
+				}
+
+				apply(batch);
+				batch.clear();
+			}
+		}
+
+		private void stop() {
+			running = false;
+			LockSupport.unpark(worker);
+		}
+
+		private void awaitTermination() throws InterruptedException {
+			if (!worker.join(SHUTDOWN_TIMEOUT)) {
+				log.warn("Worker {} did not drain its queue within {}", worker.getName(), SHUTDOWN_TIMEOUT);
+			}
+			PendingTransaction pendingTransaction;
+			while ((pendingTransaction = queue.poll()) != null) {
+				pendingTransaction.abandon(new IllegalStateException("Transaction engine is shutting down"));
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,111 @@
+package com.behl.cerberus.utility;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import lombok.NonNull;
+
+/**
+ * Counter of events per key over a sliding window shared across application
+ * nodes, following the same estimation as {@link SlidingWindowCounter}. Counts
+ * of each fixed window are held in a redis key expiring once the window no
+ * longer contributes to the sliding count, and each event is recorded in a
+ * single pipelined round trip.
+ */
+public class RedisSlidingWindowCounter {
+
+	private final String keyPrefix;
+	private final long windowMillis;
+	private final LongSupplier millisClock;
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * @param redisTemplate The template to interact with redis.
+	 * @param keyPrefix     The prefix of redis keys holding the counts.
+	 * @param window        The duration of the sliding window.
+	 */
+	public RedisSlidingWindowCounter(@NonNull final StringRedisTemplate redisTemplate, @NonNull final String keyPrefix, @NonNull final Duration window) {
+		this(redisTemplate, keyPrefix, window, System::currentTimeMillis);
+	}
+
+	RedisSlidingWindowCounter(@NonNull final StringRedisTemplate redisTemplate, @NonNull final String keyPrefix, @NonNull final Duration window,
+			@NonNull final LongSupplier millisClock) {
+		this.keyPrefix = keyPrefix;
+		this.redisTemplate = redisTemplate;
+		this.windowMillis = window.toMillis();
+		this.millisClock = millisClock;
+	}
+
+	/**
+	 * Records an event against the provided key.
+	 *
+	 * @param key The key to record the event against.
+	 * @throws org.springframework.dao.DataAccessException if redis is unreachable.
+	 * @return The estimated count of events within the sliding window, including
+	 *         the recorded one.
+	 */
+	public double increment(@NonNull final String key) {
+		final var now = millisClock.getAsLong();
+		final var index = Math.floorDiv(now, windowMillis);
+		final var currentKey = redisKey(key, index);
+		final var previousKey = redisKey(key, index - 1);
+		final var timeToLive = Duration.ofMillis(windowMillis * 2);
+
+		final var results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(final RedisOperations<K, V> operations) {
+				final var stringOperations = (RedisOperations<String, String>) operations;
+				stringOperations.opsForValue().increment(currentKey);
+				stringOperations.expire(currentKey, timeToLive);
+				stringOperations.opsForValue().get(previousKey);
+				return null;
+			}
+
+		});
+		return estimate(now, parse(results.get(2)), parse(results.get(0)));
+	}
+
+	/**
+	 * @param key The key to estimate the count of events of.
+	 * @throws org.springframework.dao.DataAccessException if redis is unreachable.
+	 * @return The estimated count of events within the sliding window.
+	 */
+	public double estimate(@NonNull final String key) {
+		final var now = millisClock.getAsLong();
+		final var index = Math.floorDiv(now, windowMillis);
+		final var counts = redisTemplate.opsForValue().multiGet(List.of(redisKey(key, index - 1), redisKey(key, index)));
+		return estimate(now, parse(counts.get(0)), parse(counts.get(1)));
+	}
+
+	/**
+	 * Discards all events recorded against the provided key.
+	 *
+	 * @throws org.springframework.dao.DataAccessException if redis is unreachable.
+	 */
+	public void reset(@NonNull final String key) {
+		final var index = Math.floorDiv(millisClock.getAsLong(), windowMillis);
+		redisTemplate.delete(List.of(redisKey(key, index - 1), redisKey(key, index)));
+	}
+
+	private double estimate(final long now, final long previousCount, final long currentCount) {
+		final var remainingFraction = 1 - (double) Math.floorMod(now, windowMillis) / windowMillis;
+		return previousCount * remainingFraction + currentCount;
+	}
+
+	private long parse(final Object count) {
+		return Optional.ofNullable(count).map(String::valueOf).map(Long::parseLong).orElse(0L);
+	}
+
+	private String redisKey(final String key, final long index) {
+		return keyPrefix + key + ":" + index;
+	}
+
+}
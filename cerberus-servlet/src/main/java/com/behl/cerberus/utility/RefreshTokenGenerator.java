@@ -0,0 +1,68 @@
+package com.behl.cerberus.utility;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+
+/**
+ * Utility class responsible for generating refresh tokens. These tokens are used
+ * to facilitate secure and time-limited re-authentication within the system.
+ * Each token is prefixed with the ID of the user it is issued to, allowing the
+ * cache keys of a token to be derived from the token alone.
+ * 
+ * @see com.behl.cerberus.service.AuthenticationService
+ */
+@Component
+public class RefreshTokenGenerator {
+	
+    private static final String ALGORITHM = "SHA256";
+    private static final char USER_ID_SEPARATOR = '.';
+
+	/**
+	 * @param userId The unique identifier of the user the token is issued to.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 * @return A randomly generated refresh token that is unique to each invocation,
+	 *         prefixed with the provided user ID.
+	 */
+	@SneakyThrows
+	public String generate(@NonNull final UUID userId) {
+		final var randomIdentifier = String.valueOf(UUID.randomUUID());
+        final var messageDigest = MessageDigest.getInstance(ALGORITHM);
+        final var hash = messageDigest.digest(randomIdentifier.getBytes(StandardCharsets.UTF_8));
+        return userId.toString() + USER_ID_SEPARATOR + convertBytesToString(hash);
+	}
+
+	/**
+	 * @param refreshToken The refresh token to evaluate.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 * @return An optional containing the ID of the user the refresh token was
+	 *         issued to, or an empty optional if the token is malformed.
+	 */
+	public static Optional<UUID> getUserId(@NonNull final String refreshToken) {
+		final var separatorIndex = refreshToken.indexOf(USER_ID_SEPARATOR);
+		if (separatorIndex < 0) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(UUID.fromString(refreshToken.substring(0, separatorIndex)));
+		} catch (final IllegalArgumentException exception) {
+			return Optional.empty();
+		}
+	}
+	
+    private String convertBytesToString(final byte[] bytes) {
+        final var hexStringBuilder = new StringBuilder();
+        for (final byte currentByte : bytes) {
+            final var hexValue = String.format("%02x", currentByte);
+            hexStringBuilder.append(hexValue);
+        }
+        return hexStringBuilder.toString();
+    }
+
+}
@@ -0,0 +1,223 @@
+package com.behl.cerberus.utility;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.behl.cerberus.configuration.RegisteredEmailFilterConfigurationProperties;
+import com.behl.cerberus.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Utility class maintaining a {@link BloomFilter} of registered email-ids,
+ * allowing lookups of email-ids which are certainly not registered, the common
+ * case in credential stuffing traffic, to skip the datasource.
+ * 
+ * The filter is built by streaming email-ids from the datasource on startup,
+ * and periodically rebuilt thereafter. Email-ids registered on any node are
+ * published over a redis channel and added to the filter of every node. Until
+ * the filter is first built, or if disabled, every email-id is reported as
+ * possibly registered, falling back to the datasource.
+ * 
+ * As notifications over the channel are not delivered reliably, email-ids
+ * registered after the current filter was built are additionally recorded in
+ * redis for twice the rebuild interval, and consulted before an email-id absent
+ * from the filter is reported as not registered. A filter older than that, as
+ * when rebuilds keep failing, is no longer trusted to report absence.
+ * 
+ * Email-ids are folded to lower case with accents and compatibility forms
+ * removed, approximating the accent and case insensitive collation of the
+ * datasource. Folding may equate more email-ids than the collation does, which
+ * only costs a datasource lookup. Email-ids still containing non ASCII
+ * characters once folded are always reported as possibly registered, as the
+ * collation may equate them in ways not reproduced here.
+ * 
+ * @see com.behl.cerberus.configuration.RegisteredEmailFilterConfigurationProperties
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(RegisteredEmailFilterConfigurationProperties.class)
+public class RegisteredEmailFilter implements MessageListener {
+
+	public static final String REGISTRATION_CHANNEL = "registered_email_ids";
+	public static final String RECENT_REGISTRATION_KEY_PREFIX = "registered_email_id:";
+
+	private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+	private static final Pattern NON_ASCII = Pattern.compile("[^\\x00-\\x7F]");
+	private static final Map<String, String> EXPANSIONS = Map.of("ß", "ss", "æ", "ae", "œ", "oe", "ø", "o", "đ", "d", "ð", "d", "ł", "l",
+			"þ", "th", "ı", "i");
+
+	private final UserRepository userRepository;
+	private final StringRedisTemplate redisTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final RegisteredEmailFilterConfigurationProperties registeredEmailFilterConfigurationProperties;
+	private final Counter definiteMissCounter;
+	private final ReentrantLock rebuildLock = new ReentrantLock();
+	private volatile BloomFilter filter;
+	private volatile Instant filterBuiltFrom;
+	private volatile BloomFilter pendingFilter;
+
+	public RegisteredEmailFilter(@NonNull final UserRepository userRepository, @NonNull final StringRedisTemplate redisTemplate,
+			@NonNull final RedisMessageListenerContainer redisMessageListenerContainer, @NonNull final PlatformTransactionManager transactionManager,
+			@NonNull final MeterRegistry meterRegistry, @NonNull final RegisteredEmailFilterConfigurationProperties registeredEmailFilterConfigurationProperties) {
+		this.userRepository = userRepository;
+		this.redisTemplate = redisTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.registeredEmailFilterConfigurationProperties = registeredEmailFilterConfigurationProperties;
+		this.definiteMissCounter = Counter.builder("registered.email.filter.definite.misses")
+				.description("Number of email-id lookups skipping the datasource as the email-id is certainly not registered")
+				.register(meterRegistry);
+
+		if (registeredEmailFilterConfigurationProperties.isEnabled()) {
+			redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REGISTRATION_CHANNEL));
+		}
+	}
+
+	/**
+	 * @param emailId The email-id to evaluate.
+	 * @return <code>false</code> if the email-id is certainly not registered,
+	 *         <code>true</code> if it might be.
+	 */
+	public boolean mightContain(@NonNull final String emailId) {
+		final var currentFilter = filter;
+		if (!registeredEmailFilterConfigurationProperties.isEnabled() || currentFilter == null) {
+			return true;
+		}
+		final var normalizedEmailId = normalize(emailId);
+		if (NON_ASCII.matcher(normalizedEmailId).find() || currentFilter.mightContain(normalizedEmailId)) {
+			return true;
+		}
+		if (filterBuiltFrom.plus(getRecentRegistrationRetention()).isBefore(Instant.now()) || isRecentlyRegistered(normalizedEmailId)) {
+			return true;
+		}
+		definiteMissCounter.increment();
+		return false;
+	}
+
+	/**
+	 * Adds the newly registered email-id to the filter of this node, records it
+	 * as recently registered, and publishes it for the filters of other nodes.
+	 */
+	public void add(@NonNull final String emailId) {
+		final var normalizedEmailId = normalize(emailId);
+		addLocally(normalizedEmailId);
+		if (registeredEmailFilterConfigurationProperties.isEnabled()) {
+			try {
+				redisTemplate.opsForValue().set(RECENT_REGISTRATION_KEY_PREFIX + normalizedEmailId, "", getRecentRegistrationRetention());
+				redisTemplate.convertAndSend(REGISTRATION_CHANNEL, normalizedEmailId);
+			} catch (final DataAccessException exception) {
+				log.error("Unable to record registered email-id, other nodes will pick it up on next rebuild", exception);
+			}
+		}
+	}
+
+	@Override
+	public void onMessage(@NonNull final Message message, final byte[] pattern) {
+		addLocally(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Builds a new filter by streaming email-ids of all registered users, and
+	 * replaces the current filter with it. Email-ids registered while the filter
+	 * is being built are added to both filters. In case of failure, the current
+	 * filter continues to be used.
+	 * 
+	 * Rebuilds are serialized through a {@link ReentrantLock} rather than a
+	 * monitor, as blocking on the datasource within a <code>synchronized</code>
+	 * block pins virtual threads to their carrier.
+	 */
+	@Scheduled(fixedDelayString = "${com.behl.cerberus.registered-email-filter.rebuild-interval:PT6H}")
+	public void rebuild() {
+		if (!registeredEmailFilterConfigurationProperties.isEnabled()) {
+			return;
+		}
+		rebuildLock.lock();
+		try {
+			final var expectedInsertions = Math.max(userRepository.count() * 2, registeredEmailFilterConfigurationProperties.getMinimumCapacity());
+			final var rebuiltFilter = new BloomFilter(expectedInsertions, registeredEmailFilterConfigurationProperties.getFalsePositiveProbability());
+			final var builtFrom = Instant.now();
+			pendingFilter = rebuiltFilter;
+			transactionTemplate.executeWithoutResult(status -> {
+				try (final var emailIds = userRepository.streamAllEmailIds()) {
+					emailIds.map(this::normalize).forEach(rebuiltFilter::add);
+				}
+			});
+			filterBuiltFrom = builtFrom;
+			filter = rebuiltFilter;
+			log.info("Built registered email-id filter with {} email-ids", rebuiltFilter.size());
+		} catch (final RuntimeException exception) {
+			log.error("Unable to build registered email-id filter", exception);
+		} finally {
+			pendingFilter = null;
+			rebuildLock.unlock();
+		}
+	}
+
+	/**
+	 * The pending filter is read before the current one, and replaced after it,
+	 * ensuring an email-id added concurrently with the completion of a rebuild is
+	 * always present in the rebuilt filter.
+	 */
+	private void addLocally(final String normalizedEmailId) {
+		final var rebuildingFilter = pendingFilter;
+		final var currentFilter = filter;
+		if (currentFilter != null) {
+			currentFilter.add(normalizedEmailId);
+		}
+		if (rebuildingFilter != null && rebuildingFilter != currentFilter) {
+			rebuildingFilter.add(normalizedEmailId);
+		}
+	}
+
+	/**
+	 * Registrations committed after the current filter started streaming
+	 * email-ids are only known to it through this record. Lookup failures are
+	 * treated as the email-id possibly being registered.
+	 */
+	private boolean isRecentlyRegistered(final String normalizedEmailId) {
+		try {
+			return !Boolean.FALSE.equals(redisTemplate.hasKey(RECENT_REGISTRATION_KEY_PREFIX + normalizedEmailId));
+		} catch (final DataAccessException exception) {
+			log.error("Unable to look up recently registered email-id, falling back to datasource", exception);
+			return true;
+		}
+	}
+
+	private Duration getRecentRegistrationRetention() {
+		return registeredEmailFilterConfigurationProperties.getRebuildInterval().multipliedBy(2);
+	}
+
+	private String normalize(final String emailId) {
+		final var decomposed = Normalizer.normalize(emailId, Normalizer.Form.NFKD);
+		var folded = COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+		if (NON_ASCII.matcher(folded).find()) {
+			for (final var expansion : EXPANSIONS.entrySet()) {
+				folded = folded.replace(expansion.getKey(), expansion.getValue());
+			}
+		}
+		return folded;
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.behl.cerberus.utility;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+
+/**
+ * Coalesces concurrent invocations sharing the same key into a single in-flight
+ * computation (single-flight). The first caller for a key performs the
+ * computation, while callers arriving before it completes wait for and share
+ * its outcome, be it a result or an exception. Once the computation completes,
+ * the key is released and subsequent invocations compute afresh.
+ *
+ * @param <K> type of key identifying identical requests.
+ * @param <V> type of result produced by the computation.
+ */
+public class RequestCoalescer<K, V> {
+
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlightRequests = new ConcurrentHashMap<>();
+
+	/**
+	 * Executes the provided computation, unless one is already in-flight for the
+	 * given key in which case its outcome is awaited and returned instead.
+	 *
+	 * @param key         Key identifying identical requests.
+	 * @param computation The computation to execute.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 * @return Result of the computation executed by this, or a concurrent caller.
+	 */
+	public V execute(@NonNull final K key, @NonNull final Supplier<V> computation) {
+		final var future = new CompletableFuture<V>();
+		final var inFlightRequest = inFlightRequests.putIfAbsent(key, future);
+		if (inFlightRequest != null) {
+			return await(inFlightRequest);
+		}
+
+		try {
+			final var result = computation.get();
+			future.complete(result);
+			return result;
+		} catch (final RuntimeException | Error exception) {
+			future.completeExceptionally(exception);
+			throw exception;
+		} finally {
+			inFlightRequests.remove(key, future);
+		}
+	}
+
+	private V await(final CompletableFuture<V> inFlightRequest) {
+		try {
+			return inFlightRequest.join();
+		} catch (final CompletionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw exception;
+		}
+	}
+
+}
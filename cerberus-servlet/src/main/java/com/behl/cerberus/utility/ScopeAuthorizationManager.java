@@ -0,0 +1,61 @@
+package com.behl.cerberus.utility;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+import com.behl.cerberus.configuration.RequiresScopes;
+
+/**
+ * {@link AuthorizationManager} enforcing {@link RequiresScopes} declared on
+ * controller methods or classes. The declared scopes are compiled into a
+ * bitmask once per method on first invocation, after which each check is a
+ * single bitwise operation against the bitmask of scopes granted to the
+ * authenticated user.
+ * 
+ * Access is granted if the authentication holds at least one of the declared
+ * scopes, matching the semantics of <code>hasAnyAuthority(...)</code>.
+ * 
+ * @see com.behl.cerberus.utility.ScopeBitmask
+ * @see com.behl.cerberus.configuration.SecurityConfiguration
+ */
+public class ScopeAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+	private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+	private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+	private final Map<Method, Long> requiredScopes = new ConcurrentHashMap<>();
+
+	@Override
+	public AuthorizationDecision check(final Supplier<Authentication> authentication, final MethodInvocation invocation) {
+		final var currentAuthentication = authentication.get();
+		if (currentAuthentication == null || !currentAuthentication.isAuthenticated()) {
+			return DENIED;
+		}
+		final var required = requiredScopes.computeIfAbsent(invocation.getMethod(), method -> compile(method, invocation.getThis()));
+		final var granted = ScopeBitmask.ofGranted(currentAuthentication);
+		return (granted & required) != 0 ? GRANTED : DENIED;
+	}
+
+	private long compile(final Method method, final Object target) {
+		final var targetClass = target != null ? AopUtils.getTargetClass(target) : method.getDeclaringClass();
+		final var specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+		var annotation = AnnotatedElementUtils.findMergedAnnotation(specificMethod, RequiresScopes.class);
+		if (annotation == null) {
+			annotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, RequiresScopes.class);
+		}
+		if (annotation == null) {
+			throw new IllegalStateException("No @RequiresScopes declared for " + specificMethod);
+		}
+		return ScopeBitmask.ofRequired(annotation.value());
+	}
+
+}
@@ -0,0 +1,99 @@
+package com.behl.cerberus.utility;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.behl.cerberus.entity.UserStatus;
+import com.behl.cerberus.filter.JwtAuthentication;
+
+import lombok.NonNull;
+
+/**
+ * Assigns each scope granted by a {@link UserStatus} a bit of a <code>long</code>
+ * on class initialization, allowing sets of scopes to be compared with a single
+ * bitwise operation instead of scanning collections of authorities.
+ * 
+ * @see com.behl.cerberus.utility.ScopeAuthorizationManager
+ */
+public final class ScopeBitmask {
+
+	private static final Map<String, Long> SCOPE_BITS = assignBits();
+
+	private ScopeBitmask() {
+	}
+
+	/**
+	 * Computes the bitmask of granted scopes. Scopes not granted by any
+	 * {@link UserStatus} can not be required by an endpoint, and are hence
+	 * ignored.
+	 * 
+	 * @param scopes The scopes held by an access token.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 * @return The bitmask of the provided scopes.
+	 */
+	public static long ofGranted(@NonNull final Collection<String> scopes) {
+		var bitmask = 0L;
+		for (final var scope : scopes) {
+			bitmask |= SCOPE_BITS.getOrDefault(scope, 0L);
+		}
+		return bitmask;
+	}
+
+	/**
+	 * Computes the bitmask of scopes granted to the provided authentication.
+	 * The bitmask of a {@link JwtAuthentication} is computed once per distinct
+	 * scope set and reused.
+	 * 
+	 * @param authentication The authentication to evaluate.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 * @return The bitmask of scopes granted to the authentication.
+	 */
+	public static long ofGranted(@NonNull final Authentication authentication) {
+		if (authentication instanceof JwtAuthentication jwtAuthentication) {
+			return jwtAuthentication.getScopeBitmask();
+		}
+		return ofGranted(authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+	}
+
+	/**
+	 * Computes the bitmask of scopes required by an endpoint.
+	 * 
+	 * @param scopes The scopes declared as required.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 * @throws IllegalStateException    if any of the scopes is not granted by a
+	 *                                  {@link UserStatus}, as such an endpoint
+	 *                                  would be inaccessible.
+	 * @return The bitmask of the provided scopes.
+	 */
+	public static long ofRequired(@NonNull final String... scopes) {
+		var bitmask = 0L;
+		for (final var scope : scopes) {
+			final var bit = SCOPE_BITS.get(scope);
+			if (bit == null) {
+				throw new IllegalStateException("Scope '" + scope + "' is not granted by any user status");
+			}
+			bitmask |= bit;
+		}
+		return bitmask;
+	}
+
+	private static Map<String, Long> assignBits() {
+		final var scopeBits = new LinkedHashMap<String, Long>();
+		Arrays.stream(UserStatus.values())
+			.flatMap(userStatus -> userStatus.getScopes().stream())
+			.distinct()
+			.forEach(scope -> {
+				if (scopeBits.size() == Long.SIZE) {
+					throw new IllegalStateException("More than " + Long.SIZE + " distinct scopes are not supported");
+				}
+				scopeBits.put(scope, 1L << scopeBits.size());
+			});
+		return Map.copyOf(scopeBits);
+	}
+
+}
@@ -0,0 +1,185 @@
+package com.behl.cerberus.utility;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.behl.cerberus.configuration.TokenConfigurationProperties;
+import com.behl.cerberus.dto.SessionDetailDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Utility class maintaining a per-user index of issued refresh tokens in the
+ * provisioned redis cache. Each refresh token is stored against the user's ID
+ * for token refresh, and is additionally registered in a hash (holding device
+ * details of the session) and a sorted set (ordering sessions by issuance time)
+ * keyed by the user's ID.
+ *
+ * Refresh tokens are prefixed with the ID of the user they are issued to, and
+ * every key of a user, both of its refresh tokens and of its session index,
+ * holds the user's ID within braces. This hash tag maps all keys of a user to
+ * the same hash slot in Redis Cluster, allowing issuance, indexing and
+ * eviction, as well as invalidation of all sessions, to each be performed
+ * atomically through a single lua script. Listing or removing a user's
+ * sessions never requires a keyspace <code>SCAN</code>.
+ *
+ * @see RefreshTokenGenerator
+ *
+ * @see com.behl.cerberus.service.AuthenticationService
+ * @see com.behl.cerberus.configuration.TokenConfigurationProperties
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(TokenConfigurationProperties.class)
+public class SessionRegistry {
+
+	private final ObjectMapper objectMapper;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final HttpServletRequest httpServletRequest;
+	private final TokenConfigurationProperties tokenConfigurationProperties;
+
+	private static final String USER_AGENT_HEADER = "User-Agent";
+	private static final String REFRESH_TOKEN_KEY_PREFIX = "refresh_token:";
+	private static final String SESSION_KEY_PREFIX = "sessions:";
+	private static final String SESSION_ISSUANCE_KEY_SUFFIX = ":issuance";
+
+	private static final RedisScript<Long> REGISTER_SESSION_SCRIPT = RedisScript.of(new ClassPathResource("redis/register-session.lua"), Long.class);
+	private static final RedisScript<Long> INVALIDATE_SESSIONS_SCRIPT = RedisScript.of(new ClassPathResource("redis/invalidate-sessions.lua"), Long.class);
+
+	/**
+	 * Registers a new session for the given user against the provided refresh
+	 * token, capturing the device details from the current HTTP request. If the
+	 * user holds more sessions than configured, the oldest sessions are evicted and
+	 * their refresh tokens can no longer be used.
+	 *
+	 * @param userId       The unique identifier of the authenticated user.
+	 * @param refreshToken The refresh token issued for the session, generated by
+	 *                     {@link RefreshTokenGenerator} for the same user.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	@SneakyThrows
+	public void register(@NonNull final UUID userId, @NonNull final String refreshToken) {
+		final var refreshTokenConfiguration = tokenConfigurationProperties.getRefreshToken();
+		final var validity = TimeUnit.MINUTES.toSeconds(refreshTokenConfiguration.getValidity());
+		final var issuedAt = LocalDateTime.now(ZoneOffset.UTC);
+		final var sessionDetail = SessionDetailDto.builder()
+				.device(httpServletRequest.getHeader(USER_AGENT_HEADER))
+				.ipAddress(httpServletRequest.getRemoteAddr())
+				.issuedAt(issuedAt)
+				.expiresAt(issuedAt.plusSeconds(validity))
+				.build();
+
+		final var keys = List.of(getRefreshTokenKey(userId, refreshToken), getSessionKey(userId), getSessionIssuanceKey(userId));
+		final var evictedSessions = stringRedisTemplate.execute(REGISTER_SESSION_SCRIPT, keys,
+				String.valueOf(userId),
+				refreshToken,
+				objectMapper.writeValueAsString(sessionDetail),
+				String.valueOf(issuedAt.toInstant(ZoneOffset.UTC).toEpochMilli()),
+				String.valueOf(validity),
+				String.valueOf(refreshTokenConfiguration.getMaxActiveSessions()),
+				getRefreshTokenKeyPrefix(userId));
+		log.info("Registered session for user '{}', evicted {} session(s)", userId, evictedSessions);
+	}
+
+	/**
+	 * Retrieves the ID of the user to whom the provided refresh token was issued.
+	 *
+	 * @param refreshToken The refresh token to evaluate.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 * @return An optional containing the user's ID, or an empty optional if the
+	 *         refresh token is malformed, expired or has been evicted.
+	 */
+	public Optional<UUID> getUserId(@NonNull final String refreshToken) {
+		return RefreshTokenGenerator.getUserId(refreshToken)
+				.filter(userId -> Boolean.TRUE.equals(stringRedisTemplate.hasKey(getRefreshTokenKey(userId, refreshToken))));
+	}
+
+	/**
+	 * Retrieves details of all non expired sessions of the given user, ordered by
+	 * their issuance time.
+	 *
+	 * @param userId The unique identifier of the user.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 * @return List of active sessions held by the user.
+	 */
+	public List<SessionDetailDto> getActiveSessions(@NonNull final UUID userId) {
+		final var currentTimestamp = LocalDateTime.now(ZoneOffset.UTC);
+		return stringRedisTemplate.<String, String>opsForHash().values(getSessionKey(userId))
+				.stream()
+				.map(this::deserialize)
+				.filter(session -> session.getExpiresAt().isAfter(currentTimestamp))
+				.sorted(Comparator.comparing(SessionDetailDto::getIssuedAt))
+				.toList();
+	}
+
+	/**
+	 * Retrieves the refresh tokens of all sessions registered for the given user,
+	 * including sessions expired but not yet evicted from the user's index.
+	 *
+	 * @param userId The unique identifier of the user.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 * @return Set of refresh tokens issued to the user.
+	 */
+	public Set<String> getRefreshTokens(@NonNull final UUID userId) {
+		return stringRedisTemplate.<String, String>opsForHash().keys(getSessionKey(userId));
+	}
+
+	/**
+	 * Invalidates every session of the given user by deleting all issued refresh
+	 * tokens along with the user's session index in a single atomic call to the
+	 * cache.
+	 *
+	 * @param userId The unique identifier of the user.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	public void invalidateAll(@NonNull final UUID userId) {
+		final var keys = List.of(getSessionKey(userId), getSessionIssuanceKey(userId));
+		final var invalidatedSessions = stringRedisTemplate.execute(INVALIDATE_SESSIONS_SCRIPT, keys, getRefreshTokenKeyPrefix(userId));
+		log.info("Invalidated {} session(s) for user '{}'", invalidatedSessions, userId);
+	}
+
+	@SneakyThrows
+	private SessionDetailDto deserialize(final String sessionDetail) {
+		return objectMapper.readValue(sessionDetail, SessionDetailDto.class);
+	}
+
+	/**
+	 * Keys of refresh tokens and of the session index hold the user's ID within
+	 * braces, a hash tag mapping all keys of the user to the same hash slot in
+	 * Redis Cluster.
+	 */
+	private String getRefreshTokenKeyPrefix(final UUID userId) {
+		return REFRESH_TOKEN_KEY_PREFIX + "{" + userId + "}:";
+	}
+
+	private String getRefreshTokenKey(final UUID userId, final String refreshToken) {
+		return getRefreshTokenKeyPrefix(userId) + refreshToken;
+	}
+
+	private String getSessionKey(final UUID userId) {
+		return SESSION_KEY_PREFIX + "{" + userId + "}";
+	}
+
+	private String getSessionIssuanceKey(final UUID userId) {
+		return getSessionKey(userId) + SESSION_ISSUANCE_KEY_SUFFIX;
+	}
+
+}
@@ -0,0 +1,129 @@
+package com.behl.cerberus.utility;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import lombok.NonNull;
+
+/**
+ * In-memory, lock-free counter of events per key over a sliding window. Each
+ * key holds the count of the current fixed window and the final count of the
+ * previous one, and the sliding count is estimated by weighing the previous
+ * count by the portion of it still covered by the sliding window.
+ *
+ * Counts are held in {@link LongAdder}, which stripes increments across cells
+ * under contention instead of having concurrent threads retry on a single
+ * variable. Rolling over to a new window is performed through a single
+ * compare-and-set, hence no locks are acquired on either path.
+ */
+public class SlidingWindowCounter {
+
+	private final long windowNanos;
+	private final LongSupplier nanoClock;
+	private final ConcurrentHashMap<String, AtomicReference<Window>> windows = new ConcurrentHashMap<>();
+
+	/**
+	 * @param window The duration of the sliding window.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>
+	 *                                  or not positive.
+	 */
+	public SlidingWindowCounter(@NonNull final Duration window) {
+		this(window, System::nanoTime);
+	}
+
+	SlidingWindowCounter(@NonNull final Duration window, @NonNull final LongSupplier nanoClock) {
+		if (window.isNegative() || window.isZero()) {
+			throw new IllegalArgumentException("Window must be positive");
+		}
+		this.windowNanos = window.toNanos();
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Records an event against the provided key.
+	 *
+	 * @param key The key to record the event against.
+	 * @return The estimated count of events within the sliding window, including
+	 *         the recorded one.
+	 */
+	public double increment(@NonNull final String key) {
+		final var now = nanoClock.getAsLong();
+		final var reference = windows.computeIfAbsent(key, absentKey -> new AtomicReference<>(new Window(indexOf(now), new LongAdder(), 0)));
+		final var window = roll(reference, now);
+		window.count().increment();
+		return estimate(window, now);
+	}
+
+	/**
+	 * @param key The key to estimate the count of events of.
+	 * @return The estimated count of events within the sliding window.
+	 */
+	public double estimate(@NonNull final String key) {
+		final var reference = windows.get(key);
+		if (reference == null) {
+			return 0;
+		}
+		return estimate(reference.get(), nanoClock.getAsLong());
+	}
+
+	/**
+	 * Discards all events recorded against the provided key.
+	 */
+	public void reset(@NonNull final String key) {
+		windows.remove(key);
+	}
+
+	/**
+	 * Discards keys with no events recorded within the sliding window, bounding
+	 * the memory held by keys which are no longer active.
+	 */
+	public void evictExpired() {
+		final var index = indexOf(nanoClock.getAsLong());
+		windows.values().removeIf(reference -> reference.get().index() < index - 1);
+	}
+
+	/**
+	 * @return The number of keys currently tracked.
+	 */
+	public int size() {
+		return windows.size();
+	}
+
+	private Window roll(final AtomicReference<Window> reference, final long now) {
+		final var index = indexOf(now);
+		while (true) {
+			final var window = reference.get();
+			if (window.index() >= index) {
+				return window;
+			}
+			final var previousCount = window.index() == index - 1 ? window.count().sum() : 0;
+			final var rolledWindow = new Window(index, new LongAdder(), previousCount);
+			if (reference.compareAndSet(window, rolledWindow)) {
+				return rolledWindow;
+			}
+		}
+	}
+
+	private double estimate(final Window window, final long now) {
+		final var index = indexOf(now);
+		final var remainingFraction = 1 - (double) Math.floorMod(now, windowNanos) / windowNanos;
+		if (window.index() == index) {
+			return window.previousCount() * remainingFraction + window.count().sum();
+		}
+		if (window.index() == index - 1) {
+			return window.count().sum() * remainingFraction;
+		}
+		return 0;
+	}
+
+	private long indexOf(final long now) {
+		return Math.floorDiv(now, windowNanos);
+	}
+
+	private record Window(long index, LongAdder count, long previousCount) {
+	}
+
+}
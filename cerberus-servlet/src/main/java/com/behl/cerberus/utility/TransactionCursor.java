@@ -0,0 +1,56 @@
+package com.behl.cerberus.utility;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.behl.cerberus.projection.TransactionProjection;
+import com.behl.cerberus.exception.InvalidCursorException;
+
+import lombok.NonNull;
+
+/**
+ * Keyset pagination cursor identifying the position of the last transaction
+ * returned in a page of transaction history, by its timestamp and id. The
+ * subsequent page holds the transactions ordered after this position, hence is
+ * retrieved through an index range scan regardless of the number of preceding
+ * pages.
+ *
+ * Cursors are encoded as URL-safe base64, to be treated as opaque by clients.
+ */
+public record TransactionCursor(LocalDateTime timestamp, UUID id) {
+
+	private static final String DELIMITER = "_";
+
+	public static TransactionCursor of(@NonNull final TransactionProjection transaction) {
+		return new TransactionCursor(transaction.timestamp(), transaction.id());
+	}
+
+	public String encode() {
+		final var position = timestamp + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @param cursor Cursor previously returned through {@link #encode()}.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 * @throws InvalidCursorException   if the provided cursor is malformed.
+	 */
+	public static TransactionCursor decode(@NonNull final String cursor) {
+		try {
+			final var position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			final var delimiterIndex = position.indexOf(DELIMITER);
+			if (delimiterIndex == -1) {
+				throw new InvalidCursorException();
+			}
+			final var timestamp = LocalDateTime.parse(position.substring(0, delimiterIndex));
+			final var id = UUID.fromString(position.substring(delimiterIndex + 1));
+			return new TransactionCursor(timestamp, id);
+		} catch (final IllegalArgumentException | DateTimeParseException exception) {
+			throw new InvalidCursorException();
+		}
+	}
+
+}
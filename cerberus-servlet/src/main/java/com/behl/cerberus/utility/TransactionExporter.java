@@ -0,0 +1,170 @@
+package com.behl.cerberus.utility;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.behl.cerberus.configuration.TransactionExportConfigurationProperties;
+import com.behl.cerberus.exception.ExportCapacityExceededException;
+import com.behl.cerberus.projection.TransactionProjection;
+import com.behl.cerberus.repository.TransactionRepository;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes the complete transaction history of a deposit account to an output
+ * stream, in constant memory regardless of the number of transactions.
+ *
+ * Transactions are consumed from a {@link Stream} backed by a streaming result
+ * set within a read-only transaction, and each is written out as soon as it is
+ * read, either as newline delimited JSON through a {@link JsonGenerator} or as
+ * CSV. Neither the fetched rows nor the written output are accumulated, as the
+ * output stream is flushed by the servlet container whenever its response
+ * buffer fills. The datasource connection is held for the duration of the
+ * export, hence the number of exports streamed concurrently is bound by a
+ * {@link Semaphore} of <code>max-concurrent-exports</code> permits, acquired
+ * before the response is committed, so that exports can not exhaust the
+ * connection pool shared with every other request.
+ *
+ * @see TransactionRepository#streamByDepositAccountUserId(UUID)
+ * @see com.behl.cerberus.configuration.TransactionExportConfigurationProperties
+ */
+@Component
+@EnableConfigurationProperties(TransactionExportConfigurationProperties.class)
+public class TransactionExporter {
+
+	private static final String CSV_HEADER = "Id,Type,Currency,Amount,Timestamp";
+
+	private final TransactionRepository transactionRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectMapper objectMapper;
+	private final TransactionExportConfigurationProperties transactionExportConfigurationProperties;
+	private final Semaphore exportPermits;
+
+	public TransactionExporter(@NonNull final TransactionRepository transactionRepository,
+			@NonNull final PlatformTransactionManager transactionManager, @NonNull final ObjectMapper objectMapper,
+			@NonNull final TransactionExportConfigurationProperties transactionExportConfigurationProperties) {
+		this.transactionRepository = transactionRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.objectMapper = objectMapper;
+		this.transactionExportConfigurationProperties = transactionExportConfigurationProperties;
+		this.exportPermits = new Semaphore(transactionExportConfigurationProperties.getMaxConcurrentExports());
+	}
+
+	/**
+	 * Reserves one of the permitted concurrent exports, returning a response body
+	 * writing every transaction against the deposit account of the user, which
+	 * returns the permit once written.
+	 *
+	 * @param userId The id of the user owning the deposit account.
+	 * @param format The format to write transactions in.
+	 * @throws IllegalArgumentException        if any provided argument is <code>null</code>.
+	 * @throws ExportCapacityExceededException if the permitted number of exports are already in progress.
+	 */
+	public StreamingResponseBody export(@NonNull final UUID userId, @NonNull final Format format) {
+		if (!exportPermits.tryAcquire()) {
+			throw new ExportCapacityExceededException(transactionExportConfigurationProperties.getRetryAfter());
+		}
+		return outputStream -> {
+			try {
+				export(userId, format, outputStream);
+			} finally {
+				exportPermits.release();
+			}
+		};
+	}
+
+	/**
+	 * Writes every transaction against the deposit account of the user to the
+	 * provided output stream, ordered from the most recent. The output stream is
+	 * flushed, but not closed.
+	 *
+	 * @param userId       The id of the user owning the deposit account.
+	 * @param format       The format to write transactions in.
+	 * @param outputStream The output stream to write to.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 * @throws UncheckedIOException     if writing to the output stream fails.
+	 */
+	public void export(@NonNull final UUID userId, @NonNull final Format format, @NonNull final OutputStream outputStream) {
+		transactionTemplate.executeWithoutResult(status -> {
+			try (final var transactions = transactionRepository.streamByDepositAccountUserId(userId)) {
+				switch (format) {
+					case NDJSON -> writeNdjson(transactions, outputStream);
+					case CSV -> writeCsv(transactions, outputStream);
+				}
+			} catch (final IOException exception) {
+				throw new UncheckedIOException(exception);
+			}
+		});
+	}
+
+	private void writeNdjson(final Stream<TransactionProjection> transactions, final OutputStream outputStream) throws IOException {
+		try (final var generator = objectMapper.createGenerator(outputStream, JsonEncoding.UTF8)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			for (final var iterator = transactions.iterator(); iterator.hasNext();) {
+				final var transaction = iterator.next();
+				generator.writeStartObject();
+				generator.writeStringField("Id", transaction.id().toString());
+				generator.writeStringField("Type", transaction.type().name());
+				generator.writeStringField("Currency", transaction.currency().name());
+				generator.writeNumberField("Amount", transaction.amount());
+				generator.writeStringField("Timestamp", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(transaction.timestamp()));
+				generator.writeEndObject();
+				generator.writeRaw('\n');
+			}
+		}
+	}
+
+	private void writeCsv(final Stream<TransactionProjection> transactions, final OutputStream outputStream) throws IOException {
+		final var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		writer.write(CSV_HEADER);
+		writer.write('\n');
+		for (final var iterator = transactions.iterator(); iterator.hasNext();) {
+			final var transaction = iterator.next();
+			writer.write(transaction.id().toString());
+			writer.write(',');
+			writer.write(transaction.type().name());
+			writer.write(',');
+			writer.write(transaction.currency().name());
+			writer.write(',');
+			writer.write(transaction.amount().toPlainString());
+			writer.write(',');
+			writer.write(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(transaction.timestamp()));
+			writer.write('\n');
+		}
+		writer.flush();
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public enum Format {
+
+		NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+		CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+		private final MediaType mediaType;
+		private final String fileExtension;
+
+	}
+
+}
@@ -0,0 +1,134 @@
+package com.behl.cerberus.utility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.behl.cerberus.configuration.TransactionRollupConfigurationProperties;
+import com.behl.cerberus.repository.DepositAccountRepository;
+import com.behl.cerberus.repository.TransactionRollupRepository;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Regenerates the daily transaction rollups of every deposit account from its
+ * ledger entries, populating rollups of transactions recorded before rollups
+ * were maintained, or repairing them.
+ *
+ * Deposit accounts are split into chunks of {@value #CHUNK_SIZE} by id, and
+ * chunks are rebuilt concurrently by <code>rebuild-parallelism</code> worker
+ * threads. Each account is rebuilt within its own short transaction holding a
+ * write lock on its deposit account row, which transactions against the
+ * account acquire as well, so no ledger entry can be recorded between the
+ * rollups of the account being deleted and regenerated. Transactions against
+ * other accounts proceed unaffected while the rebuild runs.
+ *
+ * Runs on startup when <code>rebuild-on-startup</code> is enabled. Since
+ * application runners complete before the instance reports readiness, the
+ * instance receives no traffic until its rollups are rebuilt.
+ *
+ * @see com.behl.cerberus.configuration.TransactionRollupConfigurationProperties
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(TransactionRollupConfigurationProperties.class)
+public class TransactionRollupRebuilder implements ApplicationRunner {
+
+	private static final int CHUNK_SIZE = 500;
+
+	private final DepositAccountRepository depositAccountRepository;
+	private final TransactionRollupRepository transactionRollupRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionRollupConfigurationProperties transactionRollupConfigurationProperties;
+
+	public TransactionRollupRebuilder(@NonNull final DepositAccountRepository depositAccountRepository,
+			@NonNull final TransactionRollupRepository transactionRollupRepository, @NonNull final PlatformTransactionManager transactionManager,
+			@NonNull final TransactionRollupConfigurationProperties transactionRollupConfigurationProperties) {
+		this.depositAccountRepository = depositAccountRepository;
+		this.transactionRollupRepository = transactionRollupRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionRollupConfigurationProperties = transactionRollupConfigurationProperties;
+	}
+
+	@Override
+	public void run(final ApplicationArguments args) {
+		if (!transactionRollupConfigurationProperties.isRebuildOnStartup()) {
+			return;
+		}
+		log.info("Rebuilding transaction rollups of all deposit accounts");
+		final var rebuiltAccounts = rebuild();
+		log.info("Rebuilt transaction rollups of {} deposit account(s)", rebuiltAccounts);
+	}
+
+	/**
+	 * Regenerates the rollups of every deposit account, returning once all
+	 * chunks are rebuilt. Accounts whose rebuild fails, or chunks failing
+	 * altogether, are logged and skipped, leaving their existing rollups in
+	 * place.
+	 *
+	 * @return the number of deposit accounts whose rollups were rebuilt.
+	 */
+	public int rebuild() {
+		final var threadFactory = Thread.ofPlatform().name("transaction-rollup-rebuild-", 0).factory();
+		final var chunkResults = new ArrayList<Future<Integer>>();
+		try (final var executorService = Executors.newFixedThreadPool(transactionRollupConfigurationProperties.getRebuildParallelism(), threadFactory)) {
+			UUID lastAccountId = null;
+			while (true) {
+				final var accountIds = depositAccountRepository.findIdsAfter(lastAccountId, Limit.of(CHUNK_SIZE));
+				if (!accountIds.isEmpty()) {
+					chunkResults.add(executorService.submit(() -> rebuild(accountIds)));
+				}
+				if (accountIds.size() < CHUNK_SIZE) {
+					break;
+				}
+				lastAccountId = accountIds.getLast();
+			}
+		}
+
+		var rebuiltAccounts = 0;
+		for (final var chunkResult : chunkResults) {
+			if (Future.State.SUCCESS.equals(chunkResult.state())) {
+				rebuiltAccounts += chunkResult.resultNow();
+			} else {
+				log.error("Unable to rebuild transaction rollups of chunk of deposit accounts", chunkResult.exceptionNow());
+			}
+		}
+		return rebuiltAccounts;
+	}
+
+	private int rebuild(final List<UUID> accountIds) {
+		var rebuiltAccounts = 0;
+		for (final var accountId : accountIds) {
+			try {
+				final var rebuilt = transactionTemplate.execute(status -> {
+					if (depositAccountRepository.findForUpdateById(accountId).isEmpty()) {
+						return false;
+					}
+					transactionRollupRepository.deleteByAccountId(accountId);
+					transactionRollupRepository.rebuild(accountId);
+					return true;
+				});
+				if (Boolean.TRUE.equals(rebuilt)) {
+					rebuiltAccounts++;
+				}
+			} catch (final DataAccessException | TransactionException exception) {
+				log.error("Unable to rebuild transaction rollups of deposit account '{}'", accountId, exception);
+			}
+		}
+		return rebuiltAccounts;
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.behl.cerberus.utility;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates time-ordered version 7 UUIDs as defined by RFC 9562, used as
+ * primary keys of all entities. Stored as <code>BINARY(16)</code>, version 4
+ * UUIDs land at random positions of the clustered index, splitting pages
+ * across the whole B-tree as tables grow. Version 7 UUIDs lead with a
+ * millisecond timestamp, hence new rows are appended to the rightmost page,
+ * keeping the working set of the index small and its pages densely filled.
+ *
+ * Layout of the generated UUID:
+ * <ul>
+ *   <li>48 bits of milliseconds since the unix epoch.</li>
+ *   <li>4 bit version, <code>0111</code>.</li>
+ *   <li>12 bit counter, incremented for UUIDs generated within the same
+ *       millisecond.</li>
+ *   <li>2 bit variant, <code>10</code>.</li>
+ *   <li>62 random bits.</li>
+ * </ul>
+ *
+ * The timestamp and counter are advanced together as a single
+ * <code>long</code> through compare-and-set, so UUIDs generated by this node
+ * are strictly increasing without locking, even across threads. Should the
+ * counter overflow within a millisecond, or the clock move backwards, the
+ * timestamp is advanced past the clock rather than repeating or decreasing.
+ * Random bits are drawn from {@link ThreadLocalRandom}, avoiding contention on
+ * a shared generator.
+ */
+public final class UuidV7Generator {
+
+	private static final int COUNTER_BITS = 12;
+	private static final long VERSION = 0x7000L;
+	private static final long VARIANT = 0x8000000000000000L;
+	private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+	private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+	private UuidV7Generator() {
+	}
+
+	/**
+	 * @return a version 7 UUID, greater than any previously generated by this node.
+	 */
+	public static UUID generate() {
+		final var timestampAndCounter = nextTimestampAndCounter(System.currentTimeMillis());
+		final var mostSignificantBits = (timestampAndCounter >>> COUNTER_BITS) << 16 | VERSION
+				| (timestampAndCounter & ((1L << COUNTER_BITS) - 1));
+		final var leastSignificantBits = ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT;
+		return new UUID(mostSignificantBits, leastSignificantBits);
+	}
+
+	private static long nextTimestampAndCounter(final long currentTimeMillis) {
+		final var initialValue = currentTimeMillis << COUNTER_BITS;
+		return LAST_TIMESTAMP_AND_COUNTER.updateAndGet(lastValue -> Math.max(initialValue, lastValue + 1));
+	}
+
+}
@@ -0,0 +1,2 @@
+-- Flag users required to reset their password before logging in again
+ALTER TABLE users ADD COLUMN password_reset_required BOOLEAN NOT NULL DEFAULT FALSE;
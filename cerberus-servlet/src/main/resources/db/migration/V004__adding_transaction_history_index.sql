@@ -0,0 +1,2 @@
+-- Serve keyset paginated transaction history of a deposit account, ordered by (timestamp, id), as an index range scan
+CREATE INDEX idx_transactions_deposit_account_timestamp_id ON transactions (deposit_account_id, timestamp, id);
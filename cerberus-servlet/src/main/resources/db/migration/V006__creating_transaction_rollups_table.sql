@@ -0,0 +1,13 @@
+-- Create transaction_rollups table, each row holding the totals deposited and withdrawn against a deposit account
+-- on a single UTC day in a single currency, clustered by (deposit_account_id, rollup_date) for statements to read as a range
+CREATE TABLE transaction_rollups (
+    deposit_account_id BINARY(16) NOT NULL,
+    rollup_date DATE NOT NULL,
+    currency ENUM('USD') NOT NULL,
+    total_deposited DECIMAL(19, 4) NOT NULL,
+    total_withdrawn DECIMAL(19, 4) NOT NULL,
+    deposit_count BIGINT NOT NULL,
+    withdrawal_count BIGINT NOT NULL,
+    PRIMARY KEY (deposit_account_id, rollup_date, currency),
+    FOREIGN KEY (deposit_account_id) REFERENCES deposit_accounts(id)
+);
@@ -0,0 +1,44 @@
+-- Stores a refresh token and registers it against the user's session index, evicting
+-- expired and excess sessions (oldest first). Executed atomically by redis. Every key
+-- accessed holds the user id as a hash tag, hence shares a single hash slot. Keys of
+-- evicted refresh tokens are derived from the refresh token key prefix of the user.
+--
+-- KEYS[1] : refresh token key
+-- KEYS[2] : hash of user's sessions (refresh token -> session details)
+-- KEYS[3] : sorted set of user's sessions (refresh token -> issuance epoch millis)
+-- ARGV[1] : user id
+-- ARGV[2] : refresh token
+-- ARGV[3] : session details
+-- ARGV[4] : issuance epoch millis
+-- ARGV[5] : refresh token validity in seconds
+-- ARGV[6] : maximum active sessions allowed for the user
+-- ARGV[7] : refresh token key prefix of the user
+--
+-- Returns the number of evicted excess sessions.
+
+redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[5])
+redis.call('HSET', KEYS[2], ARGV[2], ARGV[3])
+redis.call('ZADD', KEYS[3], ARGV[4], ARGV[2])
+
+local expiredBefore = '(' .. (tonumber(ARGV[4]) - tonumber(ARGV[5]) * 1000)
+local expiredTokens = redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', expiredBefore)
+for _, token in ipairs(expiredTokens) do
+	redis.call('HDEL', KEYS[2], token)
+end
+redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', expiredBefore)
+
+local excessSessions = redis.call('ZCARD', KEYS[3]) - tonumber(ARGV[6])
+if excessSessions > 0 then
+	local evictedTokens = redis.call('ZRANGE', KEYS[3], 0, excessSessions - 1)
+	for _, token in ipairs(evictedTokens) do
+		redis.call('HDEL', KEYS[2], token)
+		redis.call('DEL', ARGV[7] .. token)
+	end
+	redis.call('ZREMRANGEBYRANK', KEYS[3], 0, excessSessions - 1)
+else
+	excessSessions = 0
+end
+
+redis.call('EXPIRE', KEYS[2], ARGV[5])
+redis.call('EXPIRE', KEYS[3], ARGV[5])
+return excessSessions
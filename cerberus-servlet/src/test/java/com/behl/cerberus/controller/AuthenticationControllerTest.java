@@ -2,16 +2,24 @@ package com.behl.cerberus.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.refEq;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +33,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.behl.cerberus.configuration.CustomAuthenticationEntryPoint;
 import com.behl.cerberus.configuration.SecurityConfiguration;
+import com.behl.cerberus.dto.SessionDetailDto;
 import com.behl.cerberus.dto.TokenSuccessResponseDto;
 import com.behl.cerberus.dto.UserLoginRequestDto;
 import com.behl.cerberus.exception.ExceptionResponseHandler;
@@ -32,15 +41,20 @@ import com.behl.cerberus.exception.InvalidCredentialsException;
 import com.behl.cerberus.exception.TokenVerificationException;
 import com.behl.cerberus.service.AuthenticationService;
 import com.behl.cerberus.service.TokenRevocationService;
+import com.behl.cerberus.token.AccessTokenClaims;
 import com.behl.cerberus.utility.ApiEndpointSecurityInspector;
+import com.behl.cerberus.utility.AuthenticatedUserIdProvider;
+import com.behl.cerberus.utility.AuthenticationStageTimer;
 import com.behl.cerberus.utility.JwtUtility;
 import com.behl.cerberus.utility.RefreshTokenHeaderProvider;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.swagger.v3.core.util.Json;
 import lombok.SneakyThrows;
 
 @WebMvcTest(controllers = AuthenticationController.class)
-@Import({ ExceptionResponseHandler.class, SecurityConfiguration.class, CustomAuthenticationEntryPoint.class, ApiEndpointSecurityInspector.class })
+@Import({ ExceptionResponseHandler.class, SecurityConfiguration.class, CustomAuthenticationEntryPoint.class, ApiEndpointSecurityInspector.class,
+		AuthenticationStageTimer.class, SimpleMeterRegistry.class })
 class AuthenticationControllerTest {
 
 	@Autowired
@@ -52,6 +66,9 @@ class AuthenticationControllerTest {
 	@SpyBean
 	private RefreshTokenHeaderProvider refreshTokenHeaderProvider;
 
+	@SpyBean
+	private AuthenticatedUserIdProvider authenticatedUserIdProvider;
+
 	@MockBean
 	private JwtUtility jwtUtility;
 
@@ -198,5 +215,66 @@ class AuthenticationControllerTest {
 				.andExpect(jsonPath("$.Status").value(HttpStatus.UNAUTHORIZED.toString()))
 				.andExpect(jsonPath("$.Description").value("Authentication failure: Token missing, invalid, revoked or expired"));
 	}
+	
+	@Test
+	@SneakyThrows
+	void shouldReturnActiveSessionsOfLoggedInUser() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// prepare service layer success response
+		final var device = "test-user-agent";
+		final var issuedAt = LocalDateTime.parse("2024-01-15T10:30:15.123");
+		final var session = mock(SessionDetailDto.class);
+		when(session.getDevice()).thenReturn(device);
+		when(session.getIssuedAt()).thenReturn(issuedAt);
+		when(authenticationService.getActiveSessions(userId)).thenReturn(List.of(session));
+		
+		// execute API request
+		final var apiPath = "/auth/sessions";
+		mockMvc.perform(get(apiPath)
+				.header("Authorization", "Bearer " + accessToken))
+				.andExpect(status().isOk())
+				.andDo(print())
+				.andExpect(jsonPath("$[0].Device").value(device))
+				.andExpect(jsonPath("$[0].IssuedAt").value(issuedAt.toString()));
+		
+		// verify mock interaction
+		verify(authenticatedUserIdProvider).getUserId();
+		verify(authenticationService).getActiveSessions(userId);
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldLogoutLoggedInUserFromEveryDevice() {
+		// simulate scopes held by access token
+		final var scope = "userprofile.read";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		doNothing().when(authenticationService).logoutEverywhere(userId);
+		
+		// execute API request
+		final var apiPath = "/auth/sessions";
+		mockMvc.perform(delete(apiPath)
+				.header("Authorization", "Bearer " + accessToken))
+				.andExpect(status().isNoContent())
+				.andDo(print());
+		
+		// verify mock interaction
+		verify(authenticatedUserIdProvider).getUserId();
+		verify(authenticationService).logoutEverywhere(userId);
+	}
 
 }
\ No newline at end of file
@@ -0,0 +1,768 @@
+package com.behl.cerberus.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.refEq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.behl.cerberus.configuration.CustomAuthenticationEntryPoint;
+import com.behl.cerberus.configuration.SecurityConfiguration;
+import com.behl.cerberus.dto.BalanceAsOfDto;
+import com.behl.cerberus.dto.DepositAccountDetailDto;
+import com.behl.cerberus.dto.StatementDto;
+import com.behl.cerberus.dto.StatementEntryDto;
+import com.behl.cerberus.dto.StatementRequestDto;
+import com.behl.cerberus.dto.TransactionBatchResultDto;
+import com.behl.cerberus.dto.TransactionDetailDto;
+import com.behl.cerberus.dto.TransactionHistoryDto;
+import com.behl.cerberus.dto.TransactionHistoryRequestDto;
+import com.behl.cerberus.dto.TransactionRequestDto;
+import com.behl.cerberus.entity.Currency;
+import com.behl.cerberus.entity.TransactionType;
+import com.behl.cerberus.exception.AccountAlreadyExistsException;
+import com.behl.cerberus.exception.DepositAccountNotFoundException;
+import com.behl.cerberus.exception.ExceptionResponseHandler;
+import com.behl.cerberus.exception.ExportCapacityExceededException;
+import com.behl.cerberus.exception.IdempotencyKeyReusedException;
+import com.behl.cerberus.exception.InsufficientBalanceException;
+import com.behl.cerberus.service.DepositAccountService;
+import com.behl.cerberus.service.TokenRevocationService;
+import com.behl.cerberus.token.AccessTokenClaims;
+import com.behl.cerberus.utility.ApiEndpointSecurityInspector;
+import com.behl.cerberus.utility.AuthenticatedUserIdProvider;
+import com.behl.cerberus.utility.AuthenticationStageTimer;
+import com.behl.cerberus.utility.IdempotentRequestExecutor;
+import com.behl.cerberus.utility.JwtUtility;
+import com.behl.cerberus.utility.TransactionExporter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.swagger.v3.core.util.Json;
+import lombok.SneakyThrows;
+
+@WebMvcTest(controllers = DepositAccountController.class)
+@Import({ ExceptionResponseHandler.class, SecurityConfiguration.class, CustomAuthenticationEntryPoint.class, ApiEndpointSecurityInspector.class,
+		AuthenticationStageTimer.class, SimpleMeterRegistry.class })
+class DepositAccountControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockBean
+	private DepositAccountService depositAccountService;
+
+	@SpyBean
+	private AuthenticatedUserIdProvider authenticatedUserIdProvider;
+
+	@MockBean
+	private JwtUtility jwtUtility;
+
+	@MockBean
+	private TokenRevocationService tokenRevocationService;
+
+	@MockBean
+	private IdempotentRequestExecutor idempotentRequestExecutor;
+
+	@MockBean
+	private TransactionExporter transactionExporter;
+	
+	@Test
+	@SneakyThrows
+	void shouldThrowConflictIfDepositAccountAlreadyExistsForAuthenticatedUser() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// simulate conflict w.r.t deposit accounts for authenticated user
+		final var errorMessage = "Deposit Account already exists.";
+		doThrow(new AccountAlreadyExistsException(errorMessage)).when(depositAccountService).create(userId);;
+		
+		// execute API request
+		final var apiPath = "/deposit-accounts";
+		mockMvc.perform(post(apiPath)
+				.header("Authorization", "Bearer " + accessToken))
+				.andExpect(status().isConflict())
+				.andDo(print())
+				.andExpect(jsonPath("$.Status").value(HttpStatus.CONFLICT.toString()))
+				.andExpect(jsonPath("$.Description").value(errorMessage));
+		
+		// verify mock interaction
+		verify(authenticatedUserIdProvider).getUserId();
+		verify(depositAccountService).create(userId);
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldCreateDepositAccountForAuthenticatedUser() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// execute API request
+		final var apiPath = "/deposit-accounts";
+		mockMvc.perform(post(apiPath)
+				.header("Authorization", "Bearer " + accessToken))
+				.andExpect(status().isCreated())
+				.andDo(print());
+		
+		// verify mock interaction
+		verify(authenticatedUserIdProvider).getUserId();
+		verify(depositAccountService).create(userId);
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldReturnNotFoundIfDepositAccountIsNotCreated() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// mock deposit account not created scenario
+		when(depositAccountService.getByUserId(userId)).thenThrow(new DepositAccountNotFoundException());
+		
+		// execute API request
+		final var apiPath = "/deposit-accounts";
+		mockMvc.perform(get(apiPath)
+				.header("Authorization", "Bearer " + accessToken))
+				.andExpect(status().isNotFound())
+				.andDo(print())
+				.andExpect(jsonPath("$.Status").value(HttpStatus.NOT_FOUND.toString()))
+				.andExpect(jsonPath("$.Description").value("Deposit account must be created prior to performing this operation"));
+		
+		// verify mock interaction
+		verify(authenticatedUserIdProvider).getUserId();
+		verify(depositAccountService).getByUserId(userId);
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldProcessTransactionSuccessfullyForAuthenticatedUserIfAccountCreated() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// mock transaction processing
+		final var withdrawlAmount = new BigDecimal(new Random().nextInt(1, 100));
+		final var transactionRequest = new TransactionRequestDto();
+		transactionRequest.setAmount(withdrawlAmount);
+		transactionRequest.setCurrency(Currency.USD);
+		transactionRequest.setType(TransactionType.WITHDRAW);
+		doNothing().when(depositAccountService).processTransaction(eq(userId), refEq(transactionRequest));
+		
+		// execute API request
+		final var apiPath = "/deposit-accounts/transactions";
+		final var requestBody = Json.mapper().writeValueAsString(transactionRequest);
+		mockMvc.perform(post(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(requestBody))
+				.andExpect(status().isOk())
+				.andDo(print());
+		
+		// verify mock interaction
+		verify(authenticatedUserIdProvider).getUserId();
+		verify(depositAccountService).processTransaction(eq(userId), refEq(transactionRequest));
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldNotAllowWithrawlMoreThanAccountBalance() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// mock withrawl amount more than account balance scenario
+		final var withdrawlAmount = new BigDecimal(new Random().nextInt(1, 100));
+		final var transactionRequest = new TransactionRequestDto();
+		transactionRequest.setAmount(withdrawlAmount);
+		transactionRequest.setCurrency(Currency.USD);
+		transactionRequest.setType(TransactionType.WITHDRAW);
+		doThrow(new InsufficientBalanceException()).when(depositAccountService).processTransaction(eq(userId), refEq(transactionRequest));
+		
+		// execute API request
+		final var apiPath = "/deposit-accounts/transactions";
+		final var requestBody = Json.mapper().writeValueAsString(transactionRequest);
+		mockMvc.perform(post(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(requestBody))
+				.andExpect(status().isNotAcceptable())
+				.andDo(print())
+				.andExpect(jsonPath("$.Status").value(HttpStatus.NOT_ACCEPTABLE.toString()))
+				.andExpect(jsonPath("$.Description").value("Insufficient balance to perform transaction"));
+		
+		// verify mock interaction
+		verify(authenticatedUserIdProvider).getUserId();
+		verify(depositAccountService).processTransaction(eq(userId), refEq(transactionRequest));
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldProcessTransactionThroughIdempotentRequestExecutorIfIdempotencyKeyProvided() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// prepare transaction request
+		final var transactionRequest = new TransactionRequestDto();
+		transactionRequest.setAmount(new BigDecimal("10.50"));
+		transactionRequest.setCurrency(Currency.USD);
+		transactionRequest.setType(TransactionType.DEPOSIT);
+		
+		// execute API request with idempotency key
+		final var idempotencyKey = UUID.randomUUID().toString();
+		final var apiPath = "/deposit-accounts/transactions";
+		final var requestBody = Json.mapper().writeValueAsString(transactionRequest);
+		mockMvc.perform(post(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.header("Idempotency-Key", idempotencyKey)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(requestBody))
+				.andExpect(status().isOk())
+				.andDo(print());
+		
+		// verify transaction is processed through idempotent request executor
+		verify(idempotentRequestExecutor).execute(eq(userId.toString()), eq(idempotencyKey), eq("DEPOSIT:USD:10.5"), any(Runnable.class));
+		verify(depositAccountService, never()).processTransaction(any(), any());
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldReturnUnprocessableEntityIfIdempotencyKeyReusedForDifferentTransaction() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// simulate idempotency key already used for different transaction
+		final var idempotencyKey = UUID.randomUUID().toString();
+		doThrow(new IdempotencyKeyReusedException()).when(idempotentRequestExecutor).execute(eq(userId.toString()), eq(idempotencyKey), any(), any());
+		
+		// execute API request with idempotency key
+		final var transactionRequest = new TransactionRequestDto();
+		transactionRequest.setAmount(new BigDecimal(new Random().nextInt(1, 100)));
+		transactionRequest.setCurrency(Currency.USD);
+		transactionRequest.setType(TransactionType.WITHDRAW);
+		final var apiPath = "/deposit-accounts/transactions";
+		final var requestBody = Json.mapper().writeValueAsString(transactionRequest);
+		mockMvc.perform(post(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.header("Idempotency-Key", idempotencyKey)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(requestBody))
+				.andExpect(status().isUnprocessableEntity())
+				.andExpect(jsonPath("$.Status").value(HttpStatus.UNPROCESSABLE_ENTITY.toString()))
+				.andExpect(jsonPath("$.Description").value("Idempotency-Key has already been used for a different request"))
+				.andDo(print());
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldProcessBatchOfTransactionsForAuthenticatedUser() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// mock batch processing with second transaction rejected
+		final var transactionRequest = new TransactionRequestDto();
+		transactionRequest.setAmount(new BigDecimal(new Random().nextInt(1, 100)));
+		transactionRequest.setCurrency(Currency.USD);
+		transactionRequest.setType(TransactionType.WITHDRAW);
+		final var rejection = new InsufficientBalanceException();
+		when(depositAccountService.processTransactions(eq(userId), argThat(transactionRequests -> transactionRequests.size() == 2))).thenReturn(List.of(
+				TransactionBatchResultDto.builder().index(0).status(HttpStatus.OK.toString()).build(),
+				TransactionBatchResultDto.builder().index(1).status(rejection.getStatusCode().toString()).description(rejection.getReason()).build()));
+		
+		// execute API request
+		final var apiPath = "/deposit-accounts/transactions/batch";
+		final var requestBody = Json.mapper().writeValueAsString(List.of(transactionRequest, transactionRequest));
+		mockMvc.perform(post(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(requestBody))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].Index").value(0))
+				.andExpect(jsonPath("$[0].Status").value(HttpStatus.OK.toString()))
+				.andExpect(jsonPath("$[0].Description").doesNotExist())
+				.andExpect(jsonPath("$[1].Status").value(HttpStatus.NOT_ACCEPTABLE.toString()))
+				.andExpect(jsonPath("$[1].Description").value(rejection.getReason()))
+				.andDo(print());
+		
+		// verify mock interaction
+		verify(depositAccountService).processTransactions(eq(userId), argThat(transactionRequests -> transactionRequests.size() == 2));
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldRejectBatchOfTransactionsExceedingPermittedSizeWithoutProcessing() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// prepare array holding one transaction more than permitted, followed by malformed content never to be parsed
+		final var transaction = "{\"Amount\": 10, \"Currency\": \"USD\", \"Type\": \"DEPOSIT\"}";
+		final var requestBody = "[" + String.join(",", Collections.nCopies(DepositAccountService.MAXIMUM_BATCH_SIZE + 1, transaction))
+				+ ", {\"Amount\": ";
+		
+		// execute API request
+		final var apiPath = "/deposit-accounts/transactions/batch";
+		mockMvc.perform(post(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(requestBody))
+				.andExpect(status().isPayloadTooLarge())
+				.andDo(print());
+		
+		// verify no transaction is processed
+		verify(depositAccountService, never()).processTransactions(any(), any());
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldReturnBadRequestForBatchOfTransactionsNotHeldInArray() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// execute API request with a single transaction rather than an array
+		final var apiPath = "/deposit-accounts/transactions/batch";
+		final var requestBody = "{\"Amount\": 10, \"Currency\": \"USD\", \"Type\": \"DEPOSIT\"}";
+		mockMvc.perform(post(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(requestBody))
+				.andExpect(status().isBadRequest())
+				.andDo(print());
+		
+		// verify no transaction is processed
+		verify(depositAccountService, never()).processTransactions(any(), any());
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldProcessNewlineDelimitedTransactionStreamForAuthenticatedUser() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// mock batch processing
+		final var transactionRequest = new TransactionRequestDto();
+		transactionRequest.setAmount(new BigDecimal(new Random().nextInt(1, 100)));
+		transactionRequest.setCurrency(Currency.USD);
+		transactionRequest.setType(TransactionType.DEPOSIT);
+		final var result = TransactionBatchResultDto.builder().status(HttpStatus.OK.toString()).build();
+		when(depositAccountService.processTransactions(eq(userId), argThat(transactionRequests -> transactionRequests.size() == 3))).thenReturn(List.of(result, result, result));
+		
+		// execute API request with one transaction per line
+		final var apiPath = "/deposit-accounts/transactions/batch";
+		final var line = Json.mapper().writeValueAsString(transactionRequest);
+		final var requestBody = String.join("\n", line, line, line);
+		mockMvc.perform(post(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.content(requestBody))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(3))
+				.andDo(print());
+		
+		// verify each line is parsed into a transaction request
+		verify(depositAccountService).processTransactions(eq(userId), argThat(transactionRequests -> transactionRequests.size() == 3
+				&& transactionRequests.stream().allMatch(request -> TransactionType.DEPOSIT.equals(request.getType()))));
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldReturnBadRequestForMalformedTransactionStream() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// execute API request with malformed second line
+		final var apiPath = "/deposit-accounts/transactions/batch";
+		final var requestBody = "{\"Amount\": 10, \"Currency\": \"USD\", \"Type\": \"DEPOSIT\"}\n{\"Amount\": ";
+		mockMvc.perform(post(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.content(requestBody))
+				.andExpect(status().isBadRequest())
+				.andDo(print());
+		
+		// verify no transaction is processed
+		verify(depositAccountService, never()).processTransactions(any(), any());
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldFetchDepositAccountDetailsForAuthenticatedUser() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// mock deposit account details fetch call
+		final var balance = new BigDecimal(new Random().nextInt(1, 100));
+		final var createdAt = LocalDateTime.parse("1999-12-25T04:00:00.140521");
+		final var depositAccountDetails = mock(DepositAccountDetailDto.class);
+		when(depositAccountDetails.getBalance()).thenReturn(balance);
+		when(depositAccountDetails.getCreatedAt()).thenReturn(createdAt);
+		when(depositAccountService.getByUserId(userId)).thenReturn(depositAccountDetails);
+		
+		// execute API request
+		final var apiPath = "/deposit-accounts";
+		mockMvc.perform(get(apiPath)
+				.header("Authorization", "Bearer " + accessToken))
+				.andExpect(status().isOk())
+				.andDo(print())
+				.andExpect(jsonPath("$.Balance").value(balance))
+				.andExpect(jsonPath("$.CreatedAt").value(createdAt.toString()));
+		
+		// verify mock interaction
+		verify(authenticatedUserIdProvider).getUserId();
+		verify(depositAccountService).getByUserId(userId);
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldFetchBalanceAsOfRequestedTimeForAuthenticatedUser() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// mock historical balance fetch call
+		final var asOf = LocalDateTime.parse("2024-03-01T10:15:30");
+		final var balance = BalanceAsOfDto.builder().balance(new BigDecimal("74.50")).asOf(asOf).build();
+		when(depositAccountService.getBalanceAsOf(userId, asOf)).thenReturn(balance);
+		
+		// execute API request
+		final var apiPath = "/deposit-accounts/balance";
+		mockMvc.perform(get(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.param("asOf", asOf.toString()))
+				.andExpect(status().isOk())
+				.andDo(print())
+				.andExpect(jsonPath("$.Balance").value(74.50))
+				.andExpect(jsonPath("$.AsOf").value(asOf.toString()));
+		
+		// verify mock interaction
+		verify(authenticatedUserIdProvider).getUserId();
+		verify(depositAccountService).getBalanceAsOf(userId, asOf);
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldFetchStatementForAuthenticatedUser() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// mock statement fetch call
+		final var from = LocalDate.parse("2024-01-01");
+		final var to = LocalDate.parse("2024-04-01");
+		final var entry = StatementEntryDto.builder().periodStart(LocalDate.parse("2024-02-01")).currency(Currency.USD)
+				.totalDeposited(new BigDecimal("150")).totalWithdrawn(new BigDecimal("40")).depositCount(3L).withdrawalCount(1L).build();
+		final var statement = StatementDto.builder().period(StatementRequestDto.Period.DAILY).from(from).to(to).entries(List.of(entry)).build();
+		when(depositAccountService.getStatement(eq(userId), any(StatementRequestDto.class))).thenReturn(statement);
+		
+		// execute API request
+		final var apiPath = "/deposit-accounts/statement";
+		mockMvc.perform(get(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.param("period", StatementRequestDto.Period.DAILY.name())
+				.param("from", from.toString())
+				.param("to", to.toString()))
+				.andExpect(status().isOk())
+				.andDo(print())
+				.andExpect(jsonPath("$.Period").value(StatementRequestDto.Period.DAILY.name()))
+				.andExpect(jsonPath("$.Entries[0].PeriodStart").value("2024-02-01"))
+				.andExpect(jsonPath("$.Entries[0].TotalDeposited").value(150))
+				.andExpect(jsonPath("$.Entries[0].WithdrawalCount").value(1));
+		
+		// verify mock interaction
+		verify(authenticatedUserIdProvider).getUserId();
+		verify(depositAccountService).getStatement(eq(userId), argThat(statementRequest ->
+				StatementRequestDto.Period.DAILY.equals(statementRequest.getPeriod())
+				&& from.equals(statementRequest.getFrom())
+				&& to.equals(statementRequest.getTo())));
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldReturnBadRequestIfStatementRangeNotProvided() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// execute API request without statement range
+		final var apiPath = "/deposit-accounts/statement";
+		mockMvc.perform(get(apiPath)
+				.header("Authorization", "Bearer " + accessToken))
+				.andExpect(status().isBadRequest())
+				.andDo(print())
+				.andExpect(jsonPath("$.Status").value(HttpStatus.BAD_REQUEST.toString()));
+		
+		// verify mock interaction
+		verify(depositAccountService, never()).getStatement(any(), any());
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldFetchPageOfTransactionsForAuthenticatedUser() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// mock transaction history fetch call
+		final var timestamp = LocalDateTime.parse("2024-03-01T10:15:30");
+		final var transaction = TransactionDetailDto.builder().amount(BigDecimal.TEN).currency(Currency.USD).type(TransactionType.DEPOSIT).timestamp(timestamp).build();
+		final var transactionHistory = TransactionHistoryDto.builder().transactions(List.of(transaction)).nextCursor("test-next-cursor").build();
+		when(depositAccountService.getTransactions(eq(userId), any(TransactionHistoryRequestDto.class))).thenReturn(transactionHistory);
+		
+		// execute API request
+		final var apiPath = "/deposit-accounts/transactions";
+		mockMvc.perform(get(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.param("cursor", "test-cursor")
+				.param("limit", "25")
+				.param("type", TransactionType.DEPOSIT.name())
+				.param("from", "2024-01-01T00:00:00"))
+				.andExpect(status().isOk())
+				.andDo(print())
+				.andExpect(jsonPath("$.Transactions[0].Type").value(TransactionType.DEPOSIT.name()))
+				.andExpect(jsonPath("$.Transactions[0].Timestamp").value(timestamp.toString()))
+				.andExpect(jsonPath("$.NextCursor").value("test-next-cursor"));
+		
+		// verify mock interaction
+		verify(authenticatedUserIdProvider).getUserId();
+		verify(depositAccountService).getTransactions(eq(userId), argThat(transactionHistoryRequest ->
+				"test-cursor".equals(transactionHistoryRequest.getCursor())
+				&& transactionHistoryRequest.getLimit() == 25
+				&& TransactionType.DEPOSIT.equals(transactionHistoryRequest.getType())
+				&& LocalDateTime.parse("2024-01-01T00:00:00").equals(transactionHistoryRequest.getFrom())
+				&& transactionHistoryRequest.getTo() == null));
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldReturnBadRequestIfPageSizeExceedsMaximum() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// execute API request with page size exceeding maximum
+		final var apiPath = "/deposit-accounts/transactions";
+		mockMvc.perform(get(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.param("limit", String.valueOf(TransactionHistoryRequestDto.MAXIMUM_PAGE_SIZE + 1)))
+				.andExpect(status().isBadRequest())
+				.andDo(print())
+				.andExpect(jsonPath("$.Status").value(HttpStatus.BAD_REQUEST.toString()));
+		
+		// verify mock interaction
+		verify(depositAccountService, never()).getTransactions(any(), any());
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldStreamTransactionExportForAuthenticatedUser() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// mock transaction export
+		final var exportedContent = "Id,Type,Currency,Amount,Timestamp\n";
+		when(transactionExporter.export(userId, TransactionExporter.Format.CSV))
+				.thenReturn(outputStream -> outputStream.write(exportedContent.getBytes(StandardCharsets.UTF_8)));
+		
+		// execute API request and await streamed response
+		final var apiPath = "/deposit-accounts/transactions/export";
+		final var mvcResult = mockMvc.perform(get(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.param("format", TransactionExporter.Format.CSV.name()))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		mockMvc.perform(asyncDispatch(mvcResult))
+				.andExpect(status().isOk())
+				.andDo(print())
+				.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.csv\""))
+				.andExpect(content().contentTypeCompatibleWith("text/csv"))
+				.andExpect(content().string(exportedContent));
+		
+		// verify mock interaction
+		verify(authenticatedUserIdProvider).getUserId();
+		verify(transactionExporter).export(userId, TransactionExporter.Format.CSV);
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldReturnTooManyRequestsWhenExportCapacityIsExhausted() {
+		// simulate scopes held by access token
+		final var scope = "fullaccess";
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of(scope);
+		
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var userId = UUID.randomUUID();
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
+		
+		// mock permitted number of exports being in progress
+		when(transactionExporter.export(userId, TransactionExporter.Format.NDJSON)).thenThrow(new ExportCapacityExceededException(Duration.ofSeconds(30)));
+		
+		// execute API request
+		final var apiPath = "/deposit-accounts/transactions/export";
+		mockMvc.perform(get(apiPath)
+				.header("Authorization", "Bearer " + accessToken))
+				.andExpect(status().isTooManyRequests())
+				.andDo(print())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+	}
+
+}
\ No newline at end of file
@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -24,8 +25,6 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.behl.cerberus.configuration.CustomAuthenticationEntryPoint;
@@ -34,15 +33,19 @@ import com.behl.cerberus.dto.IdentityVerificationRequestDto;
 import com.behl.cerberus.exception.ExceptionResponseHandler;
 import com.behl.cerberus.service.IdentityVerificationService;
 import com.behl.cerberus.service.TokenRevocationService;
+import com.behl.cerberus.token.AccessTokenClaims;
 import com.behl.cerberus.utility.ApiEndpointSecurityInspector;
 import com.behl.cerberus.utility.AuthenticatedUserIdProvider;
+import com.behl.cerberus.utility.AuthenticationStageTimer;
 import com.behl.cerberus.utility.JwtUtility;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.swagger.v3.core.util.Json;
 import lombok.SneakyThrows;
 
 @WebMvcTest(controllers = IdentityVerificationController.class)
-@Import({ ExceptionResponseHandler.class, SecurityConfiguration.class, CustomAuthenticationEntryPoint.class, ApiEndpointSecurityInspector.class })
+@Import({ ExceptionResponseHandler.class, SecurityConfiguration.class, CustomAuthenticationEntryPoint.class, ApiEndpointSecurityInspector.class,
+		AuthenticationStageTimer.class, SimpleMeterRegistry.class })
 class IdentityVerificationControllerTest {
 	
 	@Autowired
@@ -71,16 +74,15 @@ class IdentityVerificationControllerTest {
 		identityVerificationRequest.setPostalCode("123456");
 		identityVerificationRequest.setStreetAddress("test-residential-street");
 
-		// simulate authority extraction from access token
+		// simulate scopes held by access token
 		final var scope = "useridentity.verify";
 		final var accessToken = "test-access-token";
-		final var accessTokenAuthority = List.<GrantedAuthority>of(new SimpleGrantedAuthority(scope));
-		when(jwtUtility.getAuthority(accessToken)).thenReturn(accessTokenAuthority);
+		final var accessTokenScopes = List.of(scope);
 		
-		// simulate user ID extraction from access token
+		// simulate verification of access token issued to user
 		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
 		final var userId = UUID.randomUUID();
-		when(jwtUtility.extractUserId(accessToken)).thenReturn(userId);
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
 		
 		// execute API request
 		final var apiPath = "/users/identity-verification";
@@ -103,10 +105,16 @@ class IdentityVerificationControllerTest {
 		// prepare empty request body
 		final var identityVerificationRequest = "{}";
 
+		// simulate verification of access token issued to user
+		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
+		final var accessToken = "test-access-token";
+		final var accessTokenScopes = List.of("useridentity.verify");
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), UUID.randomUUID(), accessTokenScopes, Instant.now().plusSeconds(60)));
+
 		// execute API request
 		final var apiPath = "/users/identity-verification";
 		mockMvc.perform(post(apiPath)
-				.header("Authorization", "Bearer test-access-token")
+				.header("Authorization", "Bearer " + accessToken)
 				.contentType(MediaType.APPLICATION_JSON)
 				.content(identityVerificationRequest))
 				.andExpect(status().isBadRequest())
@@ -6,7 +6,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,8 +17,6 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.behl.cerberus.configuration.CustomAuthenticationEntryPoint;
@@ -24,14 +24,20 @@ import com.behl.cerberus.configuration.SecurityConfiguration;
 import com.behl.cerberus.exception.ExceptionResponseHandler;
 import com.behl.cerberus.service.DepositAccountService;
 import com.behl.cerberus.service.TokenRevocationService;
+import com.behl.cerberus.token.AccessTokenClaims;
 import com.behl.cerberus.utility.ApiEndpointSecurityInspector;
 import com.behl.cerberus.utility.AuthenticatedUserIdProvider;
+import com.behl.cerberus.utility.AuthenticationStageTimer;
+import com.behl.cerberus.utility.IdempotentRequestExecutor;
 import com.behl.cerberus.utility.JwtUtility;
+import com.behl.cerberus.utility.TransactionExporter;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
 
 @WebMvcTest(controllers = DepositAccountController.class)
-@Import({ ExceptionResponseHandler.class, SecurityConfiguration.class, CustomAuthenticationEntryPoint.class, ApiEndpointSecurityInspector.class })
+@Import({ ExceptionResponseHandler.class, SecurityConfiguration.class, CustomAuthenticationEntryPoint.class, ApiEndpointSecurityInspector.class,
+		AuthenticationStageTimer.class, SimpleMeterRegistry.class })
 class InsufficientScopesControllerTest {
 	
 	@Autowired
@@ -48,6 +54,12 @@ class InsufficientScopesControllerTest {
 
 	@MockBean
 	private TokenRevocationService tokenRevocationService;
+
+	@MockBean
+	private IdempotentRequestExecutor idempotentRequestExecutor;
+
+	@MockBean
+	private TransactionExporter transactionExporter;
 	
 	@Test
 	@SneakyThrows
@@ -56,8 +68,8 @@ class InsufficientScopesControllerTest {
 		// Simulate the absence of required scopes in access token
 		final var scope = "not:fullaccess";
 		final var accessToken = "test-access-token";
-		final var accessTokenAuthority = List.<GrantedAuthority>of(new SimpleGrantedAuthority(scope));
-		when(jwtUtility.getAuthority(accessToken)).thenReturn(accessTokenAuthority);
+		final var accessTokenScopes = List.of(scope);
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), UUID.randomUUID(), accessTokenScopes, Instant.now().plusSeconds(60)));
 		
 		// Send request to an API that requires "fullaccess" scope
 		final var apiPath = "/deposit-accounts";
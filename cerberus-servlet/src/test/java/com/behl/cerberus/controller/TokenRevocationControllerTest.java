@@ -6,6 +6,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -20,14 +24,18 @@ import com.behl.cerberus.exception.ExceptionResponseHandler;
 import com.behl.cerberus.exception.TokenVerificationException;
 import com.behl.cerberus.service.TokenRevocationService;
 import com.behl.cerberus.service.UserService;
+import com.behl.cerberus.token.AccessTokenClaims;
 import com.behl.cerberus.utility.ApiEndpointSecurityInspector;
 import com.behl.cerberus.utility.AuthenticatedUserIdProvider;
+import com.behl.cerberus.utility.AuthenticationStageTimer;
 import com.behl.cerberus.utility.JwtUtility;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
 
 @WebMvcTest(controllers = UserController.class)
-@Import({ ExceptionResponseHandler.class, SecurityConfiguration.class, CustomAuthenticationEntryPoint.class, ApiEndpointSecurityInspector.class })
+@Import({ ExceptionResponseHandler.class, SecurityConfiguration.class, CustomAuthenticationEntryPoint.class, ApiEndpointSecurityInspector.class,
+		AuthenticationStageTimer.class, SimpleMeterRegistry.class })
 class TokenRevocationControllerTest {
 	
 	@Autowired
@@ -50,7 +58,9 @@ class TokenRevocationControllerTest {
 	void shouldNotAllowAccessToSecuredApiIfAccessTokenRevoked() {
 		// mock access token revocation
 		final var accessToken = "test-revoked-access-token";
-		when(tokenRevocationService.isRevoked(accessToken)).thenReturn(Boolean.TRUE);
+		final var accessTokenClaims = new AccessTokenClaims(UUID.randomUUID().toString(), UUID.randomUUID(), List.of("fullaccess"), Instant.now().plusSeconds(60));
+		when(jwtUtility.decode(accessToken)).thenReturn(accessTokenClaims);
+		when(tokenRevocationService.isRevoked(accessTokenClaims)).thenReturn(Boolean.TRUE);
 		
 		// execute API request
 		final var exception = assertThrows(TokenVerificationException.class, () -> {
@@ -64,7 +74,7 @@ class TokenRevocationControllerTest {
 		assertThat(exception.getReason()).isEqualTo("Authentication failure: Token missing, invalid, revoked or expired");
 		
 		// verify mock interaction
-		verify(tokenRevocationService).isRevoked(accessToken);
+		verify(tokenRevocationService).isRevoked(accessTokenClaims);
 	}
 
 }
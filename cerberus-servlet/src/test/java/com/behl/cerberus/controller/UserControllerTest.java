@@ -17,6 +17,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,8 +32,6 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.behl.cerberus.configuration.CustomAuthenticationEntryPoint;
@@ -45,15 +44,19 @@ import com.behl.cerberus.exception.AccountAlreadyExistsException;
 import com.behl.cerberus.exception.ExceptionResponseHandler;
 import com.behl.cerberus.service.TokenRevocationService;
 import com.behl.cerberus.service.UserService;
+import com.behl.cerberus.token.AccessTokenClaims;
 import com.behl.cerberus.utility.ApiEndpointSecurityInspector;
 import com.behl.cerberus.utility.AuthenticatedUserIdProvider;
+import com.behl.cerberus.utility.AuthenticationStageTimer;
 import com.behl.cerberus.utility.JwtUtility;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.swagger.v3.core.util.Json;
 import lombok.SneakyThrows;
 
 @WebMvcTest(controllers = UserController.class)
-@Import({ ExceptionResponseHandler.class, SecurityConfiguration.class, CustomAuthenticationEntryPoint.class, ApiEndpointSecurityInspector.class })
+@Import({ ExceptionResponseHandler.class, SecurityConfiguration.class, CustomAuthenticationEntryPoint.class, ApiEndpointSecurityInspector.class,
+		AuthenticationStageTimer.class, SimpleMeterRegistry.class })
 class UserControllerTest {
 
 	@Autowired
@@ -154,16 +157,15 @@ class UserControllerTest {
 	@Test
 	@SneakyThrows
 	void shouldRetreiveProfileDetailsForLoggedInUser() {
-		// simulate authority extraction from access token
+		// simulate scopes held by access token
 		final var scope = "userprofile.read";
 		final var accessToken = "test-access-token";
-		final var accessTokenAuthority = List.<GrantedAuthority>of(new SimpleGrantedAuthority(scope));
-		when(jwtUtility.getAuthority(accessToken)).thenReturn(accessTokenAuthority);
+		final var accessTokenScopes = List.of(scope);
 		
-		// simulate user ID extraction from access token
+		// simulate verification of access token issued to user
 		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
 		final var userId = UUID.randomUUID();
-		when(jwtUtility.extractUserId(accessToken)).thenReturn(userId);
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
 		
 		// Prepare user profile details
 		final var firstName = "test-first-name";
@@ -209,16 +211,15 @@ class UserControllerTest {
 		userUpdationRequest.setFirstName("test-first-name");
 		userUpdationRequest.setLastName("test-last-name");
 		
-		// simulate authority extraction from access token
+		// simulate scopes held by access token
 		final var scope = "userprofile.update";
 		final var accessToken = "test-access-token";
-		final var accessTokenAuthority = List.<GrantedAuthority>of(new SimpleGrantedAuthority(scope));
-		when(jwtUtility.getAuthority(accessToken)).thenReturn(accessTokenAuthority);
+		final var accessTokenScopes = List.of(scope);
 		
-		// simulate user ID extraction from access token
+		// simulate verification of access token issued to user
 		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
 		final var userId = UUID.randomUUID();
-		when(jwtUtility.extractUserId(accessToken)).thenReturn(userId);
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
 		
 		// execute API request
 		final var apiPath = "/users";
@@ -238,16 +239,15 @@ class UserControllerTest {
 	@Test
 	@SneakyThrows
 	void shouldDeactivateLoggedInUser() {
-		// simulate authority extraction from access token
+		// simulate scopes held by access token
 		final var scope = "fullaccess";
 		final var accessToken = "test-access-token";
-		final var accessTokenAuthority = List.<GrantedAuthority>of(new SimpleGrantedAuthority(scope));
-		when(jwtUtility.getAuthority(accessToken)).thenReturn(accessTokenAuthority);
+		final var accessTokenScopes = List.of(scope);
 		
-		// simulate user ID extraction from access token
+		// simulate verification of access token issued to user
 		// @see com.behl.cerberus.filter.JwtAuthenticationFilter
 		final var userId = UUID.randomUUID();
-		when(jwtUtility.extractUserId(accessToken)).thenReturn(userId);
+		when(jwtUtility.decode(accessToken)).thenReturn(new AccessTokenClaims(UUID.randomUUID().toString(), userId, accessTokenScopes, Instant.now().plusSeconds(60)));
 		
 		// execute API request
 		final var apiPath = "/users/deactivate";
@@ -0,0 +1,65 @@
+package com.behl.cerberus.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import com.behl.cerberus.service.TokenRevocationService;
+import com.behl.cerberus.token.AccessTokenClaims;
+import com.behl.cerberus.utility.ApiEndpointSecurityInspector;
+import com.behl.cerberus.utility.AuthenticationStageTimer;
+import com.behl.cerberus.utility.AuthenticationStageTimer.Recording;
+import com.behl.cerberus.utility.JwtUtility;
+
+class JwtAuthenticationFilterTest {
+
+	private final JwtUtility jwtUtility = mock(JwtUtility.class);
+	private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+	private final ApiEndpointSecurityInspector apiEndpointSecurityInspector = mock(ApiEndpointSecurityInspector.class);
+	private final AuthenticationStageTimer authenticationStageTimer = mock(AuthenticationStageTimer.class);
+	private final JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtUtility, tokenRevocationService, apiEndpointSecurityInspector, authenticationStageTimer);
+
+	@AfterEach
+	void clearSecurityContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void shouldCaptureRequestDetailsBeforeRequestIsRecycled() throws Exception {
+		// Prepare request to secured endpoint carrying a verified access token
+		final var claims = new AccessTokenClaims("jti", UUID.randomUUID(), List.of("fullaccess"), Instant.now());
+		when(authenticationStageTimer.begin()).thenReturn(mock(Recording.class));
+		when(apiEndpointSecurityInspector.isUnsecureRequest(any())).thenReturn(false);
+		when(jwtUtility.decode("access-token")).thenReturn(claims);
+		when(tokenRevocationService.isRevoked(claims)).thenReturn(false);
+
+		final var request = new MockHttpServletRequest();
+		request.setRemoteAddr("203.0.113.7");
+		request.addHeader("Authorization", "Bearer access-token");
+		final var sessionId = request.getSession().getId();
+
+		// Invoke the filter and recycle the request, as done by the container
+		jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		final var authentication = SecurityContextHolder.getContext().getAuthentication();
+		request.setRemoteAddr(null);
+		request.getSession().invalidate();
+
+		// Assert details reflect the request as seen by the filter
+		assertThat(authentication).isInstanceOf(JwtAuthentication.class);
+		assertThat(authentication.getDetails()).isEqualTo(new WebAuthenticationDetails("203.0.113.7", sessionId));
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.behl.cerberus.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.behl.cerberus.token.AccessTokenClaims;
+
+class JwtAuthenticationTest {
+
+	@Test
+	void shouldExposeUserIdAndScopesOfVerifiedAccessToken() {
+		// Prepare verified claims of access token
+		final var userId = UUID.randomUUID();
+		final var claims = new AccessTokenClaims(UUID.randomUUID().toString(), userId, List.of("userprofile.read", "userprofile.update"), Instant.now());
+
+		// Create authentication against the claims
+		final var authentication = new JwtAuthentication(claims, Object::new);
+
+		// Assert principal, name and authorities
+		assertThat(authentication.isAuthenticated()).isTrue();
+		assertThat(authentication.getPrincipal()).isEqualTo(userId);
+		assertThat(authentication.getName()).isEqualTo(userId.toString());
+		assertThat(authentication.getCredentials()).isNull();
+		assertThat(authentication.getAuthorities()).extracting(Object::toString).containsExactly("userprofile.read", "userprofile.update");
+	}
+
+	@Test
+	void shouldShareAuthoritiesAcrossAuthenticationsWithSameScopes() {
+		// Create authentications for different users with identical scopes
+		final var first = new JwtAuthentication(new AccessTokenClaims("jti-1", UUID.randomUUID(), List.of("fullaccess"), Instant.now()), Object::new);
+		final var second = new JwtAuthentication(new AccessTokenClaims("jti-2", UUID.randomUUID(), List.of("fullaccess"), Instant.now()), Object::new);
+
+		// Assert the same immutable authority list is referenced
+		assertThat(first.getAuthorities()).isSameAs(second.getAuthorities());
+		assertThrows(UnsupportedOperationException.class, () -> first.getAuthorities().clear());
+	}
+
+	@Test
+	void shouldBuildDetailsLazilyAndOnlyOnce() {
+		// Create authentication with a details supplier counting invocations
+		final var invocations = new AtomicInteger();
+		final var claims = new AccessTokenClaims("jti", UUID.randomUUID(), List.of("fullaccess"), Instant.now());
+		final var authentication = new JwtAuthentication(claims, () -> "details-" + invocations.incrementAndGet());
+
+		// Assert details are not built on creation
+		assertThat(invocations).hasValue(0);
+
+		// Assert details are built on first access and reused thereafter
+		assertThat(authentication.getDetails()).isEqualTo("details-1");
+		assertThat(authentication.getDetails()).isEqualTo("details-1");
+		assertThat(invocations).hasValue(1);
+	}
+
+	@Test
+	void shouldOnlyAllowAuthenticationToBeMarkedUntrusted() {
+		final var claims = new AccessTokenClaims("jti", UUID.randomUUID(), List.of("fullaccess"), Instant.now());
+		final var authentication = new JwtAuthentication(claims, Object::new);
+		assertThrows(IllegalArgumentException.class, () -> authentication.setAuthenticated(true));
+		assertThat(authentication.isAuthenticated()).isTrue();
+
+		authentication.setAuthenticated(false);
+		assertThat(authentication.isAuthenticated()).isFalse();
+		assertThrows(IllegalArgumentException.class, () -> authentication.setAuthenticated(true));
+		assertThrows(IllegalArgumentException.class, () -> new JwtAuthentication(null, Object::new));
+	}
+
+}
@@ -0,0 +1,790 @@
+package com.behl.cerberus.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+import org.springframework.security.authentication.password.CompromisedPasswordException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import com.behl.cerberus.configuration.PasswordConfigurationProperties;
+import com.behl.cerberus.configuration.PasswordConfigurationProperties.CompromisedCheck;
+import com.behl.cerberus.configuration.PasswordConfigurationProperties.CompromisedCheck.LoginMode;
+import com.behl.cerberus.configuration.TokenConfigurationProperties;
+import com.behl.cerberus.configuration.TokenConfigurationProperties.RefreshToken;
+import com.behl.cerberus.dto.SessionDetailDto;
+import com.behl.cerberus.dto.UserLoginRequestDto;
+import com.behl.cerberus.entity.User;
+import com.behl.cerberus.exception.DeadlineExceededException;
+import com.behl.cerberus.exception.InvalidCredentialsException;
+import com.behl.cerberus.exception.LoginThrottledException;
+import com.behl.cerberus.exception.TokenVerificationException;
+import com.behl.cerberus.repository.UserRepository;
+import com.behl.cerberus.utility.CacheManager;
+import com.behl.cerberus.utility.DummyPasswordVerifier;
+import com.behl.cerberus.utility.JwtUtility;
+import com.behl.cerberus.utility.LoginThrottler;
+import com.behl.cerberus.utility.RefreshTokenGenerator;
+import com.behl.cerberus.utility.RegisteredEmailFilter;
+import com.behl.cerberus.utility.SessionRegistry;
+
+@Slf4j
+class AuthenticationServiceTest {
+	
+	private final JwtUtility jwtUtility = mock(JwtUtility.class);
+	private final CacheManager cacheManager = mock(CacheManager.class);
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final LoginThrottler loginThrottler = mock(LoginThrottler.class);
+	private final RegisteredEmailFilter registeredEmailFilter = mock(RegisteredEmailFilter.class);
+	private final DummyPasswordVerifier dummyPasswordVerifier = mock(DummyPasswordVerifier.class);
+	private final SessionRegistry sessionRegistry = mock(SessionRegistry.class);
+	private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+	private final PasswordUpgradeService passwordUpgradeService = mock(PasswordUpgradeService.class);
+	private final RefreshTokenGenerator refreshTokenGenerator = mock(RefreshTokenGenerator.class);
+	private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+	private final CompromisedPasswordChecker compromisedPasswordChecker = mock(CompromisedPasswordChecker.class);
+	private final CompromisedPasswordEnforcementService compromisedPasswordEnforcementService = mock(CompromisedPasswordEnforcementService.class);
+	private final TokenConfigurationProperties tokenConfigurationProperties = mock(TokenConfigurationProperties.class);
+	private final PasswordConfigurationProperties passwordConfigurationProperties = mock(PasswordConfigurationProperties.class);
+	
+	private final AuthenticationService authenticationService = new AuthenticationService(jwtUtility, cacheManager, userRepository, loginThrottler, registeredEmailFilter,
+			dummyPasswordVerifier, sessionRegistry, passwordEncoder, passwordUpgradeService, refreshTokenGenerator, tokenRevocationService, compromisedPasswordChecker, compromisedPasswordEnforcementService, tokenConfigurationProperties,
+			passwordConfigurationProperties);
+
+	@BeforeEach
+	void setUp() {
+		when(registeredEmailFilter.mightContain(anyString())).thenReturn(Boolean.TRUE);
+	}
+
+	@Test
+	void loginShouldThrowExceptionForNonRegisteredEmailId() {
+		// set up synchronous compromised password check during login
+		setUpLoginMode(LoginMode.SYNCHRONOUS);
+		
+		// prepare login request
+		final var emailId = "unregistered@domain.ut";
+		final var userLoginRequest = mock(UserLoginRequestDto.class);
+		when(userLoginRequest.getEmailId()).thenReturn(emailId);
+		
+		// set datasource to return no response for unregistered email-id
+		when(userRepository.findByEmailId(emailId)).thenReturn(Optional.empty());
+		
+		// assert InvalidLoginCredentialsException is thrown for unregistered email-id
+		assertThrows(InvalidCredentialsException.class, () -> authenticationService.login(userLoginRequest));
+		
+		// verify mock interactions
+		verify(userRepository).findByEmailId(emailId);
+		verify(dummyPasswordVerifier).verify(any());
+	}
+	
+	@Test
+	void loginShouldSkipDatasourceForEmailIdAbsentFromFilter() {
+		// set up synchronous compromised password check during login
+		setUpLoginMode(LoginMode.SYNCHRONOUS);
+		
+		// prepare login request
+		final var emailId = "unregistered@domain.ut";
+		final var password = "test-password";
+		final var userLoginRequest = mock(UserLoginRequestDto.class);
+		when(userLoginRequest.getEmailId()).thenReturn(emailId);
+		when(userLoginRequest.getPassword()).thenReturn(password);
+		
+		// set email-id to be certainly not registered
+		when(registeredEmailFilter.mightContain(emailId)).thenReturn(Boolean.FALSE);
+		
+		// assert InvalidCredentialsException is thrown
+		assertThrows(InvalidCredentialsException.class, () -> authenticationService.login(userLoginRequest));
+		
+		// verify datasource is skipped and dummy password verification is performed
+		verify(userRepository, never()).findByEmailId(anyString());
+		verify(dummyPasswordVerifier).verify(password);
+		verify(loginThrottler).recordFailure(emailId);
+	}
+	
+	@Test
+	void loginShouldThrowExceptionForInvalidPassword() {
+		// set up synchronous compromised password check during login
+		setUpLoginMode(LoginMode.SYNCHRONOUS);
+		
+		// prepare login request
+		final var emailId = "mail@domain.ut";
+		final var password = "test-password";
+		final var userLoginRequest = mock(UserLoginRequestDto.class);
+		when(userLoginRequest.getEmailId()).thenReturn(emailId);
+		when(userLoginRequest.getPassword()).thenReturn(password);
+		
+		// prepare datasource response
+		final var encodedPassword = "test-encoded-password";
+		final var user = mock(User.class);
+		when(user.getPassword()).thenReturn(encodedPassword);
+		when(userRepository.findByEmailId(emailId)).thenReturn(Optional.of(user));
+		
+		// set password validation to fail
+		when(passwordEncoder.matches(password, encodedPassword)).thenReturn(Boolean.FALSE);
+		
+		// assert InvalidLoginCredentialsException is thrown for invalid password
+		assertThrows(InvalidCredentialsException.class, () -> authenticationService.login(userLoginRequest));
+
+		// verify mock interactions
+		verify(userRepository).findByEmailId(emailId);
+		verify(passwordEncoder).matches(password, encodedPassword);
+		verify(compromisedPasswordChecker, never()).check(anyString());
+	}
+	
+	@Test
+	void loginShouldThrowExceptionForCompromisedPassword() {
+		// set up synchronous compromised password check during login
+		setUpLoginMode(LoginMode.SYNCHRONOUS);
+		
+		// prepare login request
+		final var emailId = "mail@domain.ut";
+		final var password = "compromised-password";
+		final var userLoginRequest = mock(UserLoginRequestDto.class);
+		when(userLoginRequest.getEmailId()).thenReturn(emailId);
+		when(userLoginRequest.getPassword()).thenReturn(password);
+		
+		// prepare datasource response
+		final var encodedPassword = "test-encoded-password";
+		final var user = mock(User.class);
+		when(user.getPassword()).thenReturn(encodedPassword);
+		when(userRepository.findByEmailId(emailId)).thenReturn(Optional.of(user));
+		
+		// set password validation to pass
+		when(passwordEncoder.matches(password, encodedPassword)).thenReturn(Boolean.TRUE);
+		
+		// set compromised password check failure
+		final var compromisedPasswordDecision = mock(CompromisedPasswordDecision.class);
+		when(compromisedPasswordDecision.isCompromised()).thenReturn(Boolean.TRUE);
+		when(compromisedPasswordChecker.check(password)).thenReturn(compromisedPasswordDecision);
+		
+		// assert CompromisedPasswordException is thrown for invalid password
+		assertThrows(CompromisedPasswordException.class, () -> authenticationService.login(userLoginRequest));
+
+		// verify mock interactions
+		verify(userRepository).findByEmailId(emailId);
+		verify(passwordEncoder).matches(password, encodedPassword);
+		verify(compromisedPasswordChecker).check(password);
+	}
+	
+	@Test
+	void shouldReturnTokenResponseForValidLoginCredentials() {
+		// set up synchronous compromised password check during login
+		setUpLoginMode(LoginMode.SYNCHRONOUS);
+		
+		// prepare login request
+		final var emailId = "mail@domain.ut";
+		final var password = "test-password";
+		final var userLoginRequest = mock(UserLoginRequestDto.class);
+		when(userLoginRequest.getEmailId()).thenReturn(emailId);
+		when(userLoginRequest.getPassword()).thenReturn(password);
+		
+		// prepare datasource response
+		final var userId = UUID.randomUUID();
+		final var encodedPassword = "test-encoded-password";
+		final var user = mock(User.class);
+		when(user.getId()).thenReturn(userId);
+		when(user.getPassword()).thenReturn(encodedPassword);
+		when(userRepository.findByEmailId(emailId)).thenReturn(Optional.of(user));
+		
+		// set password validation to pass
+		when(passwordEncoder.matches(password, encodedPassword)).thenReturn(Boolean.TRUE);
+
+		// set compromised password check to pass
+		final var compromisedPasswordDecision = mock(CompromisedPasswordDecision.class);
+		when(compromisedPasswordDecision.isCompromised()).thenReturn(Boolean.FALSE);
+		when(compromisedPasswordChecker.check(password)).thenReturn(compromisedPasswordDecision);
+		
+		// set token generation
+		final var accessToken = "test-access-token";
+		final var refreshToken = "test-refresh-token";
+		when(jwtUtility.generateAccessToken(user)).thenReturn(accessToken);
+		when(refreshTokenGenerator.generate(any())).thenReturn(refreshToken);
+		
+		// handle session registration against refresh token
+		doNothing().when(sessionRegistry).register(userId, refreshToken);
+	
+		// invoke method under test
+		final var response = authenticationService.login(userLoginRequest);
+		
+		// verify correctness of response values
+		assertThat(response).isNotNull();
+		assertThat(response.getAccessToken()).isNotBlank().isEqualTo(accessToken);
+		assertThat(response.getRefreshToken()).isNotBlank().isEqualTo(refreshToken);
+		
+		// verify mock interactions
+		verify(userRepository).findByEmailId(emailId);
+		verify(passwordEncoder).matches(password, encodedPassword);
+		verify(compromisedPasswordChecker).check(password);
+		verify(jwtUtility).generateAccessToken(user);
+		verify(refreshTokenGenerator).generate(userId);
+		verify(sessionRegistry).register(userId, refreshToken);
+		verify(passwordUpgradeService, never()).upgrade(any(), any(), any());
+		verify(compromisedPasswordEnforcementService, never()).enforce(any(), any(), any());
+		verify(loginThrottler).admit(emailId);
+		verify(loginThrottler).recordSuccess(emailId);
+		verify(loginThrottler, never()).recordFailure(anyString());
+	}
+	
+	@Test
+	void loginShouldUpgradeOutdatedPasswordHash() {
+		// set up synchronous compromised password check during login
+		setUpLoginMode(LoginMode.SYNCHRONOUS);
+		
+		// prepare login request
+		final var emailId = "mail@domain.ut";
+		final var password = "test-password";
+		final var userLoginRequest = mock(UserLoginRequestDto.class);
+		when(userLoginRequest.getEmailId()).thenReturn(emailId);
+		when(userLoginRequest.getPassword()).thenReturn(password);
+		
+		// prepare datasource response with outdated password hash
+		final var userId = UUID.randomUUID();
+		final var encodedPassword = "test-outdated-encoded-password";
+		final var user = mock(User.class);
+		when(user.getId()).thenReturn(userId);
+		when(user.getPassword()).thenReturn(encodedPassword);
+		when(userRepository.findByEmailId(emailId)).thenReturn(Optional.of(user));
+		
+		// set password validation to pass and stored hash to require upgrade
+		when(passwordEncoder.matches(password, encodedPassword)).thenReturn(Boolean.TRUE);
+		when(passwordEncoder.upgradeEncoding(encodedPassword)).thenReturn(Boolean.TRUE);
+		
+		// set compromised password check to pass
+		final var compromisedPasswordDecision = mock(CompromisedPasswordDecision.class);
+		when(compromisedPasswordDecision.isCompromised()).thenReturn(Boolean.FALSE);
+		when(compromisedPasswordChecker.check(password)).thenReturn(compromisedPasswordDecision);
+		
+		// set token generation
+		when(jwtUtility.generateAccessToken(user)).thenReturn("test-access-token");
+		when(refreshTokenGenerator.generate(any())).thenReturn("test-refresh-token");
+		
+		// invoke method under test
+		authenticationService.login(userLoginRequest);
+		
+		// verify password hash upgrade is requested
+		verify(passwordEncoder).upgradeEncoding(encodedPassword);
+		verify(passwordUpgradeService).upgrade(userId, password, encodedPassword);
+	}
+	
+	@Test
+	void loginShouldRecordFailedAttemptForInvalidCredentials() {
+		// set up synchronous compromised password check during login
+		setUpLoginMode(LoginMode.SYNCHRONOUS);
+		
+		// prepare login request
+		final var emailId = "mail@domain.ut";
+		final var userLoginRequest = mock(UserLoginRequestDto.class);
+		when(userLoginRequest.getEmailId()).thenReturn(emailId);
+		
+		// set datasource to return no response for email-id
+		when(userRepository.findByEmailId(emailId)).thenReturn(Optional.empty());
+		
+		// assert InvalidCredentialsException is thrown
+		assertThrows(InvalidCredentialsException.class, () -> authenticationService.login(userLoginRequest));
+		
+		// verify attempt was admitted and recorded as failure
+		verify(loginThrottler).admit(emailId);
+		verify(loginThrottler).recordFailure(emailId);
+		verify(loginThrottler, never()).recordSuccess(anyString());
+	}
+	
+	@Test
+	void loginShouldNotHashPasswordForThrottledAttempt() {
+		// prepare login request
+		final var emailId = "mail@domain.ut";
+		final var userLoginRequest = mock(UserLoginRequestDto.class);
+		when(userLoginRequest.getEmailId()).thenReturn(emailId);
+		
+		// set login throttler to reject attempt
+		final var loginThrottledException = new LoginThrottledException(Duration.ofMinutes(1));
+		doThrow(loginThrottledException).when(loginThrottler).admit(emailId);
+		
+		// assert LoginThrottledException is thrown
+		final var exception = assertThrows(LoginThrottledException.class, () -> authenticationService.login(userLoginRequest));
+		assertThat(exception).isEqualTo(loginThrottledException);
+		
+		// verify no datasource lookup or password hashing is performed
+		verify(userRepository, never()).findByEmailId(anyString());
+		verify(passwordEncoder, never()).matches(any(), any());
+		verify(compromisedPasswordChecker, never()).check(anyString());
+	}
+	
+	@Test
+	void loginShouldPreferInvalidCredentialsOverCompromisedPassword() {
+		// set up synchronous compromised password check during login
+		setUpLoginMode(LoginMode.SYNCHRONOUS);
+		
+		// prepare login request with invalid compromised password
+		final var emailId = "mail@domain.ut";
+		final var password = "compromised-password";
+		final var userLoginRequest = mock(UserLoginRequestDto.class);
+		when(userLoginRequest.getEmailId()).thenReturn(emailId);
+		when(userLoginRequest.getPassword()).thenReturn(password);
+		
+		// prepare datasource response and set password validation to fail
+		final var encodedPassword = "test-encoded-password";
+		final var user = mock(User.class);
+		when(user.getPassword()).thenReturn(encodedPassword);
+		when(userRepository.findByEmailId(emailId)).thenReturn(Optional.of(user));
+		when(passwordEncoder.matches(password, encodedPassword)).thenReturn(Boolean.FALSE);
+		
+		// set compromised password check failure
+		final var compromisedPasswordDecision = mock(CompromisedPasswordDecision.class);
+		when(compromisedPasswordDecision.isCompromised()).thenReturn(Boolean.TRUE);
+		when(compromisedPasswordChecker.check(password)).thenReturn(compromisedPasswordDecision);
+		
+		// assert InvalidCredentialsException takes precedence
+		assertThrows(InvalidCredentialsException.class, () -> authenticationService.login(userLoginRequest));
+		verify(compromisedPasswordChecker, never()).check(anyString());
+	}
+	
+	@Test
+	void loginShouldThrowExceptionWhenDeadlineIsExceeded() {
+		// set up synchronous compromised password check with short deadline
+		setUpLoginMode(LoginMode.SYNCHRONOUS);
+		when(passwordConfigurationProperties.getDeadline()).thenReturn(Duration.ofMillis(100));
+		
+		// prepare login request
+		final var emailId = "mail@domain.ut";
+		final var password = "test-password";
+		final var userLoginRequest = mock(UserLoginRequestDto.class);
+		when(userLoginRequest.getEmailId()).thenReturn(emailId);
+		when(userLoginRequest.getPassword()).thenReturn(password);
+		
+		// prepare datasource response and set password validation to pass
+		final var encodedPassword = "test-encoded-password";
+		final var user = mock(User.class);
+		when(user.getPassword()).thenReturn(encodedPassword);
+		when(userRepository.findByEmailId(emailId)).thenReturn(Optional.of(user));
+		when(passwordEncoder.matches(password, encodedPassword)).thenReturn(Boolean.TRUE);
+		
+		// simulate compromised password check exceeding deadline
+		when(compromisedPasswordChecker.check(password)).thenAnswer(invocation -> {
+			Thread.sleep(Duration.ofSeconds(5));
+			return mock(CompromisedPasswordDecision.class);
+		});
+		
+		// assert DeadlineExceededException is thrown without issuing tokens
+		assertThrows(DeadlineExceededException.class, () -> authenticationService.login(userLoginRequest));
+		verify(jwtUtility, never()).generateAccessToken(any(User.class));
+	}
+	
+	@Test
+	void loginShouldCheckPasswordForCompromiseOnlyOnceVerified() {
+		// set up synchronous compromised password check during login
+		setUpLoginMode(LoginMode.SYNCHRONOUS);
+		
+		// prepare login request
+		final var emailId = "mail@domain.ut";
+		final var password = "test-password";
+		final var userLoginRequest = mock(UserLoginRequestDto.class);
+		when(userLoginRequest.getEmailId()).thenReturn(emailId);
+		when(userLoginRequest.getPassword()).thenReturn(password);
+		
+		// prepare datasource response and set password validation to pass
+		final var encodedPassword = "test-encoded-password";
+		final var user = mock(User.class);
+		when(user.getId()).thenReturn(UUID.randomUUID());
+		when(user.getPassword()).thenReturn(encodedPassword);
+		when(userRepository.findByEmailId(emailId)).thenReturn(Optional.of(user));
+		when(passwordEncoder.matches(password, encodedPassword)).thenReturn(Boolean.TRUE);
+		final var compromisedPasswordDecision = mock(CompromisedPasswordDecision.class);
+		when(compromisedPasswordChecker.check(password)).thenReturn(compromisedPasswordDecision);
+		
+		// invoke method under test
+		authenticationService.login(userLoginRequest);
+		
+		// verify compromised password check follows password verification
+		final var inOrder = inOrder(passwordEncoder, compromisedPasswordChecker);
+		inOrder.verify(passwordEncoder).matches(password, encodedPassword);
+		inOrder.verify(compromisedPasswordChecker).check(password);
+	}
+	
+	@Test
+	void loginLatencyShouldBeReportedAgainstSequentialFlow() {
+		// set up synchronous compromised password check during login
+		setUpLoginMode(LoginMode.SYNCHRONOUS);
+		
+		// prepare login request
+		final var emailId = "mail@domain.ut";
+		final var password = "test-password";
+		final var userLoginRequest = mock(UserLoginRequestDto.class);
+		when(userLoginRequest.getEmailId()).thenReturn(emailId);
+		when(userLoginRequest.getPassword()).thenReturn(password);
+		
+		// set up stand-ins for datasource, password hashing and HIBP with representative latencies
+		final var encodedPassword = "test-encoded-password";
+		final var user = mock(User.class);
+		when(user.getId()).thenReturn(UUID.randomUUID());
+		when(user.getPassword()).thenReturn(encodedPassword);
+		when(userRepository.findByEmailId(emailId)).thenAnswer(invocation -> {
+			Thread.sleep(Duration.ofMillis(50));
+			return Optional.of(user);
+		});
+		when(passwordEncoder.matches(password, encodedPassword)).thenAnswer(invocation -> {
+			Thread.sleep(Duration.ofMillis(50));
+			return Boolean.TRUE;
+		});
+		final var compromisedPasswordDecision = mock(CompromisedPasswordDecision.class);
+		when(compromisedPasswordChecker.check(password)).thenAnswer(invocation -> {
+			Thread.sleep(Duration.ofMillis(100));
+			return compromisedPasswordDecision;
+		});
+		when(jwtUtility.generateAccessToken(user)).thenReturn("test-access-token");
+		when(refreshTokenGenerator.generate(any())).thenReturn("test-refresh-token");
+		
+		// measure sequential flow of the stand-ins, as performed prior to the rework
+		final var sequentialStartTime = System.nanoTime();
+		final var sequentialUser = userRepository.findByEmailId(emailId).orElseThrow();
+		passwordEncoder.matches(password, sequentialUser.getPassword());
+		compromisedPasswordChecker.check(password);
+		final var sequentialLatency = Duration.ofNanos(System.nanoTime() - sequentialStartTime);
+		
+		// measure login, whose compromised password check must follow password verification
+		final var loginStartTime = System.nanoTime();
+		final var response = authenticationService.login(userLoginRequest);
+		final var loginLatency = Duration.ofNanos(System.nanoTime() - loginStartTime);
+		
+		// report latencies, which are not asserted upon to keep the test independent of machine load
+		log.info("Sequential flow: {} ms, login: {} ms", sequentialLatency.toMillis(), loginLatency.toMillis());
+		assertThat(response.getAccessToken()).isEqualTo("test-access-token");
+	}
+	
+	@Test
+	void loginShouldThrowExceptionForUserRequiredToResetPassword() {
+		// set up synchronous compromised password check during login
+		setUpLoginMode(LoginMode.SYNCHRONOUS);
+		
+		// prepare login request
+		final var emailId = "mail@domain.ut";
+		final var password = "test-password";
+		final var userLoginRequest = mock(UserLoginRequestDto.class);
+		when(userLoginRequest.getEmailId()).thenReturn(emailId);
+		when(userLoginRequest.getPassword()).thenReturn(password);
+		
+		// prepare datasource response for user flagged to reset password
+		final var encodedPassword = "test-encoded-password";
+		final var user = mock(User.class);
+		when(user.getPassword()).thenReturn(encodedPassword);
+		when(user.isPasswordResetRequired()).thenReturn(Boolean.TRUE);
+		when(userRepository.findByEmailId(emailId)).thenReturn(Optional.of(user));
+		when(passwordEncoder.matches(password, encodedPassword)).thenReturn(Boolean.TRUE);
+		
+		// assert CompromisedPasswordException is thrown without issuing tokens
+		assertThrows(CompromisedPasswordException.class, () -> authenticationService.login(userLoginRequest));
+		verify(jwtUtility, never()).generateAccessToken(any(User.class));
+	}
+	
+	@Test
+	void loginShouldIssueTokensBeforeCheckingPasswordForCompromiseInAsynchronousMode() {
+		// set up asynchronous compromised password check during login
+		setUpLoginMode(LoginMode.ASYNCHRONOUS);
+		
+		// prepare login request
+		final var emailId = "mail@domain.ut";
+		final var password = "test-password";
+		final var userLoginRequest = mock(UserLoginRequestDto.class);
+		when(userLoginRequest.getEmailId()).thenReturn(emailId);
+		when(userLoginRequest.getPassword()).thenReturn(password);
+		
+		// prepare datasource response and password validation
+		final var userId = UUID.randomUUID();
+		final var encodedPassword = "test-encoded-password";
+		final var user = mock(User.class);
+		when(user.getId()).thenReturn(userId);
+		when(user.getPassword()).thenReturn(encodedPassword);
+		when(userRepository.findByEmailId(emailId)).thenReturn(Optional.of(user));
+		when(passwordEncoder.matches(password, encodedPassword)).thenReturn(Boolean.TRUE);
+		
+		// set token generation
+		final var accessToken = "test-access-token";
+		final var refreshToken = "test-refresh-token";
+		when(jwtUtility.generateAccessToken(user)).thenReturn(accessToken);
+		when(refreshTokenGenerator.generate(any())).thenReturn(refreshToken);
+		
+		// invoke method under test
+		final var response = authenticationService.login(userLoginRequest);
+		
+		// verify tokens are issued and compromised password check is delegated to background enforcement
+		assertThat(response.getAccessToken()).isEqualTo(accessToken);
+		assertThat(response.getRefreshToken()).isEqualTo(refreshToken);
+		verify(compromisedPasswordChecker, never()).check(anyString());
+		verify(compromisedPasswordEnforcementService).enforce(userId, password, accessToken);
+	}
+	
+	@Test
+	void tokenRefreshShouldThrowExceptionForInvalidOrExpiredRefreshToken() {
+		// set up session registry to return no response for invalid refresh token
+		final var refreshToken = "test-refresh-token";
+		when(sessionRegistry.getUserId(refreshToken)).thenReturn(Optional.empty());
+		
+		// assert TokenVerificationException is thrown for invalid refresh token
+		assertThrows(TokenVerificationException.class, () -> authenticationService.refreshToken(refreshToken));
+		
+		// verify mock interactions
+		verify(sessionRegistry).getUserId(refreshToken);
+	}
+	
+	@Test
+	void shouldReturnNewAccessTokenForValidRefreshToken() {
+		// set up refresh token configuration
+		setUpReuseWindow(5);
+		
+		// set up session registry to return stored userId corresponding to valid refresh token
+		final var userId = UUID.randomUUID();
+		final var refreshToken = "test-refresh-token";
+		when(sessionRegistry.getUserId(refreshToken)).thenReturn(Optional.of(userId));
+
+		// set up datasource to return user entity corresponding to userId
+		final var user = mock(User.class);
+		when(userRepository.getReferenceById(userId)).thenReturn(user);
+		
+		// set token generation
+		final var accessToken = "test-access-token";
+		when(jwtUtility.generateAccessToken(user)).thenReturn(accessToken);
+		
+		// invoke method under test
+		final var response = authenticationService.refreshToken(refreshToken);
+		
+		// verify existence of new access token in response
+		assertThat(response).isNotNull();
+		assertThat(response.getAccessToken()).isNotBlank().isEqualTo(accessToken);
+		
+		// verify mock interactions
+		verify(sessionRegistry).getUserId(refreshToken);
+		verify(userRepository).getReferenceById(userId);
+		verify(jwtUtility).generateAccessToken(user);
+	}
+	
+	@Test
+	void shouldReturnCachedAccessTokenForRefreshTokenWithinReuseWindow() {
+		// set up refresh token configuration
+		setUpReuseWindow(5);
+		
+		// set up session registry to return stored userId corresponding to valid refresh token
+		final var userId = UUID.randomUUID();
+		final var refreshToken = "test-refresh-token";
+		when(sessionRegistry.getUserId(refreshToken)).thenReturn(Optional.of(userId));
+		
+		// set up cache to return access token minted by an earlier refresh request
+		final var accessToken = "test-access-token";
+		when(cacheManager.fetch(startsWith("refreshed_access_token:"), eq(String.class))).thenReturn(Optional.of(accessToken));
+		
+		// invoke method under test
+		final var response = authenticationService.refreshToken(refreshToken);
+		
+		// verify cached access token is returned without generating a new one
+		assertThat(response.getAccessToken()).isEqualTo(accessToken);
+		verify(jwtUtility, never()).generateAccessToken(any(User.class));
+		verify(cacheManager, never()).saveIfAbsent(anyString(), any(), any(Duration.class));
+	}
+	
+	@Test
+	void shouldCacheMintedAccessTokenAgainstHashedRefreshToken() {
+		// set up refresh token configuration
+		setUpReuseWindow(5);
+		
+		// set up session registry and datasource for valid refresh token
+		final var userId = UUID.randomUUID();
+		final var refreshToken = "test-refresh-token";
+		final var user = mock(User.class);
+		when(sessionRegistry.getUserId(refreshToken)).thenReturn(Optional.of(userId));
+		when(userRepository.getReferenceById(userId)).thenReturn(user);
+		
+		// set up no cached access token and token generation
+		final var accessToken = "test-access-token";
+		when(cacheManager.fetch(anyString(), eq(String.class))).thenReturn(Optional.empty());
+		when(jwtUtility.generateAccessToken(user)).thenReturn(accessToken);
+		
+		// invoke method under test
+		authenticationService.refreshToken(refreshToken);
+		
+		// verify minted access token is claimed for reuse window without exposing refresh token in key
+		verify(cacheManager).saveIfAbsent(argThat(key -> key.matches("refreshed_access_token:[0-9a-f]{64}")), eq(accessToken), eq(Duration.ofSeconds(5)));
+	}
+	
+	@Test
+	void shouldReturnAccessTokenCachedByConcurrentRefreshOnOtherNode() {
+		// set up refresh token configuration
+		setUpReuseWindow(5);
+		
+		// set up session registry and datasource for valid refresh token
+		final var userId = UUID.randomUUID();
+		final var refreshToken = "test-refresh-token";
+		final var user = mock(User.class);
+		when(sessionRegistry.getUserId(refreshToken)).thenReturn(Optional.of(userId));
+		when(userRepository.getReferenceById(userId)).thenReturn(user);
+		when(jwtUtility.generateAccessToken(user)).thenReturn("test-access-token");
+		
+		// set up cache to be claimed by another node after it was found empty
+		final var winningAccessToken = "test-winning-access-token";
+		when(cacheManager.fetch(anyString(), eq(String.class))).thenReturn(Optional.empty(), Optional.of(winningAccessToken));
+		when(cacheManager.saveIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(Boolean.FALSE);
+		
+		// invoke method under test
+		final var response = authenticationService.refreshToken(refreshToken);
+		
+		// verify access token cached first is returned
+		assertThat(response.getAccessToken()).isEqualTo(winningAccessToken);
+	}
+	
+	@Test
+	void shouldEvictAccessTokensCachedAgainstRefreshTokensOfUser() {
+		// set up session registry to return refresh tokens of user
+		final var userId = UUID.randomUUID();
+		when(sessionRegistry.getRefreshTokens(userId)).thenReturn(Set.of("first-refresh-token", "second-refresh-token"));
+		
+		// invoke method under test
+		authenticationService.evictRefreshedAccessTokens(userId);
+		
+		// verify cached access token of each session is evicted
+		verify(cacheManager, times(2)).delete(argThat(key -> key.matches("refreshed_access_token:[0-9a-f]{64}")));
+	}
+	
+	@Test
+	void shouldNotCacheAccessTokenWhenReuseWindowIsDisabled() {
+		// disable reuse window
+		setUpReuseWindow(0);
+		
+		// set up session registry and datasource for valid refresh token
+		final var userId = UUID.randomUUID();
+		final var refreshToken = "test-refresh-token";
+		final var user = mock(User.class);
+		when(sessionRegistry.getUserId(refreshToken)).thenReturn(Optional.of(userId));
+		when(userRepository.getReferenceById(userId)).thenReturn(user);
+		when(jwtUtility.generateAccessToken(user)).thenReturn("test-access-token");
+		
+		// invoke method under test
+		authenticationService.refreshToken(refreshToken);
+		
+		// verify cache is not consulted
+		verify(cacheManager, never()).fetch(anyString(), any());
+		verify(cacheManager, never()).saveIfAbsent(anyString(), any(), any(Duration.class));
+	}
+	
+	@Test
+	@SneakyThrows
+	void shouldCoalesceConcurrentRefreshRequestsWithSameRefreshToken() {
+		// set up refresh token configuration
+		setUpReuseWindow(5);
+		
+		// set up session registry and datasource for valid refresh token
+		final var userId = UUID.randomUUID();
+		final var refreshToken = "test-refresh-token";
+		final var user = mock(User.class);
+		when(sessionRegistry.getUserId(refreshToken)).thenReturn(Optional.of(userId));
+		when(userRepository.getReferenceById(userId)).thenReturn(user);
+		when(cacheManager.fetch(anyString(), eq(String.class))).thenReturn(Optional.empty());
+		
+		// simulate slow token generation, holding the in-flight computation open
+		final var accessToken = "test-access-token";
+		when(jwtUtility.generateAccessToken(user)).thenAnswer(invocation -> {
+			Thread.sleep(500);
+			return accessToken;
+		});
+		
+		// invoke method under test concurrently with the same refresh token
+		final var concurrentRequests = 8;
+		final var barrier = new CyclicBarrier(concurrentRequests);
+		try (final var executorService = Executors.newFixedThreadPool(concurrentRequests)) {
+			final var responses = IntStream.range(0, concurrentRequests)
+				.mapToObj(request -> CompletableFuture.supplyAsync(() -> {
+					await(barrier);
+					return authenticationService.refreshToken(refreshToken);
+				}, executorService))
+				.toList();
+			
+			// verify every request receives the same access token
+			assertThat(responses).allSatisfy(response -> assertThat(response.join().getAccessToken()).isEqualTo(accessToken));
+		}
+		
+		// verify access token is generated a single time
+		verify(jwtUtility, times(1)).generateAccessToken(user);
+	}
+	
+	@Test
+	void shouldReturnActiveSessionsOfUser() {
+		// set up session registry to return active sessions of user
+		final var userId = UUID.randomUUID();
+		final var sessions = List.of(mock(SessionDetailDto.class), mock(SessionDetailDto.class));
+		when(sessionRegistry.getActiveSessions(userId)).thenReturn(sessions);
+		
+		// invoke method under test
+		final var response = authenticationService.getActiveSessions(userId);
+		
+		// verify response and mock interactions
+		assertThat(response).isEqualTo(sessions);
+		verify(sessionRegistry).getActiveSessions(userId);
+	}
+	
+	@Test
+	void shouldInvalidateAllSessionsAndRevokeCurrentAccessTokenOnLogoutEverywhere() {
+		// set up session invalidation and access token revocation
+		final var userId = UUID.randomUUID();
+		doNothing().when(sessionRegistry).invalidateAll(userId);
+		doNothing().when(tokenRevocationService).revoke();
+		
+		// invoke method under test
+		authenticationService.logoutEverywhere(userId);
+		
+		// verify mock interactions
+		verify(sessionRegistry).invalidateAll(userId);
+		verify(tokenRevocationService).revoke();
+	}
+	
+	@SneakyThrows
+	private void await(final CyclicBarrier barrier) {
+		barrier.await();
+	}
+	
+	private void setUpLoginMode(final LoginMode loginMode) {
+		final var compromisedCheckConfiguration = mock(CompromisedCheck.class);
+		when(compromisedCheckConfiguration.getLoginMode()).thenReturn(loginMode);
+		when(passwordConfigurationProperties.getCompromisedCheck()).thenReturn(compromisedCheckConfiguration);
+		when(passwordConfigurationProperties.getDeadline()).thenReturn(Duration.ofSeconds(5));
+	}
+	
+	private void setUpReuseWindow(final int reuseWindow) {
+		final var refreshTokenConfiguration = mock(RefreshToken.class);
+		when(refreshTokenConfiguration.getReuseWindow()).thenReturn(reuseWindow);
+		when(tokenConfigurationProperties.getRefreshToken()).thenReturn(refreshTokenConfiguration);
+	}
+	
+	@Test
+	void shouldThrowIllegalArgumentExceptionForNullArguments() {
+		assertThrows(IllegalArgumentException.class, () -> authenticationService.login(null));
+		assertThrows(IllegalArgumentException.class, () -> authenticationService.refreshToken(null));
+		assertThrows(IllegalArgumentException.class, () -> authenticationService.getActiveSessions(null));
+		assertThrows(IllegalArgumentException.class, () -> authenticationService.logoutEverywhere(null));
+	}
+	
+}
\ No newline at end of file
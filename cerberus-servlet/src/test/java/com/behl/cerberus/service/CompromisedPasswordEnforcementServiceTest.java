@@ -0,0 +1,69 @@
+package com.behl.cerberus.service;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+
+import com.behl.cerberus.repository.UserRepository;
+import com.behl.cerberus.utility.SessionRegistry;
+
+class CompromisedPasswordEnforcementServiceTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final SessionRegistry sessionRegistry = mock(SessionRegistry.class);
+	private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+	private final CompromisedPasswordChecker compromisedPasswordChecker = mock(CompromisedPasswordChecker.class);
+	private final CompromisedPasswordEnforcementService compromisedPasswordEnforcementService = new CompromisedPasswordEnforcementService(userRepository,
+			sessionRegistry, tokenRevocationService, compromisedPasswordChecker);
+
+	@Test
+	void shouldRevokeTokensAndRequirePasswordResetForCompromisedPassword() {
+		// set compromised password check failure
+		final var password = "compromised-password";
+		final var compromisedPasswordDecision = mock(CompromisedPasswordDecision.class);
+		when(compromisedPasswordDecision.isCompromised()).thenReturn(Boolean.TRUE);
+		when(compromisedPasswordChecker.check(password)).thenReturn(compromisedPasswordDecision);
+
+		// invoke method under test
+		final var userId = UUID.randomUUID();
+		final var accessToken = "test-access-token";
+		compromisedPasswordEnforcementService.enforce(userId, password, accessToken);
+
+		// verify user is flagged and issued tokens are revoked
+		verify(userRepository).requirePasswordReset(userId);
+		verify(sessionRegistry).invalidateAll(userId);
+		verify(tokenRevocationService).revoke(accessToken);
+	}
+
+	@Test
+	void shouldTakeNoActionForUncompromisedPassword() {
+		// set compromised password check to pass
+		final var password = "test-password";
+		final var compromisedPasswordDecision = mock(CompromisedPasswordDecision.class);
+		when(compromisedPasswordDecision.isCompromised()).thenReturn(Boolean.FALSE);
+		when(compromisedPasswordChecker.check(password)).thenReturn(compromisedPasswordDecision);
+
+		// invoke method under test
+		compromisedPasswordEnforcementService.enforce(UUID.randomUUID(), password, "test-access-token");
+
+		// verify no action is taken
+		verifyNoInteractions(userRepository, sessionRegistry, tokenRevocationService);
+	}
+
+	@Test
+	void shouldThrowIllegalArgumentExceptionForNullArguments() {
+		final var userId = UUID.randomUUID();
+		assertThrows(IllegalArgumentException.class, () -> compromisedPasswordEnforcementService.enforce(null, "test-password", "test-access-token"));
+		assertThrows(IllegalArgumentException.class, () -> compromisedPasswordEnforcementService.enforce(userId, null, "test-access-token"));
+		assertThrows(IllegalArgumentException.class, () -> compromisedPasswordEnforcementService.enforce(userId, "test-password", null));
+	}
+
+}
@@ -0,0 +1,152 @@
+package com.behl.cerberus.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.behl.cerberus.dto.TransactionRequestDto;
+import com.behl.cerberus.entity.Currency;
+import com.behl.cerberus.entity.TransactionType;
+import com.behl.cerberus.entity.User;
+import com.behl.cerberus.exception.InsufficientBalanceException;
+import com.behl.cerberus.repository.DepositAccountRepository;
+import com.behl.cerberus.repository.TransactionRepository;
+import com.behl.cerberus.repository.UserRepository;
+import com.behl.cerberus.utility.PartitionedTransactionEngine;
+
+/**
+ * Hammers a single deposit account from many threads against a real MySQL
+ * instance, since lost updates and overdrafts can only surface under the
+ * locking behaviour of the database. Skipped when docker is unavailable.
+ */
+@DataJpaTest
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({ DepositAccountService.class, PartitionedTransactionEngine.class })
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DepositAccountServiceConcurrencyTest {
+
+	private static final int THREAD_COUNT = 16;
+	private static final int REQUEST_COUNT = 200;
+
+	@Container
+	@ServiceConnection
+	static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8");
+
+	@Autowired
+	private DepositAccountService depositAccountService;
+
+	@Autowired
+	private DepositAccountRepository depositAccountRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void shouldNotLoseConcurrentBalanceUpdates() {
+		// prepare deposit account with balance covering every withdrawl
+		final var userId = createDepositAccount();
+		depositAccountService.processTransaction(userId, transactionRequest(TransactionType.DEPOSIT, new BigDecimal("1000")));
+
+		// concurrently process alternating deposits of 7.25 and withdrawls of 3.50
+		final var failures = new AtomicInteger();
+		execute(REQUEST_COUNT, index -> {
+			final var transactionRequest = index % 2 == 0
+					? transactionRequest(TransactionType.DEPOSIT, new BigDecimal("7.25"))
+					: transactionRequest(TransactionType.WITHDRAW, new BigDecimal("3.50"));
+			try {
+				depositAccountService.processTransaction(userId, transactionRequest);
+			} catch (final RuntimeException exception) {
+				failures.incrementAndGet();
+			}
+		});
+
+		// assert every request was applied exactly once
+		final var expectedBalance = new BigDecimal("1000").add(new BigDecimal("3.75").multiply(BigDecimal.valueOf(REQUEST_COUNT / 2)));
+		assertThat(failures).hasValue(0);
+		assertThat(depositAccountRepository.findByUserId(userId).orElseThrow().getBalance()).isEqualByComparingTo(expectedBalance);
+		assertThat(transactionRepository.findByDepositAccountUserId(userId)).hasSize(REQUEST_COUNT + 1);
+	}
+
+	@Test
+	void shouldNotOverdrawDepositAccountUnderConcurrentWithdrawls() {
+		// prepare deposit account with balance covering half of the withdrawls
+		final var userId = createDepositAccount();
+		final var withdrawlAmount = new BigDecimal("10");
+		final var initialBalance = withdrawlAmount.multiply(BigDecimal.valueOf(REQUEST_COUNT / 2));
+		depositAccountService.processTransaction(userId, transactionRequest(TransactionType.DEPOSIT, initialBalance));
+
+		// concurrently process withdrawls worth twice the available balance
+		final var rejections = new AtomicInteger();
+		execute(REQUEST_COUNT, index -> {
+			try {
+				depositAccountService.processTransaction(userId, transactionRequest(TransactionType.WITHDRAW, withdrawlAmount));
+			} catch (final InsufficientBalanceException exception) {
+				rejections.incrementAndGet();
+			}
+		});
+
+		// assert exactly the covered withdrawls succeeded and account is not overdrawn
+		assertThat(rejections).hasValue(REQUEST_COUNT / 2);
+		assertThat(depositAccountRepository.findByUserId(userId).orElseThrow().getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+		assertThat(transactionRepository.findByDepositAccountUserId(userId)).hasSize(REQUEST_COUNT / 2 + 1);
+	}
+
+	private UUID createDepositAccount() {
+		final var user = new User();
+		user.setFirstName("Concurrency");
+		user.setEmailId(UUID.randomUUID() + "@cerberus.test");
+		user.setPassword("not-a-real-password-hash");
+		final var userId = userRepository.save(user).getId();
+		depositAccountService.create(userId);
+		return userId;
+	}
+
+	private TransactionRequestDto transactionRequest(final TransactionType type, final BigDecimal amount) {
+		final var transactionRequest = new TransactionRequestDto();
+		transactionRequest.setType(type);
+		transactionRequest.setAmount(amount);
+		transactionRequest.setCurrency(Currency.USD);
+		return transactionRequest;
+	}
+
+	private void execute(final int requestCount, final IntConsumer request) {
+		final var startGate = new CountDownLatch(1);
+		try (final var executor = Executors.newFixedThreadPool(THREAD_COUNT)) {
+			for (int index = 0; index < requestCount; index++) {
+				final var requestIndex = index;
+				executor.submit(() -> {
+					startGate.await();
+					request.accept(requestIndex);
+					return null;
+				});
+			}
+			startGate.countDown();
+		}
+	}
+
+}
@@ -0,0 +1,582 @@
+package com.behl.cerberus.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.behl.cerberus.dto.StatementEntryDto;
+import com.behl.cerberus.dto.StatementRequestDto;
+import com.behl.cerberus.dto.TransactionBatchResultDto;
+import com.behl.cerberus.dto.TransactionDetailDto;
+import com.behl.cerberus.dto.TransactionHistoryRequestDto;
+import com.behl.cerberus.dto.TransactionRequestDto;
+import com.behl.cerberus.entity.BalanceCheckpoint;
+import com.behl.cerberus.entity.Currency;
+import com.behl.cerberus.entity.DepositAccount;
+import com.behl.cerberus.entity.Transaction;
+import com.behl.cerberus.entity.TransactionType;
+import com.behl.cerberus.exception.AccountAlreadyExistsException;
+import com.behl.cerberus.exception.BatchSizeExceededException;
+import com.behl.cerberus.exception.DeadlineExceededException;
+import com.behl.cerberus.exception.DepositAccountNotFoundException;
+import com.behl.cerberus.exception.InsufficientBalanceException;
+import com.behl.cerberus.exception.InvalidCursorException;
+import com.behl.cerberus.exception.InvalidStatementRangeException;
+import com.behl.cerberus.projection.DepositAccountProjection;
+import com.behl.cerberus.projection.TransactionProjection;
+import com.behl.cerberus.projection.TransactionRollupProjection;
+import com.behl.cerberus.repository.BalanceCheckpointRepository;
+import com.behl.cerberus.repository.DepositAccountRepository;
+import com.behl.cerberus.repository.TransactionRepository;
+import com.behl.cerberus.repository.TransactionRollupRepository;
+import com.behl.cerberus.utility.PartitionedTransactionEngine;
+import com.behl.cerberus.utility.TransactionCursor;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+class DepositAccountServiceTest {
+	
+	private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+	private final DepositAccountRepository depositAccountRepository = mock(DepositAccountRepository.class);
+	private final BalanceCheckpointRepository balanceCheckpointRepository = mock(BalanceCheckpointRepository.class);
+	private final TransactionRollupRepository transactionRollupRepository = mock(TransactionRollupRepository.class);
+	private final PartitionedTransactionEngine transactionEngine = mock(PartitionedTransactionEngine.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+	private final DepositAccountService depositAccountService = new DepositAccountService(transactionRepository, depositAccountRepository,
+			balanceCheckpointRepository, transactionRollupRepository, transactionEngine, transactionManager, validator);
+	
+	@Test
+	void shouldCreateDepositAccountForUser() {
+		// set up conflict detection query result
+		final var userId = UUID.randomUUID();
+		when(depositAccountRepository.existsByUserId(userId)).thenReturn(Boolean.FALSE);
+		
+		// invoke method under test
+		depositAccountService.create(userId);
+		
+		// verify mock interactions
+		verify(depositAccountRepository).existsByUserId(userId);
+		verify(depositAccountRepository).save(any(DepositAccount.class));
+	}
+	
+	@Test
+	void shouldNotAllowMultipleDepositAccountsForUser() {
+		// set up conflict detection query result
+		final var userId = UUID.randomUUID();
+		when(depositAccountRepository.existsByUserId(userId)).thenReturn(Boolean.TRUE);
+		
+		// assert AccountAlreadyExistsException is thrown if deposit account exists for user
+		assertThrows(AccountAlreadyExistsException.class, () -> depositAccountService.create(userId));
+		
+		// verify mock interactions
+		verify(depositAccountRepository).existsByUserId(userId);
+	}
+	
+	@Test
+	void shouldProcessWithdrawlTransactionForValidRequest() {
+		// prepare withdrawl transaction request
+		final var withdrawlAmount = new BigDecimal(new Random().nextInt(1, 10));
+		final var transactionRequest = mock(TransactionRequestDto.class);
+		when(transactionRequest.getAmount()).thenReturn(withdrawlAmount);
+		when(transactionRequest.getCurrency()).thenReturn(Currency.USD);
+		when(transactionRequest.getType()).thenReturn(TransactionType.WITHDRAW);
+		
+		// set up conditional debit to succeed for users deposit account
+		final var userId = UUID.randomUUID();
+		when(depositAccountRepository.debit(userId, withdrawlAmount)).thenReturn(1);
+		when(transactionRepository.record(any(UUID.class), eq(userId), anyString(), anyString(), any(BigDecimal.class), any(LocalDateTime.class))).thenReturn(1);
+		
+		// invoke method under test
+		depositAccountService.processTransaction(userId, transactionRequest);
+		
+		// verify mock interactions
+		verify(depositAccountRepository).debit(userId, withdrawlAmount);
+		verify(depositAccountRepository, never()).credit(any(UUID.class), any(BigDecimal.class));
+		verify(depositAccountRepository, never()).findByUserId(userId);
+		verify(depositAccountRepository, never()).save(any(DepositAccount.class));
+		verify(transactionRepository).record(any(UUID.class), eq(userId), eq(TransactionType.WITHDRAW.name()), eq(Currency.USD.name()), eq(withdrawlAmount), any(LocalDateTime.class));
+		verify(transactionRollupRepository).accumulateByUserId(eq(userId), any(LocalDate.class), eq(Currency.USD.name()), eq(BigDecimal.ZERO), eq(withdrawlAmount), eq(0L), eq(1L));
+	}
+	
+	@Test
+	void shouldNotProcessTransactionWhenWithdrawlAmountGreaterThanAccountBalance() {
+		// prepare withdrawl transaction request
+		final var withdrawlAmount = new BigDecimal(new Random().nextInt(100, 1000));
+		final var transactionRequest = mock(TransactionRequestDto.class);
+		when(transactionRequest.getAmount()).thenReturn(withdrawlAmount);
+		when(transactionRequest.getCurrency()).thenReturn(Currency.USD);
+		when(transactionRequest.getType()).thenReturn(TransactionType.WITHDRAW);
+		
+		// set up conditional debit to be rejected for existing deposit account with insufficient balance
+		final var userId = UUID.randomUUID();
+		when(depositAccountRepository.debit(userId, withdrawlAmount)).thenReturn(0);
+		when(depositAccountRepository.existsByUserId(userId)).thenReturn(Boolean.TRUE);
+		
+		// assert InsufficientBalanceException is thrown when withdrawl amount greater than account balance
+		assertThrows(InsufficientBalanceException.class, () -> depositAccountService.processTransaction(userId, transactionRequest));
+		
+		// verify mock interactions
+		verify(depositAccountRepository).debit(userId, withdrawlAmount);
+		verify(depositAccountRepository).existsByUserId(userId);
+		verify(transactionRepository, never()).record(any(UUID.class), any(UUID.class), anyString(), anyString(), any(BigDecimal.class), any(LocalDateTime.class));
+	}
+	
+	@Test
+	void shouldProcessDepositTransactionForValidRequest() {
+		// prepare deposit transaction request
+		final var depositAmount = new BigDecimal(new Random().nextInt(1, 100));
+		final var transactionRequest = mock(TransactionRequestDto.class);
+		when(transactionRequest.getAmount()).thenReturn(depositAmount);
+		when(transactionRequest.getCurrency()).thenReturn(Currency.USD);
+		when(transactionRequest.getType()).thenReturn(TransactionType.DEPOSIT);
+		
+		// set up credit to succeed for users deposit account
+		final var userId = UUID.randomUUID();
+		when(depositAccountRepository.credit(userId, depositAmount)).thenReturn(1);
+		when(transactionRepository.record(any(UUID.class), eq(userId), anyString(), anyString(), any(BigDecimal.class), any(LocalDateTime.class))).thenReturn(1);
+		
+		// invoke method under test
+		depositAccountService.processTransaction(userId, transactionRequest);
+		
+		// verify mock interactions
+		verify(depositAccountRepository).credit(userId, depositAmount);
+		verify(depositAccountRepository, never()).debit(any(UUID.class), any(BigDecimal.class));
+		verify(depositAccountRepository, never()).save(any(DepositAccount.class));
+		final var timestamp = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(transactionRepository).record(any(UUID.class), eq(userId), eq(TransactionType.DEPOSIT.name()), eq(Currency.USD.name()), eq(depositAmount), timestamp.capture());
+		verify(transactionRollupRepository).accumulateByUserId(eq(userId), eq(timestamp.getValue().toLocalDate()), eq(Currency.USD.name()), eq(depositAmount), eq(BigDecimal.ZERO), eq(1L), eq(0L));
+		
+		// assert timestamp is truncated to the precision of the column, preventing rounding into the following day
+		assertThat(timestamp.getValue().getNano()).isZero();
+	}
+	
+	@ParameterizedTest
+	@EnumSource(TransactionType.class)
+	void shouldNotProcessTransactionForNonExistingDepositAccount(final TransactionType transactionType) {
+		// prepare transaction request
+		final var amount = new BigDecimal(new Random().nextInt(1, 100));
+		final var transactionRequest = mock(TransactionRequestDto.class);
+		when(transactionRequest.getAmount()).thenReturn(amount);
+		when(transactionRequest.getCurrency()).thenReturn(Currency.USD);
+		when(transactionRequest.getType()).thenReturn(transactionType);
+		
+		// set up balance updates to affect no deposit account
+		final var userId = UUID.randomUUID();
+		when(depositAccountRepository.debit(userId, amount)).thenReturn(0);
+		when(depositAccountRepository.credit(userId, amount)).thenReturn(0);
+		when(depositAccountRepository.existsByUserId(userId)).thenReturn(Boolean.FALSE);
+		
+		// assert DepositAccountNotFoundException is thrown
+		assertThrows(DepositAccountNotFoundException.class, () -> depositAccountService.processTransaction(userId, transactionRequest));
+		
+		// verify no ledger entry is recorded
+		verify(transactionRepository, never()).record(any(UUID.class), any(UUID.class), anyString(), anyString(), any(BigDecimal.class), any(LocalDateTime.class));
+	}
+	
+	@Test
+	void shouldRouteTransactionThroughEngineWhenEnabled() {
+		// prepare transaction request and enable transaction engine
+		final var userId = UUID.randomUUID();
+		final var transactionRequest = mock(TransactionRequestDto.class);
+		when(transactionEngine.isEnabled()).thenReturn(Boolean.TRUE);
+		when(transactionEngine.submit(userId, transactionRequest)).thenReturn(CompletableFuture.completedFuture(null));
+		
+		// invoke method under test
+		depositAccountService.processTransaction(userId, transactionRequest);
+		
+		// verify transaction is not applied by calling thread
+		verify(transactionEngine).submit(userId, transactionRequest);
+		verify(depositAccountRepository, never()).debit(any(UUID.class), any(BigDecimal.class));
+		verify(depositAccountRepository, never()).credit(any(UUID.class), any(BigDecimal.class));
+		verify(transactionManager, never()).getTransaction(any());
+	}
+	
+	@Test
+	void shouldPropagateRejectionReportedByTransactionEngine() {
+		// set up transaction engine to reject transaction
+		final var userId = UUID.randomUUID();
+		final var transactionRequest = mock(TransactionRequestDto.class);
+		when(transactionEngine.isEnabled()).thenReturn(Boolean.TRUE);
+		when(transactionEngine.submit(userId, transactionRequest)).thenReturn(CompletableFuture.failedFuture(new InsufficientBalanceException()));
+		
+		// assert rejection is thrown unwrapped
+		assertThrows(InsufficientBalanceException.class, () -> depositAccountService.processTransaction(userId, transactionRequest));
+	}
+	
+	@Test
+	void shouldThrowDeadlineExceededWhenTransactionEngineTimesOut() {
+		// set up transaction engine to time out before applying transaction
+		final var userId = UUID.randomUUID();
+		final var transactionRequest = mock(TransactionRequestDto.class);
+		when(transactionEngine.isEnabled()).thenReturn(Boolean.TRUE);
+		when(transactionEngine.submit(userId, transactionRequest)).thenReturn(CompletableFuture.failedFuture(new TimeoutException()));
+		
+		// assert DeadlineExceededException is thrown
+		assertThrows(DeadlineExceededException.class, () -> depositAccountService.processTransaction(userId, transactionRequest));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldProcessBatchWithSingleBalanceWriteAndRejectInvalidItems() {
+		// prepare users deposit account
+		final var userId = UUID.randomUUID();
+		final var depositAccount = new DepositAccount();
+		depositAccount.setUserId(userId);
+		depositAccount.setBalance(new BigDecimal("10"));
+		when(depositAccountRepository.findForUpdateByUserId(userId)).thenReturn(Optional.of(depositAccount));
+		
+		// prepare batch containing a deposit, an invalid transaction and an uncovered withdrawl
+		final var deposit = transactionRequest(TransactionType.DEPOSIT, new BigDecimal("5"));
+		final var invalidTransaction = transactionRequest(TransactionType.DEPOSIT, null);
+		final var coveredWithdrawl = transactionRequest(TransactionType.WITHDRAW, new BigDecimal("15"));
+		final var uncoveredWithdrawl = transactionRequest(TransactionType.WITHDRAW, new BigDecimal("1"));
+		
+		// invoke method under test
+		final var results = depositAccountService.processTransactions(userId, List.of(deposit, invalidTransaction, coveredWithdrawl, uncoveredWithdrawl));
+		
+		// assert result of each transaction in submission order
+		assertThat(results).extracting(TransactionBatchResultDto::getIndex).containsExactly(0, 1, 2, 3);
+		assertThat(results).extracting(TransactionBatchResultDto::getStatus).containsExactly(HttpStatus.OK.toString(),
+				HttpStatus.BAD_REQUEST.toString(), HttpStatus.OK.toString(), HttpStatus.NOT_ACCEPTABLE.toString());
+		assertThat(results.get(1).getDescription()).isEqualTo("Amount must not be empty");
+		assertThat(depositAccount.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+		
+		// verify ledger entries of accepted transactions are saved together
+		final var ledgerEntries = ArgumentCaptor.forClass(List.class);
+		verify(transactionRepository).saveAll(ledgerEntries.capture());
+		assertThat((List<Transaction>) ledgerEntries.getValue()).extracting(Transaction::getType)
+				.containsExactly(TransactionType.DEPOSIT, TransactionType.WITHDRAW);
+		verify(transactionRollupRepository).accumulateAll(ledgerEntries.getValue());
+		verify(depositAccountRepository, never()).save(any(DepositAccount.class));
+	}
+	
+	@Test
+	void shouldRejectEmptyItemOfBatch() {
+		// prepare users deposit account
+		final var userId = UUID.randomUUID();
+		final var depositAccount = new DepositAccount();
+		depositAccount.setUserId(userId);
+		depositAccount.setBalance(BigDecimal.ZERO);
+		when(depositAccountRepository.findForUpdateByUserId(userId)).thenReturn(Optional.of(depositAccount));
+		
+		// prepare batch containing an empty item
+		final var transactionRequests = Arrays.asList(transactionRequest(TransactionType.DEPOSIT, BigDecimal.ONE), null);
+		
+		// invoke method under test
+		final var results = depositAccountService.processTransactions(userId, transactionRequests);
+		
+		// assert only the empty item is rejected
+		assertThat(results).extracting(TransactionBatchResultDto::getStatus).containsExactly(HttpStatus.OK.toString(), HttpStatus.BAD_REQUEST.toString());
+		assertThat(results.get(1).getDescription()).isEqualTo("Transaction must not be empty");
+		assertThat(depositAccount.getBalance()).isEqualByComparingTo(BigDecimal.ONE);
+	}
+	
+	@Test
+	void shouldReportOutcomeOfEachBatchItemAppliedThroughEngine() {
+		// prepare batch of transactions, applied, rejected, failed and timed out by transaction engine
+		final var userId = UUID.randomUUID();
+		final var appliedTransaction = transactionRequest(TransactionType.DEPOSIT, new BigDecimal("1"));
+		final var rejectedTransaction = transactionRequest(TransactionType.WITHDRAW, new BigDecimal("2"));
+		final var failedTransaction = transactionRequest(TransactionType.DEPOSIT, new BigDecimal("3"));
+		final var timedOutTransaction = transactionRequest(TransactionType.DEPOSIT, new BigDecimal("4"));
+		when(transactionEngine.isEnabled()).thenReturn(Boolean.TRUE);
+		when(transactionEngine.submit(userId, appliedTransaction)).thenReturn(CompletableFuture.completedFuture(null));
+		when(transactionEngine.submit(userId, rejectedTransaction)).thenReturn(CompletableFuture.failedFuture(new InsufficientBalanceException()));
+		when(transactionEngine.submit(userId, failedTransaction)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException()));
+		when(transactionEngine.submit(userId, timedOutTransaction)).thenReturn(CompletableFuture.failedFuture(new TimeoutException()));
+		
+		// invoke method under test
+		final var results = depositAccountService.processTransactions(userId,
+				List.of(appliedTransaction, rejectedTransaction, failedTransaction, timedOutTransaction));
+		
+		// assert outcome of each transaction is reported individually
+		assertThat(results).extracting(TransactionBatchResultDto::getStatus).containsExactly(HttpStatus.OK.toString(),
+				HttpStatus.NOT_ACCEPTABLE.toString(), HttpStatus.INTERNAL_SERVER_ERROR.toString(), HttpStatus.SERVICE_UNAVAILABLE.toString());
+	}
+	
+	@Test
+	void shouldNotProcessBatchExceedingMaximumSize() {
+		// prepare batch larger than permitted
+		final var transactionRequest = transactionRequest(TransactionType.DEPOSIT, BigDecimal.ONE);
+		final var transactionRequests = Collections.nCopies(DepositAccountService.MAXIMUM_BATCH_SIZE + 1, transactionRequest);
+		
+		// assert BatchSizeExceededException is thrown
+		assertThrows(BatchSizeExceededException.class, () -> depositAccountService.processTransactions(UUID.randomUUID(), transactionRequests));
+		
+		// verify deposit account is not locked
+		verify(depositAccountRepository, never()).findForUpdateByUserId(any(UUID.class));
+	}
+	
+	@Test
+	void shouldNotProcessBatchForNonExistingDepositAccount() {
+		// set up datasource to contain no deposit account for user
+		final var userId = UUID.randomUUID();
+		when(depositAccountRepository.findForUpdateByUserId(userId)).thenReturn(Optional.empty());
+		
+		// assert DepositAccountNotFoundException is thrown
+		final var transactionRequests = List.of(transactionRequest(TransactionType.DEPOSIT, BigDecimal.ONE));
+		assertThrows(DepositAccountNotFoundException.class, () -> depositAccountService.processTransactions(userId, transactionRequests));
+		
+		// verify no ledger entry is saved
+		verify(transactionRepository, never()).saveAll(any());
+	}
+	
+	@Test
+	void shouldReturnPageOfTransactionsWithCursorToNextPage() {
+		// set up datasource to hold more transactions than requested
+		final var userId = UUID.randomUUID();
+		final var transactionHistoryRequest = new TransactionHistoryRequestDto();
+		transactionHistoryRequest.setLimit(2);
+		transactionHistoryRequest.setType(TransactionType.DEPOSIT);
+		final var transactions = List.of(transaction(LocalDateTime.of(2024, 3, 3, 10, 0)), transaction(LocalDateTime.of(2024, 3, 2, 10, 0)),
+				transaction(LocalDateTime.of(2024, 3, 1, 10, 0)));
+		when(transactionRepository.findPageByDepositAccountUserId(userId, TransactionType.DEPOSIT, null, null, null, null, Limit.of(3))).thenReturn(transactions);
+		
+		// invoke method under test
+		final var response = depositAccountService.getTransactions(userId, transactionHistoryRequest);
+		
+		// assert requested number of transactions returned with cursor positioned at last of them
+		assertThat(response.getTransactions()).extracting(TransactionDetailDto::getTimestamp)
+				.containsExactly(transactions.get(0).timestamp(), transactions.get(1).timestamp());
+		final var nextCursor = TransactionCursor.decode(response.getNextCursor());
+		assertThat(nextCursor.timestamp()).isEqualTo(transactions.get(1).timestamp());
+		assertThat(nextCursor.id()).isEqualTo(transactions.get(1).id());
+	}
+	
+	@Test
+	void shouldRetrievePageFollowingProvidedCursorWithoutCursorOnLastPage() {
+		// prepare request for page following cursor
+		final var userId = UUID.randomUUID();
+		final var cursor = new TransactionCursor(LocalDateTime.of(2024, 3, 2, 10, 0), UUID.randomUUID());
+		final var from = LocalDateTime.of(2024, 1, 1, 0, 0);
+		final var to = LocalDateTime.of(2024, 4, 1, 0, 0);
+		final var transactionHistoryRequest = new TransactionHistoryRequestDto();
+		transactionHistoryRequest.setCursor(cursor.encode());
+		transactionHistoryRequest.setFrom(from);
+		transactionHistoryRequest.setTo(to);
+		final var transaction = transaction(LocalDateTime.of(2024, 3, 1, 10, 0));
+		when(transactionRepository.findPageByDepositAccountUserId(userId, null, from, to, cursor.timestamp(), cursor.id(),
+				Limit.of(TransactionHistoryRequestDto.DEFAULT_PAGE_SIZE + 1))).thenReturn(List.of(transaction));
+		
+		// invoke method under test
+		final var response = depositAccountService.getTransactions(userId, transactionHistoryRequest);
+		
+		// assert last page is returned without cursor
+		assertThat(response.getTransactions()).hasSize(1);
+		assertThat(response.getNextCursor()).isNull();
+	}
+	
+	@Test
+	void shouldRejectMalformedCursor() {
+		// prepare request with malformed cursor
+		final var transactionHistoryRequest = new TransactionHistoryRequestDto();
+		transactionHistoryRequest.setCursor("not-a-cursor");
+		
+		// assert InvalidCursorException is thrown without querying datasource
+		assertThrows(InvalidCursorException.class, () -> depositAccountService.getTransactions(UUID.randomUUID(), transactionHistoryRequest));
+		verify(transactionRepository, never()).findPageByDepositAccountUserId(any(), any(), any(), any(), any(), any(), any());
+	}
+	
+	@Test
+	void shouldReturnDepositAccountDetailsOfUser() {
+		// set up datasource to hold deposit account of user
+		final var userId = UUID.randomUUID();
+		final var createdAt = LocalDateTime.of(2024, 3, 1, 10, 0);
+		when(depositAccountRepository.findProjectionByUserId(userId)).thenReturn(Optional.of(new DepositAccountProjection(BigDecimal.TEN, createdAt)));
+		
+		// invoke method under test
+		final var response = depositAccountService.getByUserId(userId);
+		
+		// assert response is populated from projection
+		assertThat(response.getBalance()).isEqualByComparingTo(BigDecimal.TEN);
+		assertThat(response.getCreatedAt()).isEqualTo(createdAt);
+		verify(depositAccountRepository, never()).findByUserId(any());
+	}
+	
+	@Test
+	void shouldThrowExceptionWhenFetchingNonExistingDepositAccount() {
+		// set up datasource to hold no deposit account for user
+		final var userId = UUID.randomUUID();
+		when(depositAccountRepository.findProjectionByUserId(userId)).thenReturn(Optional.empty());
+		
+		// assert DepositAccountNotFoundException is thrown
+		assertThrows(DepositAccountNotFoundException.class, () -> depositAccountService.getByUserId(userId));
+	}
+	
+	@Test
+	void shouldDeriveBalanceAsOfFromLatestPrecedingCheckpoint() {
+		// set up datasource to hold checkpoint preceding requested time
+		final var userId = UUID.randomUUID();
+		final var accountId = UUID.randomUUID();
+		final var asOf = LocalDateTime.of(2024, 3, 1, 0, 0);
+		final var checkpoint = new BalanceCheckpoint();
+		checkpoint.setAccountId(accountId);
+		checkpoint.setTimestamp(LocalDateTime.of(2024, 2, 28, 12, 0));
+		checkpoint.setTransactionId(UUID.randomUUID());
+		checkpoint.setBalance(new BigDecimal("100"));
+		when(depositAccountRepository.findIdByUserId(userId)).thenReturn(Optional.of(accountId));
+		when(balanceCheckpointRepository.findFirstByAccountIdAndTimestampLessThanEqualOrderByTimestampDescTransactionIdDesc(accountId, asOf))
+				.thenReturn(Optional.of(checkpoint));
+		when(transactionRepository.sumBalanceChangeByDepositAccountIdPositionedAfter(accountId, asOf, checkpoint.getTimestamp(),
+				checkpoint.getTransactionId(), TransactionType.DEPOSIT)).thenReturn(new BigDecimal("-25.50"));
+		
+		// invoke method under test
+		final var response = depositAccountService.getBalanceAsOf(userId, asOf);
+		
+		// assert balance combines checkpoint with subsequent transactions
+		assertThat(response.getBalance()).isEqualByComparingTo("74.50");
+		assertThat(response.getAsOf()).isEqualTo(asOf);
+	}
+	
+	@Test
+	void shouldDeriveBalanceAsOfFromAllTransactionsWithoutPrecedingCheckpoint() {
+		// set up datasource to hold no checkpoint preceding requested time
+		final var userId = UUID.randomUUID();
+		final var accountId = UUID.randomUUID();
+		final var asOf = LocalDateTime.of(2024, 3, 1, 0, 0);
+		when(depositAccountRepository.findIdByUserId(userId)).thenReturn(Optional.of(accountId));
+		when(balanceCheckpointRepository.findFirstByAccountIdAndTimestampLessThanEqualOrderByTimestampDescTransactionIdDesc(accountId, asOf))
+				.thenReturn(Optional.empty());
+		when(transactionRepository.sumBalanceChangeByDepositAccountIdPositionedAfter(accountId, asOf, null, null, TransactionType.DEPOSIT))
+				.thenReturn(null);
+		
+		// invoke method under test
+		final var response = depositAccountService.getBalanceAsOf(userId, asOf);
+		
+		// assert zero balance is returned for account without transactions
+		assertThat(response.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+	}
+	
+	@Test
+	void shouldThrowExceptionWhenFetchingBalanceAsOfForNonExistingDepositAccount() {
+		// set up datasource to hold no deposit account for user
+		final var userId = UUID.randomUUID();
+		when(depositAccountRepository.findIdByUserId(userId)).thenReturn(Optional.empty());
+		
+		// assert DepositAccountNotFoundException is thrown
+		assertThrows(DepositAccountNotFoundException.class, () -> depositAccountService.getBalanceAsOf(userId, LocalDateTime.now()));
+	}
+	
+	@Test
+	void shouldReadDailyStatementFromRollups() {
+		// set up datasource to hold daily rollups of users deposit account
+		final var userId = UUID.randomUUID();
+		final var accountId = UUID.randomUUID();
+		final var from = LocalDate.of(2024, 3, 1);
+		final var to = LocalDate.of(2024, 4, 1);
+		final var rollup = new TransactionRollupProjection(LocalDate.of(2024, 3, 5), Currency.USD, new BigDecimal("150"), new BigDecimal("40"), 3L, 1L);
+		when(depositAccountRepository.findIdByUserId(userId)).thenReturn(Optional.of(accountId));
+		when(transactionRollupRepository.findDailyByAccountId(accountId, from, to)).thenReturn(List.of(rollup));
+		
+		// invoke method under test
+		final var statementRequest = new StatementRequestDto();
+		statementRequest.setPeriod(StatementRequestDto.Period.DAILY);
+		statementRequest.setFrom(from);
+		statementRequest.setTo(to);
+		final var response = depositAccountService.getStatement(userId, statementRequest);
+		
+		// assert an entry is returned per rollup without reading transactions
+		assertThat(response.getPeriod()).isEqualTo(StatementRequestDto.Period.DAILY);
+		assertThat(response.getEntries()).singleElement().satisfies(entry -> {
+			assertThat(entry.getPeriodStart()).isEqualTo(rollup.periodStart());
+			assertThat(entry.getTotalDeposited()).isEqualByComparingTo("150");
+			assertThat(entry.getTotalWithdrawn()).isEqualByComparingTo("40");
+			assertThat(entry.getDepositCount()).isEqualTo(3L);
+			assertThat(entry.getWithdrawalCount()).isEqualTo(1L);
+		});
+		verify(transactionRollupRepository, never()).findMonthlyByAccountId(any(), any(), any());
+		verifyNoInteractions(transactionRepository);
+	}
+	
+	@Test
+	void shouldReadMonthlyStatementFromRollupsSummedPerMonth() {
+		// set up datasource to hold monthly sums of rollups of users deposit account
+		final var userId = UUID.randomUUID();
+		final var accountId = UUID.randomUUID();
+		final var from = LocalDate.of(2024, 1, 1);
+		final var to = LocalDate.of(2025, 1, 1);
+		final var january = new TransactionRollupProjection(2024, 1, Currency.USD, new BigDecimal("10"), BigDecimal.ZERO, 1L, 0L);
+		final var march = new TransactionRollupProjection(2024, 3, Currency.USD, new BigDecimal("20"), new BigDecimal("5"), 2L, 1L);
+		when(depositAccountRepository.findIdByUserId(userId)).thenReturn(Optional.of(accountId));
+		when(transactionRollupRepository.findMonthlyByAccountId(accountId, from, to)).thenReturn(List.of(january, march));
+		
+		// invoke method under test
+		final var statementRequest = new StatementRequestDto();
+		statementRequest.setFrom(from);
+		statementRequest.setTo(to);
+		final var response = depositAccountService.getStatement(userId, statementRequest);
+		
+		// assert monthly statement is returned by default, each entry starting on first day of month
+		assertThat(response.getPeriod()).isEqualTo(StatementRequestDto.Period.MONTHLY);
+		assertThat(response.getEntries()).extracting(StatementEntryDto::getPeriodStart)
+				.containsExactly(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 1));
+		verifyNoInteractions(transactionRepository);
+	}
+	
+	@Test
+	void shouldRejectStatementWithEmptyRange() {
+		// prepare statement request whose lower bound does not precede its upper bound
+		final var statementRequest = new StatementRequestDto();
+		statementRequest.setFrom(LocalDate.of(2024, 3, 1));
+		statementRequest.setTo(LocalDate.of(2024, 3, 1));
+		
+		// assert InvalidStatementRangeException is thrown
+		assertThrows(InvalidStatementRangeException.class, () -> depositAccountService.getStatement(UUID.randomUUID(), statementRequest));
+		verifyNoInteractions(transactionRollupRepository);
+	}
+	
+	@Test
+	void shouldRejectDailyStatementExceedingMaximumRange() {
+		// prepare daily statement request spanning more than the maximum range
+		final var statementRequest = new StatementRequestDto();
+		statementRequest.setPeriod(StatementRequestDto.Period.DAILY);
+		statementRequest.setFrom(LocalDate.of(2020, 1, 1));
+		statementRequest.setTo(LocalDate.of(2024, 1, 1));
+		
+		// assert InvalidStatementRangeException is thrown
+		assertThrows(InvalidStatementRangeException.class, () -> depositAccountService.getStatement(UUID.randomUUID(), statementRequest));
+		verifyNoInteractions(transactionRollupRepository);
+	}
+	
+	private TransactionProjection transaction(final LocalDateTime timestamp) {
+		return new TransactionProjection(UUID.randomUUID(), TransactionType.DEPOSIT, Currency.USD, BigDecimal.TEN, timestamp);
+	}
+	
+	private TransactionRequestDto transactionRequest(final TransactionType type, final BigDecimal amount) {
+		final var transactionRequest = new TransactionRequestDto();
+		transactionRequest.setType(type);
+		transactionRequest.setAmount(amount);
+		transactionRequest.setCurrency(Currency.USD);
+		return transactionRequest;
+	}
+	
+}
\ No newline at end of file
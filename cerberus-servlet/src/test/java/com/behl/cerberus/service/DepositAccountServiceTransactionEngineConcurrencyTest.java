@@ -0,0 +1,13 @@
+package com.behl.cerberus.service;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Repeats the concurrency scenarios with transactions routed through the
+ * partitioned transaction engine, asserting batching and coalescing of balance
+ * updates neither loses updates nor overdraws the account.
+ */
+@TestPropertySource(properties = "com.behl.cerberus.transaction-engine.enabled=true")
+class DepositAccountServiceTransactionEngineConcurrencyTest extends DepositAccountServiceConcurrencyTest {
+
+}
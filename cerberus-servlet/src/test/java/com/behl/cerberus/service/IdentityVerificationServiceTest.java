@@ -21,7 +21,9 @@ class IdentityVerificationServiceTest {
 	
 	private final UserRepository userRepository = mock(UserRepository.class);
 	private final ResidentialAddressRepository residentialAddressRepository = mock(ResidentialAddressRepository.class);
-	private final IdentityVerificationService identityVerificationService = new IdentityVerificationService(userRepository, residentialAddressRepository);
+	private final AuthenticationService authenticationService = mock(AuthenticationService.class);
+	private final IdentityVerificationService identityVerificationService = new IdentityVerificationService(userRepository, residentialAddressRepository,
+			authenticationService);
 	
 	@Test
 	void shouldVerifyUserIdentityAndUpdateUserStatusAndResidentialAddress() {
@@ -41,6 +43,7 @@ class IdentityVerificationServiceTest {
 		verify(user).setUserStatus(UserStatus.APPROVED);
 		verify(userRepository).save(user);
 		verify(residentialAddressRepository).save(any(ResidentialAddress.class));
+		verify(authenticationService).evictRefreshedAccessTokens(userId);
 	}
 	
 }
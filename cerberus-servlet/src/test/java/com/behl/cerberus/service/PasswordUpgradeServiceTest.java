@@ -0,0 +1,64 @@
+package com.behl.cerberus.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.behl.cerberus.exception.PasswordHashingUnavailableException;
+import com.behl.cerberus.repository.UserRepository;
+
+class PasswordUpgradeServiceTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+	private final PasswordUpgradeService passwordUpgradeService = new PasswordUpgradeService(userRepository, passwordEncoder);
+
+	@Test
+	void shouldReplaceStoredHashWithUpgradedHash() {
+		// set up password encoding
+		final var userId = UUID.randomUUID();
+		final var password = "test-password";
+		final var currentEncodedPassword = "test-outdated-encoded-password";
+		final var upgradedEncodedPassword = "test-upgraded-encoded-password";
+		when(passwordEncoder.encode(password)).thenReturn(upgradedEncodedPassword);
+		when(userRepository.updatePassword(userId, currentEncodedPassword, upgradedEncodedPassword)).thenReturn(1);
+
+		// invoke method under test
+		passwordUpgradeService.upgrade(userId, password, currentEncodedPassword);
+
+		// verify conditional update of stored hash
+		verify(passwordEncoder).encode(password);
+		verify(userRepository).updatePassword(userId, currentEncodedPassword, upgradedEncodedPassword);
+	}
+
+	@Test
+	void shouldDeferUpgradeWhenPasswordHashingIsUnavailable() {
+		// set up password encoding to be rejected
+		final var password = "test-password";
+		when(passwordEncoder.encode(password)).thenThrow(new PasswordHashingUnavailableException(Duration.ofSeconds(2)));
+
+		// invoke method under test and assert no exception is propagated
+		assertDoesNotThrow(() -> passwordUpgradeService.upgrade(UUID.randomUUID(), password, "test-encoded-password"));
+
+		// verify stored hash is not modified
+		verifyNoInteractions(userRepository);
+	}
+
+	@Test
+	void shouldThrowIllegalArgumentExceptionForNullArguments() {
+		final var userId = UUID.randomUUID();
+		assertThrows(IllegalArgumentException.class, () -> passwordUpgradeService.upgrade(null, "test-password", "test-encoded-password"));
+		assertThrows(IllegalArgumentException.class, () -> passwordUpgradeService.upgrade(userId, null, "test-encoded-password"));
+		assertThrows(IllegalArgumentException.class, () -> passwordUpgradeService.upgrade(userId, "test-password", null));
+	}
+
+}
@@ -0,0 +1,147 @@
+package com.behl.cerberus.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.behl.cerberus.configuration.PasswordConfigurationProperties;
+import com.behl.cerberus.dto.TransactionHistoryRequestDto;
+import com.behl.cerberus.dto.TransactionRequestDto;
+import com.behl.cerberus.entity.Currency;
+import com.behl.cerberus.entity.TransactionType;
+import com.behl.cerberus.entity.User;
+import com.behl.cerberus.repository.TransactionRepository;
+import com.behl.cerberus.repository.UserRepository;
+import com.behl.cerberus.utility.DummyPasswordVerifier;
+import com.behl.cerberus.utility.PartitionedTransactionEngine;
+import com.behl.cerberus.utility.RegisteredEmailFilter;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts the statements issued by read endpoints through Hibernate statistics,
+ * against a real MySQL instance, guarding against associations being fetched
+ * per row. Skipped when docker is unavailable.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({ DepositAccountService.class, PartitionedTransactionEngine.class })
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadEndpointQueryCountTest {
+
+	private static final int TRANSACTION_COUNT = 5;
+
+	@Container
+	@ServiceConnection
+	static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8");
+
+	@Autowired
+	private DepositAccountService depositAccountService;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		// prepare deposit account holding multiple transactions
+		final var user = new User();
+		user.setFirstName("Statistics");
+		user.setEmailId(UUID.randomUUID() + "@cerberus.test");
+		user.setPassword("not-a-real-password-hash");
+		userId = userRepository.save(user).getId();
+		depositAccountService.create(userId);
+		for (int transaction = 0; transaction < TRANSACTION_COUNT; transaction++) {
+			final var transactionRequest = new TransactionRequestDto();
+			transactionRequest.setType(TransactionType.DEPOSIT);
+			transactionRequest.setAmount(BigDecimal.TEN);
+			transactionRequest.setCurrency(Currency.USD);
+			depositAccountService.processTransaction(userId, transactionRequest);
+		}
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void shouldFetchTransactionHistoryPageInSingleStatement() {
+		// invoke method under test
+		final var transactionHistoryRequest = new TransactionHistoryRequestDto();
+		transactionHistoryRequest.setLimit(TRANSACTION_COUNT - 1);
+		final var response = depositAccountService.getTransactions(userId, transactionHistoryRequest);
+
+		// assert page is read through a single statement without loading entities
+		assertThat(response.getTransactions()).hasSize(TRANSACTION_COUNT - 1);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void shouldFetchDepositAccountDetailsInSingleStatement() {
+		// invoke method under test
+		final var response = depositAccountService.getByUserId(userId);
+
+		// assert details are read through a single statement without loading entities
+		assertThat(response.getBalance()).isEqualByComparingTo(BigDecimal.TEN.multiply(BigDecimal.valueOf(TRANSACTION_COUNT)));
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void shouldFetchUserDetailsInSingleStatement() {
+		// invoke method under test
+		final var userService = new UserService(userRepository, mock(RegisteredEmailFilter.class), mock(DummyPasswordVerifier.class),
+				mock(PasswordEncoder.class), mock(TokenRevocationService.class), mock(AuthenticationService.class), mock(CompromisedPasswordChecker.class),
+				mock(PasswordConfigurationProperties.class));
+		final var response = userService.getById(userId);
+
+		// assert details are read through a single statement without loading entities
+		assertThat(response.getFirstName()).isEqualTo("Statistics");
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void shouldNotFetchAssociationsWhenLoadingTransactionEntities() {
+		// invoke method under test
+		final var transactions = transactionRepository.findByDepositAccountUserId(userId);
+
+		// assert neither deposit account nor user is loaded alongside transactions
+		assertThat(transactions).hasSize(TRANSACTION_COUNT);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isEqualTo(TRANSACTION_COUNT);
+	}
+
+}
@@ -5,13 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
+import com.behl.cerberus.token.AccessTokenClaims;
 import com.behl.cerberus.utility.CacheManager;
 import com.behl.cerberus.utility.JwtUtility;
 
@@ -51,6 +55,23 @@ class TokenRevocationServiceTest {
 		verify(cacheManager).save(jti, timeUntilExpiration);
 	}
 	
+	@Test
+	void shouldAddProvidedTokenJtiToCacheForRevocation() {
+		// set up details extraction from provided access token
+		final var accessToken = "test-access-token";
+		final var jti = UUID.randomUUID().toString();
+		final var timeUntilExpiration = mock(Duration.class);
+		when(jwtUtility.getJti(accessToken)).thenReturn(jti);
+		when(jwtUtility.getTimeUntilExpiration(accessToken)).thenReturn(timeUntilExpiration);
+
+		// invoke method under test
+		tokenRevocationService.revoke(accessToken);
+
+		// verify JTI is cached without consulting current HTTP request
+		verify(cacheManager).save(jti, timeUntilExpiration);
+		verifyNoInteractions(httpServletRequest);
+	}
+	
 	@Test
 	void shouldThrowExceptionForNonExistentAuthorizationHeader() {
 		// set up no authorization header in current HTTP request
@@ -95,4 +116,20 @@ class TokenRevocationServiceTest {
 		verify(cacheManager).isPresent(jti);
 	}
 
+	@Test
+	void shouldEvaluateRevocationOfVerifiedClaimsWithoutVerifyingTokenAgain() {
+		// set up JTI of verified access token claims to be present in cache
+		final var jti = UUID.randomUUID().toString();
+		final var claims = new AccessTokenClaims(jti, UUID.randomUUID(), List.of("fullaccess"), Instant.now().plusSeconds(60));
+		when(cacheManager.isPresent(jti)).thenReturn(Boolean.TRUE);
+
+		// invoke method under test
+		final var response = tokenRevocationService.isRevoked(claims);
+
+		// verify response and that the token is not verified again
+		assertThat(response).isTrue();
+		verify(cacheManager).isPresent(jti);
+		verifyNoInteractions(jwtUtility);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.behl.cerberus.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.behl.cerberus.dto.StatementDto;
+import com.behl.cerberus.dto.StatementRequestDto;
+import com.behl.cerberus.dto.TransactionRequestDto;
+import com.behl.cerberus.entity.Currency;
+import com.behl.cerberus.entity.TransactionType;
+import com.behl.cerberus.entity.User;
+import com.behl.cerberus.repository.TransactionRollupRepository;
+import com.behl.cerberus.repository.UserRepository;
+import com.behl.cerberus.utility.PartitionedTransactionEngine;
+import com.behl.cerberus.utility.TransactionRollupRebuilder;
+
+/**
+ * Verifies rollups maintained alongside each transaction against a real MySQL
+ * instance, as the upserts and their regeneration are native statements.
+ * Skipped when docker is unavailable.
+ */
+@DataJpaTest
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({ DepositAccountService.class, PartitionedTransactionEngine.class, TransactionRollupRebuilder.class })
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransactionRollupIntegrationTest {
+
+	@Container
+	@ServiceConnection
+	static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8");
+
+	@Autowired
+	private DepositAccountService depositAccountService;
+
+	@Autowired
+	private TransactionRollupRebuilder transactionRollupRebuilder;
+
+	@Autowired
+	private TransactionRollupRepository transactionRollupRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void shouldRollUpTransactionsAndRegenerateIdenticalRollups() {
+		// process single and batched transactions against a deposit account
+		final var userId = createDepositAccount();
+		depositAccountService.processTransaction(userId, transactionRequest(TransactionType.DEPOSIT, "100.50"));
+		depositAccountService.processTransaction(userId, transactionRequest(TransactionType.WITHDRAW, "20.25"));
+		depositAccountService.processTransactions(userId, List.of(transactionRequest(TransactionType.DEPOSIT, "10"),
+				transactionRequest(TransactionType.DEPOSIT, "5"), transactionRequest(TransactionType.WITHDRAW, "1000")));
+
+		// assert statements read from rollups total the accepted transactions
+		final var today = LocalDate.now(ZoneOffset.UTC);
+		final var dailyStatement = statement(userId, StatementRequestDto.Period.DAILY, today, today.plusDays(1));
+		assertThat(dailyStatement.getEntries()).singleElement().satisfies(entry -> {
+			assertThat(entry.getPeriodStart()).isEqualTo(today);
+			assertThat(entry.getCurrency()).isEqualTo(Currency.USD);
+			assertThat(entry.getTotalDeposited()).isEqualByComparingTo("115.50");
+			assertThat(entry.getTotalWithdrawn()).isEqualByComparingTo("20.25");
+			assertThat(entry.getDepositCount()).isEqualTo(3L);
+			assertThat(entry.getWithdrawalCount()).isEqualTo(1L);
+		});
+		final var monthlyStatement = statement(userId, StatementRequestDto.Period.MONTHLY, today.withDayOfMonth(1), today.plusDays(1));
+		assertThat(monthlyStatement.getEntries()).singleElement().satisfies(entry -> {
+			assertThat(entry.getPeriodStart()).isEqualTo(today.withDayOfMonth(1));
+			assertThat(entry.getTotalDeposited()).isEqualByComparingTo("115.50");
+		});
+
+		// regenerate rollups from scratch
+		final var rollupCount = transactionRollupRepository.count();
+		assertThat(transactionRollupRebuilder.rebuild()).isPositive();
+
+		// assert regenerated rollups match the incrementally maintained ones
+		assertThat(transactionRollupRepository.count()).isEqualTo(rollupCount);
+		assertThat(statement(userId, StatementRequestDto.Period.DAILY, today, today.plusDays(1)).getEntries())
+				.usingRecursiveFieldByFieldElementComparator()
+				.containsExactlyElementsOf(dailyStatement.getEntries());
+	}
+
+	private StatementDto statement(final UUID userId, final StatementRequestDto.Period period, final LocalDate from, final LocalDate to) {
+		final var statementRequest = new StatementRequestDto();
+		statementRequest.setPeriod(period);
+		statementRequest.setFrom(from);
+		statementRequest.setTo(to);
+		return depositAccountService.getStatement(userId, statementRequest);
+	}
+
+	private UUID createDepositAccount() {
+		final var user = new User();
+		user.setFirstName("Rollup");
+		user.setEmailId(UUID.randomUUID() + "@cerberus.test");
+		user.setPassword("not-a-real-password-hash");
+		final var userId = userRepository.save(user).getId();
+		depositAccountService.create(userId);
+		return userId;
+	}
+
+	private TransactionRequestDto transactionRequest(final TransactionType type, final String amount) {
+		final var transactionRequest = new TransactionRequestDto();
+		transactionRequest.setType(type);
+		transactionRequest.setAmount(new BigDecimal(amount));
+		transactionRequest.setCurrency(Currency.USD);
+		return transactionRequest;
+	}
+
+}
@@ -0,0 +1,350 @@
+package com.behl.cerberus.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+import org.springframework.security.authentication.password.CompromisedPasswordException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.behl.cerberus.configuration.PasswordConfigurationProperties;
+import com.behl.cerberus.dto.ResetPasswordRequestDto;
+import com.behl.cerberus.dto.UserCreationRequestDto;
+import com.behl.cerberus.dto.UserUpdationRequestDto;
+import com.behl.cerberus.entity.User;
+import com.behl.cerberus.entity.UserStatus;
+import com.behl.cerberus.exception.AccountAlreadyExistsException;
+import com.behl.cerberus.exception.InvalidCredentialsException;
+import com.behl.cerberus.projection.UserProjection;
+import com.behl.cerberus.repository.UserRepository;
+import com.behl.cerberus.utility.DummyPasswordVerifier;
+import com.behl.cerberus.utility.RegisteredEmailFilter;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class UserServiceTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final RegisteredEmailFilter registeredEmailFilter = mock(RegisteredEmailFilter.class);
+	private final DummyPasswordVerifier dummyPasswordVerifier = mock(DummyPasswordVerifier.class);
+	private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+	private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+	private final AuthenticationService authenticationService = mock(AuthenticationService.class);
+	private final CompromisedPasswordChecker compromisedPasswordChecker = mock(CompromisedPasswordChecker.class);
+	private final PasswordConfigurationProperties passwordConfigurationProperties = mock(PasswordConfigurationProperties.class);
+	private final UserService userService = new UserService(userRepository, registeredEmailFilter, dummyPasswordVerifier, passwordEncoder, tokenRevocationService, authenticationService, compromisedPasswordChecker,
+			passwordConfigurationProperties);
+
+	@BeforeEach
+	void setUp() {
+		when(passwordConfigurationProperties.getDeadline()).thenReturn(Duration.ofSeconds(5));
+		when(registeredEmailFilter.mightContain(anyString())).thenReturn(Boolean.TRUE);
+	}
+
+	@Test
+	void userCreationShouldThrowExceptionForDuplicateEmailId() {
+		// prepare user creation request
+		final var emailId = "duplicate@domain.ut";
+		final var userCreationRequest = mock(UserCreationRequestDto.class);
+		when(userCreationRequest.getEmailId()).thenReturn(emailId);
+
+		// set datasource to evaluate duplicate emailid
+		when(userRepository.existsByEmailId(emailId)).thenReturn(Boolean.TRUE);
+
+		// invoke method under test and verify mock interactions
+		final var exception = assertThrows(AccountAlreadyExistsException.class, () -> userService.create(userCreationRequest));
+		assertThat(exception.getReason()).isEqualTo("Account with provided email-id already exists");
+		verify(userRepository).existsByEmailId(emailId);
+	}
+	
+	@Test
+	void userCreationLatencyShouldBeReportedAgainstSequentialFlow() {
+		// prepare user creation request
+		final var emailId = "mail@domain.ut";
+		final var password = "test-password";
+		final var userCreationRequest = mock(UserCreationRequestDto.class);
+		when(userCreationRequest.getEmailId()).thenReturn(emailId);
+		when(userCreationRequest.getPassword()).thenReturn(password);
+
+		// set up stand-ins for datasource and HIBP with representative latencies
+		when(userRepository.existsByEmailId(emailId)).thenAnswer(invocation -> {
+			Thread.sleep(Duration.ofMillis(100));
+			return Boolean.FALSE;
+		});
+		final var compromisedPasswordDecision = mock(CompromisedPasswordDecision.class);
+		when(compromisedPasswordChecker.check(password)).thenAnswer(invocation -> {
+			Thread.sleep(Duration.ofMillis(100));
+			return compromisedPasswordDecision;
+		});
+
+		// measure sequential flow of the stand-ins, as performed prior to the rework
+		final var sequentialStartTime = System.nanoTime();
+		userRepository.existsByEmailId(emailId);
+		compromisedPasswordChecker.check(password);
+		final var sequentialLatency = Duration.ofNanos(System.nanoTime() - sequentialStartTime);
+
+		// measure user creation, running both checks concurrently
+		final var creationStartTime = System.nanoTime();
+		userService.create(userCreationRequest);
+		final var creationLatency = Duration.ofNanos(System.nanoTime() - creationStartTime);
+
+		// report latencies, which are not asserted upon to keep the test independent of machine load
+		log.info("Sequential flow: {} ms, user creation: {} ms", sequentialLatency.toMillis(), creationLatency.toMillis());
+		verify(userRepository).saveAndFlush(any(User.class));
+	}
+
+	@Test
+	void userCreationShouldThrowExceptionForCompromisedPassword() {
+		// prepare user creation request
+		final var emailId = "mail@domain.ut";
+		final var password = "compromisedPassword";
+		final var userCreationRequest = mock(UserCreationRequestDto.class);
+		when(userCreationRequest.getEmailId()).thenReturn(emailId);
+		when(userCreationRequest.getPassword()).thenReturn(password);
+
+		// set datasource to evaluate non duplicate emailid
+		when(userRepository.existsByEmailId(emailId)).thenReturn(Boolean.FALSE);
+		
+		// set compromised password check failure
+		final var compromisedPasswordDecision = mock(CompromisedPasswordDecision.class);
+		when(compromisedPasswordDecision.isCompromised()).thenReturn(Boolean.TRUE);
+		when(compromisedPasswordChecker.check(password)).thenReturn(compromisedPasswordDecision);
+
+		// invoke method under test and verify mock interactions
+		final var exception = assertThrows(CompromisedPasswordException.class, () -> userService.create(userCreationRequest));
+		assertThat(exception.getMessage()).isEqualTo("The provided password is compromised and cannot be used for account creation.");
+		verify(userRepository).existsByEmailId(emailId);
+		verify(compromisedPasswordChecker).check(password);
+	}
+	
+	@Test
+	void shouldCreateUserEntityForValidUserCreationRequest() {
+		// prepare user creation request
+		final var emailId = "mail@domain.ut";
+		final var password = "test-password";
+		final var firstName = "test-first-name";
+		final var lastName = "test-last-name";
+		final var userCreationRequest = mock(UserCreationRequestDto.class);
+		when(userCreationRequest.getEmailId()).thenReturn(emailId);
+		when(userCreationRequest.getPassword()).thenReturn(password);
+		when(userCreationRequest.getFirstName()).thenReturn(firstName);
+		when(userCreationRequest.getLastName()).thenReturn(lastName);
+
+		// set datasource to evaluate non duplicate emailid
+		when(userRepository.existsByEmailId(emailId)).thenReturn(Boolean.FALSE);
+		
+		// set compromised password check success
+		final var compromisedPasswordDecision = mock(CompromisedPasswordDecision.class);
+		when(compromisedPasswordDecision.isCompromised()).thenReturn(Boolean.FALSE);
+		when(compromisedPasswordChecker.check(password)).thenReturn(compromisedPasswordDecision);
+		
+		// set password encoding
+		final var encodedPassword = "test-encoded-password";
+		when(passwordEncoder.encode(password)).thenReturn(encodedPassword);
+		
+		// invoke method under test
+		userService.create(userCreationRequest);
+
+		// verify mock interactions
+		verify(userRepository).existsByEmailId(emailId);
+		verify(compromisedPasswordChecker).check(password);
+		verify(passwordEncoder).encode(password);
+		verify(userRepository).saveAndFlush(any(User.class));
+		verify(registeredEmailFilter).add(emailId);
+	}
+	
+	@Test
+	void userCreationShouldQueryDatasourceForEmailIdAbsentFromFilter() {
+		// prepare user creation request
+		final var emailId = "mail@domain.ut";
+		final var password = "test-password";
+		final var userCreationRequest = mock(UserCreationRequestDto.class);
+		when(userCreationRequest.getEmailId()).thenReturn(emailId);
+
+		// set email-id to be reported absent by filter, yet registered in datasource
+		when(registeredEmailFilter.mightContain(emailId)).thenReturn(Boolean.FALSE);
+		when(userRepository.existsByEmailId(emailId)).thenReturn(Boolean.TRUE);
+		
+		// invoke method under test
+		final var exception = assertThrows(AccountAlreadyExistsException.class, () -> userService.create(userCreationRequest));
+
+		// verify duplicate account is rejected based on datasource
+		assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+		verify(userRepository).existsByEmailId(emailId);
+		verify(userRepository, never()).saveAndFlush(any(User.class));
+	}
+	
+	@Test
+	void userCreationShouldThrowExceptionForEmailIdRegisteredConcurrently() {
+		// prepare user creation request
+		final var emailId = "mail@domain.ut";
+		final var password = "test-password";
+		final var userCreationRequest = mock(UserCreationRequestDto.class);
+		when(userCreationRequest.getEmailId()).thenReturn(emailId);
+		when(userCreationRequest.getPassword()).thenReturn(password);
+
+		// set email-id to be registered after existence check
+		when(userRepository.existsByEmailId(emailId)).thenReturn(Boolean.FALSE);
+		final var compromisedPasswordDecision = mock(CompromisedPasswordDecision.class);
+		when(compromisedPasswordDecision.isCompromised()).thenReturn(Boolean.FALSE);
+		when(compromisedPasswordChecker.check(password)).thenReturn(compromisedPasswordDecision);
+		when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+		
+		// invoke method under test
+		final var exception = assertThrows(AccountAlreadyExistsException.class, () -> userService.create(userCreationRequest));
+
+		// verify violation of unique constraint is reported as conflict
+		assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+		verify(registeredEmailFilter, never()).add(anyString());
+	}
+	
+	@Test
+	void shouldUpdateUserForValidUserUpdationRequest() {
+		// prepate user updation request
+		final var firstName = "test-first-name";
+		final var lastName = "test-last-name";
+		final var userUpdationRequest = mock(UserUpdationRequestDto.class);
+		when(userUpdationRequest.getFirstName()).thenReturn(firstName);
+		when(userUpdationRequest.getLastName()).thenReturn(lastName);
+
+		// prepare user entity
+		final var userId = UUID.randomUUID();
+		final var user = mock(User.class);
+		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+		// invoke method under test
+		userService.update(userId, userUpdationRequest);
+
+		// verify mock interactions
+		verify(userRepository).findById(userId);
+		verify(user).setFirstName(firstName);
+		verify(user).setLastName(lastName);
+		verify(userRepository).save(user);
+	}
+	
+	@Test
+	void shouldGetUserDetailForValidUserId() {
+		// Prepare test data
+		final var firstName = "test-first-name";
+		final var lastName = "test-last-name";
+		final var email = "mail@domain.ut";
+		final var userStatus = UserStatus.APPROVED;
+		final var dateOfBirth = LocalDate.now();
+		final var createdAt = LocalDateTime.now();
+
+		// Prepare user projection
+		final var userId = UUID.randomUUID();
+		final var user = new UserProjection(firstName, lastName, email, userStatus, dateOfBirth, createdAt);
+		when(userRepository.findProjectionById(userId)).thenReturn(Optional.of(user));
+
+		// Invoke method under test
+		final var response = userService.getById(userId);
+
+		// verify response values and mock interaction
+		assertThat(response.getFirstName()).isEqualTo(firstName);
+		assertThat(response.getLastName()).isEqualTo(lastName);
+		assertThat(response.getEmailId()).isEqualTo(email);
+		assertThat(response.getStatus()).isEqualTo(userStatus.getValue());
+		assertThat(response.getDateOfBirth()).isEqualTo(dateOfBirth);
+		assertThat(response.getCreatedAt()).isEqualTo(createdAt);
+		verify(userRepository).findProjectionById(userId);
+		verify(userRepository, never()).findById(userId);
+	}
+	
+	@Test
+	void shouldDeactivateUserAndRevokeTokenForValidUserId() {
+		// prepare user entity
+		final var userId = UUID.randomUUID();
+		final var user = mock(User.class);
+		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+		
+		// set token revocation call
+		doNothing().when(tokenRevocationService).revoke();
+
+		// invoke method under test
+		userService.deactivate(userId);
+
+		// verify mock interactions
+		verify(userRepository).findById(userId);
+		verify(user).setUserStatus(UserStatus.DEACTIVATED);
+		verify(userRepository).save(user);
+		verify(tokenRevocationService).revoke();
+		verify(authenticationService).evictRefreshedAccessTokens(userId);
+	}
+	
+	@Test
+	void shouldResetPasswordAndClearPasswordResetRequirement() {
+		// prepare reset password request
+		final var emailId = "mail@domain.ut";
+		final var currentPassword = "compromised-password";
+		final var newPassword = "test-new-password";
+		final var resetPasswordRequest = mock(ResetPasswordRequestDto.class);
+		when(resetPasswordRequest.getEmailId()).thenReturn(emailId);
+		when(resetPasswordRequest.getCurrentPassword()).thenReturn(currentPassword);
+		when(resetPasswordRequest.getNewPassword()).thenReturn(newPassword);
+		
+		// prepare datasource response for user flagged to reset password
+		final var encodedPassword = "test-encoded-password";
+		final var user = mock(User.class);
+		when(user.getPassword()).thenReturn(encodedPassword);
+		when(userRepository.findByEmailId(emailId)).thenReturn(Optional.of(user));
+		when(passwordEncoder.matches(currentPassword, encodedPassword)).thenReturn(Boolean.TRUE);
+		
+		// set compromised password check of new password to pass
+		final var compromisedPasswordDecision = mock(CompromisedPasswordDecision.class);
+		when(compromisedPasswordDecision.isCompromised()).thenReturn(Boolean.FALSE);
+		when(compromisedPasswordChecker.check(newPassword)).thenReturn(compromisedPasswordDecision);
+		
+		// set new password encoding
+		final var encodedNewPassword = "test-encoded-new-password";
+		when(passwordEncoder.encode(newPassword)).thenReturn(encodedNewPassword);
+		
+		// invoke method under test
+		userService.resetPassword(resetPasswordRequest);
+		
+		// verify password is updated and reset requirement is cleared
+		verify(user).setPassword(encodedNewPassword);
+		verify(user).setPasswordResetRequired(false);
+		verify(userRepository).save(user);
+	}
+	
+	@Test
+	void resetPasswordShouldVerifyDummyPasswordForEmailIdAbsentFromFilter() {
+		// prepare reset password request
+		final var emailId = "unregistered@domain.ut";
+		final var currentPassword = "test-password";
+		final var resetPasswordRequest = mock(ResetPasswordRequestDto.class);
+		when(resetPasswordRequest.getEmailId()).thenReturn(emailId);
+		when(resetPasswordRequest.getCurrentPassword()).thenReturn(currentPassword);
+		
+		// set email-id to be certainly not registered
+		when(registeredEmailFilter.mightContain(emailId)).thenReturn(Boolean.FALSE);
+		
+		// invoke method under test and verify InvalidCredentialsException is thrown
+		assertThrows(InvalidCredentialsException.class, () -> userService.resetPassword(resetPasswordRequest));
+		
+		// verify datasource is skipped and dummy password verification is performed
+		verify(userRepository, never()).findByEmailId(anyString());
+		verify(dummyPasswordVerifier).verify(currentPassword);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.behl.cerberus.configuration.AuthenticationTimingConfigurationProperties;
+import com.behl.cerberus.utility.AuthenticationStageTimer.Stage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuthenticationStageTimerTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void shouldRecordEachMarkedStageIntoItsTimer() {
+		// Prepare timer with recording enabled and header disabled
+		final var authenticationStageTimer = new AuthenticationStageTimer(meterRegistry, properties(true, false));
+		final var response = new MockHttpServletResponse();
+
+		// Record stages of a request
+		final var recording = authenticationStageTimer.begin();
+		recording.mark(Stage.MATCHING);
+		recording.mark(Stage.VERIFICATION);
+		recording.finish(response);
+
+		// Assert marked stages are recorded and no header is added
+		assertThat(count(Stage.MATCHING)).isEqualTo(1);
+		assertThat(count(Stage.VERIFICATION)).isEqualTo(1);
+		assertThat(count(Stage.REVOCATION)).isZero();
+		assertThat(response.getHeader("Server-Timing")).isNull();
+	}
+
+	@Test
+	void shouldAddServerTimingHeaderForMarkedStages() {
+		// Prepare timer with recording and header enabled
+		final var authenticationStageTimer = new AuthenticationStageTimer(meterRegistry, properties(true, true));
+		final var response = new MockHttpServletResponse();
+
+		// Record stages of a request
+		final var recording = authenticationStageTimer.begin();
+		recording.mark(Stage.MATCHING);
+		recording.mark(Stage.VERIFICATION);
+		recording.mark(Stage.REVOCATION);
+		recording.finish(response);
+
+		// Assert header holds the durations of marked stages only
+		final var header = response.getHeader("Server-Timing");
+		assertThat(header).contains("auth-match;", "auth-verify;", "auth-revocation;").doesNotContain("auth-context");
+		assertThat(header).matches("(auth-[a-z]+;desc=\"[^\"]+\";dur=[0-9.E-]+(, )?)+");
+	}
+
+	@Test
+	void shouldNeitherRecordNorAddHeaderWhenDisabled() {
+		// Prepare timer with recording disabled
+		final var authenticationStageTimer = new AuthenticationStageTimer(meterRegistry, properties(false, true));
+		final var response = new MockHttpServletResponse();
+
+		// Record stages of a request
+		final var recording = authenticationStageTimer.begin();
+		recording.mark(Stage.MATCHING);
+		recording.finish(response);
+
+		// Assert a shared no-op recording is used
+		assertThat(authenticationStageTimer.begin()).isSameAs(recording);
+		assertThat(count(Stage.MATCHING)).isZero();
+		assertThat(response.getHeader("Server-Timing")).isNull();
+	}
+
+	private long count(final Stage stage) {
+		return meterRegistry.get("authentication.filter.stage").tag("stage", stage.getName()).timer().count();
+	}
+
+	private AuthenticationTimingConfigurationProperties properties(final boolean enabled, final boolean serverTimingHeader) {
+		final var properties = new AuthenticationTimingConfigurationProperties();
+		properties.setEnabled(enabled);
+		properties.setServerTimingHeader(serverTimingHeader);
+		return properties;
+	}
+
+}
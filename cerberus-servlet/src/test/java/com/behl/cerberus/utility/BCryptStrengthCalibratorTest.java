@@ -0,0 +1,50 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+
+class BCryptStrengthCalibratorTest {
+
+	private final BCryptStrengthCalibrator bCryptStrengthCalibrator = new BCryptStrengthCalibrator();
+
+	// simulates hardware taking 50ms to compute a hash at minimum strength, doubling per increment
+	private final IntFunction<Duration> hashingTimeProvider = strength -> Duration.ofMillis(50L << (strength - BCryptStrengthCalibrator.MINIMUM_STRENGTH));
+
+	@Test
+	void shouldSelectHighestStrengthWithinTargetLatency() {
+		// invoke method under test
+		final var strength = bCryptStrengthCalibrator.calibrate(Duration.ofMillis(250), hashingTimeProvider);
+
+		// verify strength hashing in 200ms is selected
+		assertThat(strength).isEqualTo(12);
+	}
+
+	@Test
+	void shouldNotSelectStrengthBelowMinimumForLowTargetLatency() {
+		// invoke method under test
+		final var strength = bCryptStrengthCalibrator.calibrate(Duration.ofMillis(10), hashingTimeProvider);
+
+		// verify minimum strength is selected
+		assertThat(strength).isEqualTo(BCryptStrengthCalibrator.MINIMUM_STRENGTH);
+	}
+
+	@Test
+	void shouldNotSelectStrengthAboveMaximumForHighTargetLatency() {
+		// invoke method under test
+		final var strength = bCryptStrengthCalibrator.calibrate(Duration.ofDays(1), hashingTimeProvider);
+
+		// verify maximum strength is selected
+		assertThat(strength).isEqualTo(BCryptStrengthCalibrator.MAXIMUM_STRENGTH);
+	}
+
+	@Test
+	void shouldThrowIllegalArgumentExceptionForNullArguments() {
+		assertThrows(IllegalArgumentException.class, () -> bCryptStrengthCalibrator.calibrate(null));
+	}
+
+}
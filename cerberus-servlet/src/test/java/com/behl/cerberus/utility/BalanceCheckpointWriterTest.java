@@ -0,0 +1,200 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.behl.cerberus.configuration.BalanceCheckpointConfigurationProperties;
+import com.behl.cerberus.entity.BalanceCheckpoint;
+import com.behl.cerberus.entity.Currency;
+import com.behl.cerberus.entity.TransactionType;
+import com.behl.cerberus.projection.TransactionProjection;
+import com.behl.cerberus.repository.BalanceCheckpointRepository;
+import com.behl.cerberus.repository.DepositAccountRepository;
+import com.behl.cerberus.repository.TransactionRepository;
+
+class BalanceCheckpointWriterTest {
+
+	private static final String LOCK_KEY = "balance_checkpoint_writer:lock";
+	private static final String WATERMARK_KEY = "balance_checkpoint_writer:watermark";
+
+	private final DepositAccountRepository depositAccountRepository = mock(DepositAccountRepository.class);
+	private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+	private final BalanceCheckpointRepository balanceCheckpointRepository = mock(BalanceCheckpointRepository.class);
+	private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+	private final BalanceCheckpointConfigurationProperties balanceCheckpointConfigurationProperties = new BalanceCheckpointConfigurationProperties();
+	private final BalanceCheckpointWriter balanceCheckpointWriter = new BalanceCheckpointWriter(depositAccountRepository, transactionRepository,
+			balanceCheckpointRepository, stringRedisTemplate, balanceCheckpointConfigurationProperties);
+
+	@BeforeEach
+	void setUp() {
+		balanceCheckpointConfigurationProperties.setEnabled(true);
+		balanceCheckpointConfigurationProperties.setRunInterval(Duration.ofMinutes(5));
+		balanceCheckpointConfigurationProperties.setTransactionsPerCheckpoint(2);
+		balanceCheckpointConfigurationProperties.setSettleDelay(Duration.ofMinutes(1));
+		when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	void shouldWriteCheckpointWithCumulativeBalanceAfterEachFullPageOfTransactions() {
+		// set up datasource to hold an account with five transactions since its latest checkpoint
+		final var accountId = UUID.randomUUID();
+		final var settledBefore = LocalDateTime.of(2024, 3, 1, 0, 0);
+		final var latestCheckpoint = new BalanceCheckpoint();
+		latestCheckpoint.setAccountId(accountId);
+		latestCheckpoint.setTimestamp(LocalDateTime.of(2024, 1, 1, 0, 0));
+		latestCheckpoint.setTransactionId(UUID.randomUUID());
+		latestCheckpoint.setBalance(new BigDecimal("10"));
+		final var first = transaction(TransactionType.DEPOSIT, "100", 1);
+		final var second = transaction(TransactionType.WITHDRAW, "30", 2);
+		final var third = transaction(TransactionType.DEPOSIT, "5", 3);
+		final var fourth = transaction(TransactionType.DEPOSIT, "15", 4);
+		final var fifth = transaction(TransactionType.WITHDRAW, "50", 5);
+		when(depositAccountRepository.findIdsAfter(null, Limit.of(500))).thenReturn(List.of(accountId));
+		when(balanceCheckpointRepository.findFirstByAccountIdOrderByTimestampDescTransactionIdDesc(accountId)).thenReturn(Optional.of(latestCheckpoint));
+		when(transactionRepository.findByDepositAccountIdPositionedAfter(accountId, settledBefore, latestCheckpoint.getTimestamp(),
+				latestCheckpoint.getTransactionId(), Limit.of(2))).thenReturn(List.of(first, second));
+		when(transactionRepository.findByDepositAccountIdPositionedAfter(accountId, settledBefore, second.timestamp(), second.id(), Limit.of(2)))
+				.thenReturn(List.of(third, fourth));
+		when(transactionRepository.findByDepositAccountIdPositionedAfter(accountId, settledBefore, fourth.timestamp(), fourth.id(), Limit.of(2)))
+				.thenReturn(List.of(fifth));
+
+		// invoke method under test
+		final var checkpointRun = balanceCheckpointWriter.checkpointAll(settledBefore);
+
+		// assert a checkpoint is written after each full page, the partial page left pending
+		assertThat(checkpointRun.checkpointCount()).isEqualTo(2);
+		assertThat(checkpointRun.complete()).isTrue();
+		final var checkpointCaptor = ArgumentCaptor.forClass(BalanceCheckpoint.class);
+		verify(balanceCheckpointRepository, times(2)).save(checkpointCaptor.capture());
+		final var checkpoints = checkpointCaptor.getAllValues();
+		assertThat(checkpoints.get(0).getTransactionId()).isEqualTo(second.id());
+		assertThat(checkpoints.get(0).getTimestamp()).isEqualTo(second.timestamp());
+		assertThat(checkpoints.get(0).getBalance()).isEqualByComparingTo("80");
+		assertThat(checkpoints.get(1).getTransactionId()).isEqualTo(fourth.id());
+		assertThat(checkpoints.get(1).getBalance()).isEqualByComparingTo("100");
+	}
+
+	@Test
+	void shouldSkipRunIfLockHeldByAnotherInstance() {
+		// set up cache to hold lock of another instance
+		when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+		// invoke method under test
+		balanceCheckpointWriter.run();
+
+		// assert no account is checkpointed and lock is left untouched
+		verifyNoInteractions(depositAccountRepository, transactionRepository, balanceCheckpointRepository);
+		verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+	}
+
+	@Test
+	void shouldReleaseLockAfterRunAndAdvanceWatermark() {
+		// set up cache to grant lock without a watermark, retaining its owner
+		final var ownerCaptor = ArgumentCaptor.forClass(String.class);
+		when(valueOperations.setIfAbsent(eq(LOCK_KEY), ownerCaptor.capture(), eq(Duration.ofMinutes(5)))).thenReturn(true);
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(1L);
+		when(depositAccountRepository.findIdsAfter(null, Limit.of(500))).thenReturn(List.of());
+
+		// invoke method under test
+		final var startedAt = LocalDateTime.now(ZoneOffset.UTC);
+		balanceCheckpointWriter.run();
+
+		// assert watermark is advanced to the settled point of the run
+		final var watermarkCaptor = ArgumentCaptor.forClass(String.class);
+		verify(valueOperations).set(eq(WATERMARK_KEY), watermarkCaptor.capture());
+		assertThat(LocalDateTime.parse(watermarkCaptor.getValue())).isBefore(startedAt.minusSeconds(59));
+
+		// assert lock is released by its owner
+		verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), eq(ownerCaptor.getValue()));
+	}
+
+	@Test
+	void shouldOnlyVisitAccountsTransactedAgainstSinceWatermark() {
+		// set up cache to grant lock and hold watermark of previous run
+		final var watermark = LocalDateTime.of(2024, 2, 1, 0, 0);
+		when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+		when(valueOperations.get(WATERMARK_KEY)).thenReturn(watermark.toString());
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(1L);
+
+		// set up datasource to hold a single account transacted against since the watermark
+		final var accountId = UUID.randomUUID();
+		when(transactionRepository.findDepositAccountIdsRecordedBetween(eq(watermark), any(LocalDateTime.class), isNull(), eq(Limit.of(500))))
+				.thenReturn(List.of(accountId));
+		when(balanceCheckpointRepository.findFirstByAccountIdOrderByTimestampDescTransactionIdDesc(accountId)).thenReturn(Optional.empty());
+		when(transactionRepository.findByDepositAccountIdPositionedAfter(eq(accountId), any(LocalDateTime.class), isNull(), isNull(), eq(Limit.of(2))))
+				.thenReturn(List.of());
+
+		// invoke method under test
+		balanceCheckpointWriter.run();
+
+		// assert only the transacted account is visited, rather than every account
+		verify(depositAccountRepository, never()).findIdsAfter(any(), any(Limit.class));
+		verify(balanceCheckpointRepository).findFirstByAccountIdOrderByTimestampDescTransactionIdDesc(accountId);
+		verify(valueOperations).set(eq(WATERMARK_KEY), anyString());
+	}
+
+	@Test
+	void shouldNotAdvanceWatermarkIfAnyAccountFails() {
+		// set up cache to grant lock without a watermark
+		when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+		when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(1L);
+
+		// set up datasource to fail checkpointing the only account
+		final var accountId = UUID.randomUUID();
+		when(depositAccountRepository.findIdsAfter(null, Limit.of(500))).thenReturn(List.of(accountId));
+		when(balanceCheckpointRepository.findFirstByAccountIdOrderByTimestampDescTransactionIdDesc(accountId))
+				.thenThrow(new QueryTimeoutException("Query timed out"));
+
+		// invoke method under test
+		balanceCheckpointWriter.run();
+
+		// assert watermark is left in place for the account to be revisited
+		verify(valueOperations, never()).set(eq(WATERMARK_KEY), anyString());
+	}
+
+	@Test
+	void shouldNotRunIfDisabled() {
+		// disable checkpoint writing for current instance
+		balanceCheckpointConfigurationProperties.setEnabled(false);
+
+		// invoke method under test
+		balanceCheckpointWriter.run();
+
+		// assert neither cache nor datasource is accessed
+		verifyNoInteractions(stringRedisTemplate, depositAccountRepository, transactionRepository, balanceCheckpointRepository);
+	}
+
+	private TransactionProjection transaction(final TransactionType type, final String amount, final int day) {
+		return new TransactionProjection(UUID.randomUUID(), type, Currency.USD, new BigDecimal(amount), LocalDateTime.of(2024, 2, day, 0, 0));
+	}
+
+}
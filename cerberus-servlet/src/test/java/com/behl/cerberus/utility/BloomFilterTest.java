@@ -0,0 +1,62 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	void shouldContainEveryInsertedValue() {
+		// insert values into filter
+		final var bloomFilter = new BloomFilter(10_000, 0.01);
+		IntStream.range(0, 10_000).forEach(value -> bloomFilter.add("user" + value + "@domain.ut"));
+
+		// verify no false negatives are reported
+		assertThat(IntStream.range(0, 10_000)).allMatch(value -> bloomFilter.mightContain("user" + value + "@domain.ut"));
+		assertThat(bloomFilter.size()).isEqualTo(10_000);
+	}
+
+	@Test
+	void shouldReportAbsentValuesWithinFalsePositiveProbability() {
+		// insert values into filter
+		final var bloomFilter = new BloomFilter(10_000, 0.01);
+		IntStream.range(0, 10_000).forEach(value -> bloomFilter.add("user" + value + "@domain.ut"));
+
+		// verify false positive rate of absent values
+		final var falsePositives = IntStream.range(0, 100_000).filter(value -> bloomFilter.mightContain("absent" + value + "@domain.ut")).count();
+		assertThat(falsePositives / 100_000.0).isLessThan(0.01);
+	}
+
+	@Test
+	void shouldGrowBeyondExpectedInsertionsWithinFalsePositiveProbability() {
+		// insert ten times the expected values into filter
+		final var bloomFilter = new BloomFilter(1_000, 0.01);
+		IntStream.range(0, 10_000).forEach(value -> bloomFilter.add("user" + value + "@domain.ut"));
+
+		// verify no false negatives and bound false positive rate
+		assertThat(IntStream.range(0, 10_000)).allMatch(value -> bloomFilter.mightContain("user" + value + "@domain.ut"));
+		final var falsePositives = IntStream.range(0, 100_000).filter(value -> bloomFilter.mightContain("absent" + value + "@domain.ut")).count();
+		assertThat(falsePositives / 100_000.0).isLessThan(0.01);
+	}
+
+	@Test
+	void shouldNotLoseConcurrentInsertions() {
+		// insert values into filter concurrently
+		final var bloomFilter = new BloomFilter(1_000, 0.01);
+		IntStream.range(0, 20_000).parallel().forEach(value -> bloomFilter.add("user" + value + "@domain.ut"));
+
+		// verify no false negatives are reported
+		assertThat(IntStream.range(0, 20_000)).allMatch(value -> bloomFilter.mightContain("user" + value + "@domain.ut"));
+	}
+
+	@Test
+	void shouldRejectInvalidFalsePositiveProbability() {
+		assertThrows(IllegalArgumentException.class, () -> new BloomFilter(1_000, 1));
+		assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.behl.cerberus.exception.PasswordHashingUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+
+class BoundedPasswordEncoderTest {
+
+	private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final BoundedPasswordEncoder boundedPasswordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(2), meterRegistry);
+
+	@AfterEach
+	void tearDown() {
+		boundedPasswordEncoder.close();
+	}
+
+	@Test
+	void shouldDelegateHashingOperationsAndRecordLatency() {
+		// set up delegate responses
+		final var rawPassword = "test-password";
+		final var encodedPassword = "test-encoded-password";
+		when(delegate.encode(rawPassword)).thenReturn(encodedPassword);
+		when(delegate.matches(rawPassword, encodedPassword)).thenReturn(Boolean.TRUE);
+
+		// invoke methods under test
+		final var encodeResponse = boundedPasswordEncoder.encode(rawPassword);
+		final var matchesResponse = boundedPasswordEncoder.matches(rawPassword, encodedPassword);
+
+		// verify responses and mock interactions
+		assertThat(encodeResponse).isEqualTo(encodedPassword);
+		assertThat(matchesResponse).isTrue();
+		verify(delegate).encode(rawPassword);
+		verify(delegate).matches(rawPassword, encodedPassword);
+
+		// verify latency of each operation is recorded
+		assertThat(meterRegistry.get("password.hashing").tag("operation", "encode").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("password.hashing").tag("operation", "matches").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldPropagateExceptionThrownByDelegate() {
+		// set up delegate to throw exception
+		final var rawPassword = "test-password";
+		when(delegate.encode(rawPassword)).thenThrow(new IllegalArgumentException("test-failure"));
+
+		// assert exception thrown by delegate is propagated to caller
+		final var exception = assertThrows(IllegalArgumentException.class, () -> boundedPasswordEncoder.encode(rawPassword));
+		assertThat(exception.getMessage()).isEqualTo("test-failure");
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldRejectOperationWhenQueueIsFull() {
+		// set up delegate to block until released
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		when(delegate.encode("blocking-password")).thenAnswer(invocation -> {
+			started.countDown();
+			release.await();
+			return "test-encoded-password";
+		});
+
+		// occupy the single hashing thread and the single queue slot
+		final var runningOperation = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("blocking-password"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		final var queuedOperation = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("blocking-password"));
+		while (meterRegistry.get("password.hashing.queue.depth").gauge().value() < 1) {
+			Thread.sleep(10);
+		}
+
+		// assert operation beyond queue capacity is rejected immediately with retry hint
+		final var exception = assertThrows(PasswordHashingUnavailableException.class, () -> boundedPasswordEncoder.encode("test-password"));
+		assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(exception.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+		assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+
+		// release blocked operations and verify they complete
+		release.countDown();
+		assertThat(runningOperation.get(5, TimeUnit.SECONDS)).isEqualTo("test-encoded-password");
+		assertThat(queuedOperation.get(5, TimeUnit.SECONDS)).isEqualTo("test-encoded-password");
+	}
+
+}
@@ -61,6 +61,53 @@ class CacheManagerTest {
 		verify(valueOperations).set(key, defaultValue, timeToLive);
 	}
 
+	@Test
+	void shouldSaveValueIfKeyAbsent() {
+		final var key = "test-key";
+		final var value = "test-value";
+		final var timeToLive = Duration.ofMinutes(1);
+		when(valueOperations.setIfAbsent(key, value, timeToLive)).thenReturn(Boolean.TRUE);
+
+		final var response = cacheManager.saveIfAbsent(key, value, timeToLive);
+
+		assertThat(response).isTrue();
+		verify(valueOperations).setIfAbsent(key, value, timeToLive);
+	}
+
+	@Test
+	void shouldRenewTtlOfPresentKey() {
+		final var key = "test-key";
+		final var timeToLive = Duration.ofSeconds(10);
+		when(redisTemplate.expire(key, timeToLive)).thenReturn(Boolean.TRUE);
+
+		final var response = cacheManager.renew(key, timeToLive);
+
+		assertThat(response).isTrue();
+		verify(redisTemplate).expire(key, timeToLive);
+	}
+
+	@Test
+	void shouldNotReportSaveIfKeyAlreadyPresent() {
+		final var key = "test-key";
+		final var value = "test-value";
+		final var timeToLive = Duration.ofMinutes(1);
+		when(valueOperations.setIfAbsent(key, value, timeToLive)).thenReturn(Boolean.FALSE);
+
+		final var response = cacheManager.saveIfAbsent(key, value, timeToLive);
+
+		assertThat(response).isFalse();
+		verify(valueOperations).setIfAbsent(key, value, timeToLive);
+	}
+
+	@Test
+	void shouldDeleteKey() {
+		final var key = "test-key";
+
+		cacheManager.delete(key);
+
+		verify(redisTemplate).delete(key);
+	}
+
 	@Test
 	public void shouldReturnTrueIfKeyPresentInCache() {
 		final var key = "test-key";
@@ -0,0 +1,154 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+
+class CachingHibpPasswordCheckerTest {
+
+	private static final String COMPROMISED_PASSWORD = "password123";
+
+	private final AtomicInteger rangeRequests = new AtomicInteger();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private volatile int responseStatus = 200;
+	private volatile Duration responseDelay = Duration.ZERO;
+	private HttpServer stubServer;
+	private CachingHibpPasswordChecker cachingHibpPasswordChecker;
+
+	@BeforeEach
+	@SneakyThrows
+	void setUp() {
+		// start stub range API server responding with compromised password suffix and padding entries
+		stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		stubServer.createContext("/range/", exchange -> {
+			rangeRequests.incrementAndGet();
+			sleep(responseDelay);
+			final var hash = sha1Hex(COMPROMISED_PASSWORD);
+			final var prefix = exchange.getRequestURI().getPath().substring("/range/".length());
+			final var body = prefix.equals(hash.substring(0, 5))
+					? "0018A45C4D1DEF81644B54AB7F969B88D65:1\r\n" + hash.substring(5) + ":251682\r\n00D4F6E8FA6EECAD2A3AA415EEC418D38EC:0"
+					: "0018A45C4D1DEF81644B54AB7F969B88D65:1";
+			final var response = body.getBytes(StandardCharsets.US_ASCII);
+			exchange.sendResponseHeaders(responseStatus, response.length);
+			exchange.getResponseBody().write(response);
+			exchange.close();
+		});
+		stubServer.setExecutor(Executors.newCachedThreadPool());
+		stubServer.start();
+
+		final var apiUrl = URI.create("http://localhost:" + stubServer.getAddress().getPort() + "/");
+		final var httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+		cachingHibpPasswordChecker = new CachingHibpPasswordChecker(httpClient, apiUrl, Duration.ofSeconds(5), 100, Duration.ofMinutes(5), meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		stubServer.stop(0);
+	}
+
+	@Test
+	void shouldDetectCompromisedPasswordFromRangeResponse() {
+		// invoke method under test
+		final var decision = cachingHibpPasswordChecker.check(COMPROMISED_PASSWORD);
+
+		// verify password is detected as compromised
+		assertThat(decision.isCompromised()).isTrue();
+	}
+
+	@Test
+	void shouldNotDetectPasswordAbsentFromRangeResponse() {
+		// invoke method under test
+		final var decision = cachingHibpPasswordChecker.check("Q8#tr!Vz2$Lm");
+
+		// verify password is not detected as compromised
+		assertThat(decision.isCompromised()).isFalse();
+	}
+
+	@Test
+	void shouldServeRepeatedChecksOfPrefixFromCache() {
+		// invoke method under test repeatedly for the same password
+		assertThat(cachingHibpPasswordChecker.check(COMPROMISED_PASSWORD).isCompromised()).isTrue();
+		assertThat(cachingHibpPasswordChecker.check(COMPROMISED_PASSWORD).isCompromised()).isTrue();
+
+		// verify a single range request is sent and hit ratio is reported
+		assertThat(rangeRequests.get()).isEqualTo(1);
+		assertThat(cachingHibpPasswordChecker.getHitRatio()).isEqualTo(0.5);
+		assertThat(meterRegistry.get("hibp.range.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldCoalesceConcurrentChecksForSamePrefix() {
+		// delay range responses, holding the in-flight request open
+		responseDelay = Duration.ofMillis(500);
+
+		// invoke method under test concurrently for the same password
+		final var concurrentChecks = 8;
+		final var barrier = new CyclicBarrier(concurrentChecks);
+		try (final var executorService = Executors.newFixedThreadPool(concurrentChecks)) {
+			final var decisions = IntStream.range(0, concurrentChecks)
+				.mapToObj(check -> CompletableFuture.supplyAsync(() -> {
+					await(barrier);
+					return cachingHibpPasswordChecker.check(COMPROMISED_PASSWORD);
+				}, executorService))
+				.toList();
+
+			// verify every check detects the compromised password
+			assertThat(decisions).allSatisfy(decision -> assertThat(decision.join().isCompromised()).isTrue());
+		}
+
+		// verify a single range request is sent
+		assertThat(rangeRequests.get()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldNotCacheFailedRangeResponse() {
+		// set range API to fail
+		responseStatus = 503;
+
+		// invoke method under test and verify password is treated as not compromised
+		assertThat(cachingHibpPasswordChecker.check(COMPROMISED_PASSWORD).isCompromised()).isFalse();
+
+		// restore range API and verify range is requested again
+		responseStatus = 200;
+		assertThat(cachingHibpPasswordChecker.check(COMPROMISED_PASSWORD).isCompromised()).isTrue();
+		assertThat(rangeRequests.get()).isEqualTo(2);
+	}
+
+	@SneakyThrows
+	private void await(final CyclicBarrier barrier) {
+		barrier.await();
+	}
+
+	@SneakyThrows
+	private void sleep(final Duration duration) {
+		Thread.sleep(duration);
+	}
+
+	@SneakyThrows
+	private String sha1Hex(final String password) {
+		final var digest = MessageDigest.getInstance("SHA-1").digest(password.getBytes(StandardCharsets.UTF_8));
+		return HexFormat.of().withUpperCase().formatHex(digest);
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.SneakyThrows;
+
+class FailFastTaskScopeTest {
+
+	@Test
+	@SneakyThrows
+	void shouldReturnResultsOfAllSubtasks() {
+		final var started = new CountDownLatch(2);
+		try (final var scope = new FailFastTaskScope()) {
+			// fork subtasks each only completing once both have started, hence only if run concurrently
+			final var first = scope.fork(() -> {
+				started.countDown();
+				started.await();
+				return "first";
+			});
+			final var second = scope.fork(() -> {
+				started.countDown();
+				started.await();
+				return "second";
+			});
+
+			// invoke method under test
+			scope.join(Instant.now().plusSeconds(5));
+
+			// verify results are available
+			assertThat(first.get()).isEqualTo("first");
+			assertThat(second.get()).isEqualTo("second");
+		}
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldRethrowFirstFailureAndCancelRemainingSubtasks() {
+		final var cancelled = new CountDownLatch(1);
+		try (final var scope = new FailFastTaskScope()) {
+			// fork a long running subtask alongside a failing one
+			scope.fork(() -> {
+				try {
+					Thread.sleep(Duration.ofSeconds(10));
+				} catch (final InterruptedException exception) {
+					cancelled.countDown();
+					throw exception;
+				}
+				return null;
+			});
+			scope.fork(() -> {
+				throw new IllegalArgumentException("failed");
+			});
+
+			// invoke method under test and verify failure is rethrown
+			final var exception = assertThrows(IllegalArgumentException.class, () -> scope.join(Instant.now().plusSeconds(5)));
+			assertThat(exception.getMessage()).isEqualTo("failed");
+		}
+
+		// verify long running subtask was cancelled
+		assertThat(cancelled.getCount()).isZero();
+	}
+
+	@Test
+	void shouldThrowTimeoutExceptionWhenDeadlineElapses() {
+		try (final var scope = new FailFastTaskScope()) {
+			// fork subtask exceeding the deadline
+			final var subtask = scope.fork(() -> {
+				Thread.sleep(Duration.ofSeconds(10));
+				return "late";
+			});
+
+			// invoke method under test and verify timeout
+			assertThrows(TimeoutException.class, () -> scope.join(Instant.now().plusMillis(100)));
+			assertThrows(IllegalStateException.class, subtask::get);
+		}
+	}
+
+}
@@ -0,0 +1,225 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.behl.cerberus.configuration.IdempotencyConfigurationProperties;
+import com.behl.cerberus.exception.IdempotencyKeyReusedException;
+import com.behl.cerberus.exception.IdempotentRequestInProgressException;
+import com.behl.cerberus.exception.InsufficientBalanceException;
+import com.behl.cerberus.utility.IdempotentRequestExecutor.IdempotencyRecord;
+
+import lombok.SneakyThrows;
+
+class IdempotentRequestExecutorTest {
+
+	private static final String SCOPE = "test-user";
+	private static final String IDEMPOTENCY_KEY = "test-idempotency-key";
+	private static final String CACHE_KEY = "idempotency_key:" + SCOPE + ":" + IDEMPOTENCY_KEY;
+	private static final String FINGERPRINT = "DEPOSIT:USD:10";
+
+	private final CacheManager cacheManager = mock(CacheManager.class);
+	private final Map<String, Object> cache = new ConcurrentHashMap<>();
+	private final IdempotencyConfigurationProperties idempotencyConfigurationProperties = new IdempotencyConfigurationProperties();
+	private final IdempotentRequestExecutor idempotentRequestExecutor = new IdempotentRequestExecutor(cacheManager, idempotencyConfigurationProperties);
+
+	@BeforeEach
+	void setUp() {
+		idempotencyConfigurationProperties.setTimeToLive(Duration.ofHours(24));
+		idempotencyConfigurationProperties.setInFlightTimeout(Duration.ofSeconds(5));
+
+		// back cache manager with an in-memory map
+		when(cacheManager.saveIfAbsent(anyString(), any(), any(Duration.class)))
+				.thenAnswer(invocation -> cache.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+		when(cacheManager.fetch(anyString(), eq(IdempotencyRecord.class)))
+				.thenAnswer(invocation -> Optional.ofNullable(cache.get(invocation.getArgument(0))));
+		doAnswer(invocation -> cache.put(invocation.getArgument(0), invocation.getArgument(1)))
+				.when(cacheManager).save(anyString(), any(), any(Duration.class));
+		doAnswer(invocation -> cache.remove(invocation.getArgument(0)))
+				.when(cacheManager).delete(anyString());
+	}
+
+	@Test
+	void shouldExecuteRequestOnceAndRecordOutcome() {
+		// execute request twice with the same idempotency key
+		final var executions = new AtomicInteger();
+		idempotentRequestExecutor.execute(SCOPE, IDEMPOTENCY_KEY, FINGERPRINT, executions::incrementAndGet);
+		idempotentRequestExecutor.execute(SCOPE, IDEMPOTENCY_KEY, FINGERPRINT, executions::incrementAndGet);
+
+		// assert request executed once and outcome retained for configured duration
+		assertThat(executions).hasValue(1);
+		assertThat(cache.get(CACHE_KEY)).isEqualTo(new IdempotencyRecord(FINGERPRINT, HttpStatus.OK.value(), null));
+		verify(cacheManager).save(CACHE_KEY, cache.get(CACHE_KEY), idempotencyConfigurationProperties.getTimeToLive());
+	}
+
+	@Test
+	void shouldReplayRecordedClientError() {
+		// execute request rejected with client error
+		final var executions = new AtomicInteger();
+		final Runnable request = () -> {
+			executions.incrementAndGet();
+			throw new InsufficientBalanceException();
+		};
+		assertThrows(InsufficientBalanceException.class, () -> idempotentRequestExecutor.execute(SCOPE, IDEMPOTENCY_KEY, FINGERPRINT, request));
+
+		// assert retry is answered with the same status and reason without executing again
+		final var exception = assertThrows(ResponseStatusException.class, () -> idempotentRequestExecutor.execute(SCOPE, IDEMPOTENCY_KEY, FINGERPRINT, request));
+		assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.NOT_ACCEPTABLE);
+		assertThat(exception.getReason()).isEqualTo(new InsufficientBalanceException().getReason());
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	void shouldReleaseKeyWhenRequestFailsUnexpectedly() {
+		// execute request failing with unexpected exception
+		final var executions = new AtomicInteger();
+		assertThrows(IllegalStateException.class, () -> idempotentRequestExecutor.execute(SCOPE, IDEMPOTENCY_KEY, FINGERPRINT, () -> {
+			executions.incrementAndGet();
+			throw new IllegalStateException();
+		}));
+
+		// assert key is released and retry executes afresh
+		verify(cacheManager).delete(CACHE_KEY);
+		idempotentRequestExecutor.execute(SCOPE, IDEMPOTENCY_KEY, FINGERPRINT, executions::incrementAndGet);
+		assertThat(executions).hasValue(2);
+	}
+
+	@Test
+	void shouldRejectKeyReusedForDifferentRequest() {
+		// execute request with idempotency key
+		idempotentRequestExecutor.execute(SCOPE, IDEMPOTENCY_KEY, FINGERPRINT, () -> {});
+
+		// assert request with different content carrying the same key is rejected
+		final var executions = new AtomicInteger();
+		assertThrows(IdempotencyKeyReusedException.class,
+				() -> idempotentRequestExecutor.execute(SCOPE, IDEMPOTENCY_KEY, "WITHDRAW:USD:10", executions::incrementAndGet));
+		assertThat(executions).hasValue(0);
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldExecuteConcurrentDuplicatesOnce() {
+		// prepare request blocking until all duplicates are submitted
+		final var executions = new AtomicInteger();
+		final var release = new CountDownLatch(1);
+		final Runnable request = () -> {
+			executions.incrementAndGet();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (final InterruptedException exception) {
+				Thread.currentThread().interrupt();
+			}
+		};
+
+		// submit concurrent duplicates
+		try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			final var results = IntStream.range(0, 20)
+					.mapToObj(index -> executor.submit(() -> idempotentRequestExecutor.execute(SCOPE, IDEMPOTENCY_KEY, FINGERPRINT, request)))
+					.toList();
+			Thread.sleep(100);
+			release.countDown();
+			for (final var result : results) {
+				result.get(5, TimeUnit.SECONDS);
+			}
+		}
+
+		// assert request executed once
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldAwaitOutcomeOfRequestInFlightOnAnotherInstance() {
+		// simulate request claimed by another instance
+		cache.put(CACHE_KEY, new IdempotencyRecord(FINGERPRINT, null, null));
+
+		// complete request on other instance shortly after
+		final var executions = new AtomicInteger();
+		try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			final var result = executor.submit(() -> idempotentRequestExecutor.execute(SCOPE, IDEMPOTENCY_KEY, FINGERPRINT, executions::incrementAndGet));
+			Thread.sleep(200);
+			cache.put(CACHE_KEY, new IdempotencyRecord(FINGERPRINT, HttpStatus.OK.value(), null));
+			result.get(5, TimeUnit.SECONDS);
+		}
+
+		// assert outcome is shared without executing again
+		assertThat(executions).hasValue(0);
+	}
+
+	@Test
+	void shouldRejectDuplicateWhenInFlightRequestDoesNotCompleteInTime() {
+		// simulate request claimed by another instance which does not complete
+		idempotencyConfigurationProperties.setInFlightTimeout(Duration.ofMillis(200));
+		cache.put(CACHE_KEY, new IdempotencyRecord(FINGERPRINT, null, null));
+
+		// assert duplicate is rejected once timeout elapses
+		final var executions = new AtomicInteger();
+		assertThrows(IdempotentRequestInProgressException.class,
+				() -> idempotentRequestExecutor.execute(SCOPE, IDEMPOTENCY_KEY, FINGERPRINT, executions::incrementAndGet));
+		assertThat(executions).hasValue(0);
+		verify(cacheManager, never()).delete(anyString());
+	}
+
+	@Test
+	void shouldRenewClaimWhileRequestExecutes() {
+		// execute request outlasting in-flight timeout
+		idempotencyConfigurationProperties.setInFlightTimeout(Duration.ofMillis(150));
+		final var renewalsWhileExecuting = new AtomicInteger();
+		idempotentRequestExecutor.execute(SCOPE, IDEMPOTENCY_KEY, FINGERPRINT, () -> {
+			verify(cacheManager, timeout(1_000).atLeast(2)).renew(CACHE_KEY, Duration.ofMillis(150));
+			renewalsWhileExecuting.incrementAndGet();
+		});
+
+		// assert claim is renewed during execution, and outcome recorded after renewal stops
+		assertThat(renewalsWhileExecuting).hasValue(1);
+		final var inOrder = inOrder(cacheManager);
+		inOrder.verify(cacheManager, atLeast(2)).renew(CACHE_KEY, Duration.ofMillis(150));
+		inOrder.verify(cacheManager).save(eq(CACHE_KEY), any(), eq(idempotencyConfigurationProperties.getTimeToLive()));
+		inOrder.verify(cacheManager, never()).renew(anyString(), any(Duration.class));
+	}
+
+	@Test
+	void shouldNotFailAppliedRequestWhenOutcomeCannotBeRecorded() {
+		// set up cache to fail recording outcome
+		doThrow(new RedisConnectionFailureException("Connection reset")).when(cacheManager).save(anyString(), any(), any(Duration.class));
+
+		// assert applied request is reported as successful
+		final var executions = new AtomicInteger();
+		assertDoesNotThrow(() -> idempotentRequestExecutor.execute(SCOPE, IDEMPOTENCY_KEY, FINGERPRINT, executions::incrementAndGet));
+		assertThat(executions).hasValue(1);
+
+		// assert key remains claimed, rejecting duplicates as in progress rather than executing again
+		verify(cacheManager, never()).delete(anyString());
+		assertThat(cache.get(CACHE_KEY)).isEqualTo(new IdempotencyRecord(FINGERPRINT, null, null));
+	}
+
+}
@@ -0,0 +1,129 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.behl.cerberus.configuration.LoginThrottlingConfigurationProperties;
+import com.behl.cerberus.exception.LoginThrottledException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+
+class LoginThrottlerTest {
+
+	private static final String EMAIL_ID = "mail@domain.ut";
+
+	private final HttpServletRequest httpServletRequest = mock(HttpServletRequest.class);
+	private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final LoginThrottlingConfigurationProperties loginThrottlingConfigurationProperties = new LoginThrottlingConfigurationProperties();
+	private LoginThrottler loginThrottler;
+
+	@BeforeEach
+	void setUp() {
+		loginThrottlingConfigurationProperties.setWindow(Duration.ofMinutes(1));
+		loginThrottlingConfigurationProperties.setMaxAttemptsPerClient(5);
+		loginThrottlingConfigurationProperties.setFreeAttemptsPerEmail(2);
+		loginThrottlingConfigurationProperties.setBaseDelay(Duration.ofMillis(50));
+		loginThrottlingConfigurationProperties.setMaxDelay(Duration.ofMillis(200));
+		when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
+		loginThrottler = new LoginThrottler(httpServletRequest, redisTemplate, meterRegistry, loginThrottlingConfigurationProperties);
+	}
+
+	@Test
+	void shouldRejectClientExceedingAllowedAttempts() {
+		// exhaust attempts allowed for client
+		IntStream.range(0, 5).forEach(attempt -> assertDoesNotThrow(() -> loginThrottler.admit("user" + attempt + "@domain.ut")));
+
+		// invoke method under test and verify rejection
+		final var exception = assertThrows(LoginThrottledException.class, () -> loginThrottler.admit(EMAIL_ID));
+		assertThat(exception.getHeaders().getFirst("Retry-After")).isEqualTo("60");
+		assertThat(meterRegistry.get("login.throttled").tag("limit", "client").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldAdmitAttemptsFromOtherClients() {
+		// exhaust attempts allowed for client
+		IntStream.range(0, 5).forEach(attempt -> loginThrottler.admit(EMAIL_ID));
+		assertThrows(LoginThrottledException.class, () -> loginThrottler.admit(EMAIL_ID));
+
+		// verify attempt from another client is admitted
+		when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.2");
+		assertDoesNotThrow(() -> loginThrottler.admit(EMAIL_ID));
+	}
+
+	@Test
+	void shouldProgressivelyDelayAttemptsAgainstEmailWithFailedAttempts() {
+		// verify delay doubles beyond free attempts and is bound by maximum
+		assertThat(loginThrottler.getDelay(1)).isZero();
+		assertThat(loginThrottler.getDelay(2)).isEqualTo(Duration.ofMillis(50));
+		assertThat(loginThrottler.getDelay(3)).isEqualTo(Duration.ofMillis(100));
+		assertThat(loginThrottler.getDelay(4)).isEqualTo(Duration.ofMillis(200));
+		assertThat(loginThrottler.getDelay(100)).isEqualTo(Duration.ofMillis(200));
+	}
+
+	@Test
+	void shouldRejectAttemptAgainstEmailWithFailedAttemptsUntilDelayElapses() throws InterruptedException {
+		// record failed attempts against email-id, exceeding free attempts
+		IntStream.range(0, 3).forEach(attempt -> loginThrottler.recordFailure(EMAIL_ID));
+
+		// invoke method under test and verify rejection carrying the remaining delay
+		final var exception = assertThrows(LoginThrottledException.class, () -> loginThrottler.admit(EMAIL_ID.toUpperCase()));
+		assertThat(exception.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+		assertThat(meterRegistry.get("login.throttled").tag("limit", "email").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("login.throttling.delay").timer().count()).isEqualTo(2);
+
+		// verify attempt is admitted once the delay has elapsed
+		Thread.sleep(Duration.ofMillis(250));
+		assertDoesNotThrow(() -> loginThrottler.admit(EMAIL_ID));
+	}
+
+	@Test
+	void shouldAdmitOtherClientAgainstEmailDeferredForAttackingClient() {
+		// hammer email-id with failed attempts from attacking client
+		when(httpServletRequest.getRemoteAddr()).thenReturn("203.0.113.7");
+		IntStream.range(0, 10).forEach(attempt -> loginThrottler.recordFailure(EMAIL_ID));
+		assertThrows(LoginThrottledException.class, () -> loginThrottler.admit(EMAIL_ID));
+
+		// verify attempt from the legitimate user's client is admitted regardless
+		when(httpServletRequest.getRemoteAddr()).thenReturn("198.51.100.24");
+		assertDoesNotThrow(() -> loginThrottler.admit(EMAIL_ID));
+	}
+
+	@Test
+	void shouldNotCountRejectedAttemptsAgainstClient() {
+		// defer attempts of client against email-id
+		IntStream.range(0, 3).forEach(attempt -> loginThrottler.recordFailure(EMAIL_ID));
+
+		// invoke method under test with rejected attempts exceeding those allowed for client
+		IntStream.range(0, 10).forEach(attempt -> assertThrows(LoginThrottledException.class, () -> loginThrottler.admit(EMAIL_ID)));
+
+		// verify attempts against other email-ids are admitted as rejected attempts were not counted
+		IntStream.range(0, 5).forEach(attempt -> assertDoesNotThrow(() -> loginThrottler.admit("user" + attempt + "@domain.ut")));
+		assertThat(meterRegistry.get("login.throttled").tag("limit", "client").counter().count()).isZero();
+	}
+
+	@Test
+	void shouldClearFailedAttemptsOnSuccessfulLogin() {
+		// record failed attempts against email-id
+		IntStream.range(0, 3).forEach(attempt -> loginThrottler.recordFailure(EMAIL_ID));
+
+		// invoke method under test
+		loginThrottler.recordSuccess(EMAIL_ID);
+
+		// verify subsequent attempt is not delayed
+		loginThrottler.admit(EMAIL_ID);
+		assertThat(meterRegistry.get("login.throttled").tag("limit", "email").counter().count()).isZero();
+	}
+
+}
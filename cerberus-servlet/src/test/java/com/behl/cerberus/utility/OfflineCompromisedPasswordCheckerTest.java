@@ -0,0 +1,117 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import lombok.SneakyThrows;
+
+class OfflineCompromisedPasswordCheckerTest {
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	@SneakyThrows
+	void shouldDetectCompromisedPasswordsPresentInDataset() {
+		// build dataset containing compromised passwords
+		final var datasetPath = buildDataset("dump.txt", null, "password123", "qwerty", "letmein");
+
+		// invoke method under test
+		final var offlineCompromisedPasswordChecker = new OfflineCompromisedPasswordChecker(datasetPath);
+
+		// verify compromised and secure passwords are detected correctly
+		assertThat(offlineCompromisedPasswordChecker.check("password123").isCompromised()).isTrue();
+		assertThat(offlineCompromisedPasswordChecker.check("qwerty").isCompromised()).isTrue();
+		assertThat(offlineCompromisedPasswordChecker.check("letmein").isCompromised()).isTrue();
+		assertThat(offlineCompromisedPasswordChecker.check("Q8#tr!Vz2$Lm").isCompromised()).isFalse();
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldMergeSourceDumpIntoBaseDatasetForIncrementalRefresh() {
+		// build base dataset and merge dataset containing additional password
+		final var baseDatasetPath = buildDataset("base-dump.txt", null, "password123", "qwerty");
+		final var mergedDatasetPath = buildDataset("delta-dump.txt", baseDatasetPath, "qwerty", "dragon");
+
+		// invoke method under test
+		final var offlineCompromisedPasswordChecker = new OfflineCompromisedPasswordChecker(mergedDatasetPath);
+
+		// verify hashes from base dataset and source dump are present without duplicates
+		assertThat(offlineCompromisedPasswordChecker.check("password123").isCompromised()).isTrue();
+		assertThat(offlineCompromisedPasswordChecker.check("qwerty").isCompromised()).isTrue();
+		assertThat(offlineCompromisedPasswordChecker.check("dragon").isCompromised()).isTrue();
+		assertThat(HibpDataset.load(mergedDatasetPath).size()).isEqualTo(3);
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldReloadDatasetOnModification() {
+		// load dataset not containing password
+		final var datasetPath = buildDataset("dump.txt", null, "password123");
+		final var offlineCompromisedPasswordChecker = new OfflineCompromisedPasswordChecker(datasetPath);
+		assertThat(offlineCompromisedPasswordChecker.check("dragon").isCompromised()).isFalse();
+
+		// refresh dataset on disk to contain password
+		buildDataset("dump.txt", null, "password123", "dragon");
+		Files.setLastModifiedTime(datasetPath, FileTime.from(Instant.now().plusSeconds(60)));
+
+		// invoke method under test
+		offlineCompromisedPasswordChecker.reloadIfModified();
+
+		// verify refreshed dataset is used
+		assertThat(offlineCompromisedPasswordChecker.check("dragon").isCompromised()).isTrue();
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldRejectSourceDumpNotOrderedByHash() {
+		// prepare source dump with entries in descending order
+		final var hashes = Stream.of("password123", "qwerty", "letmein").map(this::sha1Hex).sorted().toList().reversed();
+		final var sourcePath = Files.write(directory.resolve("unordered-dump.txt"), hashes);
+
+		// assert IllegalArgumentException is thrown for unordered source dump
+		final var targetPath = directory.resolve("dataset.bin");
+		assertThrows(IllegalArgumentException.class, () -> HibpDatasetBuilder.build(sourcePath, targetPath, null));
+		assertThat(targetPath).doesNotExist();
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldThrowExceptionForInvalidDataset() {
+		// prepare file not in dataset format
+		final var datasetPath = Files.writeString(directory.resolve("invalid.bin"), "not-a-dataset");
+
+		// assert exception is thrown on initialization
+		assertThrows(UncheckedIOException.class, () -> new OfflineCompromisedPasswordChecker(datasetPath));
+	}
+
+	@SneakyThrows
+	private Path buildDataset(final String sourceFileName, final Path basePath, final String... passwords) {
+		final var entries = Arrays.stream(passwords).map(this::sha1Hex).sorted().map(hash -> hash + ":42").toList();
+		final var sourcePath = Files.write(directory.resolve(sourceFileName), entries);
+		final var targetPath = directory.resolve("dataset.bin");
+		HibpDatasetBuilder.build(sourcePath, targetPath, basePath);
+		return targetPath;
+	}
+
+	@SneakyThrows
+	private String sha1Hex(final String password) {
+		final var digest = MessageDigest.getInstance("SHA-1").digest(password.getBytes(StandardCharsets.UTF_8));
+		return HexFormat.of().withUpperCase().formatHex(digest);
+	}
+
+}
@@ -0,0 +1,242 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.behl.cerberus.configuration.TransactionEngineConfigurationProperties;
+import com.behl.cerberus.dto.TransactionRequestDto;
+import com.behl.cerberus.entity.Currency;
+import com.behl.cerberus.entity.DepositAccount;
+import com.behl.cerberus.entity.Transaction;
+import com.behl.cerberus.entity.TransactionType;
+import com.behl.cerberus.exception.DepositAccountNotFoundException;
+import com.behl.cerberus.exception.InsufficientBalanceException;
+import com.behl.cerberus.repository.DepositAccountRepository;
+import com.behl.cerberus.repository.TransactionRepository;
+import com.behl.cerberus.repository.TransactionRollupRepository;
+
+import lombok.SneakyThrows;
+
+class PartitionedTransactionEngineTest {
+
+	private final DepositAccountRepository depositAccountRepository = mock(DepositAccountRepository.class);
+	private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+	private final TransactionRollupRepository transactionRollupRepository = mock(TransactionRollupRepository.class);
+	private final List<Transaction> ledgerEntries = Collections.synchronizedList(new ArrayList<>());
+	private final List<Transaction> rolledUpEntries = Collections.synchronizedList(new ArrayList<>());
+	private PartitionedTransactionEngine transactionEngine;
+
+	@AfterEach
+	@SneakyThrows
+	void tearDown() {
+		if (transactionEngine != null) {
+			transactionEngine.destroy();
+		}
+	}
+
+	@Test
+	void shouldNotStartWorkersWhenDisabled() {
+		// initialize disabled engine
+		transactionEngine = createEngine(false);
+
+		// assert transactions are not accepted
+		assertThat(transactionEngine.isEnabled()).isFalse();
+		assertThrows(IllegalStateException.class, () -> transactionEngine.submit(UUID.randomUUID(), transactionRequest(TransactionType.DEPOSIT, "1")));
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldApplyTransactionsOfAccountInSubmissionOrder() {
+		// prepare deposit account with balance insufficient for withdrawl preceding the deposit
+		transactionEngine = createEngine(true);
+		final var userId = UUID.randomUUID();
+		final var depositAccount = depositAccount(userId, "5");
+
+		// submit deposit followed by withdrawl only covered after the deposit
+		final var deposit = transactionEngine.submit(userId, transactionRequest(TransactionType.DEPOSIT, "10"));
+		final var withdrawl = transactionEngine.submit(userId, transactionRequest(TransactionType.WITHDRAW, "15"));
+
+		// assert both transactions are applied in order
+		deposit.get(5, TimeUnit.SECONDS);
+		withdrawl.get(5, TimeUnit.SECONDS);
+		assertThat(depositAccount.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+		assertThat(ledgerEntries).extracting(Transaction::getType).containsExactly(TransactionType.DEPOSIT, TransactionType.WITHDRAW);
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldRejectOnlyUncoveredWithdrawl() {
+		// prepare deposit account with balance covering a single withdrawl
+		transactionEngine = createEngine(true);
+		final var userId = UUID.randomUUID();
+		final var depositAccount = depositAccount(userId, "10");
+
+		// submit two withdrawls followed by a deposit
+		final var coveredWithdrawl = transactionEngine.submit(userId, transactionRequest(TransactionType.WITHDRAW, "10"));
+		final var uncoveredWithdrawl = transactionEngine.submit(userId, transactionRequest(TransactionType.WITHDRAW, "10"));
+		final var deposit = transactionEngine.submit(userId, transactionRequest(TransactionType.DEPOSIT, "3"));
+
+		// assert only the uncovered withdrawl is rejected and excluded from the ledger
+		coveredWithdrawl.get(5, TimeUnit.SECONDS);
+		deposit.get(5, TimeUnit.SECONDS);
+		final var exception = assertThrows(ExecutionException.class, () -> uncoveredWithdrawl.get(5, TimeUnit.SECONDS));
+		assertThat(exception).hasCauseInstanceOf(InsufficientBalanceException.class);
+		assertThat(depositAccount.getBalance()).isEqualByComparingTo("3");
+		assertThat(ledgerEntries).hasSize(2);
+	}
+
+	@Test
+	void shouldRejectTransactionsAgainstNonExistingDepositAccount() {
+		// set up datasource to contain no deposit account for user
+		transactionEngine = createEngine(true);
+		final var userId = UUID.randomUUID();
+		when(depositAccountRepository.findForUpdateByUserId(userId)).thenReturn(Optional.empty());
+
+		// assert DepositAccountNotFoundException is reported
+		final var result = transactionEngine.submit(userId, transactionRequest(TransactionType.DEPOSIT, "1"));
+		final var exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+		assertThat(exception).hasCauseInstanceOf(DepositAccountNotFoundException.class);
+		assertThat(ledgerEntries).isEmpty();
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldApplyAllTransactionsAcrossPartitions() {
+		// prepare deposit accounts spread across partitions
+		transactionEngine = createEngine(true);
+		final var depositAccounts = new ArrayList<DepositAccount>();
+		for (int account = 0; account < 32; account++) {
+			depositAccounts.add(depositAccount(UUID.randomUUID(), "0"));
+		}
+
+		// submit multiple deposits per account
+		final var results = new ArrayList<CompletableFuture<Void>>();
+		for (int deposit = 0; deposit < 25; deposit++) {
+			for (final var depositAccount : depositAccounts) {
+				results.add(transactionEngine.submit(depositAccount.getUserId(), transactionRequest(TransactionType.DEPOSIT, "2")));
+			}
+		}
+
+		// assert every deposit is applied and rolled up exactly once
+		CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+		assertThat(depositAccounts).allSatisfy(depositAccount -> assertThat(depositAccount.getBalance()).isEqualByComparingTo("50"));
+		assertThat(ledgerEntries).hasSize(32 * 25);
+		assertThat(rolledUpEntries).containsExactlyInAnyOrderElementsOf(ledgerEntries);
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldDiscardTransactionTimingOutWhileQueuedButAwaitTransactionBeingApplied() {
+		// prepare deposit account whose first batch blocks the worker
+		transactionEngine = createEngine(true, Duration.ofMillis(200));
+		final var userId = UUID.randomUUID();
+		final var depositAccount = new DepositAccount();
+		depositAccount.setUserId(userId);
+		depositAccount.setBalance(BigDecimal.ZERO);
+		final var batchStarted = new CountDownLatch(1);
+		final var batchReleased = new CountDownLatch(1);
+		when(depositAccountRepository.findForUpdateByUserId(userId)).thenAnswer(invocation -> {
+			batchStarted.countDown();
+			batchReleased.await();
+			return Optional.of(depositAccount);
+		}).thenReturn(Optional.of(depositAccount));
+
+		// submit deposit occupying the worker, followed by one left queued
+		final var appliedDeposit = transactionEngine.submit(userId, transactionRequest(TransactionType.DEPOSIT, "1"));
+		assertThat(batchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		final var queuedDeposit = transactionEngine.submit(userId, transactionRequest(TransactionType.DEPOSIT, "2"));
+
+		// assert queued deposit times out, while the deposit being applied does not
+		final var exception = assertThrows(ExecutionException.class, () -> queuedDeposit.get(5, TimeUnit.SECONDS));
+		assertThat(exception).hasCauseInstanceOf(TimeoutException.class);
+		assertThat(appliedDeposit).isNotDone();
+
+		// release worker and submit a further deposit draining the queue behind the timed out one
+		batchReleased.countDown();
+		final var subsequentDeposit = transactionEngine.submit(userId, transactionRequest(TransactionType.DEPOSIT, "4"));
+		subsequentDeposit.get(5, TimeUnit.SECONDS);
+
+		// assert deposit being applied past the timeout is reported as applied, unlike the one timing out while queued
+		appliedDeposit.get(5, TimeUnit.SECONDS);
+		assertThat(appliedDeposit).isCompleted().isNotCompletedExceptionally();
+		assertThat(depositAccount.getBalance()).isEqualByComparingTo("5");
+		assertThat(ledgerEntries).extracting(Transaction::getAmount).containsExactly(new BigDecimal("1"), new BigDecimal("4"));
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldFailTransactionsSubmittedAfterShutdown() {
+		// initialize and shut down engine
+		transactionEngine = createEngine(true);
+		transactionEngine.destroy();
+
+		// assert submitted transaction is failed rather than left pending
+		final var result = transactionEngine.submit(UUID.randomUUID(), transactionRequest(TransactionType.DEPOSIT, "1"));
+		final var exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+		assertThat(exception).hasCauseInstanceOf(IllegalStateException.class);
+		assertThat(ledgerEntries).isEmpty();
+	}
+
+	private PartitionedTransactionEngine createEngine(final boolean enabled) {
+		return createEngine(enabled, Duration.ofSeconds(5));
+	}
+
+	private PartitionedTransactionEngine createEngine(final boolean enabled, final Duration resultTimeout) {
+		when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+			final List<Transaction> transactions = invocation.getArgument(0);
+			ledgerEntries.addAll(transactions);
+			return transactions;
+		});
+		doAnswer(invocation -> {
+			final List<Transaction> transactions = invocation.getArgument(0);
+			rolledUpEntries.addAll(transactions);
+			return null;
+		}).when(transactionRollupRepository).accumulateAll(anyList());
+
+		final var transactionEngineConfigurationProperties = new TransactionEngineConfigurationProperties();
+		transactionEngineConfigurationProperties.setEnabled(enabled);
+		transactionEngineConfigurationProperties.setPartitions(4);
+		transactionEngineConfigurationProperties.setMaxBatchSize(16);
+		transactionEngineConfigurationProperties.setResultTimeout(resultTimeout);
+		return new PartitionedTransactionEngine(depositAccountRepository, transactionRepository, transactionRollupRepository,
+				mock(PlatformTransactionManager.class), transactionEngineConfigurationProperties);
+	}
+
+	private DepositAccount depositAccount(final UUID userId, final String balance) {
+		final var depositAccount = new DepositAccount();
+		depositAccount.setUserId(userId);
+		depositAccount.setBalance(new BigDecimal(balance));
+		when(depositAccountRepository.findForUpdateByUserId(userId)).thenReturn(Optional.of(depositAccount));
+		return depositAccount;
+	}
+
+	private TransactionRequestDto transactionRequest(final TransactionType type, final String amount) {
+		final var transactionRequest = new TransactionRequestDto();
+		transactionRequest.setType(type);
+		transactionRequest.setAmount(new BigDecimal(amount));
+		transactionRequest.setCurrency(Currency.USD);
+		return transactionRequest;
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import lombok.SneakyThrows;
+
+class RefreshTokenGeneratorTest {
+
+	private final RefreshTokenGenerator refreshTokenGenerator = new RefreshTokenGenerator();
+
+	@Test
+	void shouldGenerateUniqueNonEmptyRefreshTokens() {
+		// Generating refresh tokens in bulk
+		final var tokenBatchSize = 100;
+		final List<String> refreshTokens = new ArrayList<String>();
+		for (int i = 0; i < tokenBatchSize; i++) {
+			final var refreshToken = refreshTokenGenerator.generate(UUID.randomUUID());
+			refreshTokens.add(refreshToken);
+		}
+
+		// Assert that the generated tokens are unique, non-null, and non-empty
+		assertThat(refreshTokens)
+			.doesNotHaveDuplicates()
+			.doesNotContainNull()
+			.doesNotContain(StringUtils.EMPTY);
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldGenerateRefreshTokensWithExpectedLength() {
+	    // Calculate the expected length of a refresh token, the user id and separator
+		// followed by the hash (in hexadecimal form, * 2 for byte-to-hex conversion)
+		final var userId = UUID.randomUUID();
+		final var expectedLength = userId.toString().length() + 1 + MessageDigest.getInstance("SHA256").getDigestLength() * 2;
+		
+		// Generate a refresh token
+		final var refreshToken = refreshTokenGenerator.generate(userId);
+		
+		// Assert that the generated refresh token has the expected length
+		assertThat(refreshToken).hasSize(expectedLength);
+	}
+
+	@Test
+	void shouldResolveUserIdOfGeneratedRefreshToken() {
+		// Generate a refresh token for a user
+		final var userId = UUID.randomUUID();
+		final var refreshToken = refreshTokenGenerator.generate(userId);
+
+		// Assert that the user id is resolved from the refresh token
+		assertThat(RefreshTokenGenerator.getUserId(refreshToken)).hasValue(userId);
+	}
+
+	@Test
+	void shouldNotResolveUserIdOfMalformedRefreshToken() {
+		// Assert that no user id is resolved from malformed refresh tokens
+		assertThat(RefreshTokenGenerator.getUserId("b1f2c3d4e5")).isEmpty();
+		assertThat(RefreshTokenGenerator.getUserId("not-a-user-id.b1f2c3d4e5")).isEmpty();
+	}
+
+}
\ No newline at end of file
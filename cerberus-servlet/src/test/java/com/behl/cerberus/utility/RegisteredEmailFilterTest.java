@@ -0,0 +1,172 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.behl.cerberus.configuration.RegisteredEmailFilterConfigurationProperties;
+import com.behl.cerberus.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RegisteredEmailFilterTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+	private final RedisMessageListenerContainer redisMessageListenerContainer = mock(RedisMessageListenerContainer.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final RegisteredEmailFilterConfigurationProperties registeredEmailFilterConfigurationProperties = new RegisteredEmailFilterConfigurationProperties();
+	private RegisteredEmailFilter registeredEmailFilter;
+
+	@BeforeEach
+	void setUp() {
+		registeredEmailFilterConfigurationProperties.setEnabled(true);
+		registeredEmailFilterConfigurationProperties.setMinimumCapacity(1_000L);
+		registeredEmailFilterConfigurationProperties.setFalsePositiveProbability(0.01);
+		registeredEmailFilterConfigurationProperties.setRebuildInterval(Duration.ofHours(6));
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.hasKey(anyString())).thenReturn(Boolean.FALSE);
+		registeredEmailFilter = new RegisteredEmailFilter(userRepository, redisTemplate, redisMessageListenerContainer, transactionManager,
+				meterRegistry, registeredEmailFilterConfigurationProperties);
+	}
+
+	@Test
+	void shouldReportEveryEmailIdAsPossiblyRegisteredBeforeBuild() {
+		// verify datasource is not skipped before filter is built
+		assertThat(registeredEmailFilter.mightContain("unregistered@domain.ut")).isTrue();
+	}
+
+	@Test
+	void shouldReportUnregisteredEmailIdAsAbsentAfterBuild() {
+		// set datasource to stream registered email-ids
+		when(userRepository.count()).thenReturn(2L);
+		when(userRepository.streamAllEmailIds()).thenReturn(Stream.of("First@domain.ut", "second@domain.ut"));
+
+		// invoke method under test
+		registeredEmailFilter.rebuild();
+
+		// verify registered email-ids irrespective of case are reported as possibly present
+		assertThat(registeredEmailFilter.mightContain("first@domain.ut")).isTrue();
+		assertThat(registeredEmailFilter.mightContain("SECOND@domain.ut")).isTrue();
+		assertThat(registeredEmailFilter.mightContain("unregistered@domain.ut")).isFalse();
+		assertThat(meterRegistry.get("registered.email.filter.definite.misses").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldAddAndPublishRegisteredEmailId() {
+		// build filter with no registered email-ids
+		when(userRepository.streamAllEmailIds()).thenReturn(Stream.empty());
+		registeredEmailFilter.rebuild();
+
+		// invoke method under test
+		registeredEmailFilter.add("New@domain.ut");
+
+		// verify email-id is present and published for other nodes
+		assertThat(registeredEmailFilter.mightContain("new@domain.ut")).isTrue();
+		verify(valueOperations).set(RegisteredEmailFilter.RECENT_REGISTRATION_KEY_PREFIX + "new@domain.ut", "", Duration.ofHours(12));
+		verify(redisTemplate).convertAndSend(RegisteredEmailFilter.REGISTRATION_CHANNEL, "new@domain.ut");
+		verify(redisMessageListenerContainer).addMessageListener(any(), any(ChannelTopic.class));
+	}
+
+	@Test
+	void shouldAddEmailIdRegisteredOnOtherNode() {
+		// build filter with no registered email-ids
+		when(userRepository.streamAllEmailIds()).thenReturn(Stream.empty());
+		registeredEmailFilter.rebuild();
+
+		// invoke method under test with published email-id
+		final var message = mock(Message.class);
+		when(message.getBody()).thenReturn("other@domain.ut".getBytes(StandardCharsets.UTF_8));
+		registeredEmailFilter.onMessage(message, null);
+
+		// verify email-id is present
+		assertThat(registeredEmailFilter.mightContain("other@domain.ut")).isTrue();
+	}
+
+	@Test
+	void shouldKeepCurrentFilterWhenRebuildFails() {
+		// build filter with registered email-id
+		when(userRepository.streamAllEmailIds()).thenReturn(Stream.of("mail@domain.ut"));
+		registeredEmailFilter.rebuild();
+
+		// set datasource to fail and invoke method under test
+		when(userRepository.streamAllEmailIds()).thenThrow(new IllegalStateException());
+		registeredEmailFilter.rebuild();
+
+		// verify previously built filter continues to be used
+		assertThat(registeredEmailFilter.mightContain("mail@domain.ut")).isTrue();
+		assertThat(registeredEmailFilter.mightContain("unregistered@domain.ut")).isFalse();
+	}
+
+	@Test
+	void shouldReportEmailIdRecentlyRegisteredOnOtherNodeAsPossiblyRegistered() {
+		// build filter with no registered email-ids
+		when(userRepository.streamAllEmailIds()).thenReturn(Stream.empty());
+		registeredEmailFilter.rebuild();
+
+		// set email-id to be recorded as recently registered, its notification missed
+		when(redisTemplate.hasKey(RegisteredEmailFilter.RECENT_REGISTRATION_KEY_PREFIX + "missed@domain.ut")).thenReturn(Boolean.TRUE);
+
+		// verify email-id is reported as possibly registered
+		assertThat(registeredEmailFilter.mightContain("Missed@domain.ut")).isTrue();
+		assertThat(registeredEmailFilter.mightContain("unregistered@domain.ut")).isFalse();
+	}
+
+	@Test
+	void shouldFallBackToDatasourceWhenRecentRegistrationsUnavailable() {
+		// build filter with no registered email-ids
+		when(userRepository.streamAllEmailIds()).thenReturn(Stream.empty());
+		registeredEmailFilter.rebuild();
+
+		// set redis to be unreachable
+		when(redisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+		// verify email-id is reported as possibly registered
+		assertThat(registeredEmailFilter.mightContain("unregistered@domain.ut")).isTrue();
+	}
+
+	@Test
+	void shouldFoldEmailIdsAsCollationOfDatasource() {
+		// set datasource to stream registered email-ids with accents and expansions
+		when(userRepository.streamAllEmailIds()).thenReturn(Stream.of("José@domain.ut", "strasse@domain.ut"));
+
+		// invoke method under test
+		registeredEmailFilter.rebuild();
+
+		// verify email-ids equal under accent and case insensitive comparison are reported as possibly present
+		assertThat(registeredEmailFilter.mightContain("JOSE@domain.ut")).isTrue();
+		assertThat(registeredEmailFilter.mightContain("Straße@domain.ut")).isTrue();
+		assertThat(registeredEmailFilter.mightContain("jos\u00e9@domain.ut")).isTrue();
+	}
+
+	@Test
+	void shouldReportEmailIdsNotFoldableToAsciiAsPossiblyRegistered() {
+		// build filter with no registered email-ids
+		when(userRepository.streamAllEmailIds()).thenReturn(Stream.empty());
+		registeredEmailFilter.rebuild();
+
+		// verify email-ids the collation may equate differently fall back to datasource
+		assertThat(registeredEmailFilter.mightContain("\u7528\u6237@domain.ut")).isTrue();
+	}
+
+}
@@ -0,0 +1,123 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.security.access.expression.ExpressionUtils;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import com.behl.cerberus.controller.DepositAccountController;
+import com.behl.cerberus.controller.IdentityVerificationController;
+import com.behl.cerberus.controller.UserController;
+import com.behl.cerberus.dto.IdentityVerificationRequestDto;
+import com.behl.cerberus.dto.UserUpdationRequestDto;
+import com.behl.cerberus.entity.UserStatus;
+import com.behl.cerberus.filter.JwtAuthentication;
+import com.behl.cerberus.token.AccessTokenClaims;
+
+import lombok.SneakyThrows;
+
+class ScopeAuthorizationManagerTest {
+
+	private final ScopeAuthorizationManager scopeAuthorizationManager = new ScopeAuthorizationManager();
+	private final DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+
+	/**
+	 * Secured controller methods along with the <code>@PreAuthorize</code>
+	 * expression they were annotated with prior to {@link com.behl.cerberus.configuration.RequiresScopes}.
+	 */
+	@SneakyThrows
+	static Stream<Arguments> securedEndpoints() {
+		final var endpoints = new ArrayList<Arguments>();
+		final var userController = new UserController(null, null);
+		endpoints.add(Arguments.of(userController, UserController.class.getMethod("updateUser", UserUpdationRequestDto.class),
+				"hasAnyAuthority('userprofile.update', 'fullaccess')"));
+		endpoints.add(Arguments.of(userController, UserController.class.getMethod("retrieveUser"),
+				"hasAnyAuthority('userprofile.read', 'fullaccess')"));
+		endpoints.add(Arguments.of(userController, UserController.class.getMethod("deactivateUser"),
+				"hasAnyAuthority('userprofile.update', 'fullaccess')"));
+
+		final var identityVerificationController = new IdentityVerificationController(null, null);
+		endpoints.add(Arguments.of(identityVerificationController, IdentityVerificationController.class.getMethod("verifyUserIdentity", IdentityVerificationRequestDto.class),
+				"hasAuthority('useridentity.verify')"));
+
+		final var depositAccountController = new DepositAccountController(null, null, null, null, null);
+		Arrays.stream(DepositAccountController.class.getDeclaredMethods())
+			.filter(method -> Modifier.isPublic(method.getModifiers()))
+			.forEach(method -> endpoints.add(Arguments.of(depositAccountController, method, "hasAuthority('fullaccess')")));
+		return endpoints.stream();
+	}
+
+	static List<Authentication> authentications() {
+		final var authentications = new ArrayList<Authentication>();
+		for (final var userStatus : UserStatus.values()) {
+			final var claims = new AccessTokenClaims(UUID.randomUUID().toString(), UUID.randomUUID(), userStatus.getScopes(), Instant.now());
+			authentications.add(new JwtAuthentication(claims, Object::new));
+			authentications.add(new UsernamePasswordAuthenticationToken(UUID.randomUUID(), null,
+					AuthorityUtils.createAuthorityList(userStatus.getScopes())));
+		}
+		authentications.add(new UsernamePasswordAuthenticationToken(UUID.randomUUID(), null, AuthorityUtils.createAuthorityList("not:fullaccess")));
+		authentications.add(new UsernamePasswordAuthenticationToken(UUID.randomUUID(), null, AuthorityUtils.NO_AUTHORITIES));
+		authentications.add(new AnonymousAuthenticationToken("key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+		return authentications;
+	}
+
+	@ParameterizedTest
+	@MethodSource("securedEndpoints")
+	void shouldMatchDecisionOfReplacedExpressionForEveryAuthentication(final Object controller, final Method method, final String expression) {
+		final var parsedExpression = expressionHandler.getExpressionParser().parseExpression(expression);
+		for (final var authentication : authentications()) {
+			// Evaluate replaced SpEL expression
+			final var invocation = new SimpleMethodInvocation(controller, method);
+			final var evaluationContext = expressionHandler.createEvaluationContext(() -> authentication, invocation);
+			final var expected = ExpressionUtils.evaluateAsBoolean(parsedExpression, evaluationContext);
+
+			// Evaluate bitmask based decision
+			final var decision = scopeAuthorizationManager.check(() -> authentication, invocation);
+
+			// Assert both evaluations agree
+			assertThat(decision.isGranted())
+				.as("%s with authorities %s", method.getName(), authentication.getAuthorities())
+				.isEqualTo(expected);
+		}
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldDenyAccessWhenNotAuthenticated() {
+		final var invocation = new SimpleMethodInvocation(new UserController(null, null), UserController.class.getMethod("retrieveUser"));
+		assertThat(scopeAuthorizationManager.check(() -> null, invocation).isGranted()).isFalse();
+	}
+
+	@Test
+	void shouldRejectRequiredScopesNotGrantedByAnyUserStatus() {
+		assertThrows(IllegalStateException.class, () -> ScopeBitmask.ofRequired("fullaccess", "not:fullaccess"));
+	}
+
+	@Test
+	void shouldAssignDistinctBitToEachScope() {
+		final var scopes = Arrays.stream(UserStatus.values()).flatMap(userStatus -> userStatus.getScopes().stream()).distinct().toList();
+		final var combined = ScopeBitmask.ofGranted(scopes);
+		assertThat(Long.bitCount(combined)).isEqualTo(scopes.size());
+		scopes.forEach(scope -> assertThat(Long.bitCount(ScopeBitmask.ofRequired(scope))).isEqualTo(1));
+	}
+
+}
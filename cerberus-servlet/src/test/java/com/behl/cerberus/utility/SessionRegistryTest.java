@@ -0,0 +1,162 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.behl.cerberus.configuration.TokenConfigurationProperties;
+import com.behl.cerberus.configuration.TokenConfigurationProperties.RefreshToken;
+import com.behl.cerberus.dto.SessionDetailDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.SneakyThrows;
+
+@SuppressWarnings("unchecked")
+class SessionRegistryTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+	private final HttpServletRequest httpServletRequest = mock(HttpServletRequest.class);
+	private final TokenConfigurationProperties tokenConfigurationProperties = mock(TokenConfigurationProperties.class);
+	private final SessionRegistry sessionRegistry = new SessionRegistry(objectMapper, stringRedisTemplate, httpServletRequest, tokenConfigurationProperties);
+
+	@Test
+	void shouldRegisterSessionAgainstUserAndRefreshToken() {
+		// set up refresh token configuration
+		final var refreshTokenConfiguration = mock(RefreshToken.class);
+		when(refreshTokenConfiguration.getValidity()).thenReturn(120);
+		when(refreshTokenConfiguration.getMaxActiveSessions()).thenReturn(5);
+		when(tokenConfigurationProperties.getRefreshToken()).thenReturn(refreshTokenConfiguration);
+
+		// set up device details in current HTTP request
+		when(httpServletRequest.getHeader("User-Agent")).thenReturn("test-user-agent");
+		when(httpServletRequest.getRemoteAddr()).thenReturn("127.0.0.1");
+
+		// invoke method under test
+		final var userId = UUID.randomUUID();
+		final var refreshToken = userId + ".test-refresh-token";
+		sessionRegistry.register(userId, refreshToken);
+
+		// verify session registration script is executed with keys sharing a hash slot
+		final var expectedKeys = List.of("refresh_token:{" + userId + "}:" + refreshToken, "sessions:{" + userId + "}",
+				"sessions:{" + userId + "}:issuance");
+		verify(stringRedisTemplate).execute(any(RedisScript.class), eq(expectedKeys), eq(String.valueOf(userId)), eq(refreshToken),
+				anyString(), anyString(), eq("7200"), eq("5"), eq("refresh_token:{" + userId + "}:"));
+	}
+
+	@Test
+	void shouldReturnUserIdForRegisteredRefreshToken() {
+		// set up refresh token stored in hash slot of user
+		final var userId = UUID.randomUUID();
+		final var refreshToken = userId + ".test-refresh-token";
+		when(stringRedisTemplate.hasKey("refresh_token:{" + userId + "}:" + refreshToken)).thenReturn(true);
+
+		// invoke method under test
+		final var response = sessionRegistry.getUserId(refreshToken);
+
+		// verify response
+		assertThat(response).isPresent().hasValue(userId);
+	}
+
+	@Test
+	void shouldReturnEmptyOptionalForUnregisteredRefreshToken() {
+		// set up refresh token expired or evicted from cache
+		final var userId = UUID.randomUUID();
+		final var refreshToken = userId + ".test-refresh-token";
+		when(stringRedisTemplate.hasKey("refresh_token:{" + userId + "}:" + refreshToken)).thenReturn(false);
+
+		// invoke method under test
+		final var response = sessionRegistry.getUserId(refreshToken);
+
+		// verify response
+		assertThat(response).isEmpty();
+	}
+
+	@Test
+	void shouldReturnEmptyOptionalForMalformedRefreshToken() {
+		// invoke method under test
+		final var response = sessionRegistry.getUserId("test-refresh-token");
+
+		// verify response and cache is not consulted
+		assertThat(response).isEmpty();
+		verify(stringRedisTemplate, never()).hasKey(anyString());
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldReturnOnlyNonExpiredSessionsOrderedByIssuance() {
+		// prepare expired and active sessions of user
+		final var currentTimestamp = LocalDateTime.now(ZoneOffset.UTC);
+		final var expiredSession = SessionDetailDto.builder()
+				.device("expired-device")
+				.issuedAt(currentTimestamp.minusHours(3))
+				.expiresAt(currentTimestamp.minusHours(1))
+				.build();
+		final var latestSession = SessionDetailDto.builder()
+				.device("latest-device")
+				.issuedAt(currentTimestamp.minusMinutes(1))
+				.expiresAt(currentTimestamp.plusHours(2))
+				.build();
+		final var oldestSession = SessionDetailDto.builder()
+				.device("oldest-device")
+				.issuedAt(currentTimestamp.minusMinutes(30))
+				.expiresAt(currentTimestamp.plusMinutes(90))
+				.build();
+
+		// set up session index of user
+		final var userId = UUID.randomUUID();
+		final var hashOperations = mock(HashOperations.class);
+		when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(hashOperations.values("sessions:{" + userId + "}")).thenReturn(List.of(
+				objectMapper.writeValueAsString(latestSession),
+				objectMapper.writeValueAsString(expiredSession),
+				objectMapper.writeValueAsString(oldestSession)));
+
+		// invoke method under test
+		final var response = sessionRegistry.getActiveSessions(userId);
+
+		// verify only active sessions are returned in order of issuance
+		assertThat(response)
+			.extracting(SessionDetailDto::getDevice)
+			.containsExactly("oldest-device", "latest-device");
+	}
+
+	@Test
+	void shouldInvalidateAllSessionsOfUser() {
+		// invoke method under test
+		final var userId = UUID.randomUUID();
+		sessionRegistry.invalidateAll(userId);
+
+		// verify session invalidation script is executed with keys sharing a hash slot
+		final var expectedKeys = List.of("sessions:{" + userId + "}", "sessions:{" + userId + "}:issuance");
+		verify(stringRedisTemplate).execute(any(RedisScript.class), eq(expectedKeys), eq("refresh_token:{" + userId + "}:"));
+	}
+
+	@Test
+	void shouldThrowIllegalArgumentExceptionForNullArguments() {
+		final var userId = UUID.randomUUID();
+		assertThrows(IllegalArgumentException.class, () -> sessionRegistry.register(null, "test-refresh-token"));
+		assertThrows(IllegalArgumentException.class, () -> sessionRegistry.register(userId, null));
+		assertThrows(IllegalArgumentException.class, () -> sessionRegistry.getUserId(null));
+		assertThrows(IllegalArgumentException.class, () -> sessionRegistry.getActiveSessions(null));
+		assertThrows(IllegalArgumentException.class, () -> sessionRegistry.invalidateAll(null));
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowCounterTest {
+
+	private static final Duration WINDOW = Duration.ofSeconds(60);
+
+	private final AtomicLong clock = new AtomicLong(WINDOW.toNanos() * 100);
+	private final SlidingWindowCounter slidingWindowCounter = new SlidingWindowCounter(WINDOW, clock::get);
+
+	@Test
+	void shouldCountEventsWithinCurrentWindow() {
+		// invoke method under test
+		slidingWindowCounter.increment("key");
+		slidingWindowCounter.increment("key");
+		final var count = slidingWindowCounter.increment("key");
+
+		// verify events are counted per key
+		assertThat(count).isEqualTo(3);
+		assertThat(slidingWindowCounter.estimate("key")).isEqualTo(3);
+		assertThat(slidingWindowCounter.estimate("other-key")).isZero();
+	}
+
+	@Test
+	void shouldWeighPreviousWindowByPortionStillCovered() {
+		// record events in the previous window
+		IntStream.range(0, 10).forEach(event -> slidingWindowCounter.increment("key"));
+
+		// advance clock to a quarter into the next window
+		clock.addAndGet(WINDOW.toNanos() + WINDOW.toNanos() / 4);
+
+		// invoke method under test
+		final var count = slidingWindowCounter.increment("key");
+
+		// verify previous count is weighed by three quarters
+		assertThat(count).isEqualTo(10 * 0.75 + 1);
+	}
+
+	@Test
+	void shouldDiscardEventsOlderThanPreviousWindow() {
+		// record events and advance clock by two windows
+		IntStream.range(0, 10).forEach(event -> slidingWindowCounter.increment("key"));
+		clock.addAndGet(WINDOW.toNanos() * 2);
+
+		// verify events no longer count and key is evicted
+		assertThat(slidingWindowCounter.estimate("key")).isZero();
+		slidingWindowCounter.evictExpired();
+		assertThat(slidingWindowCounter.size()).isZero();
+	}
+
+	@Test
+	void shouldDiscardEventsOfResetKey() {
+		// record events
+		slidingWindowCounter.increment("key");
+
+		// invoke method under test
+		slidingWindowCounter.reset("key");
+
+		// verify events no longer count
+		assertThat(slidingWindowCounter.estimate("key")).isZero();
+	}
+
+	@Test
+	void shouldNotLoseConcurrentIncrements() {
+		// invoke method under test concurrently
+		final var increments = 10_000;
+		try (final var executorService = Executors.newFixedThreadPool(8)) {
+			final var futures = IntStream.range(0, increments)
+				.mapToObj(increment -> CompletableFuture.runAsync(() -> slidingWindowCounter.increment("key"), executorService))
+				.toArray(CompletableFuture[]::new);
+			CompletableFuture.allOf(futures).join();
+		}
+
+		// verify every increment is counted
+		assertThat(slidingWindowCounter.estimate("key")).isEqualTo(increments);
+	}
+
+}
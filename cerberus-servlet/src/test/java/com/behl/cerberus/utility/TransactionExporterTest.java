@@ -0,0 +1,132 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.behl.cerberus.configuration.TransactionExportConfigurationProperties;
+import com.behl.cerberus.entity.Currency;
+import com.behl.cerberus.entity.TransactionType;
+import com.behl.cerberus.exception.ExportCapacityExceededException;
+import com.behl.cerberus.projection.TransactionProjection;
+import com.behl.cerberus.repository.TransactionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.SneakyThrows;
+
+class TransactionExporterTest {
+
+	private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	private final TransactionExportConfigurationProperties transactionExportConfigurationProperties = transactionExportConfigurationProperties();
+	private final TransactionExporter transactionExporter = new TransactionExporter(transactionRepository, mock(PlatformTransactionManager.class), objectMapper,
+			transactionExportConfigurationProperties);
+
+	private final TransactionProjection deposit = new TransactionProjection(UUID.randomUUID(), TransactionType.DEPOSIT, Currency.USD,
+			new BigDecimal("1250.50"), LocalDateTime.parse("2024-03-02T10:15:30.123456"));
+	private final TransactionProjection withdrawl = new TransactionProjection(UUID.randomUUID(), TransactionType.WITHDRAW, Currency.USD,
+			new BigDecimal("1E+2"), LocalDateTime.parse("2024-03-01T08:00:00"));
+
+	@Test
+	@SneakyThrows
+	void shouldExportTransactionsAsNewlineDelimitedJson() {
+		// set up datasource to stream transactions
+		final var userId = UUID.randomUUID();
+		final var streamClosed = new AtomicBoolean();
+		when(transactionRepository.streamByDepositAccountUserId(userId)).thenReturn(Stream.of(deposit, withdrawl).onClose(() -> streamClosed.set(true)));
+
+		// invoke method under test
+		final var outputStream = new ByteArrayOutputStream();
+		transactionExporter.export(userId, TransactionExporter.Format.NDJSON, outputStream);
+
+		// assert each transaction is written as a JSON object on its own line
+		final var lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(lines).hasSize(2);
+		final JsonNode firstLine = objectMapper.readTree(lines[0]);
+		assertThat(firstLine.get("Id").asText()).isEqualTo(deposit.id().toString());
+		assertThat(firstLine.get("Type").asText()).isEqualTo(TransactionType.DEPOSIT.name());
+		assertThat(firstLine.get("Currency").asText()).isEqualTo(Currency.USD.name());
+		assertThat(firstLine.get("Amount").decimalValue()).isEqualByComparingTo(deposit.amount());
+		assertThat(firstLine.get("Timestamp").asText()).isEqualTo(deposit.timestamp().toString());
+		assertThat(objectMapper.readTree(lines[1]).get("Id").asText()).isEqualTo(withdrawl.id().toString());
+		assertThat(streamClosed).isTrue();
+	}
+
+	@Test
+	void shouldExportTransactionsAsCsv() {
+		// set up datasource to stream transactions
+		final var userId = UUID.randomUUID();
+		when(transactionRepository.streamByDepositAccountUserId(userId)).thenReturn(Stream.of(deposit, withdrawl));
+
+		// invoke method under test
+		final var outputStream = new ByteArrayOutputStream();
+		transactionExporter.export(userId, TransactionExporter.Format.CSV, outputStream);
+
+		// assert header is followed by a row for each transaction
+		final var lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+		assertThat(lines).containsExactly(
+				"Id,Type,Currency,Amount,Timestamp",
+				deposit.id() + ",DEPOSIT,USD,1250.50,2024-03-02T10:15:30.123456",
+				withdrawl.id() + ",WITHDRAW,USD,100,2024-03-01T08:00:00");
+	}
+
+	@Test
+	void shouldExportOnlyHeaderForAccountWithoutTransactions() {
+		// set up datasource to hold no transactions
+		final var userId = UUID.randomUUID();
+		when(transactionRepository.streamByDepositAccountUserId(userId)).thenReturn(Stream.empty());
+
+		// invoke method under test
+		final var outputStream = new ByteArrayOutputStream();
+		transactionExporter.export(userId, TransactionExporter.Format.CSV, outputStream);
+
+		// assert only header is written
+		assertThat(outputStream.toString(StandardCharsets.UTF_8).lines().toList()).isEqualTo(List.of("Id,Type,Currency,Amount,Timestamp"));
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldRejectExportsBeyondPermittedConcurrencyUntilInProgressExportCompletes() {
+		// set up datasource to stream no transactions
+		final var userId = UUID.randomUUID();
+		when(transactionRepository.streamByDepositAccountUserId(userId)).thenAnswer(invocation -> Stream.empty());
+
+		// reserve the single permitted export
+		final var reservedExport = transactionExporter.export(userId, TransactionExporter.Format.CSV);
+
+		// assert further export is rejected while reserved export is in progress
+		final var exception = assertThrows(ExportCapacityExceededException.class, () -> transactionExporter.export(userId, TransactionExporter.Format.CSV));
+		assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(exception.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+
+		// assert permit is returned once reserved export is written
+		reservedExport.writeTo(new ByteArrayOutputStream());
+		assertThat(transactionExporter.export(userId, TransactionExporter.Format.CSV)).isNotNull();
+	}
+
+	private static TransactionExportConfigurationProperties transactionExportConfigurationProperties() {
+		final var transactionExportConfigurationProperties = new TransactionExportConfigurationProperties();
+		transactionExportConfigurationProperties.setMaxConcurrentExports(1);
+		transactionExportConfigurationProperties.setRetryAfter(Duration.ofSeconds(30));
+		return transactionExportConfigurationProperties;
+	}
+
+}
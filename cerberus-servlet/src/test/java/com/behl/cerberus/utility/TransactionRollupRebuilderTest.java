@@ -0,0 +1,112 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.behl.cerberus.configuration.TransactionRollupConfigurationProperties;
+import com.behl.cerberus.entity.DepositAccount;
+import com.behl.cerberus.repository.DepositAccountRepository;
+import com.behl.cerberus.repository.TransactionRollupRepository;
+
+class TransactionRollupRebuilderTest {
+
+	private final DepositAccountRepository depositAccountRepository = mock(DepositAccountRepository.class);
+	private final TransactionRollupRepository transactionRollupRepository = mock(TransactionRollupRepository.class);
+	private final TransactionRollupConfigurationProperties transactionRollupConfigurationProperties = new TransactionRollupConfigurationProperties();
+	private final TransactionRollupRebuilder transactionRollupRebuilder = new TransactionRollupRebuilder(depositAccountRepository,
+			transactionRollupRepository, mock(PlatformTransactionManager.class), transactionRollupConfigurationProperties);
+
+	@BeforeEach
+	void setUp() {
+		transactionRollupConfigurationProperties.setRebuildParallelism(4);
+	}
+
+	@Test
+	void shouldRebuildRollupsOfEveryAccountAcrossChunks() {
+		// set up datasource to hold more deposit accounts than fit a single chunk
+		final var firstChunk = IntStream.range(0, 500).mapToObj(index -> UUID.randomUUID()).toList();
+		final var secondChunk = List.of(UUID.randomUUID(), UUID.randomUUID());
+		when(depositAccountRepository.findIdsAfter(null, Limit.of(500))).thenReturn(firstChunk);
+		when(depositAccountRepository.findIdsAfter(firstChunk.getLast(), Limit.of(500))).thenReturn(secondChunk);
+		when(depositAccountRepository.findForUpdateById(any(UUID.class))).thenReturn(Optional.of(new DepositAccount()));
+
+		// invoke method under test
+		final var rebuiltAccounts = transactionRollupRebuilder.rebuild();
+
+		// assert rollups of each account are deleted and regenerated
+		assertThat(rebuiltAccounts).isEqualTo(502);
+		for (final var accountId : secondChunk) {
+			verify(transactionRollupRepository).deleteByAccountId(accountId);
+			verify(transactionRollupRepository).rebuild(accountId);
+		}
+	}
+
+	@Test
+	void shouldSkipAccountsDeletedOrFailingDuringRebuild() {
+		// set up datasource to hold a deleted account and an account failing to rebuild
+		final var deletedAccountId = UUID.randomUUID();
+		final var failingAccountId = UUID.randomUUID();
+		final var accountId = UUID.randomUUID();
+		when(depositAccountRepository.findIdsAfter(null, Limit.of(500))).thenReturn(List.of(deletedAccountId, failingAccountId, accountId));
+		when(depositAccountRepository.findForUpdateById(deletedAccountId)).thenReturn(Optional.empty());
+		when(depositAccountRepository.findForUpdateById(failingAccountId)).thenThrow(new QueryTimeoutException("Lock wait timeout exceeded"));
+		when(depositAccountRepository.findForUpdateById(accountId)).thenReturn(Optional.of(new DepositAccount()));
+
+		// invoke method under test
+		final var rebuiltAccounts = transactionRollupRebuilder.rebuild();
+
+		// assert remaining accounts are rebuilt regardless
+		assertThat(rebuiltAccounts).isEqualTo(1);
+		verify(transactionRollupRepository, never()).deleteByAccountId(deletedAccountId);
+		verify(transactionRollupRepository, never()).deleteByAccountId(failingAccountId);
+		verify(transactionRollupRepository).rebuild(accountId);
+	}
+
+	@Test
+	void shouldSkipChunkFailingDuringRebuild() {
+		// set up datasource to hold a chunk failing unexpectedly, followed by a healthy chunk
+		final var firstChunk = IntStream.range(0, 500).mapToObj(index -> UUID.randomUUID()).toList();
+		final var secondChunk = List.of(UUID.randomUUID(), UUID.randomUUID());
+		when(depositAccountRepository.findIdsAfter(null, Limit.of(500))).thenReturn(firstChunk);
+		when(depositAccountRepository.findIdsAfter(firstChunk.getLast(), Limit.of(500))).thenReturn(secondChunk);
+		when(depositAccountRepository.findForUpdateById(any(UUID.class))).thenReturn(Optional.of(new DepositAccount()));
+		when(depositAccountRepository.findForUpdateById(firstChunk.getFirst())).thenThrow(new IllegalStateException());
+
+		// invoke method under test
+		final var rebuiltAccounts = transactionRollupRebuilder.rebuild();
+
+		// assert accounts of the healthy chunk are rebuilt regardless
+		assertThat(rebuiltAccounts).isEqualTo(2);
+		for (final var accountId : secondChunk) {
+			verify(transactionRollupRepository).rebuild(accountId);
+		}
+	}
+
+	@Test
+	void shouldNotRebuildOnStartupUnlessEnabled() {
+		// invoke method under test with rebuild on startup disabled
+		transactionRollupConfigurationProperties.setRebuildOnStartup(false);
+		transactionRollupRebuilder.run(new DefaultApplicationArguments());
+
+		// assert datasource is not accessed
+		verifyNoInteractions(depositAccountRepository, transactionRollupRepository);
+	}
+
+}
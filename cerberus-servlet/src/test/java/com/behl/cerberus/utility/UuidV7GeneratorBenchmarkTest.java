@@ -0,0 +1,107 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares insert throughput and on-disk size of a table keyed by random
+ * version 4 UUIDs against one keyed by {@link UuidV7Generator}, shaped like
+ * the <code>transactions</code> table. Only runs when the number of rows to
+ * insert into each table is provided, since meaningful results require
+ * millions of rows:
+ *
+ * <pre>
+ * mvn test -pl cerberus-servlet -Dtest=UuidV7GeneratorBenchmarkTest -Dbenchmark.rows=10000000
+ * </pre>
+ */
+@Slf4j
+@JdbcTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark.rows", matches = "\\d+")
+class UuidV7GeneratorBenchmarkTest {
+
+	private static final int BATCH_SIZE = 10_000;
+
+	@Container
+	@ServiceConnection
+	static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void shouldOccupyLessSpaceWithTimeOrderedPrimaryKeys() {
+		// insert the same number of rows keyed by random and time-ordered UUIDs
+		final var rows = Integer.parseInt(System.getProperty("benchmark.rows"));
+		final var randomKeyed = insert("random_keyed_transactions", UUID::randomUUID, rows);
+		final var timeOrderedKeyed = insert("time_ordered_keyed_transactions", UuidV7Generator::generate, rows);
+
+		log.info("UUIDv4 keys: {}", randomKeyed);
+		log.info("UUIDv7 keys: {}", timeOrderedKeyed);
+
+		// assert time-ordered keys do not occupy more space than random keys
+		assertThat(timeOrderedKeyed.dataLength()).isLessThanOrEqualTo(randomKeyed.dataLength());
+		assertThat(timeOrderedKeyed.indexLength()).isLessThanOrEqualTo(randomKeyed.indexLength());
+	}
+
+	private Result insert(final String table, final Supplier<UUID> idSupplier, final int rows) {
+		jdbcTemplate.execute("""
+				CREATE TABLE %s (
+				    id BINARY(16) PRIMARY KEY,
+				    amount DECIMAL(19, 4) NOT NULL,
+				    deposit_account_id BINARY(16) NOT NULL,
+				    timestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+				    INDEX (deposit_account_id, timestamp, id)
+				)""".formatted(table));
+
+		final var depositAccountIds = new ArrayList<byte[]>();
+		for (int account = 0; account < 100; account++) {
+			depositAccountIds.add(toBytes(UUID.randomUUID()));
+		}
+
+		final var startTime = System.nanoTime();
+		for (int offset = 0; offset < rows; offset += BATCH_SIZE) {
+			final var batch = new ArrayList<Object[]>(BATCH_SIZE);
+			for (int index = offset; index < Math.min(rows, offset + BATCH_SIZE); index++) {
+				batch.add(new Object[] { toBytes(idSupplier.get()), BigDecimal.TEN, depositAccountIds.get(index % depositAccountIds.size()) });
+			}
+			jdbcTemplate.batchUpdate("INSERT INTO " + table + " (id, amount, deposit_account_id) VALUES (?, ?, ?)", batch);
+		}
+		final var elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000d;
+
+		jdbcTemplate.execute("ANALYZE TABLE " + table);
+		final var sizes = jdbcTemplate.queryForMap("SELECT DATA_LENGTH, INDEX_LENGTH FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?", table);
+		return new Result(rows / elapsedSeconds, ((Number) sizes.get("DATA_LENGTH")).longValue(), ((Number) sizes.get("INDEX_LENGTH")).longValue());
+	}
+
+	private byte[] toBytes(final UUID uuid) {
+		return ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+	}
+
+	private record Result(double rowsPerSecond, long dataLength, long indexLength) {
+	}
+
+}
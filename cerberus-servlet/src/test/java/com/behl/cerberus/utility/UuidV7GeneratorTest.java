@@ -0,0 +1,74 @@
+package com.behl.cerberus.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+	@Test
+	void shouldGenerateVersion7UuidEmbeddingCurrentTimestamp() {
+		// invoke method under test
+		final var before = System.currentTimeMillis();
+		final var uuid = UuidV7Generator.generate();
+		final var after = System.currentTimeMillis();
+
+		// assert version, variant and timestamp are set, allowing for the timestamp
+		// having been advanced past the clock by counter overflows of preceding tests
+		assertThat(uuid.version()).isEqualTo(7);
+		assertThat(uuid.variant()).isEqualTo(2);
+		assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after + 1000);
+	}
+
+	@Test
+	void shouldGenerateStrictlyIncreasingUuidsWithinSameMillisecond() {
+		// generate more UUIDs than the counter of a single millisecond holds
+		final var uuids = new ArrayList<UUID>();
+		for (int index = 0; index < 10_000; index++) {
+			uuids.add(UuidV7Generator.generate());
+		}
+
+		// assert each UUID is greater than the preceding one
+		for (int index = 1; index < uuids.size(); index++) {
+			assertThat(uuids.get(index)).isGreaterThan(uuids.get(index - 1));
+		}
+	}
+
+	@Test
+	void shouldGenerateUniqueIncreasingUuidsAcrossThreads() throws InterruptedException {
+		// concurrently generate UUIDs, each thread recording its own sequence
+		final var threadCount = 8;
+		final var uuidsPerThread = 20_000;
+		final var startGate = new CountDownLatch(1);
+		final var uniqueUuids = ConcurrentHashMap.<UUID>newKeySet();
+		final var sequences = Collections.synchronizedList(new ArrayList<List<UUID>>());
+		try (final var executor = Executors.newFixedThreadPool(threadCount)) {
+			for (int thread = 0; thread < threadCount; thread++) {
+				executor.submit(() -> {
+					startGate.await();
+					final var sequence = new ArrayList<UUID>(uuidsPerThread);
+					for (int index = 0; index < uuidsPerThread; index++) {
+						sequence.add(UuidV7Generator.generate());
+					}
+					uniqueUuids.addAll(sequence);
+					sequences.add(sequence);
+					return null;
+				});
+			}
+			startGate.countDown();
+		}
+
+		// assert no UUID is repeated and each thread observed an increasing sequence
+		assertThat(uniqueUuids).hasSize(threadCount * uuidsPerThread);
+		assertThat(sequences).hasSize(threadCount).allSatisfy(sequence -> assertThat(sequence).isSorted());
+	}
+
+}
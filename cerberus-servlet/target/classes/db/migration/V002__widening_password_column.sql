@@ -0,0 +1,2 @@
+-- Widen password column to accommodate algorithm prefixed and Argon2id hashes
+ALTER TABLE users MODIFY password VARCHAR(255) NOT NULL;
@@ -0,0 +1,12 @@
+-- Create balance_checkpoints table, each row holding the balance of a deposit account after applying
+-- every transaction up to and including the (timestamp, transaction_id) position of the checkpoint
+CREATE TABLE balance_checkpoints (
+    id BINARY(16) PRIMARY KEY,
+    deposit_account_id BINARY(16) NOT NULL,
+    timestamp TIMESTAMP NOT NULL,
+    transaction_id BINARY(16) NOT NULL,
+    balance DECIMAL(19, 4) NOT NULL,
+    UNIQUE KEY uk_balance_checkpoints_deposit_account_position (deposit_account_id, timestamp, transaction_id),
+    FOREIGN KEY (deposit_account_id) REFERENCES deposit_accounts(id),
+    FOREIGN KEY (transaction_id) REFERENCES transactions(id)
+);
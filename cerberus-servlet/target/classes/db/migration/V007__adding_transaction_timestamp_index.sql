@@ -0,0 +1,2 @@
+-- Serve deposit accounts transacted against within a time range, read by each incremental balance checkpoint run, as an index range scan
+CREATE INDEX idx_transactions_timestamp_deposit_account ON transactions (timestamp, deposit_account_id);
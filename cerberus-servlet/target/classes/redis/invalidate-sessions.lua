@@ -0,0 +1,17 @@
+-- Invalidates every session of a user by deleting all refresh tokens registered in
+-- the user's session index along with the index itself. Executed atomically by redis.
+-- Every key accessed holds the user id as a hash tag, hence shares a single hash slot.
+-- Keys of the refresh tokens are derived from the refresh token key prefix of the user.
+--
+-- KEYS[1] : hash of user's sessions (refresh token -> session details)
+-- KEYS[2] : sorted set of user's sessions (refresh token -> issuance epoch millis)
+-- ARGV[1] : refresh token key prefix of the user
+--
+-- Returns the number of invalidated sessions.
+
+local tokens = redis.call('HKEYS', KEYS[1])
+for _, token in ipairs(tokens) do
+	redis.call('DEL', ARGV[1] .. token)
+end
+redis.call('DEL', KEYS[1], KEYS[2])
+return #tokens
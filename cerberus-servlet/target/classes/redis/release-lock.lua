@@ -0,0 +1,10 @@
+-- Releases a lock, only if it is still held by the given owner, so that a lock
+-- acquired by another owner after expiry is left untouched. Executed atomically by redis.
+--
+-- KEYS[1] : lock key
+-- ARGV[1] : lock owner
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+	return redis.call('DEL', KEYS[1])
+end
+return 0
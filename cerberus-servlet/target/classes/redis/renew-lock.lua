@@ -0,0 +1,11 @@
+-- Extends the expiry of a lock, only if it is still held by the given owner.
+-- Executed atomically by redis.
+--
+-- KEYS[1] : lock key
+-- ARGV[1] : lock owner
+-- ARGV[2] : lock time to live in milliseconds
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+	return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
@@ -0,0 +1,18 @@
+package com.behl.cerberus.token;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Verified claims of an access token.
+ *
+ * @param jti        The unique identifier of the token, referenced for revocation.
+ * @param userId     The unique identifier of the user the token is issued to.
+ * @param scopes     The permissions granted to the holder of the token.
+ * @param expiration The instant post which the token can no longer be used.
+ */
+public record AccessTokenClaims(String jti, UUID userId, List<String> scopes, Instant expiration) implements Serializable {
+
+}
@@ -0,0 +1,106 @@
+package com.behl.cerberus.token;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import io.jsonwebtoken.Jwts;
+import lombok.NonNull;
+
+/**
+ * Codec responsible for signing access tokens (JWT) and verifying their
+ * signature, issuer and expiration. It holds no framework dependencies, and is
+ * shared by the servlet and reactive editions of the application, so that
+ * tokens issued by one are verified identically by the other.
+ *
+ * Tokens are signed using RS512. The permissions granted are held in the
+ * space-separated <code>scp</code> claim, and the user the token is issued to
+ * in the audience claim.
+ *
+ * Keys are obtained through suppliers on each operation, allowing the editions
+ * to decide whether keys are parsed once or read from configuration every time.
+ *
+ * @see com.behl.cerberus.token.RsaKeyParser
+ */
+public class AccessTokenCodec {
+
+	private static final String BEARER_PREFIX = "Bearer ";
+	private static final String SCOPE_CLAIM_NAME = "scp";
+	private static final String SCOPE_SEPARATOR = " ";
+
+	private final String issuer;
+	private final Supplier<PrivateKey> privateKeySupplier;
+	private final Supplier<PublicKey> publicKeySupplier;
+
+	/**
+	 * @param issuer             The issuer tokens are signed with and required to hold.
+	 * @param privateKeySupplier Supplier of the key to sign tokens with. May supply
+	 *                           <code>null</code> for editions verifying tokens only.
+	 * @param publicKeySupplier  Supplier of the key to verify token signatures with.
+	 */
+	public AccessTokenCodec(@NonNull final String issuer, @NonNull final Supplier<PrivateKey> privateKeySupplier,
+			@NonNull final Supplier<PublicKey> publicKeySupplier) {
+		this.issuer = issuer;
+		this.privateKeySupplier = privateKeySupplier;
+		this.publicKeySupplier = publicKeySupplier;
+	}
+
+	/**
+	 * Signs a new access token issued to the provided user.
+	 *
+	 * @param userId   The unique identifier of the user the token is issued to.
+	 * @param scopes   The permissions granted to the holder of the token.
+	 * @param validity The duration post which the token expires.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 * @throws IllegalStateException    if no private key is supplied.
+	 * @return The signed JWT access token.
+	 */
+	public String encode(@NonNull final UUID userId, @NonNull final Collection<String> scopes, @NonNull final Duration validity) {
+		final var privateKey = privateKeySupplier.get();
+		if (privateKey == null) {
+			throw new IllegalStateException("Private key is required to sign access tokens");
+		}
+		final var issuedAt = Instant.now();
+		return Jwts.builder()
+				.claim(SCOPE_CLAIM_NAME, String.join(SCOPE_SEPARATOR, scopes))
+				.id(String.valueOf(UUID.randomUUID()))
+				.issuer(issuer)
+				.issuedAt(Date.from(issuedAt))
+				.expiration(Date.from(issuedAt.plus(validity)))
+				.audience().add(String.valueOf(userId))
+				.and()
+				.signWith(privateKey, Jwts.SIG.RS512)
+				.compact();
+	}
+
+	/**
+	 * Verifies the signature, issuer and expiration of the provided access token
+	 * and extracts its claims.
+	 *
+	 * @param token The JWT access token, with or without the bearer prefix.
+	 * @throws IllegalArgumentException           if provided argument is <code>null</code>.
+	 * @throws io.jsonwebtoken.JwtException if the token is malformed, expired
+	 *                                            or fails verification.
+	 * @return The verified claims of the access token.
+	 */
+	public AccessTokenClaims decode(@NonNull final String token) {
+		final var sanitizedToken = token.startsWith(BEARER_PREFIX) ? token.substring(BEARER_PREFIX.length()) : token;
+		final var claims = Jwts.parser()
+				.requireIssuer(issuer)
+				.verifyWith(publicKeySupplier.get())
+				.build()
+				.parseSignedClaims(sanitizedToken)
+				.getPayload();
+
+		final var userId = UUID.fromString(claims.getAudience().iterator().next());
+		final var scopes = Arrays.stream(claims.get(SCOPE_CLAIM_NAME, String.class).split(SCOPE_SEPARATOR)).toList();
+		return new AccessTokenClaims(claims.getId(), userId, scopes, claims.getExpiration().toInstant());
+	}
+
+}
@@ -0,0 +1,41 @@
+// Load test comparing throughput of platform and virtual thread execution.
+// Every iteration fetches the logged-in user's profile, which verifies the
+// access token against redis and queries MySQL, hence blocking on I/O twice.
+//
+// docker run --rm -i --network host grafana/k6 run - < load-test/user-profile.js
+// docker run --rm -i --network host -e BASE_URL=http://localhost:8080 -e VUS=1000 grafana/k6 run - < load-test/user-profile.js
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export const options = {
+  scenarios: {
+    profile: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.VUS || 500),
+      duration: __ENV.DURATION || '60s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  const credentials = {
+    EmailId: `load-test-${Date.now()}@domain.ut`,
+    Password: `Ld!${Math.random().toString(36).slice(2)}Xz9`,
+  };
+  const creation = http.post(`${BASE_URL}/users`, JSON.stringify({ FirstName: 'Load', LastName: 'Test', ...credentials }), { headers: JSON_HEADERS });
+  check(creation, { 'user created': (response) => response.status === 201 });
+
+  const login = http.post(`${BASE_URL}/auth/login`, JSON.stringify(credentials), { headers: JSON_HEADERS });
+  check(login, { 'user logged in': (response) => response.status === 200 });
+  return { accessToken: login.json('AccessToken') };
+}
+
+export default function (data) {
+  const response = http.get(`${BASE_URL}/users`, { headers: { Authorization: `Bearer ${data.accessToken}` } });
+  check(response, { 'profile retrieved': (response) => response.status === 200 });
+}
@@ -1,18 +0,0 @@
-package com.behl.cerberus.repository;
-
-import java.util.Optional;
-import java.util.UUID;
-
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-import com.behl.cerberus.entity.DepositAccount;
-
-@Repository
-public interface DepositAccountRepository extends JpaRepository<DepositAccount, UUID> {
-	
-	boolean existsByUserId(final UUID userId);
-
-	Optional<DepositAccount> findByUserId(final UUID userId);
-
-}
\ No newline at end of file
@@ -1,17 +0,0 @@
-
-package com.behl.cerberus.repository;
-
-import java.util.List;
-import java.util.UUID;
-
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-import com.behl.cerberus.entity.Transaction;
-
-@Repository
-public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
-
-	List<Transaction> findByDepositAccountUserId(final UUID userId);
-
-}
\ No newline at end of file